@@ -0,0 +1,104 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yelstream.topp.jackson.databind.DocumentFormat;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import com.yelstream.topp.jackson.util.BinaryJsonConverter;
+import com.yelstream.topp.jackson.util.JsonConverters;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of round trips through {@link BinaryJsonConverter} for binary formats,
+ * compared to the textual JSON documents of a {@link com.yelstream.topp.jackson.util.JsonConverter}.
+ * <p>
+ *     The size of documents serialized is reported by the secondary results {@code bytes} and {@code documents},
+ *     which are totals per iteration.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryJsonConverterBenchmark {
+    @State(Scope.Thread)
+    public static class FormatState {
+        @Param({"SMILE","CBOR"})
+        public DocumentFormat format;
+
+        public BinaryJsonConverter<Catalog> converter;
+        public byte[] document;
+
+        @Setup
+        public void setup(CorpusState corpus) throws IOException {
+            ObjectMapper mapper=format.createMapper();
+            converter=JsonConverters.createBinaryJsonConverter(corpus.schema,Catalog.class,mapper);
+            document=converter.serialize(corpus.catalog,false);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SizeCounters {
+        public long bytes;
+        public long documents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes=0;
+            documents=0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(CorpusState corpus,
+                            FormatState state,
+                            SizeCounters counters) throws IOException {
+        byte[] document=state.converter.serialize(corpus.catalog);
+        counters.bytes+=document.length;
+        counters.documents++;
+        return document;
+    }
+
+    @Benchmark
+    public String serializeText(CorpusState corpus,
+                                SizeCounters counters) throws IOException {
+        String document=corpus.converter.serialize(corpus.catalog);
+        counters.bytes+=document.length();  //Note: The corpus is ASCII, and characters are bytes.
+        counters.documents++;
+        return document;
+    }
+
+    @Benchmark
+    public Catalog deserialize(FormatState state) throws IOException {
+        return state.converter.deserialize(state.document);
+    }
+
+    @Benchmark
+    public Catalog deserializeText(CorpusState corpus) throws IOException {
+        return corpus.converter.deserialize(corpus.document);
+    }
+
+    @Benchmark
+    public ValidationResult validate(FormatState state) throws IOException {
+        return state.converter.validate(state.document);
+    }
+
+    @Benchmark
+    public ValidationResult validateText(CorpusState corpus) throws IOException {
+        return corpus.converter.validate(corpus.document);
+    }
+}
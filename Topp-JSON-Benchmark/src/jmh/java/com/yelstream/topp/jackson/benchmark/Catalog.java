@@ -0,0 +1,22 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Catalog of items.
+ * This is the Jackson POJO of the schema {@code schema/catalog.schema.json}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class Catalog {
+    private List<Item> items;
+}
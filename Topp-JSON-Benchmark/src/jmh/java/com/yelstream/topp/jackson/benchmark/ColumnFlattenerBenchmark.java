@@ -0,0 +1,80 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yelstream.topp.jackson.columnar.ColumnBatch;
+import com.yelstream.topp.jackson.columnar.ColumnFlattener;
+import com.yelstream.topp.jackson.columnar.ColumnLayouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ColumnFlattener} flattening the items of a catalog into batches of columns and restoring these.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnFlattenerBenchmark {
+    @State(Scope.Benchmark)
+    public static class FlattenerState {
+        public ColumnFlattener sequential;
+        public ColumnFlattener parallel;
+        public List<JsonNode> records;
+        public byte[] ndjson;
+        public List<ColumnBatch> batches;
+
+        @Setup
+        public void setup(CorpusState state) throws IOException {
+            sequential=ColumnFlattener.builder()
+                                      .layout(ColumnLayouts.fromSchema(state.schema.getSchemaNode().at("/definitions/item")))
+                                      .batchSize(1024)
+                                      .parallelism(1)
+                                      .build();
+            parallel=sequential.toBuilder().parallelism(Runtime.getRuntime().availableProcessors()).build();
+            records=new ArrayList<>();
+            StringBuilder builder=new StringBuilder();
+            for (JsonNode item: state.node.path("items")) {
+                records.add(item);
+                builder.append(item).append('\n');
+            }
+            ndjson=builder.toString().getBytes();
+            batches=sequential.flatten(records);
+        }
+    }
+
+    @Benchmark
+    public List<ColumnBatch> flattenNodes(FlattenerState flattenerState) throws IOException {
+        return flattenerState.sequential.flatten(flattenerState.records);
+    }
+
+    @Benchmark
+    public List<ColumnBatch> flattenNdjson(FlattenerState flattenerState) throws IOException {
+        return flattenerState.sequential.flatten(new ByteArrayInputStream(flattenerState.ndjson));
+    }
+
+    @Benchmark
+    public List<ColumnBatch> flattenNdjsonParallel(FlattenerState flattenerState) throws IOException {
+        return flattenerState.parallel.flatten(new ByteArrayInputStream(flattenerState.ndjson));
+    }
+
+    @Benchmark
+    public byte[] unflatten(FlattenerState flattenerState) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream();
+        ColumnFlattener.unflatten(flattenerState.batches,out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,138 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of JSON documents conforming to the schema {@code schema/catalog.schema.json}.
+ * Generation is deterministic for a given seed.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class Corpus {
+    /**
+     * Default seed.
+     */
+    public static final long SEED=0x5EED_70BBL;
+
+    /**
+     * Location of JSON Schema.
+     */
+    public static final String SCHEMA_RESOURCE_NAME="classpath:/schema/catalog.schema.json";
+
+    /**
+     * Approximate size of documents.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Size {
+        SMALL(1_000),
+        MEDIUM(100_000),
+        LARGE(100_000_000);
+
+        /**
+         * Approximate size in characters.
+         */
+        private final int length;
+    }
+
+    /**
+     * Structure of documents.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Shape {
+        /**
+         * Many items without children.
+         */
+        FLAT(0),
+
+        /**
+         * Items each with a deep chain of children.
+         */
+        NESTED(48);
+
+        /**
+         * Depth of children per item.
+         */
+        private final int depth;
+    }
+
+    private static final String[] CATEGORIES={"book","music","video","game","tool"};
+
+    private static final String[] WORDS={"alpha","bravo","charlie","delta","echo","foxtrot","golf","hotel","india","juliet","kilo","lima"};
+
+    /**
+     * Generates a JSON document.
+     * @param size Approximate size.
+     * @param shape Structure.
+     * @param seed Seed.
+     * @return JSON document.
+     */
+    public static String generate(Size size,
+                                  Shape shape,
+                                  long seed) {
+        SplittableRandom random=new SplittableRandom(seed);
+        StringWriter writer=new StringWriter(size.getLength()+size.getLength()/8);
+        try (JsonGenerator generator=new JsonFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+            long id=0;
+            do {
+                id=writeItem(generator,random,id,shape.getDepth());
+                generator.flush();
+            } while (writer.getBuffer().length()<size.getLength());
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(String.format("Failure to generate document; size is %s, shape is %s!",size,shape),ex);
+        }
+        return writer.toString();
+    }
+
+    private static long writeItem(JsonGenerator generator,
+                                  SplittableRandom random,
+                                  long id,
+                                  int depth) throws IOException {
+        long nextId=id+1;
+        generator.writeStartObject();
+        generator.writeNumberField("id",id);
+        generator.writeStringField("name",WORDS[random.nextInt(WORDS.length)]+" "+WORDS[random.nextInt(WORDS.length)]+" "+id);
+        generator.writeNumberField("price",random.nextInt(1_000_000)/100.0);
+        if (random.nextBoolean()) {
+            generator.writeBooleanField("active",random.nextBoolean());
+        }
+        generator.writeStringField("category",CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        generator.writeArrayFieldStart("tags");
+        int tagCount=random.nextInt(4);
+        for (int i=0; i<tagCount; i++) {
+            generator.writeString(WORDS[random.nextInt(WORDS.length)]);
+        }
+        generator.writeEndArray();
+        if (random.nextInt(4) == 0) {
+            byte[] thumbnail=new byte[12+random.nextInt(24)];
+            for (int i=0; i<thumbnail.length; i++) {
+                thumbnail[i]=(byte)random.nextInt(256);
+            }
+            generator.writeBinaryField("thumbnail",thumbnail);
+        }
+        if (depth>0) {
+            generator.writeArrayFieldStart("children");
+            nextId=writeItem(generator,random,nextId,depth-1);
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        return nextId;
+    }
+}
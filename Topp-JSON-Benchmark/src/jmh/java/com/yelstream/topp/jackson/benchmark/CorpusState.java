@@ -0,0 +1,47 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.schema.JsonSchemas;
+import com.yelstream.topp.jackson.util.JsonConverter;
+import com.yelstream.topp.jackson.util.JsonConverters;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Shared benchmark state holding a generated JSON document in its textual, tree and POJO forms.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+    @Param({"SMALL","MEDIUM","LARGE"})
+    public Corpus.Size size;
+
+    @Param({"FLAT","NESTED"})
+    public Corpus.Shape shape;
+
+    public ObjectMapper mapper;
+    public JsonSchema schema;
+    public JsonConverter<Catalog> converter;
+    public String document;
+    public JsonNode node;
+    public Catalog catalog;
+
+    @Setup
+    public void setup() throws IOException {
+        mapper=new ObjectMapper();
+        schema=JsonSchemas.getSchema(Corpus.SCHEMA_RESOURCE_NAME);
+        converter=JsonConverters.createJsonConverter(schema,Catalog.class,mapper);
+        document=Corpus.generate(size,shape,Corpus.SEED);
+        node=mapper.readTree(document);
+        catalog=mapper.readValue(document,Catalog.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yelstream.topp.jackson.sort.ExternalSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ExternalSorter} sorting, grouping and deduplicating the items of a catalog as newline-delimited JSON,
+ * held in memory and spilled to temporary files.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExternalSorterBenchmark {
+    @State(Scope.Benchmark)
+    public static class SorterState {
+        public byte[] ndjson;
+        public ExternalSorter inMemory;
+        public ExternalSorter spilling;
+
+        @Setup
+        public void setup(CorpusState state) {
+            StringBuilder builder=new StringBuilder();
+            for (JsonNode item: state.node.path("items")) {
+                builder.append(item).append('\n');
+            }
+            ndjson=builder.toString().getBytes(StandardCharsets.UTF_8);
+            inMemory=ExternalSorter.builder().key("/price").build();
+            spilling=inMemory.toBuilder().maxRunSize(256L*1024L).build();
+        }
+    }
+
+    @Benchmark
+    public byte[] sortInMemory(SorterState sorterState) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream();
+        sorterState.inMemory.sort(new ByteArrayInputStream(sorterState.ndjson),out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] sortSpilling(SorterState sorterState) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream();
+        sorterState.spilling.sort(new ByteArrayInputStream(sorterState.ndjson),out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] groupByCategory(SorterState sorterState) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream();
+        sorterState.spilling.toBuilder().key("/category").build().group(new ByteArrayInputStream(sorterState.ndjson),out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] deduplicateByCategory(SorterState sorterState) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream();
+        sorterState.spilling.toBuilder().key("/category").build().deduplicate(new ByteArrayInputStream(sorterState.ndjson),out);
+        return out.toByteArray();
+    }
+}
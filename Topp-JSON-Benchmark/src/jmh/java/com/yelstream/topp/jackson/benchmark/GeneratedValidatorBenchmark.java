@@ -0,0 +1,56 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.gen.GeneratedValidator;
+import com.yelstream.topp.jackson.gen.GeneratedValidators;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link GeneratedValidator} against the interpreted JSON Schema.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeneratedValidatorBenchmark {
+    @State(Scope.Benchmark)
+    public static class ValidatorState {
+        public GeneratedValidator validator;
+
+        @Setup
+        public void setup(CorpusState state) {
+            validator=GeneratedValidators.compile(state.schema);
+        }
+    }
+
+    @Benchmark
+    public Set<ValidationMessage> validateTreeInterpreted(CorpusState state) {
+        return state.schema.validate(state.node);
+    }
+
+    @Benchmark
+    public Set<ValidationMessage> validateTreeGenerated(CorpusState state,
+                                                       ValidatorState validatorState) {
+        return validatorState.validator.validate(state.node,ValidationMode.FULL);
+    }
+
+    @Benchmark
+    public ValidationResult validateDocumentGenerated(CorpusState state,
+                                                      ValidatorState validatorState) throws IOException {
+        return validatorState.validator.validate(state.mapper,state.document,ValidationMode.FULL);
+    }
+}
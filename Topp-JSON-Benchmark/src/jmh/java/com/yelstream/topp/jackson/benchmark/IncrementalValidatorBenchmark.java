@@ -0,0 +1,73 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.schema.IncrementalValidator;
+import com.yelstream.topp.jackson.schema.JsonSchemas;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IncrementalValidator} re-validating a document after a change of a single value,
+ * compared to validation of the document in full.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IncrementalValidatorBenchmark {
+    @State(Scope.Thread)
+    public static class ValidatorState {
+        @Param({"SMALL","MEDIUM","LARGE"})
+        public Corpus.Size size;
+
+        public JsonSchema schema;
+        public JsonNode document;
+        public ObjectNode item;
+        public List<JsonPointer> pointers;
+        public IncrementalValidator validator;
+        public int count;
+
+        @Setup
+        public void setup() throws IOException {
+            ObjectMapper mapper=new ObjectMapper();
+            schema=JsonSchemas.getSchema(Corpus.SCHEMA_RESOURCE_NAME);
+            document=mapper.readTree(Corpus.generate(size,Corpus.Shape.FLAT,Corpus.SEED));
+            int middle=document.get("items").size()/2;
+            item=(ObjectNode)document.get("items").get(middle);
+            pointers=List.of(JsonPointer.compile("/items/"+middle+"/name"));
+            validator=IncrementalValidator.of(schema,document);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult update(ValidatorState state) {
+        state.item.put("name",(state.count++&1) == 0?"":"name");
+        return state.validator.update(state.pointers);
+    }
+
+    @Benchmark
+    public Set<ValidationMessage> validate(ValidatorState state) {
+        state.item.put("name",(state.count++&1) == 0?"":"name");
+        return JsonSchemas.validate(state.schema,state.document,ValidationMode.FULL);
+    }
+}
@@ -0,0 +1,30 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Item of a catalog.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Item {
+    private long id;
+    private String name;
+    private double price;
+    private Boolean active;
+    private String category;
+    private List<String> tags;
+    private byte[] thumbnail;
+    private List<Item> children;
+}
@@ -0,0 +1,33 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.yelstream.topp.jackson.util.JsonConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of round trips through {@link JsonConverter}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonConverterBenchmark {
+    @Benchmark
+    public String roundTrip(CorpusState state) throws IOException {
+        Catalog catalog=state.converter.deserialize(state.document);
+        return state.converter.serialize(catalog);
+    }
+
+    @Benchmark
+    public String roundTripWithoutVerification(CorpusState state) throws IOException {
+        Catalog catalog=state.converter.deserialize(state.document,false);
+        return state.converter.serialize(catalog,false);
+    }
+}
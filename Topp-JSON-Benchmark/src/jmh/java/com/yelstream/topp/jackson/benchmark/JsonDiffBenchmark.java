@@ -0,0 +1,71 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yelstream.topp.jackson.transform.JsonDiff;
+import com.yelstream.topp.jackson.transform.JsonPatchOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonDiff} on versions of a document holding a large array with few changes.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonDiffBenchmark {
+    @State(Scope.Benchmark)
+    public static class DiffState {
+        @Param({"1000","100000","1000000"})
+        public int length;
+
+        public JsonNode source;
+        public JsonNode target;
+        public JsonDiff diff;
+        public JsonDiff keyedDiff;
+
+        @Setup
+        public void setup() {
+            ObjectMapper mapper=new ObjectMapper();
+            ObjectNode root=mapper.createObjectNode();
+            ArrayNode items=root.putArray("items");
+            for (int i=0; i<length; i++) {
+                items.addObject().put("id",i).put("name","item "+i);
+            }
+            source=root;
+            ObjectNode changed=root.deepCopy();
+            ArrayNode changedItems=(ArrayNode)changed.get("items");
+            changedItems.remove(length/10);
+            changedItems.insert(length/2,mapper.createObjectNode().put("id",-1));
+            ((ObjectNode)changedItems.get(length*7/10)).put("name","changed");
+            changedItems.remove(length-2);
+            target=changed;
+            diff=JsonDiff.builder().build();
+            keyedDiff=JsonDiff.builder().idProperty("id").build();
+        }
+    }
+
+    @Benchmark
+    public List<JsonPatchOperation> diff(DiffState state) {
+        return state.diff.diff(state.source,state.target);
+    }
+
+    @Benchmark
+    public List<JsonPatchOperation> diffKeyed(DiffState state) {
+        return state.keyedDiff.diff(state.source,state.target);
+    }
+}
@@ -0,0 +1,79 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yelstream.topp.jackson.transform.JsonMapping;
+import com.yelstream.topp.jackson.transform.JsonMappings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonMapping} applied to a parsed JSON tree and to a streamed document.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonMappingBenchmark {
+    @State(Scope.Benchmark)
+    public static class MappingState {
+        public JsonFactory factory;
+        public JsonMapping shift;
+        public JsonMapping remove;
+
+        @Setup
+        public void setup(CorpusState state) {
+            factory=state.mapper.getFactory();
+            shift=JsonMappings.compile("[{\"operation\":\"shift\",\"spec\":{\"items\":{\"*\":{\"id\":\"products[&1].sku\",\"name\":\"products[&1].title\",\"price\":\"products[&1].price\"}}}},"+
+                                       "{\"operation\":\"default\",\"spec\":{\"products\":{\"*\":{\"currency\":\"EUR\"}}}}]");
+            remove=JsonMappings.compile("{\"operation\":\"remove\",\"spec\":{\"items\":{\"*\":{\"tags\":\"\",\"children\":\"\"}}}}");
+        }
+    }
+
+    @Benchmark
+    public JsonNode shiftTree(CorpusState state,
+                              MappingState mappingState) {
+        return mappingState.shift.apply(state.node);
+    }
+
+    @Benchmark
+    public String shiftStreaming(CorpusState state,
+                                 MappingState mappingState) throws IOException {
+        return transform(mappingState.shift,mappingState.factory,state.document);
+    }
+
+    @Benchmark
+    public String removeStreaming(CorpusState state,
+                                  MappingState mappingState) throws IOException {
+        return transform(mappingState.remove,mappingState.factory,state.document);
+    }
+
+    @Benchmark
+    public JsonMapping compileCached(MappingState mappingState) {
+        return JsonMappings.compile(mappingState.shift.getSpec());
+    }
+
+    private static String transform(JsonMapping mapping,
+                                    JsonFactory factory,
+                                    String document) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=factory.createParser(document);
+             JsonGenerator generator=factory.createGenerator(writer)) {
+            mapping.transform(parser,generator);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yelstream.topp.jackson.transform.JsonMergePatch;
+import com.yelstream.topp.jackson.transform.JsonMergePatches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonMergePatch} applied to a streamed document and to a parsed JSON tree.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonMergePatchBenchmark {
+    @State(Scope.Benchmark)
+    public static class MergePatchState {
+        public JsonFactory factory;
+        public JsonMergePatch patch;
+
+        @Setup
+        public void setup(CorpusState state) throws IOException {
+            factory=state.mapper.getFactory();
+            patch=JsonMergePatches.compile(state.mapper.readTree("{\"version\":2,\"owner\":{\"name\":\"benchmark\",\"email\":null}}"));
+        }
+    }
+
+    @Benchmark
+    public String transformStreaming(CorpusState state,
+                                     MergePatchState patchState) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=patchState.factory.createParser(state.document);
+             JsonGenerator generator=patchState.factory.createGenerator(writer)) {
+            patchState.patch.transform(parser,generator);
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String transformTree(CorpusState state,
+                                MergePatchState patchState) throws IOException {
+        JsonNode document=state.mapper.readTree(state.document);
+        return state.mapper.writeValueAsString(patchState.patch.apply(document));
+    }
+}
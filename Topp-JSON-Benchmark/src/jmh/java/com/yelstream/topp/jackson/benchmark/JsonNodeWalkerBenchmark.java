@@ -0,0 +1,56 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.node.ValueNode;
+import com.yelstream.topp.jackson.databind.JsonNodeWalker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonNodeWalker}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonNodeWalkerBenchmark {
+    /**
+     * Walker counting value nodes and the length of text nodes.
+     */
+    private static final class CountingWalker extends JsonNodeWalker {
+        private long count;
+
+        @Override
+        protected void onValueNode(Context context,
+                                   ValueNode node) {
+            count++;
+            super.onValueNode(context,node);
+        }
+
+        @Override
+        protected void onTextNode(Context context,
+                                  TextNode node) {
+            count+=node.textValue().length();
+        }
+    }
+
+    @Benchmark
+    public JsonNodeWalker walk(CorpusState state) {
+        JsonNodeWalker walker=new JsonNodeWalker();
+        walker.walk(state.node);
+        return walker;
+    }
+
+    @Benchmark
+    public long walkAndCount(CorpusState state) {
+        CountingWalker walker=new CountingWalker();
+        walker.walk(state.node);
+        return walker.count;
+    }
+}
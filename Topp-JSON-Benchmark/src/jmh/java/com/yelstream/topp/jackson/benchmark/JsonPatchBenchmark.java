@@ -0,0 +1,106 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.yelstream.topp.jackson.transform.JsonPatch;
+import com.yelstream.topp.jackson.transform.JsonPatchException;
+import com.yelstream.topp.jackson.transform.JsonPatchOperation;
+import com.yelstream.topp.jackson.transform.JsonPatches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonPatch} applied to documents holding large arrays.
+ * <p>
+ *     The patches applied in place leave the document unchanged,
+ *     either by reverting their own changes or by failing on their last operation.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonPatchBenchmark {
+    @State(Scope.Thread)
+    public static class PatchState {
+        @Param({"1000","100000","1000000"})
+        public int length;
+
+        public JsonNode document;
+
+        /**
+         * Patch reverting its own changes.
+         */
+        public JsonPatch patch;
+
+        /**
+         * Patch failing on its last operation.
+         */
+        public JsonPatch failingPatch;
+
+        @Setup
+        public void setup() {
+            ObjectMapper mapper=new ObjectMapper();
+            ObjectNode root=mapper.createObjectNode();
+            ArrayNode items=root.putArray("items");
+            for (int i=0; i<length; i++) {
+                items.addObject().put("id",i).put("name","item "+i);
+            }
+            document=root;
+            int middle=length/2;
+            JsonPatchOperation[] operations={
+                JsonPatchOperation.test("/items/"+middle+"/id",IntNode.valueOf(middle)),
+                JsonPatchOperation.replace("/items/"+middle+"/name",TextNode.valueOf("patched")),
+                JsonPatchOperation.add("/items/-",mapper.createObjectNode().put("id",length)),
+                JsonPatchOperation.move("/items/"+length,"/items/0"),
+                JsonPatchOperation.remove("/items/0"),
+                JsonPatchOperation.replace("/items/"+middle+"/name",TextNode.valueOf("item "+middle))
+            };
+            patch=JsonPatches.compile(operations);
+            JsonPatchOperation[] failingOperations=new JsonPatchOperation[operations.length+1];
+            System.arraycopy(operations,0,failingOperations,0,operations.length);
+            failingOperations[operations.length]=JsonPatchOperation.test("/items/0/id",IntNode.valueOf(-1));
+            failingPatch=JsonPatches.compile(failingOperations);
+        }
+    }
+
+    @Benchmark
+    public JsonNode apply(PatchState state) throws JsonPatchException {
+        return state.patch.apply(state.document);
+    }
+
+    @Benchmark
+    public JsonNode applyInPlace(PatchState state) throws JsonPatchException {
+        return state.patch.applyInPlace(state.document);
+    }
+
+    @Benchmark
+    public JsonPatchException applyInPlaceRollback(PatchState state) {
+        JsonPatchException failure=null;
+        try {
+            state.failingPatch.applyInPlace(state.document);
+        } catch (JsonPatchException ex) {
+            failure=ex;
+        }
+        return failure;
+    }
+
+    @Benchmark
+    public JsonPatch compile(PatchState state) {
+        return JsonPatches.compile(state.patch.getOperations());
+    }
+}
@@ -0,0 +1,77 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yelstream.topp.jackson.path.JsonPath;
+import com.yelstream.topp.jackson.path.JsonPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonPath} evaluated over JSON trees and over parsers.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonPathBenchmark {
+    @State(Scope.Benchmark)
+    public static class PathState {
+        public JsonPath names;
+        public JsonPath filter;
+        public JsonPath first;
+
+        @Setup
+        public void setup() {
+            names=JsonPaths.compile("$.items[*].name");
+            filter=JsonPaths.compile("$.items[?(@.price < 100 && @.category == 'book')].id");
+            first=JsonPaths.compile("$.items[0].name");
+        }
+    }
+
+    @Benchmark
+    public JsonPath compileCached() {
+        return JsonPaths.compile("$.items[?(@.price < 100 && @.category == 'book')].id");
+    }
+
+    @Benchmark
+    public List<JsonNode> selectTree(CorpusState state,
+                                     PathState pathState) {
+        return pathState.names.select(state.node);
+    }
+
+    @Benchmark
+    public List<JsonNode> selectStreaming(CorpusState state,
+                                          PathState pathState) throws IOException {
+        try (JsonParser parser=state.mapper.getFactory().createParser(state.document)) {
+            return pathState.names.select(parser);
+        }
+    }
+
+    @Benchmark
+    public List<JsonNode> filterStreaming(CorpusState state,
+                                          PathState pathState) throws IOException {
+        try (JsonParser parser=state.mapper.getFactory().createParser(state.document)) {
+            return pathState.filter.select(parser);
+        }
+    }
+
+    @Benchmark
+    public JsonNode selectFirstStreaming(CorpusState state,
+                                         PathState pathState) throws IOException {
+        try (JsonParser parser=state.mapper.getFactory().createParser(state.document)) {
+            return pathState.first.selectFirst(parser);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.yelstream.topp.jackson.schema.JsonSchemas;
+import com.yelstream.topp.jackson.schema.StreamingSchemas;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link JsonSchemas}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSchemasBenchmark {
+    @Benchmark
+    public ValidationResult validate(CorpusState state) throws IOException {
+        return JsonSchemas.validate(state.schema,state.mapper,state.document);
+    }
+
+    @Benchmark
+    public ValidationResult validateStreaming(CorpusState state) throws IOException {
+        return StreamingSchemas.validate(state.schema,state.mapper,state.document,ValidationMode.FULL);
+    }
+
+    @Benchmark
+    public void verify(CorpusState state) throws IOException {
+        JsonSchemas.verify(state.schema,state.mapper,state.document);
+    }
+
+    @Benchmark
+    public Catalog deserialize(CorpusState state) throws IOException {
+        return JsonSchemas.deserialize(state.schema,state.mapper,state.document,Catalog.class);
+    }
+
+    @Benchmark
+    public Catalog deserializeWithoutSchema(CorpusState state) throws IOException {
+        return JsonSchemas.deserialize(null,state.mapper,state.document,Catalog.class);
+    }
+
+    @Benchmark
+    public String serialize(CorpusState state) throws IOException {
+        return JsonSchemas.serialize(state.schema,state.mapper,state.catalog);
+    }
+
+    @Benchmark
+    public String serializeWithoutSchema(CorpusState state) throws IOException {
+        return JsonSchemas.serialize(null,state.mapper,state.catalog);
+    }
+}
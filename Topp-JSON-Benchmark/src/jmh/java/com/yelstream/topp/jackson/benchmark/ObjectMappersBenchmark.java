@@ -0,0 +1,40 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.yelstream.topp.jackson.databind.ObjectMappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ObjectMappers}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObjectMappersBenchmark {
+    @Benchmark
+    public String toString(CorpusState state) {
+        return ObjectMappers.toString(state.mapper,state.catalog);
+    }
+
+    @Benchmark
+    public String toStringWithPrettyPrint(CorpusState state) {
+        return ObjectMappers.toStringWithPrettyPrint(state.mapper,state.catalog);
+    }
+
+    @Benchmark
+    public String format(CorpusState state) {
+        return ObjectMappers.format(state.mapper,state.document);
+    }
+
+    @Benchmark
+    public String formatWithPrettyPrint(CorpusState state) {
+        return ObjectMappers.formatWithPrettyPrint(state.mapper,state.document);
+    }
+}
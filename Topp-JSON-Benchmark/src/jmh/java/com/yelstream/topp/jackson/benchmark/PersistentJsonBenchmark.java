@@ -0,0 +1,61 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.yelstream.topp.jackson.persistent.PersistentJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of updates of a persistent JSON tree by path copying,
+ * compared to updates of a copy of a mutable JSON tree.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistentJsonBenchmark {
+    @State(Scope.Benchmark)
+    public static class PersistentState {
+        public JsonNode persistent;
+        public JsonPointer pointer;
+        public JsonNode value;
+
+        @Setup
+        public void setup(CorpusState state) {
+            persistent=PersistentJson.of(state.node);
+            int last=state.node.path("items").size()-1;
+            pointer=JsonPointer.compile("/items/"+last+"/name");
+            value=TextNode.valueOf("benchmark");
+        }
+    }
+
+    @Benchmark
+    public JsonNode convert(CorpusState state) {
+        return PersistentJson.of(state.node);
+    }
+
+    @Benchmark
+    public JsonNode updatePersistent(PersistentState persistentState) {
+        return PersistentJson.with(persistentState.persistent,persistentState.pointer,persistentState.value);
+    }
+
+    @Benchmark
+    public JsonNode updateCopy(CorpusState state,
+                               PersistentState persistentState) {
+        JsonNode copy=state.node.deepCopy();
+        ((ObjectNode)copy.at(persistentState.pointer.head())).set(persistentState.pointer.last().getMatchingProperty(),persistentState.value);
+        return copy;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.yelstream.topp.jackson.databind.JsonProjection;
+import com.yelstream.topp.jackson.databind.JsonProjections;
+import com.yelstream.topp.jackson.databind.ObjectMappers;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of deserialization of the prices of a catalog through a projection,
+ * compared to deserialization of the catalog in full.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+    /**
+     * Projection of a catalog to the prices of its items.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PriceList {
+        private List<Price> items;
+    }
+
+    /**
+     * Projection of an item to its price.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Price {
+        private long id;
+        private double price;
+    }
+
+    @State(Scope.Thread)
+    public static class ProjectionState {
+        public JsonProjection projection;
+
+        @Setup
+        public void setup(CorpusState corpus) {
+            projection=JsonProjections.getProjection(corpus.mapper,PriceList.class);
+        }
+    }
+
+    @Benchmark
+    public PriceList deserializeProjection(CorpusState corpus,
+                                           ProjectionState state) throws IOException {
+        return ObjectMappers.deserialize(corpus.mapper,corpus.document,PriceList.class,state.projection);
+    }
+
+    @Benchmark
+    public PriceList deserializeProjectionWithValidation(CorpusState corpus) throws IOException {
+        return corpus.converter.deserializeProjection(corpus.document,PriceList.class);
+    }
+
+    @Benchmark
+    public Catalog deserialize(CorpusState corpus) throws IOException {
+        return ObjectMappers.deserialize(corpus.mapper,corpus.document,Catalog.class);
+    }
+
+    @Benchmark
+    public Catalog deserializeWithValidation(CorpusState corpus) throws IOException {
+        return corpus.converter.deserialize(corpus.document);
+    }
+}
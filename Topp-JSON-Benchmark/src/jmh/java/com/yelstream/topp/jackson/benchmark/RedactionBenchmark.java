@@ -0,0 +1,74 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yelstream.topp.jackson.transform.Redaction;
+import com.yelstream.topp.jackson.transform.Redactions;
+import com.yelstream.topp.jackson.transform.TokenOperation;
+import com.yelstream.topp.jackson.transform.TokenTransformer;
+import com.yelstream.topp.jackson.transform.TokenTransformers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of redacting small log documents by a {@link TokenTransformer}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RedactionBenchmark {
+    private byte[] document;
+    private TokenTransformer replace;
+    private TokenTransformer mixed;
+    private TokenTransformer annotated;
+
+    @Setup
+    public void setup() throws IOException {
+        document=("{\"timestamp\":\"2026-10-19T10:00:00Z\",\"level\":\"INFO\",\"message\":\"Login accepted\","+
+                  "\"user\":{\"id\":42,\"email\":\"someone@example.com\",\"name\":\"Some One\",\"ip\":\"10.1.2.3\"},"+
+                  "\"session\":\"0123456789abcdef\",\"tags\":[\"auth\",\"web\"]}").getBytes(StandardCharsets.UTF_8);
+        replace=TokenTransformers.compile(
+            TokenOperation.redact("/user/email",Redaction.replace()),
+            TokenOperation.redact("/user/name",Redaction.replace()),
+            TokenOperation.redact("/session",Redaction.replace())
+        );
+        mixed=TokenTransformers.compile(
+            TokenOperation.redact("/user/email",Redaction.hash("salt",16)),
+            TokenOperation.redact("/user/name",Redaction.replace()),
+            TokenOperation.redact("/user/ip",Redaction.truncate(4)),
+            TokenOperation.redact("/session",Redaction.replace())
+        );
+        JsonNode schema=new ObjectMapper().readTree(
+            "{\"properties\":{\"user\":{\"properties\":{\"email\":{\"x-sensitive\":\"hash\"},\"name\":{\"x-sensitive\":true}}},"+
+            "\"session\":{\"x-sensitive\":true}}}");
+        annotated=Redactions.compile(schema);
+    }
+
+    @Benchmark
+    public byte[] redactReplace() throws IOException {
+        return replace.transform(document);
+    }
+
+    @Benchmark
+    public byte[] redactMixed() throws IOException {
+        return mixed.transform(document);
+    }
+
+    @Benchmark
+    public byte[] redactAnnotated() throws IOException {
+        return annotated.transform(document);
+    }
+}
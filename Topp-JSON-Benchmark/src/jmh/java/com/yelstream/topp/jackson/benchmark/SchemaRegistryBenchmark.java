@@ -0,0 +1,68 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.yelstream.topp.jackson.schema.SchemaRegistry;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import com.yelstream.topp.jackson.util.JsonConverters;
+import com.yelstream.topp.jackson.util.RegisteredJsonConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of conversion through a {@link RegisteredJsonConverter} resolving its schema through
+ * a {@link SchemaRegistry} per operation, compared to a converter holding a fixed schema.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaRegistryBenchmark {
+    @State(Scope.Benchmark)
+    public static class RegistryState {
+        public SchemaRegistry registry;
+        public RegisteredJsonConverter<Catalog> converter;
+
+        @Setup
+        public void setup(CorpusState corpus) {
+            registry=SchemaRegistry.ofClasspath("schema/");
+            converter=JsonConverters.createJsonConverter(registry,"catalog.schema.json",Catalog.class,corpus.mapper);
+        }
+
+        @TearDown
+        public void tearDown() {
+            registry.close();
+        }
+    }
+
+    @Benchmark
+    public Catalog deserialize(RegistryState state,
+                               CorpusState corpus) throws IOException {
+        return state.converter.deserialize(corpus.document);
+    }
+
+    @Benchmark
+    public Catalog deserializeFixed(CorpusState corpus) throws IOException {
+        return corpus.converter.deserialize(corpus.document);
+    }
+
+    @Benchmark
+    public ValidationResult validate(RegistryState state,
+                                     CorpusState corpus) throws IOException {
+        return state.converter.validate(corpus.document);
+    }
+
+    @Benchmark
+    public ValidationResult validateFixed(CorpusState corpus) throws IOException {
+        return corpus.converter.validate(corpus.document);
+    }
+}
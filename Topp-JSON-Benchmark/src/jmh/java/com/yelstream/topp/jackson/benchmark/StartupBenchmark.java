@@ -0,0 +1,54 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yelstream.topp.jackson.benchmark.generated.GeneratedCatalog;
+import com.yelstream.topp.jackson.benchmark.generated.GeneratedCatalogModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the first request of a new mapper, with reflective POJOs and with POJOs generated at build time.
+ * <p>
+ *     Each operation uses a new mapper, and so includes the construction of serializers and deserializers.
+ *     For the first request of a fresh JVM, including class loading, run the JMH jar with {@code StartupBenchmark -bm ss -f 20 -wi 0 -i 1}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StartupBenchmark {
+    @State(Scope.Benchmark)
+    public static class DocumentState {
+        public String document;
+
+        @Setup
+        public void setup() {
+            document=Corpus.generate(Corpus.Size.SMALL,Corpus.Shape.NESTED,Corpus.SEED);
+        }
+    }
+
+    @Benchmark
+    public String firstRequestReflective(DocumentState state) throws IOException {
+        ObjectMapper mapper=new ObjectMapper();
+        Catalog catalog=mapper.readValue(state.document,Catalog.class);
+        return mapper.writeValueAsString(catalog);
+    }
+
+    @Benchmark
+    public String firstRequestGenerated(DocumentState state) throws IOException {
+        ObjectMapper mapper=new ObjectMapper().registerModule(new GeneratedCatalogModule());
+        GeneratedCatalog catalog=mapper.readValue(state.document,GeneratedCatalog.class);
+        return mapper.writeValueAsString(catalog);
+    }
+}
@@ -0,0 +1,91 @@
+package com.yelstream.topp.jackson.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.yelstream.topp.jackson.transform.ScalarType;
+import com.yelstream.topp.jackson.transform.TokenOperation;
+import com.yelstream.topp.jackson.transform.TokenTransformer;
+import com.yelstream.topp.jackson.transform.TokenTransformers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link TokenTransformer} against copying tokens unchanged and against transforming a JSON tree.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenTransformerBenchmark {
+    @State(Scope.Benchmark)
+    public static class TransformerState {
+        public JsonFactory factory;
+        public TokenTransformer transformer;
+
+        @Setup
+        public void setup(CorpusState state) {
+            factory=state.mapper.getFactory();
+            transformer=TokenTransformers.compile(
+                TokenOperation.rename("/items/*/name","title"),
+                TokenOperation.drop("/items/*/tags"),
+                TokenOperation.retype("/items/*/id",ScalarType.STRING),
+                TokenOperation.inject("/items/*","currency",TextNode.valueOf("EUR")),
+                TokenOperation.wrap("/items","list")
+            );
+        }
+    }
+
+    @Benchmark
+    public String copy(CorpusState state,
+                       TransformerState transformerState) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=transformerState.factory.createParser(state.document);
+             JsonGenerator generator=transformerState.factory.createGenerator(writer)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String transformStreaming(CorpusState state,
+                                     TransformerState transformerState) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=transformerState.factory.createParser(state.document);
+             JsonGenerator generator=transformerState.factory.createGenerator(writer)) {
+            transformerState.transformer.transform(parser,generator);
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String transformTree(CorpusState state) throws IOException {
+        ObjectNode root=(ObjectNode)state.mapper.readTree(state.document);
+        for (JsonNode item: root.path("items")) {
+            ObjectNode itemNode=(ObjectNode)item;
+            itemNode.set("title",itemNode.remove("name"));
+            itemNode.remove("tags");
+            itemNode.put("id",itemNode.path("id").asText());
+            itemNode.put("currency","EUR");
+        }
+        ObjectNode list=state.mapper.createObjectNode();
+        list.set("list",root.remove("items"));
+        root.set("items",list);
+        return state.mapper.writeValueAsString(root);
+    }
+}
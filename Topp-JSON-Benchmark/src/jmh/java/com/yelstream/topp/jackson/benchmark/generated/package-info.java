@@ -0,0 +1,7 @@
+/**
+ * Jackson POJOs generated at build time from the schema {@code schema/catalog.schema.json}.
+ */
+@GenerateJsonPojos(schema="schema/catalog.schema.json",rootName="GeneratedCatalog")
+package com.yelstream.topp.jackson.benchmark.generated;
+
+import com.yelstream.topp.jackson.gen.GenerateJsonPojos;
@@ -0,0 +1,1047 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generator of synthetic JSON documents conforming to a JSON Schema.
+ * <p>
+ *     Generation is deterministic;
+ *     the document of an index depends on the seed, the configuration and the JSON Schema only,
+ *     regardless of parallelism.
+ *     Documents are written directly to generators and streams, and memory use does not grow with the number of documents.
+ * </p>
+ * <p>
+ *     Supported keywords are {@code type}, {@code enum}, {@code const}, {@code properties}, {@code required},
+ *     {@code additionalProperties}, {@code minProperties}, {@code maxProperties}, {@code items}, {@code minItems},
+ *     {@code maxItems}, {@code minLength}, {@code maxLength}, {@code pattern}, {@code format}, {@code minimum},
+ *     {@code maximum}, {@code exclusiveMinimum}, {@code exclusiveMaximum}, {@code multipleOf} and local {@code $ref}.
+ *     Of {@code anyOf} and {@code oneOf}, a random subschema is used, and the subschemas of {@code allOf} are merged.
+ *     Other keywords are ignored, in which case documents may not conform.
+ *     Strings of a {@code pattern} are generated until one is within the bounds of {@code minLength} and
+ *     {@code maxLength}, failing if none is found.
+ * </p>
+ * <p>
+ *     A fraction of the documents may be made invalid with a single controlled violation.
+ * </p>
+ * <p>
+ *     This is immutable and thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class DataGenerator {
+    /**
+     * Violation of a JSON Schema in an invalid document.
+     */
+    public enum Violation {
+        /**
+         * Value of a type not allowed.
+         */
+        WRONG_TYPE,
+
+        /**
+         * Object without one of its required properties.
+         */
+        MISSING_REQUIRED,
+
+        /**
+         * Object with a property not allowed.
+         */
+        ADDITIONAL_PROPERTY,
+
+        /**
+         * Number or string length outside of its bounds.
+         */
+        OUT_OF_RANGE,
+
+        /**
+         * Value not among the values of an enumeration.
+         */
+        NOT_IN_ENUM
+    }
+
+    /**
+     * Default seed of generation.
+     */
+    public static final long DEFAULT_SEED=0L;
+
+    /**
+     * Default maximum depth of nested objects and arrays.
+     */
+    public static final int DEFAULT_MAX_DEPTH=6;
+
+    /**
+     * Default maximum number of items of arrays.
+     */
+    public static final int DEFAULT_MAX_ITEMS=8;
+
+    /**
+     * Default maximum length of strings.
+     */
+    public static final int DEFAULT_MAX_STRING_LENGTH=16;
+
+    /**
+     * Default probability of generating a property which is not required.
+     */
+    public static final double DEFAULT_OPTIONAL_PROPERTY_RATE=0.5;
+
+    /**
+     * Default probability of a document being invalid.
+     */
+    public static final double DEFAULT_INVALID_RATE=0.0;
+
+    /**
+     * Default number of documents generated by a thread as a unit.
+     */
+    public static final int DEFAULT_CHUNK_SIZE=256;
+
+    /**
+     * Maximum number of strings generated from a pattern to find one within the bounds of its length.
+     */
+    private static final int MAX_PATTERN_ATTEMPTS=1000;
+
+    /**
+     * Width of the range of numbers bounded on one side only or not at all.
+     */
+    private static final long UNBOUNDED_RANGE=1000L;
+
+    /**
+     * Seed of generation.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final long seed=DEFAULT_SEED;
+
+    /**
+     * Maximum depth of nested objects and arrays, beyond which only required content is generated.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxDepth=DEFAULT_MAX_DEPTH;
+
+    /**
+     * Maximum number of items of arrays, unless a higher {@code minItems} applies.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxItems=DEFAULT_MAX_ITEMS;
+
+    /**
+     * Maximum length of strings, unless a higher {@code minLength} applies.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxStringLength=DEFAULT_MAX_STRING_LENGTH;
+
+    /**
+     * Probability of generating a property which is not required.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final double optionalPropertyRate=DEFAULT_OPTIONAL_PROPERTY_RATE;
+
+    /**
+     * Probability of a document being invalid.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final double invalidRate=DEFAULT_INVALID_RATE;
+
+    /**
+     * Kinds of violations of invalid documents.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final Set<Violation> violations=Collections.unmodifiableSet(EnumSet.allOf(Violation.class));
+
+    /**
+     * Number of threads generating documents in parallel.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int parallelism=Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of documents generated by a thread as a unit.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int chunkSize=DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Factory of JSON generators.
+     */
+    private final JsonFactory factory=new MappingJsonFactory();
+
+    /**
+     * Parsed regular expressions by expression.
+     */
+    private final Map<String,PatternStrings> patterns=new ConcurrentHashMap<>();
+
+    /**
+     * Compiled JSON Pointers of local references by reference.
+     */
+    private final Map<String,JsonPointer> pointers=new ConcurrentHashMap<>();
+
+    /**
+     * Indicates, if a document is generated as invalid.
+     * @param index Index of document.
+     * @return Indicates, if the document is invalid.
+     *         The document is valid, if the JSON Schema offers no place for a violation of the kinds configured.
+     */
+    public boolean isInvalid(long index) {
+        return invalidRate>0.0 && !violations.isEmpty() && new SplittableRandom(mix(seed^0x6A09E667F3BCC909L,index)).nextDouble()<invalidRate;
+    }
+
+    /**
+     * Generates a document.
+     * @param schema JSON Schema.
+     * @param index Index of document.
+     * @return Document.
+     */
+    public String generate(JsonSchema schema,
+                           long index) {
+        StringWriter writer=new StringWriter();
+        try (JsonGenerator generator=factory.createGenerator(writer)) {
+            generate(schema,index,generator);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes a document.
+     * @param schema JSON Schema.
+     * @param index Index of document.
+     * @param generator Target of document.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public void generate(JsonSchema schema,
+                         long index,
+                         JsonGenerator generator) throws IOException {
+        Generation generation=new Generation(schema.getSchemaNode(),new SplittableRandom(mix(seed,index)),generator,isInvalid(index));
+        generation.writeValue(schema.getSchemaNode(),0,true);
+    }
+
+    /**
+     * Writes documents as newline-delimited JSON.
+     * @param type Type with JSON Schema.
+     * @param count Number of documents.
+     * @param out Target of documents.
+     *            This is not closed.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public void generate(JsonSchemaType<?> type,
+                         long count,
+                         OutputStream out) throws IOException {
+        generate(type.getSchema(),0L,count,out);
+    }
+
+    /**
+     * Writes documents as newline-delimited JSON.
+     * @param schema JSON Schema.
+     * @param count Number of documents.
+     * @param out Target of documents.
+     *            This is not closed.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public void generate(JsonSchema schema,
+                         long count,
+                         OutputStream out) throws IOException {
+        generate(schema,0L,count,out);
+    }
+
+    /**
+     * Writes a range of documents as newline-delimited JSON.
+     * With a parallelism above one, chunks of documents are generated in parallel and written in order.
+     * @param schema JSON Schema.
+     * @param fromIndex Index of first document.
+     * @param count Number of documents.
+     * @param out Target of documents.
+     *            This is not closed.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public void generate(JsonSchema schema,
+                         long fromIndex,
+                         long count,
+                         OutputStream out) throws IOException {
+        if (parallelism<=1 || count<=chunkSize) {
+            writeChunk(schema,fromIndex,count,out);
+        } else {
+            ExecutorService executor=Executors.newFixedThreadPool(parallelism,runnable->{
+                Thread thread=new Thread(runnable,"data-generator");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                Queue<Future<byte[]>> chunks=new ArrayDeque<>();
+                long index=fromIndex;
+                long endIndex=fromIndex+count;
+                while (index<endIndex || !chunks.isEmpty()) {
+                    while (index<endIndex && chunks.size()<parallelism*2) {
+                        long chunkIndex=index;
+                        long chunkCount=Math.min(chunkSize,endIndex-index);
+                        chunks.add(executor.submit(()->{
+                            ByteArrayOutputStream chunk=new ByteArrayOutputStream();
+                            writeChunk(schema,chunkIndex,chunkCount,chunk);
+                            return chunk.toByteArray();
+                        }));
+                        index+=chunkCount;
+                    }
+                    out.write(getChunk(chunks.poll()));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        out.flush();
+    }
+
+    private static byte[] getChunk(Future<byte[]> chunk) throws IOException {
+        byte[] bytes;
+        try {
+            bytes=chunk.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Failure to generate documents; interrupted!");
+        } catch (ExecutionException ex) {
+            Throwable cause=ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException("Failure to generate documents!",cause);
+        }
+        return bytes;
+    }
+
+    private void writeChunk(JsonSchema schema,
+                            long fromIndex,
+                            long count,
+                            OutputStream out) throws IOException {
+        try (JsonGenerator generator=factory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (long i=0; i<count; i++) {
+                generate(schema,fromIndex+i,generator);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private PatternStrings getPattern(String regex) {
+        return patterns.computeIfAbsent(regex,r->PatternStrings.of(r,maxStringLength));
+    }
+
+    /**
+     * Mixes a seed and an index into the seed of a document.
+     * @param seed Seed.
+     * @param index Index.
+     * @return Mixed seed.
+     */
+    private static long mix(long seed,
+                            long index) {
+        long z=seed+(index+1)*0x9E3779B97F4A7C15L;
+        z=(z^(z>>>30))*0xBF58476D1CE4E5B9L;
+        z=(z^(z>>>27))*0x94D049BB133111EBL;
+        return z^(z>>>31);
+    }
+
+    /**
+     * Generation of a single document.
+     * This is not thread-safe.
+     */
+    private final class Generation {
+        private final JsonNode rootNode;
+        private final SplittableRandom random;
+        private final JsonGenerator generator;
+
+        /**
+         * Indicates, if a violation is yet to be made.
+         */
+        private boolean violationPending;
+
+        private Generation(JsonNode rootNode,
+                           SplittableRandom random,
+                           JsonGenerator generator,
+                           boolean invalid) {
+            this.rootNode=rootNode;
+            this.random=random;
+            this.generator=generator;
+            this.violationPending=invalid;
+        }
+
+        /**
+         * Writes a value conforming to a schema.
+         * @param schema Schema.
+         * @param depth Depth of value.
+         * @param violable Indicates, if a violation may be made here.
+         *                 Violations are not made within subschemas of {@code anyOf} and {@code oneOf}, since other subschemas may still match.
+         * @throws IOException Thrown in case of I/O errors.
+         */
+        private void writeValue(JsonNode schema,
+                                int depth,
+                                boolean violable) throws IOException {
+            JsonNode node=resolve(schema);
+            boolean branch=false;
+            JsonNode choices=node.has("anyOf")?node.get("anyOf"):node.get("oneOf");
+            if (choices!=null && choices.isArray() && choices.size()>0) {
+                node=resolve(choices.get(random.nextInt(choices.size())));
+                branch=true;
+            }
+            JsonNode allOf=node.get("allOf");
+            if (allOf!=null && allOf.isArray()) {
+                node=merge(node,allOf);
+            }
+            boolean canViolate=violable && !branch;
+
+            if (!node.isObject()) {
+                writeAny();
+            } else {
+                Violation violation=canViolate?chooseViolation(node):null;
+                if (violation == Violation.WRONG_TYPE) {
+                    writeWrongType(node);
+                } else {
+                    if (violation == Violation.NOT_IN_ENUM) {
+                        writeNotInEnum(node);
+                    } else {
+                        JsonNode constNode=node.get("const");
+                        JsonNode enumNode=node.get("enum");
+                        if (constNode!=null) {
+                            generator.writeTree(constNode);
+                        } else {
+                            if (enumNode!=null && enumNode.isArray() && enumNode.size()>0) {
+                                generator.writeTree(enumNode.get(random.nextInt(enumNode.size())));
+                            } else {
+                                writeType(node,chooseType(node),depth,canViolate,violation);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void writeType(JsonNode node,
+                               String type,
+                               int depth,
+                               boolean violable,
+                               Violation violation) throws IOException {
+            switch (type) {
+                case "object":
+                    writeObject(node,depth,violable,violation);
+                    break;
+                case "array":
+                    writeArray(node,depth,violable);
+                    break;
+                case "string":
+                    writeString(node,violation == Violation.OUT_OF_RANGE);
+                    break;
+                case "integer":
+                    writeInteger(node,violation == Violation.OUT_OF_RANGE);
+                    break;
+                case "number":
+                    writeNumber(node,violation == Violation.OUT_OF_RANGE);
+                    break;
+                case "boolean":
+                    generator.writeBoolean(random.nextBoolean());
+                    break;
+                case "null":
+                    generator.writeNull();
+                    break;
+                default:
+                    writeAny();
+                    break;
+            }
+        }
+
+        private String chooseType(JsonNode node) {
+            String type;
+            JsonNode typeNode=node.get("type");
+            if (typeNode == null) {
+                if (node.has("properties") || node.has("required") || node.has("additionalProperties")) {
+                    type="object";
+                } else {
+                    if (node.has("items")) {
+                        type="array";
+                    } else {
+                        if (node.has("minimum") || node.has("maximum") || node.has("exclusiveMinimum") || node.has("exclusiveMaximum")) {
+                            type="number";
+                        } else {
+                            if (node.has("pattern") || node.has("minLength") || node.has("maxLength") || node.has("format")) {
+                                type="string";
+                            } else {
+                                type="any";
+                            }
+                        }
+                    }
+                }
+            } else {
+                if (typeNode.isArray()) {
+                    type=typeNode.size() == 0?"any":typeNode.get(random.nextInt(typeNode.size())).asText();
+                } else {
+                    type=typeNode.asText();
+                }
+            }
+            return type;
+        }
+
+        private Violation chooseViolation(JsonNode node) {
+            Violation violation=null;
+            if (violationPending) {
+                List<Violation> applicable=new ArrayList<>();
+                if (violations.contains(Violation.WRONG_TYPE) && node.has("type")) {
+                    applicable.add(Violation.WRONG_TYPE);
+                }
+                if (violations.contains(Violation.NOT_IN_ENUM) && node.has("enum")) {
+                    applicable.add(Violation.NOT_IN_ENUM);
+                }
+                JsonNode required=node.get("required");
+                if (violations.contains(Violation.MISSING_REQUIRED) && required!=null && required.size()>0 && isType(node,"object")) {
+                    applicable.add(Violation.MISSING_REQUIRED);
+                }
+                JsonNode additionalProperties=node.get("additionalProperties");
+                if (violations.contains(Violation.ADDITIONAL_PROPERTY) && additionalProperties!=null && additionalProperties.isBoolean() && !additionalProperties.booleanValue() && isType(node,"object")) {
+                    applicable.add(Violation.ADDITIONAL_PROPERTY);
+                }
+                if (violations.contains(Violation.OUT_OF_RANGE) && !node.has("enum") && !node.has("const") && isOutOfRangeApplicable(node)) {
+                    applicable.add(Violation.OUT_OF_RANGE);
+                }
+                boolean container=isType(node,"object") || isType(node,"array");
+                if (!applicable.isEmpty() && (!container || random.nextBoolean())) {
+                    violation=applicable.get(random.nextInt(applicable.size()));
+                    violationPending=false;
+                }
+            }
+            return violation;
+        }
+
+        private boolean isOutOfRangeApplicable(JsonNode node) {
+            boolean applicable=false;
+            if (isType(node,"integer") || isType(node,"number")) {
+                applicable=node.has("minimum") || node.has("maximum") || node.path("exclusiveMinimum").isNumber() || node.path("exclusiveMaximum").isNumber();
+            } else {
+                if (isType(node,"string") && !node.has("pattern")) {
+                    applicable=node.path("minLength").asInt(0)>0 || node.has("maxLength");
+                }
+            }
+            return applicable;
+        }
+
+        private boolean isType(JsonNode node,
+                               String type) {
+            JsonNode typeNode=node.get("type");
+            return typeNode!=null && typeNode.isTextual() && typeNode.asText().equals(type);
+        }
+
+        private void writeObject(JsonNode node,
+                                 int depth,
+                                 boolean violable,
+                                 Violation violation) throws IOException {
+            JsonNode properties=node.path("properties");
+            Set<String> required=new HashSet<>();
+            for (JsonNode name: node.path("required")) {
+                required.add(name.asText());
+            }
+            String omitted=null;
+            if (violation == Violation.MISSING_REQUIRED) {
+                List<String> names=new ArrayList<>(required);
+                Collections.sort(names);
+                omitted=names.get(random.nextInt(names.size()));
+            }
+            int maxProperties=node.path("maxProperties").asInt(Integer.MAX_VALUE);
+            int minProperties=node.path("minProperties").asInt(0);
+            boolean limited=depth>=maxDepth;
+
+            List<String> names=new ArrayList<>();
+            List<String> optional=new ArrayList<>();
+            Iterator<String> fieldNames=properties.fieldNames();
+            while (fieldNames.hasNext()) {
+                String name=fieldNames.next();
+                if (required.contains(name)) {
+                    if (!name.equals(omitted)) {
+                        names.add(name);
+                    }
+                } else {
+                    if (!limited && random.nextDouble()<optionalPropertyRate) {
+                        names.add(name);
+                    } else {
+                        optional.add(name);
+                    }
+                }
+            }
+            for (String name: required) {
+                if (!properties.has(name) && !name.equals(omitted)) {
+                    names.add(name);
+                }
+            }
+            while (names.size()<minProperties && !optional.isEmpty()) {
+                names.add(optional.remove(random.nextInt(optional.size())));
+            }
+            for (int i=names.size()-1; i>=0 && names.size()>maxProperties; i--) {
+                if (!required.contains(names.get(i))) {
+                    names.remove(i);
+                }
+            }
+
+            generator.writeStartObject();
+            for (String name: names) {
+                generator.writeFieldName(name);
+                JsonNode propertySchema=properties.get(name);
+                if (propertySchema == null) {
+                    propertySchema=getAdditionalSchema(node);
+                }
+                writeValue(propertySchema,depth+1,violable);
+            }
+            JsonNode additionalProperties=node.get("additionalProperties");
+            boolean additionalAllowed=additionalProperties == null || !(additionalProperties.isBoolean() && !additionalProperties.booleanValue());
+            for (int i=0; names.size()+i<minProperties && additionalAllowed; i++) {
+                generator.writeFieldName(getAdditionalName(properties,i));
+                writeValue(getAdditionalSchema(node),depth+1,violable);
+            }
+            if (violation == Violation.ADDITIONAL_PROPERTY) {
+                generator.writeFieldName(getAdditionalName(properties,names.size()));
+                writeAny();
+            }
+            generator.writeEndObject();
+        }
+
+        private JsonNode getAdditionalSchema(JsonNode node) {
+            JsonNode additionalProperties=node.get("additionalProperties");
+            return additionalProperties == null || additionalProperties.isBoolean()?JsonNodeFactory.instance.objectNode():additionalProperties;
+        }
+
+        private String getAdditionalName(JsonNode properties,
+                                         int index) {
+            String name="extra"+index;
+            while (properties.has(name)) {
+                name="_"+name;
+            }
+            return name;
+        }
+
+        private void writeArray(JsonNode node,
+                                int depth,
+                                boolean violable) throws IOException {
+            int minItemCount=node.path("minItems").asInt(0);
+            int maxItemCount=node.path("maxItems").asInt(Integer.MAX_VALUE);
+            int count;
+            if (depth>=maxDepth) {
+                count=minItemCount;
+            } else {
+                int upper=Math.max(minItemCount,Math.min(maxItemCount,maxItems));
+                count=minItemCount+random.nextInt(upper-minItemCount+1);
+            }
+            JsonNode items=node.get("items");
+            generator.writeStartArray();
+            for (int i=0; i<count; i++) {
+                JsonNode itemSchema;
+                if (items == null) {
+                    itemSchema=JsonNodeFactory.instance.objectNode();
+                } else {
+                    if (items.isArray()) {
+                        itemSchema=i<items.size()?items.get(i):getAdditionalItemsSchema(node);
+                    } else {
+                        itemSchema=items;
+                    }
+                }
+                writeValue(itemSchema,depth+1,violable);
+            }
+            generator.writeEndArray();
+        }
+
+        private JsonNode getAdditionalItemsSchema(JsonNode node) {
+            JsonNode additionalItems=node.get("additionalItems");
+            return additionalItems == null || additionalItems.isBoolean()?JsonNodeFactory.instance.objectNode():additionalItems;
+        }
+
+        private void writeString(JsonNode node,
+                                 boolean outOfRange) throws IOException {
+            int minLength=node.path("minLength").asInt(0);
+            int maxLength=node.path("maxLength").asInt(Integer.MAX_VALUE);
+            String text;
+            if (outOfRange) {
+                text=minLength>0?randomLetters(minLength-1):randomLetters(maxLength+1);
+            } else {
+                JsonNode pattern=node.get("pattern");
+                if (pattern!=null) {
+                    PatternStrings strings=getPattern(pattern.asText());
+                    text=strings.generate(random);
+                    int attempts=1;
+                    while ((text.length()<minLength || text.length()>maxLength) && attempts<MAX_PATTERN_ATTEMPTS) {
+                        text=strings.generate(random);
+                        attempts++;
+                    }
+                    if (text.length()<minLength || text.length()>maxLength) {
+                        throw new IllegalArgumentException(String.format("Failure to generate string; pattern is %s, no string of length within [%d,%d] found!",pattern.asText(),minLength,maxLength));
+                    }
+                } else {
+                    text=formatString(node.path("format").asText(""));
+                    if (text == null || text.length()<minLength || text.length()>maxLength) {
+                        int upper=Math.max(minLength,Math.min(maxLength,maxStringLength));
+                        text=randomLetters(minLength+random.nextInt(upper-minLength+1));
+                    }
+                }
+            }
+            generator.writeString(text);
+        }
+
+        private String formatString(String format) {
+            String text;
+            switch (format) {
+                case "date-time":
+                    text=Instant.ofEpochSecond(946_684_800L+random.nextLong(946_684_800L)).toString();
+                    break;
+                case "date":
+                    text=LocalDate.ofEpochDay(10_957L+random.nextLong(10_957L)).toString();
+                    break;
+                case "time":
+                    text=Instant.ofEpochSecond(random.nextLong(86_400L)).atOffset(ZoneOffset.UTC).toOffsetTime().toString();
+                    break;
+                case "email":
+                    text=randomLetters(1+random.nextInt(8))+"@"+randomLetters(1+random.nextInt(8))+".com";
+                    break;
+                case "hostname":
+                    text=randomLetters(1+random.nextInt(8))+".example.com";
+                    break;
+                case "uri":
+                    text="https://example.com/"+randomLetters(random.nextInt(9));
+                    break;
+                case "uuid":
+                    text=new UUID(random.nextLong(),random.nextLong()).toString();
+                    break;
+                case "ipv4":
+                    text=random.nextInt(256)+"."+random.nextInt(256)+"."+random.nextInt(256)+"."+random.nextInt(256);
+                    break;
+                default:
+                    text=null;
+                    break;
+            }
+            return text;
+        }
+
+        private String randomLetters(int length) {
+            char[] chars=new char[length];
+            for (int i=0; i<length; i++) {
+                chars[i]=(char)('a'+random.nextInt(26));
+            }
+            return new String(chars);
+        }
+
+        private void writeInteger(JsonNode node,
+                                  boolean outOfRange) throws IOException {
+            Bounds bounds=new Bounds(node);
+            long lower=bounds.hasMinimum?(long)(bounds.minimumExclusive?Math.floor(bounds.minimum)+1:Math.ceil(bounds.minimum)):0L;
+            long upper=bounds.hasMaximum?(long)(bounds.maximumExclusive?Math.ceil(bounds.maximum)-1:Math.floor(bounds.maximum)):0L;
+            if (!bounds.hasMinimum) {
+                lower=bounds.hasMaximum?upper-UNBOUNDED_RANGE:0L;
+            }
+            if (!bounds.hasMaximum) {
+                upper=lower+UNBOUNDED_RANGE;
+            }
+            if (outOfRange) {
+                generator.writeNumber(bounds.hasMinimum?lower-1:upper+1);
+            } else {
+                JsonNode multipleOf=node.get("multipleOf");
+                if (multipleOf!=null && multipleOf.isNumber()) {
+                    generator.writeNumber(randomMultiple(bounds,lower,upper,multipleOf.decimalValue()).toBigInteger());
+                } else {
+                    generator.writeNumber(upper<lower?lower:lower+random.nextLong(upper-lower+1));
+                }
+            }
+        }
+
+        private void writeNumber(JsonNode node,
+                                 boolean outOfRange) throws IOException {
+            Bounds bounds=new Bounds(node);
+            double lower=bounds.hasMinimum?bounds.minimum:0.0;
+            double upper=bounds.hasMaximum?bounds.maximum:0.0;
+            if (!bounds.hasMinimum) {
+                lower=bounds.hasMaximum?upper-UNBOUNDED_RANGE:0.0;
+            }
+            if (!bounds.hasMaximum) {
+                upper=lower+UNBOUNDED_RANGE;
+            }
+            if (outOfRange) {
+                generator.writeNumber(bounds.hasMinimum?lower-1:upper+1);
+            } else {
+                JsonNode multipleOf=node.get("multipleOf");
+                if (multipleOf!=null && multipleOf.isNumber()) {
+                    generator.writeNumber(randomMultiple(bounds,lower,upper,multipleOf.decimalValue()));
+                } else {
+                    double value=Math.round((lower+(upper-lower)*random.nextDouble())*100.0)/100.0;
+                    if (!bounds.contains(value)) {
+                        value=lower+(upper-lower)/2;
+                    }
+                    generator.writeNumber(value);
+                }
+            }
+        }
+
+        private BigDecimal randomMultiple(Bounds bounds,
+                                          double lower,
+                                          double upper,
+                                          BigDecimal step) {
+            long first=BigDecimal.valueOf(lower).divide(step,0,RoundingMode.CEILING).longValue();
+            long last=BigDecimal.valueOf(upper).divide(step,0,RoundingMode.FLOOR).longValue();
+            if (!bounds.contains(step.multiply(BigDecimal.valueOf(first)).doubleValue())) {
+                first++;
+            }
+            if (!bounds.contains(step.multiply(BigDecimal.valueOf(last)).doubleValue())) {
+                last--;
+            }
+            long factor=last<first?first:first+random.nextLong(last-first+1);
+            return step.multiply(BigDecimal.valueOf(factor));
+        }
+
+        private void writeWrongType(JsonNode node) throws IOException {
+            Set<String> allowed=new HashSet<>();
+            JsonNode typeNode=node.get("type");
+            if (typeNode.isArray()) {
+                for (JsonNode type: typeNode) {
+                    allowed.add(type.asText());
+                }
+            } else {
+                allowed.add(typeNode.asText());
+            }
+            List<String> candidates=new ArrayList<>();
+            for (String type: new String[]{"string","integer","number","boolean","null","object","array"}) {
+                boolean accepted=allowed.contains(type) || (type.equals("integer") && allowed.contains("number"));
+                if (!accepted) {
+                    candidates.add(type);
+                }
+            }
+            if (candidates.isEmpty()) {
+                writeAny();
+            } else {
+                switch (candidates.get(random.nextInt(candidates.size()))) {
+                    case "string":
+                        generator.writeString(randomLetters(1+random.nextInt(8)));
+                        break;
+                    case "integer":
+                        generator.writeNumber(random.nextInt(1000));
+                        break;
+                    case "number":
+                        generator.writeNumber(0.5+random.nextInt(1000));
+                        break;
+                    case "boolean":
+                        generator.writeBoolean(random.nextBoolean());
+                        break;
+                    case "null":
+                        generator.writeNull();
+                        break;
+                    case "object":
+                        generator.writeStartObject();
+                        generator.writeEndObject();
+                        break;
+                    default:
+                        generator.writeStartArray();
+                        generator.writeEndArray();
+                        break;
+                }
+            }
+        }
+
+        private void writeNotInEnum(JsonNode node) throws IOException {
+            JsonNode values=node.get("enum");
+            String text="~"+randomLetters(8);
+            boolean present=true;
+            while (present) {
+                present=false;
+                for (JsonNode value: values) {
+                    present|=value.isTextual() && value.textValue().equals(text);
+                }
+                if (present) {
+                    text="~"+text;
+                }
+            }
+            generator.writeString(text);
+        }
+
+        private void writeAny() throws IOException {
+            switch (random.nextInt(3)) {
+                case 0:
+                    generator.writeString(randomLetters(1+random.nextInt(maxStringLength)));
+                    break;
+                case 1:
+                    generator.writeNumber(random.nextInt(1000));
+                    break;
+                default:
+                    generator.writeBoolean(random.nextBoolean());
+                    break;
+            }
+        }
+
+        private JsonNode resolve(JsonNode schema) {
+            JsonNode node=schema;
+            for (int i=0; i<64 && node.isObject() && node.has("$ref"); i++) {
+                String ref=node.get("$ref").asText();
+                if (!ref.startsWith("#")) {
+                    throw new IllegalArgumentException(String.format("Failure to generate document; reference %s is not local!",ref));
+                }
+                JsonNode target=rootNode.at(pointers.computeIfAbsent(ref,r->JsonPointer.compile(r.substring(1))));
+                if (target.isMissingNode()) {
+                    throw new IllegalArgumentException(String.format("Failure to generate document; reference %s does not resolve!",ref));
+                }
+                node=target;
+            }
+            return node;
+        }
+
+        private JsonNode merge(JsonNode node,
+                               JsonNode allOf) {
+            ObjectNode merged=JsonNodeFactory.instance.objectNode();
+            ObjectNode properties=JsonNodeFactory.instance.objectNode();
+            Set<String> required=new HashSet<>();
+            List<JsonNode> parts=new ArrayList<>();
+            for (JsonNode part: allOf) {
+                parts.add(resolve(part));
+            }
+            parts.add(node);
+            for (JsonNode part: parts) {
+                Iterator<Map.Entry<String,JsonNode>> fields=part.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String,JsonNode> field=fields.next();
+                    switch (field.getKey()) {
+                        case "allOf":
+                            break;
+                        case "properties":
+                            properties.setAll((ObjectNode)field.getValue());
+                            break;
+                        case "required":
+                            for (JsonNode name: field.getValue()) {
+                                required.add(name.asText());
+                            }
+                            break;
+                        default:
+                            merged.set(field.getKey(),field.getValue());
+                            break;
+                    }
+                }
+            }
+            if (properties.size()>0) {
+                merged.set("properties",properties);
+            }
+            if (!required.isEmpty()) {
+                List<String> names=new ArrayList<>(required);
+                Collections.sort(names);
+                merged.set("required",JsonNodeFactory.instance.arrayNode().addAll(toTextNodes(names)));
+            }
+            return merged;
+        }
+
+        private List<JsonNode> toTextNodes(List<String> names) {
+            List<JsonNode> nodes=new ArrayList<>();
+            for (String name: names) {
+                nodes.add(JsonNodeFactory.instance.textNode(name));
+            }
+            return nodes;
+        }
+    }
+
+    /**
+     * Bounds of a number, with exclusive bounds of both draft 4 and later drafts.
+     */
+    private static final class Bounds {
+        private final boolean hasMinimum;
+        private final double minimum;
+        private final boolean minimumExclusive;
+        private final boolean hasMaximum;
+        private final double maximum;
+        private final boolean maximumExclusive;
+
+        private Bounds(JsonNode node) {
+            JsonNode minimumNode=node.get("minimum");
+            JsonNode maximumNode=node.get("maximum");
+            JsonNode exclusiveMinimumNode=node.get("exclusiveMinimum");
+            JsonNode exclusiveMaximumNode=node.get("exclusiveMaximum");
+            double lower=Double.NEGATIVE_INFINITY;
+            boolean lowerExclusive=false;
+            if (minimumNode!=null && minimumNode.isNumber()) {
+                lower=minimumNode.doubleValue();
+                lowerExclusive=exclusiveMinimumNode!=null && exclusiveMinimumNode.isBoolean() && exclusiveMinimumNode.booleanValue();
+            }
+            if (exclusiveMinimumNode!=null && exclusiveMinimumNode.isNumber() && exclusiveMinimumNode.doubleValue()>=lower) {
+                lower=exclusiveMinimumNode.doubleValue();
+                lowerExclusive=true;
+            }
+            double upper=Double.POSITIVE_INFINITY;
+            boolean upperExclusive=false;
+            if (maximumNode!=null && maximumNode.isNumber()) {
+                upper=maximumNode.doubleValue();
+                upperExclusive=exclusiveMaximumNode!=null && exclusiveMaximumNode.isBoolean() && exclusiveMaximumNode.booleanValue();
+            }
+            if (exclusiveMaximumNode!=null && exclusiveMaximumNode.isNumber() && exclusiveMaximumNode.doubleValue()<=upper) {
+                upper=exclusiveMaximumNode.doubleValue();
+                upperExclusive=true;
+            }
+            this.hasMinimum=lower!=Double.NEGATIVE_INFINITY;
+            this.minimum=lower;
+            this.minimumExclusive=lowerExclusive;
+            this.hasMaximum=upper!=Double.POSITIVE_INFINITY;
+            this.maximum=upper;
+            this.maximumExclusive=upperExclusive;
+        }
+
+        private boolean contains(double value) {
+            boolean aboveMinimum=!hasMinimum || (minimumExclusive?value>minimum:value>=minimum);
+            boolean belowMaximum=!hasMaximum || (maximumExclusive?value<maximum:value<=maximum);
+            return aboveMinimum && belowMaximum;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.yelstream.topp.jackson.gen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests the generation of Jackson POJOs from a JSON Schema at build time by {@link JsonPojoProcessor}.
+ * <p>
+ *     The JSON Schema is looked up in the directories of the processor option {@value JsonPojoProcessor#SCHEMA_PATH_OPTION},
+ *     then on the class path and the source path of the compilation.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.PACKAGE,ElementType.TYPE})
+public @interface GenerateJsonPojos {
+    /**
+     * Gets the relative name of the JSON Schema.
+     * @return Name of JSON Schema.
+     */
+    String schema();
+
+    /**
+     * Gets the simple name of the class of the root schema.
+     * @return Name of class.
+     */
+    String rootName();
+
+    /**
+     * Gets the package of generated classes.
+     * @return Package of classes.
+     *         If empty, this is the package of the annotated element.
+     */
+    String packageName() default "";
+}
@@ -0,0 +1,66 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility writing the sources of Jackson POJOs generated from JSON Schemas.
+ * <p>
+ *     This is the entry point of generation from a build, e.g. a Gradle {@code JavaExec} task.
+ *     Within a compilation, use {@link GenerateJsonPojos} instead.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class GeneratedPojos {
+    /**
+     * Writes the sources of the POJOs of a JSON Schema to a source directory.
+     * @param schemaFile File of JSON Schema.
+     * @param packageName Package of classes.
+     * @param rootName Simple name of the class of the root schema.
+     * @param directory Source directory.
+     * @return Source files written.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public static List<Path> writeSources(Path schemaFile,
+                                          String packageName,
+                                          String rootName,
+                                          Path directory) throws IOException {
+        JsonNode schemaNode=new ObjectMapper().readTree(schemaFile.toFile());
+        Map<String,String> sources=PojoSources.generate(schemaNode,String.valueOf(schemaFile.getFileName()),packageName,rootName);
+        List<Path> files=new ArrayList<>();
+        for (Map.Entry<String,String> source: sources.entrySet()) {
+            Path file=directory.resolve(source.getKey().replace('.',File.separatorChar)+".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file,source.getValue(),StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Writes the sources of the POJOs of a JSON Schema to a source directory.
+     * @param args Arguments; file of JSON Schema, package of classes, simple name of root class and source directory.
+     * @throws IOException Thrown in case of I/O errors.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length!=4) {
+            throw new IllegalArgumentException(String.format("Failure to generate POJOs; expected arguments are <schema-file> <package> <root-name> <directory>, number of arguments is %d!",args.length));
+        }
+        writeSources(Paths.get(args[0]),args[1],args[2],Paths.get(args[3]));
+    }
+}
@@ -0,0 +1,65 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.jfr.ParseEvent;
+import com.yelstream.topp.jackson.jfr.ValidationEvent;
+import com.yelstream.topp.jackson.schema.DocumentValidator;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Base of validators generated from a JSON Schema by {@link ValidatorSources}.
+ * <p>
+ *     Generated validators check JSON trees with straight-line code per schema object.
+ *     Instances are stateless and thread-safe, and may be set as the validator of a
+ *     {@link com.yelstream.topp.jackson.schema.JsonSchemaType}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public abstract class GeneratedValidator implements DocumentValidator {
+    @Override
+    public ValidationResult validate(ObjectMapper mapper,
+                                     String document,
+                                     ValidationMode mode) throws IOException {
+        ParseEvent parseEvent=new ParseEvent();
+        parseEvent.begin();
+        JsonNode node=mapper.readTree(document);
+        parseEvent.complete(null,document,node);
+
+        ValidationEvent validationEvent=new ValidationEvent();
+        validationEvent.begin();
+        Set<ValidationMessage> validationMessages=validate(node,mode);
+        validationEvent.complete(null,document,node,validationMessages.size());
+
+        return new ValidationResult(node,validationMessages);
+    }
+
+    /**
+     * Validates a JSON tree.
+     * @param node JSON tree.
+     * @param mode Mode of validation.
+     * @return Validation messages.
+     */
+    public Set<ValidationMessage> validate(JsonNode node,
+                                           ValidationMode mode) {
+        ValidatorContext context=new ValidatorContext(mode);
+        validate(node,context);
+        return context.getValidationMessages();
+    }
+
+    /**
+     * Validates a JSON tree.
+     * @param node JSON tree.
+     * @param context State of validation.
+     */
+    protected abstract void validate(JsonNode node,
+                                     ValidatorContext context);
+}
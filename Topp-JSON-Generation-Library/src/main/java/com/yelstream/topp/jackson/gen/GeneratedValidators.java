@@ -0,0 +1,262 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.schema.DocumentValidator;
+import com.yelstream.topp.jackson.schema.JsonSchemas;
+import lombok.experimental.UtilityClass;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility addressing validators generated from JSON Schemas.
+ * <p>
+ *     Validators may be generated ahead of time by {@link #writeSource(JsonSchema,String,Path)} and compiled with
+ *     the application, or generated and compiled at runtime by {@link #getValidator(JsonSchema)}.
+ *     Compilation at runtime requires a Java compiler to be present.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class GeneratedValidators {
+    /**
+     * Package of validators compiled at runtime.
+     */
+    private static final String PACKAGE_NAME="com.yelstream.topp.jackson.gen.validators";
+
+    /**
+     * Validators compiled at runtime by JSON Schema.
+     * Schemas not supported map to an empty value.
+     */
+    private static final Map<JsonSchema,Optional<GeneratedValidator>> VALIDATORS=Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Sequence of names of classes compiled at runtime.
+     */
+    private static final AtomicLong CLASS_SEQUENCE=new AtomicLong();
+
+    /**
+     * Gets the validator generated and compiled at runtime for a JSON Schema.
+     * The validator is compiled once, on first use, and cached for the lifetime of the JSON Schema.
+     * @param schema JSON Schema.
+     * @return Validator.
+     *         This is {@code null} if the JSON Schema uses keywords not supported.
+     * @throws IllegalStateException Thrown if no Java compiler is available or compilation fails.
+     */
+    public static GeneratedValidator getValidator(JsonSchema schema) {
+        Optional<GeneratedValidator> validator=
+            VALIDATORS.computeIfAbsent(schema,s->ValidatorSources.isSupported(s)?Optional.of(compile(s)):Optional.empty());
+        return validator.orElse(null);
+    }
+
+    /**
+     * Creates a document validator of a JSON Schema using the validator generated for the JSON Schema.
+     * If the JSON Schema uses keywords not supported, the interpreted JSON Schema is used.
+     * @param schema JSON Schema.
+     * @return Document validator.
+     */
+    public static DocumentValidator createValidator(JsonSchema schema) {
+        DocumentValidator validator=getValidator(schema);
+        if (validator == null) {
+            validator=(mapper,document,mode)->JsonSchemas.validate(schema,mapper,document,mode);
+        }
+        return validator;
+    }
+
+    /**
+     * Generates and compiles a validator of a JSON Schema.
+     * @param schema JSON Schema.
+     * @return Validator.
+     * @throws IllegalArgumentException Thrown if the JSON Schema uses keywords not supported.
+     * @throws IllegalStateException Thrown if no Java compiler is available or compilation fails.
+     */
+    public static GeneratedValidator compile(JsonSchema schema) {
+        String className=PACKAGE_NAME+".SchemaValidator"+CLASS_SEQUENCE.incrementAndGet();
+        String source=ValidatorSources.generate(schema,className);
+        return compile(className,source);
+    }
+
+    /**
+     * Compiles the source of a validator.
+     * @param className Fully qualified name of the class of the validator.
+     * @param source Java source.
+     * @return Validator.
+     * @throws IllegalStateException Thrown if no Java compiler is available or compilation fails.
+     */
+    public static GeneratedValidator compile(String className,
+                                             String source) {
+        JavaCompiler compiler=ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException(String.format("Failure to compile validator; class is %s, no Java compiler is available!",className));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics=new DiagnosticCollector<>();
+        ClassFileManager fileManager=new ClassFileManager(compiler.getStandardFileManager(diagnostics,null,StandardCharsets.UTF_8));
+        List<String> options=List.of("-classpath",getClassPath(),"-proc:none");
+        JavaFileObject sourceFile=new SourceFile(className,source);
+        boolean compiled=compiler.getTask(null,fileManager,diagnostics,options,null,List.of(sourceFile)).call();
+        if (!compiled) {
+            throw new IllegalStateException(String.format("Failure to compile validator; class is %s, diagnostics are %s!",className,diagnostics.getDiagnostics()));
+        }
+
+        GeneratedValidator validator;
+        try {
+            ClassLoader classLoader=new ClassFileLoader(GeneratedValidator.class.getClassLoader(),fileManager.classFiles);
+            Class<? extends GeneratedValidator> validatorClass=classLoader.loadClass(className).asSubclass(GeneratedValidator.class);
+            validator=validatorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            throw new IllegalStateException(String.format("Failure to load validator; class is %s!",className),ex);
+        }
+        return validator;
+    }
+
+    /**
+     * Writes the source of the validator of a JSON Schema to a source directory.
+     * @param schema JSON Schema.
+     * @param className Fully qualified name of the class of the validator.
+     * @param directory Source directory.
+     * @return Source file written.
+     * @throws IOException Thrown in case of I/O errors.
+     * @throws IllegalArgumentException Thrown if the JSON Schema uses keywords not supported.
+     */
+    public static Path writeSource(JsonSchema schema,
+                                   String className,
+                                   Path directory) throws IOException {
+        String source=ValidatorSources.generate(schema,className);
+        Path file=directory.resolve(className.replace('.',File.separatorChar)+".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file,source,StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Gets the class path required by the source of validators.
+     * @return Class path.
+     */
+    private static String getClassPath() {
+        Set<String> locations=new LinkedHashSet<>();
+        for (Class<?> c: List.of(GeneratedValidator.class,DocumentValidator.class,JsonNode.class,JsonParser.class,JsonFormat.class,JsonSchema.class)) {
+            CodeSource codeSource=c.getProtectionDomain().getCodeSource();
+            URL location=codeSource == null?null:codeSource.getLocation();
+            if (location!=null) {
+                try {
+                    locations.add(Paths.get(location.toURI()).toString());
+                } catch (URISyntaxException ex) {
+                    throw new IllegalStateException(String.format("Failure to resolve class path; location is %s!",location),ex);
+                }
+            }
+        }
+        return String.join(File.pathSeparator,locations);
+    }
+
+    /**
+     * Java source held in memory.
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String className,
+                           String source) {
+            super(URI.create("string:///"+className.replace('.','/')+Kind.SOURCE.extension),Kind.SOURCE);
+            this.source=source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    /**
+     * Class file held in memory.
+     */
+    private static final class ClassFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+
+        private ClassFile(String className) {
+            super(URI.create("bytes:///"+className.replace('.','/')+Kind.CLASS.extension),Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+
+    /**
+     * File manager keeping class files in memory.
+     */
+    private static final class ClassFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String,ClassFile> classFiles=new HashMap<>();
+
+        private ClassFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location,
+                                                   String className,
+                                                   JavaFileObject.Kind kind,
+                                                   FileObject sibling) {
+            ClassFile classFile=new ClassFile(className);
+            classFiles.put(className,classFile);
+            return classFile;
+        }
+    }
+
+    /**
+     * Class loader defining classes from class files held in memory.
+     */
+    private static final class ClassFileLoader extends ClassLoader {
+        private final Map<String,ClassFile> classFiles;
+
+        private ClassFileLoader(ClassLoader parent,
+                                Map<String,ClassFile> classFiles) {
+            super(parent);
+            this.classFiles=classFiles;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            ClassFile classFile=classFiles.get(name);
+            if (classFile == null) {
+                throw new ClassNotFoundException(name);
+            }
+            byte[] bytes=classFile.bytes.toByteArray();
+            return defineClass(name,bytes,0,bytes.length);
+        }
+    }
+}
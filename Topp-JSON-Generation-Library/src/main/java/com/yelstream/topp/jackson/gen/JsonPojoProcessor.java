@@ -0,0 +1,113 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating Jackson POJOs, serializers, deserializers and modules
+ * for elements annotated by {@link GenerateJsonPojos}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@SupportedAnnotationTypes("com.yelstream.topp.jackson.gen.GenerateJsonPojos")
+@SupportedOptions(JsonPojoProcessor.SCHEMA_PATH_OPTION)
+public class JsonPojoProcessor extends AbstractProcessor {
+    /**
+     * Name of the processor option listing directories of JSON Schemas, separated by the path separator.
+     */
+    public static final String SCHEMA_PATH_OPTION="toppJsonSchemaPath";
+
+    /**
+     * Mapper reading JSON Schemas.
+     */
+    private final ObjectMapper mapper=new ObjectMapper();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+                           RoundEnvironment roundEnvironment) {
+        for (Element element: roundEnvironment.getElementsAnnotatedWith(GenerateJsonPojos.class)) {
+            GenerateJsonPojos annotation=element.getAnnotation(GenerateJsonPojos.class);
+            String packageName=annotation.packageName();
+            if (packageName.isEmpty()) {
+                packageName=processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+            }
+            try {
+                JsonNode schemaNode=readSchema(annotation.schema());
+                Map<String,String> sources=PojoSources.generate(schemaNode,annotation.schema(),packageName,annotation.rootName());
+                for (Map.Entry<String,String> source: sources.entrySet()) {
+                    JavaFileObject file=processingEnv.getFiler().createSourceFile(source.getKey(),element);
+                    try (Writer writer=file.openWriter()) {
+                        writer.write(source.getValue());
+                    }
+                }
+            } catch (IOException | IllegalArgumentException ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,String.format("Failure to generate JSON POJOs; schema is %s, %s!",annotation.schema(),ex.getMessage()),element);
+            }
+        }
+        return true;
+    }
+
+    private JsonNode readSchema(String name) throws IOException {
+        JsonNode schemaNode=null;
+        String schemaPath=processingEnv.getOptions().get(SCHEMA_PATH_OPTION);
+        if (schemaPath!=null) {
+            for (String directory: schemaPath.split(File.pathSeparator)) {
+                Path file=Paths.get(directory).resolve(name);
+                if (schemaNode == null && Files.isRegularFile(file)) {
+                    schemaNode=mapper.readTree(file.toFile());
+                }
+            }
+        }
+        for (StandardLocation location: new StandardLocation[]{StandardLocation.CLASS_PATH,StandardLocation.SOURCE_PATH}) {
+            if (schemaNode == null) {
+                schemaNode=readSchema(location,name);
+            }
+        }
+        if (schemaNode == null) {
+            throw new IOException(String.format("Failure to find JSON Schema; name is %s",name));
+        }
+        return schemaNode;
+    }
+
+    private JsonNode readSchema(StandardLocation location,
+                                String name) {
+        JsonNode schemaNode=null;
+        try {
+            FileObject file=processingEnv.getFiler().getResource(location,"",name);
+            try (InputStream in=file.openInputStream()) {
+                schemaNode=mapper.readTree(in);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            //Not present at location.
+        }
+        return schemaNode;
+    }
+}
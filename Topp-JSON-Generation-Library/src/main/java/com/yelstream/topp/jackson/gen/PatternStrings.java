@@ -0,0 +1,448 @@
+package com.yelstream.topp.jackson.gen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generation of strings matching regular expressions.
+ * <p>
+ *     Supported are literals, escapes, {@code .}, character classes including ranges, negation and
+ *     {@code \d}, {@code \w} and {@code \s}, groups, alternation, quantifiers and the anchors {@code ^} and {@code $}.
+ *     Generated strings consist of printable ASCII characters.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class PatternStrings {
+    /**
+     * First printable ASCII character.
+     */
+    private static final char MIN_CHAR=0x20;
+
+    /**
+     * Last printable ASCII character.
+     */
+    private static final char MAX_CHAR=0x7e;
+
+    /**
+     * Root of parsed regular expression.
+     */
+    private final Node root;
+
+    /**
+     * Maximum number of repetitions added to the minimum of unbounded quantifiers.
+     */
+    private final int maxRepeat;
+
+    private PatternStrings(Node root,
+                           int maxRepeat) {
+        this.root=root;
+        this.maxRepeat=maxRepeat;
+    }
+
+    /**
+     * Parses a regular expression.
+     * @param regex Regular expression.
+     * @param maxRepeat Maximum number of repetitions added to the minimum of unbounded quantifiers.
+     * @return Generation of strings.
+     * @throws IllegalArgumentException Thrown if the regular expression uses constructs not supported.
+     */
+    static PatternStrings of(String regex,
+                             int maxRepeat) {
+        Parser parser=new Parser(regex);
+        Node root=parser.parseAlternation();
+        if (parser.index<regex.length()) {
+            throw parser.unsupported();
+        }
+        return new PatternStrings(root,maxRepeat);
+    }
+
+    /**
+     * Generates a string.
+     * @param random Source of randomness.
+     * @return Generated string.
+     */
+    String generate(SplittableRandom random) {
+        StringBuilder sb=new StringBuilder();
+        root.generate(this,random,sb);
+        return sb.toString();
+    }
+
+    /**
+     * Node of a parsed regular expression.
+     */
+    private interface Node {
+        void generate(PatternStrings strings,
+                      SplittableRandom random,
+                      StringBuilder sb);
+    }
+
+    /**
+     * Sequence of nodes.
+     */
+    private static final class Sequence implements Node {
+        private final List<Node> nodes=new ArrayList<>();
+
+        @Override
+        public void generate(PatternStrings strings,
+                             SplittableRandom random,
+                             StringBuilder sb) {
+            for (Node node: nodes) {
+                node.generate(strings,random,sb);
+            }
+        }
+    }
+
+    /**
+     * Alternation of nodes.
+     */
+    private static final class Alternation implements Node {
+        private final List<Node> nodes=new ArrayList<>();
+
+        @Override
+        public void generate(PatternStrings strings,
+                             SplittableRandom random,
+                             StringBuilder sb) {
+            nodes.get(random.nextInt(nodes.size())).generate(strings,random,sb);
+        }
+    }
+
+    /**
+     * Repetition of a node.
+     */
+    private static final class Repeat implements Node {
+        private final Node node;
+        private final int min;
+
+        /**
+         * Maximum number of repetitions.
+         * This is -1 if unbounded.
+         */
+        private final int max;
+
+        private Repeat(Node node,
+                       int min,
+                       int max) {
+            this.node=node;
+            this.min=min;
+            this.max=max;
+        }
+
+        @Override
+        public void generate(PatternStrings strings,
+                             SplittableRandom random,
+                             StringBuilder sb) {
+            int upper=max<0?min+strings.maxRepeat:max;
+            int count=min+random.nextInt(upper-min+1);
+            for (int i=0; i<count; i++) {
+                node.generate(strings,random,sb);
+            }
+        }
+    }
+
+    /**
+     * Set of characters.
+     */
+    private static final class CharSet implements Node {
+        private final char[] chars;
+
+        private CharSet(boolean[] members) {
+            StringBuilder sb=new StringBuilder();
+            for (char ch=MIN_CHAR; ch<=MAX_CHAR; ch++) {
+                if (members[ch]) {
+                    sb.append(ch);
+                }
+            }
+            this.chars=sb.toString().toCharArray();
+        }
+
+        @Override
+        public void generate(PatternStrings strings,
+                             SplittableRandom random,
+                             StringBuilder sb) {
+            sb.append(chars[random.nextInt(chars.length)]);
+        }
+    }
+
+    /**
+     * Literal character.
+     */
+    private static final class Literal implements Node {
+        private final char ch;
+
+        private Literal(char ch) {
+            this.ch=ch;
+        }
+
+        @Override
+        public void generate(PatternStrings strings,
+                             SplittableRandom random,
+                             StringBuilder sb) {
+            sb.append(ch);
+        }
+    }
+
+    /**
+     * Recursive descent parser of regular expressions.
+     */
+    private static final class Parser {
+        private final String regex;
+        private int index;
+
+        private Parser(String regex) {
+            this.regex=regex;
+        }
+
+        private Node parseAlternation() {
+            Alternation alternation=new Alternation();
+            alternation.nodes.add(parseSequence());
+            while (index<regex.length() && regex.charAt(index) == '|') {
+                index++;
+                alternation.nodes.add(parseSequence());
+            }
+            return alternation.nodes.size() == 1?alternation.nodes.get(0):alternation;
+        }
+
+        private Node parseSequence() {
+            Sequence sequence=new Sequence();
+            while (index<regex.length() && regex.charAt(index)!='|' && regex.charAt(index)!=')') {
+                char ch=regex.charAt(index);
+                if (ch == '^' || ch == '$') {
+                    if (!(index == 0 && ch == '^') && !(index == regex.length()-1 && ch == '$')) {
+                        throw unsupported();
+                    }
+                    index++;
+                } else {
+                    Node atom=parseAtom();
+                    sequence.nodes.add(parseQuantifier(atom));
+                }
+            }
+            return sequence;
+        }
+
+        private Node parseAtom() {
+            char ch=regex.charAt(index);
+            index++;
+            Node atom;
+            switch (ch) {
+                case '(':
+                    if (regex.startsWith("?:",index)) {
+                        index+=2;
+                    } else {
+                        if (index<regex.length() && regex.charAt(index) == '?') {
+                            throw unsupported();
+                        }
+                    }
+                    atom=parseAlternation();
+                    expect(')');
+                    break;
+                case '[':
+                    atom=parseClass();
+                    break;
+                case '.': {
+                    boolean[] members=new boolean[MAX_CHAR+1];
+                    addRange(members,MIN_CHAR,MAX_CHAR);
+                    atom=new CharSet(members);
+                    break;
+                }
+                case '\\': {
+                    boolean[] members=new boolean[MAX_CHAR+1];
+                    char literal=parseEscape(members);
+                    atom=literal == 0?new CharSet(members):new Literal(literal);
+                    break;
+                }
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                case ')':
+                    throw unsupported();
+                default:
+                    atom=new Literal(ch);
+                    break;
+            }
+            return atom;
+        }
+
+        private Node parseQuantifier(Node atom) {
+            Node node=atom;
+            if (index<regex.length()) {
+                char ch=regex.charAt(index);
+                int min=-1;
+                int max=-1;
+                if (ch == '*' || ch == '+' || ch == '?') {
+                    index++;
+                    min=ch == '+'?1:0;
+                    max=ch == '?'?1:-1;
+                } else {
+                    if (ch == '{') {
+                        int end=regex.indexOf('}',index);
+                        if (end<0) {
+                            throw unsupported();
+                        }
+                        String[] bounds=regex.substring(index+1,end).split(",",-1);
+                        try {
+                            min=Integer.parseInt(bounds[0].trim());
+                            max=bounds.length == 1?min:bounds[1].trim().isEmpty()?-1:Integer.parseInt(bounds[1].trim());
+                        } catch (NumberFormatException ex) {
+                            throw unsupported();
+                        }
+                        index=end+1;
+                    }
+                }
+                if (min>=0) {
+                    if (index<regex.length() && (regex.charAt(index) == '?' || regex.charAt(index) == '+')) {
+                        index++;
+                    }
+                    node=new Repeat(atom,min,max);
+                }
+            }
+            return node;
+        }
+
+        private Node parseClass() {
+            boolean[] members=new boolean[MAX_CHAR+1];
+            boolean negated=index<regex.length() && regex.charAt(index) == '^';
+            if (negated) {
+                index++;
+            }
+            boolean first=true;
+            while (index<regex.length() && (regex.charAt(index)!=']' || first)) {
+                first=false;
+                char ch=regex.charAt(index);
+                index++;
+                char from;
+                if (ch == '\\') {
+                    from=parseEscape(members);
+                } else {
+                    if (ch == '[') {
+                        throw unsupported();
+                    }
+                    from=ch;
+                }
+                if (from!=0) {
+                    if (index+1<regex.length() && regex.charAt(index) == '-' && regex.charAt(index+1)!=']') {
+                        index++;
+                        char to=regex.charAt(index);
+                        index++;
+                        if (to == '\\') {
+                            to=parseEscape(null);
+                        }
+                        if (to<from) {
+                            throw unsupported();
+                        }
+                        addRange(members,from,to);
+                    } else {
+                        addRange(members,from,from);
+                    }
+                }
+            }
+            expect(']');
+            if (negated) {
+                for (char ch=MIN_CHAR; ch<=MAX_CHAR; ch++) {
+                    members[ch]=!members[ch];
+                }
+            }
+            boolean empty=true;
+            for (char ch=MIN_CHAR; ch<=MAX_CHAR; ch++) {
+                empty&=!members[ch];
+            }
+            if (empty) {
+                throw unsupported();
+            }
+            return new CharSet(members);
+        }
+
+        /**
+         * Parses an escape following a backslash.
+         * @param members Members of a character set, to which shorthand classes are added.
+         *                This is {@code null} if shorthand classes are not allowed.
+         * @return Escaped literal character.
+         *         This is 0 if a shorthand class was added.
+         */
+        private char parseEscape(boolean[] members) {
+            if (index>=regex.length()) {
+                throw unsupported();
+            }
+            char ch=regex.charAt(index);
+            index++;
+            char literal=0;
+            switch (ch) {
+                case 'd':
+                    addShorthand(members,"09",false);
+                    break;
+                case 'D':
+                    addShorthand(members,"09",true);
+                    break;
+                case 'w':
+                    addShorthand(members,"azAZ09__",false);
+                    break;
+                case 'W':
+                    addShorthand(members,"azAZ09__",true);
+                    break;
+                case 's':
+                    addShorthand(members,"  ",false);
+                    break;
+                case 'S':
+                    addShorthand(members,"  ",true);
+                    break;
+                case 't':
+                    literal='\t';
+                    break;
+                case 'n':
+                    literal='\n';
+                    break;
+                case 'r':
+                    literal='\r';
+                    break;
+                default:
+                    if (Character.isLetterOrDigit(ch)) {
+                        throw unsupported();
+                    }
+                    literal=ch;
+                    break;
+            }
+            return literal;
+        }
+
+        private void addShorthand(boolean[] members,
+                                  String ranges,
+                                  boolean negated) {
+            if (members == null) {
+                throw unsupported();
+            }
+            boolean[] shorthand=new boolean[MAX_CHAR+1];
+            for (int i=0; i<ranges.length(); i+=2) {
+                addRange(shorthand,ranges.charAt(i),ranges.charAt(i+1));
+            }
+            for (char ch=MIN_CHAR; ch<=MAX_CHAR; ch++) {
+                members[ch]|=shorthand[ch]!=negated;
+            }
+        }
+
+        private void addRange(boolean[] members,
+                              char from,
+                              char to) {
+            if (from<MIN_CHAR || to>MAX_CHAR) {
+                throw unsupported();
+            }
+            for (char ch=from; ch<=to; ch++) {
+                members[ch]=true;
+            }
+        }
+
+        private void expect(char ch) {
+            if (index>=regex.length() || regex.charAt(index)!=ch) {
+                throw unsupported();
+            }
+            index++;
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException(String.format("Failure to parse regular expression; expression is %s, position is %d!",regex,index));
+        }
+    }
+}
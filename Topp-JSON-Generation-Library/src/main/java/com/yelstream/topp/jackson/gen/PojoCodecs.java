@@ -0,0 +1,205 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+
+/**
+ * Utility reading scalar values for deserializers generated by {@link PojoSources}.
+ * <p>
+ *     Each method reads the value at the current token of a parser.
+ *     Tokens other than those of the type read are read by the standard deserializers of the deserialization context,
+ *     which apply the coercions configured, such as of strings and floating-point numbers to integers.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class PojoCodecs {
+    /**
+     * Reads a string.
+     * Other scalars are read as their text.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This may be {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static String readString(JsonParser p,
+                                    DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        String value;
+        if (t == JsonToken.VALUE_NULL) {
+            value=null;
+        } else {
+            if (t.isScalarValue()) {
+                value=p.getText();
+            } else {
+                value=(String)c.handleUnexpectedToken(String.class,p);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads an integer.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This may be {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static Long readLong(JsonParser p,
+                                DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        Long value;
+        if (t == JsonToken.VALUE_NULL) {
+            value=null;
+        } else {
+            if (t == JsonToken.VALUE_NUMBER_INT) {
+                value=p.getLongValue();
+            } else {
+                value=c.readValue(p,Long.class);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads an integer.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This is 0 for {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static long readLongValue(JsonParser p,
+                                     DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        long value;
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            value=p.getLongValue();
+        } else {
+            if (t == JsonToken.VALUE_NULL) {
+                value=0L;
+            } else {
+                value=c.readValue(p,Long.TYPE);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads a number.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This may be {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static Double readDouble(JsonParser p,
+                                    DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        Double value;
+        if (t == JsonToken.VALUE_NULL) {
+            value=null;
+        } else {
+            if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
+                value=p.getDoubleValue();
+            } else {
+                value=c.readValue(p,Double.class);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads a number.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This is 0 for {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static double readDoubleValue(JsonParser p,
+                                         DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        double value;
+        if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
+            value=p.getDoubleValue();
+        } else {
+            if (t == JsonToken.VALUE_NULL) {
+                value=0.0;
+            } else {
+                value=c.readValue(p,Double.TYPE);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads a boolean.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This may be {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static Boolean readBoolean(JsonParser p,
+                                      DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        Boolean value;
+        if (t == JsonToken.VALUE_NULL) {
+            value=null;
+        } else {
+            if (t == JsonToken.VALUE_TRUE || t == JsonToken.VALUE_FALSE) {
+                value=t == JsonToken.VALUE_TRUE;
+            } else {
+                value=c.readValue(p,Boolean.class);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads a boolean.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     *         This is {@code false} for {@code null}.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static boolean readBooleanValue(JsonParser p,
+                                           DeserializationContext c) throws IOException {
+        JsonToken t=p.currentToken();
+        boolean value;
+        if (t == JsonToken.VALUE_TRUE || t == JsonToken.VALUE_FALSE) {
+            value=t == JsonToken.VALUE_TRUE;
+        } else {
+            if (t == JsonToken.VALUE_NULL) {
+                value=false;
+            } else {
+                value=c.readValue(p,Boolean.TYPE);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads any JSON value as a tree.
+     * @param p Parser.
+     * @param c Context of deserialization.
+     * @return Value read.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static JsonNode readNode(JsonParser p,
+                                    DeserializationContext c) throws IOException {
+        return c.readTree(p);
+    }
+}
@@ -0,0 +1,777 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import lombok.experimental.UtilityClass;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility generating the Java source of Jackson POJOs from JSON Schemas.
+ * <p>
+ *     Each object schema with {@code properties} becomes a POJO, together with a serializer and a deserializer
+ *     reading and writing the properties directly, without reflection.
+ *     A module registers all serializers and deserializers with an {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ * </p>
+ * <p>
+ *     Types map as {@code string} to {@link String}, {@code integer} to {@code long}, {@code number} to {@code double},
+ *     {@code boolean} to {@code boolean}, {@code array} to {@link List} and {@code object} with properties to a POJO.
+ *     Scalars are boxed unless required.
+ *     Schemas of other forms map to {@link JsonNode}.
+ *     Classes of schemas referenced by {@code $ref} are named by their key in {@code definitions} or {@code $defs}.
+ * </p>
+ * <p>
+ *     Serialization leaves out properties which are {@code null}.
+ *     Fields and accessors are annotated with the names of their properties, so mapping by reflection agrees with
+ *     the generated serializers and deserializers.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class PojoSources {
+    /**
+     * Generates the Java sources of the POJOs of a JSON Schema.
+     * @param schema JSON Schema.
+     * @param packageName Package of classes.
+     * @param rootName Simple name of the class of the root schema.
+     *                 This is also the prefix of the name of the module.
+     * @return Java sources by fully qualified class name.
+     */
+    public static Map<String,String> generate(JsonSchema schema,
+                                              String packageName,
+                                              String rootName) {
+        return generate(schema.getSchemaNode(),String.valueOf(schema.getCurrentUri()),packageName,rootName);
+    }
+
+    /**
+     * Generates the Java sources of the POJOs of a JSON Schema.
+     * @param schemaNode JSON Schema document.
+     * @param schemaName Name of the JSON Schema, as mentioned in the documentation of the classes.
+     * @param packageName Package of classes.
+     * @param rootName Simple name of the class of the root schema.
+     *                 This is also the prefix of the name of the module.
+     * @return Java sources by fully qualified class name.
+     * @throws IllegalArgumentException Thrown if the root schema is not an object schema with properties.
+     */
+    public static Map<String,String> generate(JsonNode schemaNode,
+                                              String schemaName,
+                                              String packageName,
+                                              String rootName) {
+        Generation generation=new Generation(schemaNode,schemaName,packageName);
+        return generation.generate(rootName);
+    }
+
+    /**
+     * Kind of Java type of a schema.
+     */
+    private enum Kind {
+        STRING,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        NODE,
+        CLASS,
+        LIST
+    }
+
+    /**
+     * Java type of a schema.
+     */
+    private static final class Type {
+        private static final Type STRING=new Type(Kind.STRING,null,null);
+        private static final Type LONG=new Type(Kind.LONG,null,null);
+        private static final Type DOUBLE=new Type(Kind.DOUBLE,null,null);
+        private static final Type BOOLEAN=new Type(Kind.BOOLEAN,null,null);
+        private static final Type NODE=new Type(Kind.NODE,null,null);
+
+        private final Kind kind;
+        private final String className;
+        private final Type element;
+
+        private Type(Kind kind,
+                     String className,
+                     Type element) {
+            this.kind=kind;
+            this.className=className;
+            this.element=element;
+        }
+
+        private boolean isScalar() {
+            return kind == Kind.LONG || kind == Kind.DOUBLE || kind == Kind.BOOLEAN;
+        }
+
+        private String getName(boolean primitive) {
+            String name;
+            switch (kind) {
+                case STRING:
+                    name="String";
+                    break;
+                case LONG:
+                    name=primitive?"long":"Long";
+                    break;
+                case DOUBLE:
+                    name=primitive?"double":"Double";
+                    break;
+                case BOOLEAN:
+                    name=primitive?"boolean":"Boolean";
+                    break;
+                case CLASS:
+                    name=className;
+                    break;
+                case LIST:
+                    name="List<"+element.getName(false)+">";
+                    break;
+                default:
+                    name="JsonNode";
+                    break;
+            }
+            return name;
+        }
+    }
+
+    /**
+     * Property of a POJO.
+     */
+    private static final class Property {
+        private final String name;
+        private final String fieldName;
+        private final Type type;
+        private final boolean primitive;
+
+        private Property(String name,
+                         String fieldName,
+                         Type type,
+                         boolean primitive) {
+            this.name=name;
+            this.fieldName=fieldName;
+            this.type=type;
+            this.primitive=primitive;
+        }
+
+        private String getAccessorSuffix() {
+            return Character.toUpperCase(fieldName.charAt(0))+fieldName.substring(1);
+        }
+    }
+
+    /**
+     * POJO of an object schema.
+     */
+    private static final class PojoClass {
+        private final String name;
+        private final JsonNode schemaNode;
+        private final List<Property> properties=new ArrayList<>();
+
+        private PojoClass(String name,
+                          JsonNode schemaNode) {
+            this.name=name;
+            this.schemaNode=schemaNode;
+        }
+    }
+
+    /**
+     * Generation of the classes of a JSON Schema document.
+     * This is not thread-safe.
+     */
+    private static final class Generation {
+        /**
+         * Simple names of classes referenced by generated sources.
+         */
+        private static final Set<String> RESERVED_NAMES=Set.of("Object","String","Long","Double","Boolean","List","ArrayList","IOException",
+                                                               "JsonNode","JsonParser","JsonToken","JsonGenerator","SerializedString",
+                                                               "SerializerProvider","DeserializationContext","StdSerializer","StdDeserializer",
+                                                               "SimpleModule","JsonInclude","JsonProperty","JsonPropertyOrder","PojoCodecs");
+
+        private final JsonNode rootNode;
+        private final String schemaName;
+        private final String packageName;
+        private final Map<JsonNode,PojoClass> classesBySchema=new IdentityHashMap<>();
+        private final List<PojoClass> classes=new ArrayList<>();
+        private final Set<String> classNames=new HashSet<>(RESERVED_NAMES);
+        private final Deque<PojoClass> pending=new ArrayDeque<>();
+
+        private Generation(JsonNode rootNode,
+                           String schemaName,
+                           String packageName) {
+            this.rootNode=rootNode;
+            this.schemaName=schemaName;
+            this.packageName=packageName;
+        }
+
+        private Map<String,String> generate(String rootName) {
+            Type rootType=getType(rootNode,rootName);
+            if (rootType.kind!=Kind.CLASS) {
+                throw new IllegalArgumentException(String.format("Failure to generate POJOs; schema is %s, root is not an object schema with properties!",schemaName));
+            }
+            while (!pending.isEmpty()) {
+                resolveProperties(pending.poll());
+            }
+
+            Set<String> reserved=new HashSet<>(classNames);
+            String moduleName=getUniqueName(rootName+"Module",reserved);
+            Map<String,String> sources=new LinkedHashMap<>();
+            for (PojoClass pojoClass: classes) {
+                sources.put(getQualifiedName(pojoClass.name),generatePojo(pojoClass));
+                sources.put(getQualifiedName(pojoClass.name+"Serializer"),generateSerializer(pojoClass));
+                sources.put(getQualifiedName(pojoClass.name+"Deserializer"),generateDeserializer(pojoClass));
+            }
+            sources.put(getQualifiedName(moduleName),generateModule(moduleName));
+            return sources;
+        }
+
+        private Type getType(JsonNode schema,
+                             String nameHint) {
+            Type type=Type.NODE;
+            if (schema.isObject()) {
+                JsonNode refNode=schema.get("$ref");
+                if (refNode!=null) {
+                    type=getRefType(refNode.asText(),nameHint);
+                } else {
+                    String typeName=getTypeName(schema);
+                    if (typeName == null) {
+                        if (schema.has("properties")) {
+                            type=getClassType(schema,nameHint);
+                        } else {
+                            if (isStrings(schema.get("enum"))) {
+                                type=Type.STRING;
+                            }
+                        }
+                    } else {
+                        switch (typeName) {
+                            case "string":
+                                type=Type.STRING;
+                                break;
+                            case "integer":
+                                type=Type.LONG;
+                                break;
+                            case "number":
+                                type=Type.DOUBLE;
+                                break;
+                            case "boolean":
+                                type=Type.BOOLEAN;
+                                break;
+                            case "object":
+                                if (schema.has("properties")) {
+                                    type=getClassType(schema,nameHint);
+                                }
+                                break;
+                            case "array": {
+                                JsonNode items=schema.get("items");
+                                Type element=items == null || items.isArray()?Type.NODE:getType(items,nameHint+"Item");
+                                type=new Type(Kind.LIST,null,element);
+                                break;
+                            }
+                            default:
+                                break;
+                        }
+                    }
+                }
+            }
+            return type;
+        }
+
+        private Type getRefType(String ref,
+                                String nameHint) {
+            Type type=Type.NODE;
+            if (ref.startsWith("#")) {
+                JsonPointer pointer=JsonPointer.compile(ref.substring(1));
+                JsonNode target=rootNode.at(pointer);
+                if (!target.isMissingNode()) {
+                    String name=nameHint;
+                    JsonPointer parent=pointer.head();
+                    if (parent!=null && !pointer.last().getMatchingProperty().isEmpty()) {
+                        String parentName=parent.last() == null?null:parent.last().getMatchingProperty();
+                        if ("definitions".equals(parentName) || "$defs".equals(parentName)) {
+                            name=toClassName(pointer.last().getMatchingProperty());
+                        }
+                    }
+                    type=getType(target,name);
+                }
+            }
+            return type;
+        }
+
+        private Type getClassType(JsonNode schema,
+                                  String nameHint) {
+            PojoClass pojoClass=classesBySchema.get(schema);
+            if (pojoClass == null) {
+                pojoClass=new PojoClass(getUniqueName(toClassName(nameHint),classNames),schema);
+                classesBySchema.put(schema,pojoClass);
+                classes.add(pojoClass);
+                pending.add(pojoClass);
+            }
+            return new Type(Kind.CLASS,pojoClass.name,null);
+        }
+
+        private void resolveProperties(PojoClass pojoClass) {
+            Set<String> required=new HashSet<>();
+            JsonNode requiredNode=pojoClass.schemaNode.get("required");
+            if (requiredNode!=null) {
+                for (JsonNode name: requiredNode) {
+                    required.add(name.asText());
+                }
+            }
+            Set<String> fieldNames=new HashSet<>();
+            Iterator<Map.Entry<String,JsonNode>> fields=pojoClass.schemaNode.get("properties").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                String name=field.getKey();
+                Type type=getType(field.getValue(),toClassName(name));
+                String fieldName=getUniqueName(toFieldName(name),fieldNames);
+                pojoClass.properties.add(new Property(name,fieldName,type,type.isScalar() && required.contains(name)));
+            }
+        }
+
+        private String generatePojo(PojoClass pojoClass) {
+            StringBuilder sb=new StringBuilder();
+            appendPackage(sb);
+            sb.append("import com.fasterxml.jackson.annotation.JsonInclude;\n");
+            sb.append("import com.fasterxml.jackson.annotation.JsonProperty;\n");
+            sb.append("import com.fasterxml.jackson.annotation.JsonPropertyOrder;\n");
+            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
+            sb.append("\n");
+            sb.append("import java.util.List;\n");
+            sb.append("\n");
+            sb.append("/**\n");
+            JsonNode title=pojoClass.schemaNode.get("title");
+            JsonNode description=pojoClass.schemaNode.get("description");
+            if (title!=null || description!=null) {
+                sb.append(" * ").append(toComment(title!=null?title.asText():description.asText())).append("\n");
+                sb.append(" * <p>\n");
+            }
+            sb.append(" * POJO generated from the JSON Schema ").append(toComment(schemaName)).append(".\n");
+            sb.append(" * Register {@link ").append(pojoClass.name).append("Serializer} and {@link ").append(pojoClass.name).append("Deserializer} to map this without reflection.\n");
+            sb.append(" */\n");
+            sb.append("@JsonInclude(JsonInclude.Include.NON_NULL)\n");
+            List<String> names=new ArrayList<>();
+            for (Property property: pojoClass.properties) {
+                names.add(ValidatorSources.literal(property.name));
+            }
+            sb.append("@JsonPropertyOrder({").append(String.join(",",names)).append("})\n");
+            sb.append("public class ").append(pojoClass.name).append(" {\n");
+            for (Property property: pojoClass.properties) {
+                sb.append("    @JsonProperty(").append(ValidatorSources.literal(property.name)).append(")\n");
+                sb.append("    private ").append(property.type.getName(property.primitive)).append(" ").append(property.fieldName).append(";\n");
+                sb.append("\n");
+            }
+            for (Property property: pojoClass.properties) {
+                String typeName=property.type.getName(property.primitive);
+                sb.append("    @JsonProperty(").append(ValidatorSources.literal(property.name)).append(")\n");
+                sb.append("    public ").append(typeName).append(" get").append(property.getAccessorSuffix()).append("() {\n");
+                sb.append("        return ").append(property.fieldName).append(";\n");
+                sb.append("    }\n");
+                sb.append("\n");
+                sb.append("    @JsonProperty(").append(ValidatorSources.literal(property.name)).append(")\n");
+                sb.append("    public void set").append(property.getAccessorSuffix()).append("(").append(typeName).append(" ").append(property.fieldName).append(") {\n");
+                sb.append("        this.").append(property.fieldName).append("=").append(property.fieldName).append(";\n");
+                sb.append("    }\n");
+                sb.append("\n");
+            }
+            trimBlankLine(sb);
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private String generateSerializer(PojoClass pojoClass) {
+            String name=pojoClass.name+"Serializer";
+            Map<String,String> listMethods=new LinkedHashMap<>();
+            StringBuilder methods=new StringBuilder();
+            StringBuilder body=new StringBuilder();
+            StringBuilder constants=new StringBuilder();
+            int index=0;
+            for (Property property: pojoClass.properties) {
+                String constant="N"+index;
+                constants.append("    private static final SerializedString ").append(constant).append("=new SerializedString(").append(ValidatorSources.literal(property.name)).append(");\n");
+                String getter="value.get"+property.getAccessorSuffix()+"()";
+                if (property.primitive) {
+                    body.append("            g.writeFieldName(").append(constant).append(");\n");
+                    body.append("            ").append(getWriteStatement(property.type,getter,listMethods,methods)).append("\n");
+                } else {
+                    String variable="v"+index;
+                    body.append("            ").append(property.type.getName(false)).append(" ").append(variable).append("=").append(getter).append(";\n");
+                    body.append("            if (").append(variable).append("!=null) {\n");
+                    body.append("                g.writeFieldName(").append(constant).append(");\n");
+                    body.append("                ").append(getWriteStatement(property.type,variable,listMethods,methods)).append("\n");
+                    body.append("            }\n");
+                }
+                index++;
+            }
+
+            StringBuilder sb=new StringBuilder();
+            appendPackage(sb);
+            sb.append("import com.fasterxml.jackson.core.JsonGenerator;\n");
+            sb.append("import com.fasterxml.jackson.core.io.SerializedString;\n");
+            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
+            sb.append("import com.fasterxml.jackson.databind.SerializerProvider;\n");
+            sb.append("import com.fasterxml.jackson.databind.ser.std.StdSerializer;\n");
+            sb.append("\n");
+            sb.append("import java.io.IOException;\n");
+            sb.append("import java.util.List;\n");
+            sb.append("\n");
+            sb.append("/**\n");
+            sb.append(" * Serializer of {@link ").append(pojoClass.name).append("} generated from the JSON Schema ").append(toComment(schemaName)).append(".\n");
+            sb.append(" */\n");
+            sb.append("public final class ").append(name).append(" extends StdSerializer<").append(pojoClass.name).append("> {\n");
+            sb.append("    private static final long serialVersionUID=1L;\n");
+            sb.append("\n");
+            if (constants.length()>0) {
+                sb.append(constants);
+                sb.append("\n");
+            }
+            sb.append("    public ").append(name).append("() {\n");
+            sb.append("        super(").append(pojoClass.name).append(".class);\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    @Override\n");
+            sb.append("    public void serialize(").append(pojoClass.name).append(" value,\n");
+            sb.append("                          JsonGenerator g,\n");
+            sb.append("                          SerializerProvider s) throws IOException {\n");
+            sb.append("        write(value,g,s);\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    static void write(").append(pojoClass.name).append(" value,\n");
+            sb.append("                      JsonGenerator g,\n");
+            sb.append("                      SerializerProvider s) throws IOException {\n");
+            sb.append("        if (value == null) {\n");
+            sb.append("            g.writeNull();\n");
+            sb.append("        } else {\n");
+            sb.append("            g.writeStartObject(value);\n");
+            sb.append(body);
+            sb.append("            g.writeEndObject();\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+            sb.append(methods);
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private String getWriteStatement(Type type,
+                                         String expression,
+                                         Map<String,String> listMethods,
+                                         StringBuilder methods) {
+            String statement;
+            switch (type.kind) {
+                case STRING:
+                    statement="g.writeString("+expression+");";
+                    break;
+                case LONG:
+                    statement="g.writeNumber("+expression+");";
+                    break;
+                case DOUBLE:
+                    statement="g.writeNumber("+expression+");";
+                    break;
+                case BOOLEAN:
+                    statement="g.writeBoolean((boolean)"+expression+");";
+                    break;
+                case CLASS:
+                    statement=type.className+"Serializer.write("+expression+",g,s);";
+                    break;
+                case LIST:
+                    statement=getWriteListMethod(type,listMethods,methods)+"("+expression+",g,s);";
+                    break;
+                default:
+                    statement="s.defaultSerializeValue("+expression+",g);";
+                    break;
+            }
+            return statement;
+        }
+
+        private String getWriteListMethod(Type type,
+                                          Map<String,String> listMethods,
+                                          StringBuilder methods) {
+            String typeName=type.getName(false);
+            String method=listMethods.get(typeName);
+            if (method == null) {
+                method="writeList"+listMethods.size();
+                listMethods.put(typeName,method);
+                String elementName=type.element.getName(false);
+                String statement=getWriteStatement(type.element,"element",listMethods,methods);
+                methods.append("\n");
+                String declaration="    private static void "+method+"(";
+                methods.append(declaration).append(typeName).append(" values,\n");
+                methods.append(getIndent(declaration)).append("JsonGenerator g,\n");
+                methods.append(getIndent(declaration)).append("SerializerProvider s) throws IOException {\n");
+                methods.append("        g.writeStartArray(values,values.size());\n");
+                methods.append("        for (").append(elementName).append(" element: values) {\n");
+                methods.append("            if (element == null) {\n");
+                methods.append("                g.writeNull();\n");
+                methods.append("            } else {\n");
+                methods.append("                ").append(statement).append("\n");
+                methods.append("            }\n");
+                methods.append("        }\n");
+                methods.append("        g.writeEndArray();\n");
+                methods.append("    }\n");
+            }
+            return method;
+        }
+
+        private String generateDeserializer(PojoClass pojoClass) {
+            String name=pojoClass.name+"Deserializer";
+            Map<String,String> listMethods=new LinkedHashMap<>();
+            StringBuilder methods=new StringBuilder();
+            StringBuilder cases=new StringBuilder();
+            for (Property property: pojoClass.properties) {
+                cases.append("                        case ").append(ValidatorSources.literal(property.name)).append(":\n");
+                cases.append("                            value.set").append(property.getAccessorSuffix()).append("(").append(getReadExpression(property.type,property.primitive,listMethods,methods)).append(");\n");
+                cases.append("                            break;\n");
+            }
+
+            StringBuilder sb=new StringBuilder();
+            appendPackage(sb);
+            sb.append("import com.fasterxml.jackson.core.JsonParser;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonToken;\n");
+            sb.append("import com.fasterxml.jackson.databind.DeserializationContext;\n");
+            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
+            sb.append("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n");
+            sb.append("import com.yelstream.topp.jackson.gen.PojoCodecs;\n");
+            sb.append("\n");
+            sb.append("import java.io.IOException;\n");
+            sb.append("import java.util.ArrayList;\n");
+            sb.append("import java.util.List;\n");
+            sb.append("\n");
+            sb.append("/**\n");
+            sb.append(" * Deserializer of {@link ").append(pojoClass.name).append("} generated from the JSON Schema ").append(toComment(schemaName)).append(".\n");
+            sb.append(" */\n");
+            sb.append("public final class ").append(name).append(" extends StdDeserializer<").append(pojoClass.name).append("> {\n");
+            sb.append("    private static final long serialVersionUID=1L;\n");
+            sb.append("\n");
+            sb.append("    public ").append(name).append("() {\n");
+            sb.append("        super(").append(pojoClass.name).append(".class);\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    @Override\n");
+            String deserialize="    public "+pojoClass.name+" deserialize(";
+            sb.append(deserialize).append("JsonParser p,\n");
+            sb.append(getIndent(deserialize)).append("DeserializationContext c) throws IOException {\n");
+            sb.append("        return read(p,c);\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            String read="    static "+pojoClass.name+" read(";
+            sb.append(read).append("JsonParser p,\n");
+            sb.append(getIndent(read)).append("DeserializationContext c) throws IOException {\n");
+            sb.append("        ").append(pojoClass.name).append(" value;\n");
+            sb.append("        JsonToken t=p.currentToken();\n");
+            sb.append("        if (t == JsonToken.VALUE_NULL) {\n");
+            sb.append("            value=null;\n");
+            sb.append("        } else {\n");
+            sb.append("            if (t == JsonToken.START_OBJECT) {\n");
+            sb.append("                t=p.nextToken();\n");
+            sb.append("            }\n");
+            sb.append("            if (t!=JsonToken.FIELD_NAME && t!=JsonToken.END_OBJECT) {\n");
+            sb.append("                value=(").append(pojoClass.name).append(")c.handleUnexpectedToken(").append(pojoClass.name).append(".class,p);\n");
+            sb.append("            } else {\n");
+            sb.append("                value=new ").append(pojoClass.name).append("();\n");
+            sb.append("                while (t == JsonToken.FIELD_NAME) {\n");
+            sb.append("                    String name=p.currentName();\n");
+            sb.append("                    p.nextToken();\n");
+            sb.append("                    switch (name) {\n");
+            sb.append(cases);
+            sb.append("                        default:\n");
+            sb.append("                            c.handleUnknownProperty(p,null,value,name);\n");
+            sb.append("                            break;\n");
+            sb.append("                    }\n");
+            sb.append("                    t=p.nextToken();\n");
+            sb.append("                }\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("        return value;\n");
+            sb.append("    }\n");
+            sb.append(methods);
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private String getReadExpression(Type type,
+                                         boolean primitive,
+                                         Map<String,String> listMethods,
+                                         StringBuilder methods) {
+            String expression;
+            switch (type.kind) {
+                case STRING:
+                    expression="PojoCodecs.readString(p,c)";
+                    break;
+                case LONG:
+                    expression=primitive?"PojoCodecs.readLongValue(p,c)":"PojoCodecs.readLong(p,c)";
+                    break;
+                case DOUBLE:
+                    expression=primitive?"PojoCodecs.readDoubleValue(p,c)":"PojoCodecs.readDouble(p,c)";
+                    break;
+                case BOOLEAN:
+                    expression=primitive?"PojoCodecs.readBooleanValue(p,c)":"PojoCodecs.readBoolean(p,c)";
+                    break;
+                case CLASS:
+                    expression=type.className+"Deserializer.read(p,c)";
+                    break;
+                case LIST:
+                    expression=getReadListMethod(type,listMethods,methods)+"(p,c)";
+                    break;
+                default:
+                    expression="PojoCodecs.readNode(p,c)";
+                    break;
+            }
+            return expression;
+        }
+
+        private String getReadListMethod(Type type,
+                                         Map<String,String> listMethods,
+                                         StringBuilder methods) {
+            String typeName=type.getName(false);
+            String method=listMethods.get(typeName);
+            if (method == null) {
+                method="readList"+listMethods.size();
+                listMethods.put(typeName,method);
+                String expression=getReadExpression(type.element,false,listMethods,methods);
+                methods.append("\n");
+                String declaration="    private static "+typeName+" "+method+"(";
+                methods.append(declaration).append("JsonParser p,\n");
+                methods.append(getIndent(declaration)).append("DeserializationContext c) throws IOException {\n");
+                methods.append("        ").append(typeName).append(" values;\n");
+                methods.append("        JsonToken t=p.currentToken();\n");
+                methods.append("        if (t == JsonToken.VALUE_NULL) {\n");
+                methods.append("            values=null;\n");
+                methods.append("        } else {\n");
+                methods.append("            if (t!=JsonToken.START_ARRAY) {\n");
+                methods.append("                values=c.reportInputMismatch(List.class,\"Unexpected token (%s), expected START_ARRAY\",t);\n");
+                methods.append("            } else {\n");
+                methods.append("                values=new ArrayList<>();\n");
+                methods.append("                while (p.nextToken()!=JsonToken.END_ARRAY) {\n");
+                methods.append("                    values.add(").append(expression).append(");\n");
+                methods.append("                }\n");
+                methods.append("            }\n");
+                methods.append("        }\n");
+                methods.append("        return values;\n");
+                methods.append("    }\n");
+            }
+            return method;
+        }
+
+        private String generateModule(String name) {
+            StringBuilder sb=new StringBuilder();
+            appendPackage(sb);
+            sb.append("import com.fasterxml.jackson.databind.module.SimpleModule;\n");
+            sb.append("\n");
+            sb.append("/**\n");
+            sb.append(" * Module of the serializers and deserializers generated from the JSON Schema ").append(toComment(schemaName)).append(".\n");
+            sb.append(" */\n");
+            sb.append("public final class ").append(name).append(" extends SimpleModule {\n");
+            sb.append("    private static final long serialVersionUID=1L;\n");
+            sb.append("\n");
+            sb.append("    public ").append(name).append("() {\n");
+            sb.append("        super(").append(ValidatorSources.literal(name)).append(");\n");
+            for (PojoClass pojoClass: classes) {
+                sb.append("        addSerializer(").append(pojoClass.name).append(".class,new ").append(pojoClass.name).append("Serializer());\n");
+                sb.append("        addDeserializer(").append(pojoClass.name).append(".class,new ").append(pojoClass.name).append("Deserializer());\n");
+            }
+            sb.append("    }\n");
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private void appendPackage(StringBuilder sb) {
+            if (!packageName.isEmpty()) {
+                sb.append("package ").append(packageName).append(";\n\n");
+            }
+        }
+
+        private String getQualifiedName(String simpleName) {
+            return packageName.isEmpty()?simpleName:packageName+"."+simpleName;
+        }
+
+        private static String getTypeName(JsonNode schema) {
+            String typeName=null;
+            JsonNode typeNode=schema.get("type");
+            if (typeNode!=null) {
+                if (typeNode.isArray()) {
+                    for (JsonNode element: typeNode) {
+                        if (!"null".equals(element.asText())) {
+                            typeName=typeName == null?element.asText():"";
+                        }
+                    }
+                } else {
+                    typeName=typeNode.asText();
+                }
+            }
+            return typeName;
+        }
+
+        private static boolean isStrings(JsonNode values) {
+            boolean strings=values!=null && values.isArray() && values.size()>0;
+            if (strings) {
+                for (JsonNode value: values) {
+                    strings&=value.isTextual();
+                }
+            }
+            return strings;
+        }
+
+        private static String toClassName(String name) {
+            String identifier=toIdentifier(name);
+            return Character.toUpperCase(identifier.charAt(0))+identifier.substring(1);
+        }
+
+        private static String toFieldName(String name) {
+            String identifier=toIdentifier(name);
+            identifier=Character.toLowerCase(identifier.charAt(0))+identifier.substring(1);
+            if (SourceVersion.isKeyword(identifier)) {
+                identifier="_"+identifier;
+            }
+            return identifier;
+        }
+
+        private static String toIdentifier(String name) {
+            StringBuilder sb=new StringBuilder();
+            boolean upper=false;
+            for (int i=0; i<name.length(); i++) {
+                char ch=name.charAt(i);
+                if (Character.isJavaIdentifierPart(ch) && ch!='$') {
+                    sb.append(upper && sb.length()>0?Character.toUpperCase(ch):ch);
+                    upper=false;
+                } else {
+                    upper=true;
+                }
+            }
+            if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+                sb.insert(0,'_');
+            }
+            return sb.toString();
+        }
+
+        private static String getUniqueName(String name,
+                                            Set<String> names) {
+            String unique=name;
+            int suffix=2;
+            while (!names.add(unique)) {
+                unique=name+suffix;
+                suffix++;
+            }
+            return unique;
+        }
+
+        private static String toComment(String text) {
+            return text.replace("*/","*&#47;").replace("\r"," ").replace("\n"," ");
+        }
+
+        private static String getIndent(String prefix) {
+            return " ".repeat(prefix.length());
+        }
+
+        private static void trimBlankLine(StringBuilder sb) {
+            if (sb.length()>=2 && sb.charAt(sb.length()-1) == '\n' && sb.charAt(sb.length()-2) == '\n') {
+                sb.setLength(sb.length()-1);
+            }
+        }
+    }
+}
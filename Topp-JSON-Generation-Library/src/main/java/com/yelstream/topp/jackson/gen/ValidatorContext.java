@@ -0,0 +1,294 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.ErrorMessageType;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * State of a single validation performed by a {@link GeneratedValidator}.
+ * <p>
+ *     This keeps the path of the node being validated and collects validation messages.
+ *     No validation messages are allocated unless a violation is reported.
+ * </p>
+ * <p>
+ *     This is not thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ValidatorContext {
+    /**
+     * Mapper reading constants of generated validators.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Marker of the JSON value {@code null} in sets of values.
+     */
+    private static final Object NULL_VALUE=new Object();
+
+    /**
+     * Maximum number of validation messages collected.
+     */
+    private final int maxErrors;
+
+    /**
+     * Names of properties of the path, or {@code null} for array indexes.
+     */
+    private String[] names=new String[16];
+
+    /**
+     * Array indexes of the path.
+     */
+    private int[] indexes=new int[16];
+
+    /**
+     * Depth of the path.
+     */
+    private int depth;
+
+    /**
+     * Validation messages.
+     * This is created on the first violation.
+     */
+    private Set<ValidationMessage> validationMessages;
+
+    /**
+     * Constructor.
+     * @param mode Mode of validation.
+     */
+    public ValidatorContext(ValidationMode mode) {
+        this.maxErrors=mode.getMaxErrors();
+    }
+
+    /**
+     * Enters the value of a property.
+     * @param name Name of property.
+     */
+    public void push(String name) {
+        ensureCapacity();
+        names[depth]=name;
+        depth++;
+    }
+
+    /**
+     * Enters an item of an array.
+     * @param index Index of item.
+     */
+    public void push(int index) {
+        ensureCapacity();
+        names[depth]=null;
+        indexes[depth]=index;
+        depth++;
+    }
+
+    /**
+     * Leaves the value entered last.
+     */
+    public void pop() {
+        depth--;
+    }
+
+    private void ensureCapacity() {
+        if (depth == names.length) {
+            names=Arrays.copyOf(names,depth*2);
+            indexes=Arrays.copyOf(indexes,depth*2);
+        }
+    }
+
+    /**
+     * Indicates, if the maximum number of validation messages has been collected.
+     * @return Indicates, if no more validation messages are to be collected.
+     */
+    public boolean isFull() {
+        return validationMessages!=null && validationMessages.size()>=maxErrors;
+    }
+
+    /**
+     * Reports a violation of the value entered last.
+     * @param type Keyword violated.
+     * @param messageType Type of message.
+     * @param schemaPath JSON Pointer of the keyword in the JSON Schema, as a URI fragment.
+     * @param arguments Arguments of message.
+     */
+    public void report(String type,
+                       ErrorMessageType messageType,
+                       String schemaPath,
+                       String... arguments) {
+        if (validationMessages == null) {
+            validationMessages=new LinkedHashSet<>();
+        }
+        if (validationMessages.size()<maxErrors) {
+            validationMessages.add(ValidationMessage.of(type,messageType,getPath(),schemaPath,arguments));
+        }
+    }
+
+    /**
+     * Gets the path of the value entered last.
+     * @return Path in the format of validation messages.
+     */
+    public String getPath() {
+        StringBuilder sb=new StringBuilder("$");
+        for (int i=0; i<depth; i++) {
+            if (names[i] == null) {
+                sb.append('[').append(indexes[i]).append(']');
+            } else {
+                sb.append('.').append(names[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gets the validation messages collected.
+     * @return Validation messages.
+     */
+    public Set<ValidationMessage> getValidationMessages() {
+        return validationMessages == null?Collections.emptySet():Collections.unmodifiableSet(validationMessages);
+    }
+
+    /**
+     * Gets the name of the JSON Schema type of a node, as rendered in validation messages.
+     * @param node JSON node.
+     * @return Name of type.
+     */
+    public static String getTypeName(JsonNode node) {
+        String name;
+        switch (node.getNodeType()) {
+            case OBJECT:
+                name="object";
+                break;
+            case ARRAY:
+                name="array";
+                break;
+            case STRING:
+                name="string";
+                break;
+            case NUMBER:
+                name=node.isIntegralNumber()?"integer":"number";
+                break;
+            case BOOLEAN:
+                name="boolean";
+                break;
+            case NULL:
+                name="null";
+                break;
+            default:
+                name="unknown";
+                break;
+        }
+        return name;
+    }
+
+    /**
+     * Gets the comparable form of a JSON value.
+     * Comparable forms of numbers are equal if the numbers are numerically equal.
+     * The comparable forms of infinite and not-a-number floating point values are their {@link Double} values.
+     * @param node JSON value.
+     * @return Comparable form.
+     */
+    public static Object getValue(JsonNode node) {
+        Object value;
+        if (node.isNull()) {
+            value=NULL_VALUE;
+        } else {
+            if (node.isBoolean()) {
+                value=node.booleanValue();
+            } else {
+                if (node.isNumber()) {
+                    if (isNonFinite(node)) {
+                        value=node.doubleValue();
+                    } else {
+                        value=node.decimalValue().stripTrailingZeros();
+                    }
+                } else {
+                    if (node.isTextual()) {
+                        value=node.textValue();
+                    } else {
+                        value=node;
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Creates the set of comparable forms of JSON values.
+     * @param json JSON array of values.
+     * @return Comparable forms.
+     */
+    public static Set<Object> getValues(String json) {
+        Set<Object> values=new HashSet<>();
+        for (JsonNode node: readTree(json)) {
+            values.add(getValue(node));
+        }
+        return Collections.unmodifiableSet(values);
+    }
+
+    /**
+     * Creates the comparable form of a JSON value.
+     * @param json JSON value.
+     * @return Comparable form.
+     */
+    public static Object getValue(String json) {
+        return getValue(readTree(json));
+    }
+
+    /**
+     * Compares a number to a bound.
+     * Infinite and not-a-number floating point values are ordered as by {@link Double#compare(double,double)}.
+     * @param node JSON number.
+     * @param bound Bound.
+     * @return Negative, zero or positive as the number is less than, equal to or greater than the bound.
+     */
+    public static int compare(JsonNode node,
+                              BigDecimal bound) {
+        int result;
+        if (isNonFinite(node)) {
+            result=Double.compare(node.doubleValue(),0.0);
+        } else {
+            result=node.decimalValue().compareTo(bound);
+        }
+        return result;
+    }
+
+    /**
+     * Compares a number to an infinite bound.
+     * Infinite and not-a-number floating point values are ordered as by {@link Double#compare(double,double)}.
+     * @param node JSON number.
+     * @param bound Infinite bound.
+     * @return Negative, zero or positive as the number is less than, equal to or greater than the bound.
+     */
+    public static int compare(JsonNode node,
+                              double bound) {
+        return Double.compare(isNonFinite(node)?node.doubleValue():0.0,bound);
+    }
+
+    private static boolean isNonFinite(JsonNode node) {
+        return (node.isDouble() || node.isFloat()) && !Double.isFinite(node.doubleValue());
+    }
+
+    private static JsonNode readTree(String json) {
+        JsonNode node;
+        try {
+            node=MAPPER.readTree(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,645 @@
+package com.yelstream.topp.jackson.gen;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Utility generating the Java source of validators of JSON Schemas.
+ * <p>
+ *     A generated validator extends {@link GeneratedValidator} and has one method per schema object, with
+ *     straight-line checks of the keywords of the object, regular expressions compiled once per class and
+ *     constants of enumerations and bounds created once per class.
+ * </p>
+ * <p>
+ *     Supported keywords are {@code type}, {@code properties}, {@code required}, {@code additionalProperties},
+ *     {@code items} given as a single schema, {@code enum} and {@code const} of scalar values,
+ *     {@code minimum}, {@code maximum}, {@code exclusiveMinimum}, {@code exclusiveMaximum},
+ *     {@code minLength}, {@code maxLength}, {@code pattern}, {@code minItems}, {@code maxItems},
+ *     {@code minProperties}, {@code maxProperties} and local {@code $ref} without validation keywords as siblings.
+ *     Validation messages are the same as those of the interpreted JSON Schema, including its schema paths;
+ *     these are not escaped and restart at a schema of {@code additionalProperties}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class ValidatorSources {
+    /**
+     * Indicates, if a validator can be generated for a JSON Schema.
+     * @param schema JSON Schema.
+     * @return Indicates, if a validator can be generated.
+     */
+    public static boolean isSupported(JsonSchema schema) {
+        Generation generation=new Generation(schema.getSchemaNode());
+        generation.generate();
+        return generation.unsupported == null;
+    }
+
+    /**
+     * Generates the Java source of a validator of a JSON Schema.
+     * @param schema JSON Schema.
+     * @param className Fully qualified name of the class of the validator.
+     * @return Java source.
+     * @throws IllegalArgumentException Thrown if the JSON Schema uses keywords not supported.
+     */
+    public static String generate(JsonSchema schema,
+                                  String className) {
+        Generation generation=new Generation(schema.getSchemaNode());
+        String methods=generation.generate();
+        if (generation.unsupported!=null) {
+            throw new IllegalArgumentException(String.format("Failure to generate validator; schema is %s, keyword %s is not supported!",schema.getCurrentUri(),generation.unsupported));
+        }
+
+        int index=className.lastIndexOf('.');
+        String packageName=index<0?null:className.substring(0,index);
+        String simpleName=className.substring(index+1);
+
+        StringBuilder sb=new StringBuilder();
+        if (packageName!=null) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
+        sb.append("import com.networknt.schema.ValidatorTypeCode;\n");
+        sb.append("import com.yelstream.topp.jackson.gen.GeneratedValidator;\n");
+        sb.append("import com.yelstream.topp.jackson.gen.ValidatorContext;\n");
+        sb.append("\n");
+        sb.append("import java.math.BigDecimal;\n");
+        sb.append("import java.util.Iterator;\n");
+        sb.append("import java.util.Map;\n");
+        sb.append("import java.util.Set;\n");
+        sb.append("import java.util.regex.Pattern;\n");
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * Validator generated from the JSON Schema ").append(String.valueOf(schema.getCurrentUri()).replace("*/","*&#47;")).append(".\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(simpleName).append(" extends GeneratedValidator {\n");
+        sb.append(generation.constants);
+        sb.append("\n");
+        sb.append("    @Override\n");
+        sb.append("    protected void validate(JsonNode node,\n");
+        sb.append("                            ValidatorContext context) {\n");
+        sb.append("        v0(node,context);\n");
+        sb.append("    }\n");
+        sb.append(methods);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Creates a Java string literal.
+     * <p>
+     *     Control characters are written as escape sequences, since Unicode escapes are translated before
+     *     the source is parsed and a line terminator written as a Unicode escape ends the literal.
+     *     Other characters beyond ASCII are written as Unicode escapes.
+     * </p>
+     * @param text Text.
+     * @return Java string literal.
+     */
+    static String literal(String text) {
+        StringBuilder sb=new StringBuilder("\"");
+        for (int i=0; i<text.length(); i++) {
+            char ch=text.charAt(i);
+            switch (ch) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                default:
+                    if (ch<0x20 || ch == 0x7f) {
+                        sb.append(String.format("\\%03o",(int)ch));
+                    } else {
+                        if (ch>0x7f) {
+                            sb.append(String.format("\\u%04x",(int)ch));
+                        } else {
+                            sb.append(ch);
+                        }
+                    }
+                    break;
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Generation of the methods and constants of a validator of a JSON Schema document.
+     * This is not thread-safe.
+     */
+    private static final class Generation {
+        /**
+         * Validation keywords which are not supported.
+         */
+        private static final Set<String> UNSUPPORTED_KEYWORDS=Set.of("allOf","anyOf","oneOf","not","if","then","else",
+                                                                     "dependencies","dependentRequired","dependentSchemas",
+                                                                     "patternProperties","propertyNames","additionalItems",
+                                                                     "contains","minContains","maxContains","uniqueItems",
+                                                                     "multipleOf","format","unevaluatedProperties","unevaluatedItems",
+                                                                     "readOnly","writeOnly","nullable",
+                                                                     "$recursiveRef","$dynamicRef","$anchor");
+
+        /**
+         * Keywords which may be siblings of {@code $ref} without being validated.
+         */
+        private static final Set<String> REF_ANNOTATIONS=Set.of("$ref","definitions","$defs","$schema","$id","$comment",
+                                                                "title","description","default","examples");
+
+        /**
+         * Root of JSON Schema document.
+         */
+        private final JsonNode rootNode;
+
+        /**
+         * Method indexes by JSON Schema object.
+         */
+        private final Map<JsonNode,Integer> methodIndexes=new IdentityHashMap<>();
+
+        /**
+         * JSON Schema objects for which methods are yet to be generated, with their schema paths.
+         */
+        private final Deque<Object[]> pending=new ArrayDeque<>();
+
+        /**
+         * Declarations of constants.
+         */
+        private final StringBuilder constants=new StringBuilder();
+
+        /**
+         * Number of constants declared.
+         */
+        private int constantCount;
+
+        /**
+         * First keyword which is not supported.
+         * This is {@code null} if all keywords are supported.
+         */
+        private String unsupported;
+
+        private Generation(JsonNode rootNode) {
+            this.rootNode=rootNode;
+        }
+
+        /**
+         * Generates the methods of all JSON Schema objects reachable from the root.
+         * @return Methods.
+         */
+        private String generate() {
+            StringBuilder methods=new StringBuilder();
+            getMethod(rootNode,"#");
+            while (!pending.isEmpty() && unsupported == null) {
+                Object[] entry=pending.poll();
+                JsonNode node=(JsonNode)entry[0];
+                methods.append(generateMethod(methodIndexes.get(node),node,(String)entry[1]));
+            }
+            return methods.toString();
+        }
+
+        private int getMethod(JsonNode node,
+                              String schemaPath) {
+            Integer index=methodIndexes.get(node);
+            if (index == null) {
+                index=methodIndexes.size();
+                methodIndexes.put(node,index);
+                pending.add(new Object[]{node,schemaPath});
+            }
+            return index;
+        }
+
+        private String generateMethod(int index,
+                                      JsonNode node,
+                                      String schemaPath) {
+            StringBuilder sb=new StringBuilder();
+            sb.append("\n");
+            sb.append("    private static void v").append(index).append("(JsonNode n,\n");
+            sb.append("                           ValidatorContext c) {\n");
+            if (node.isBoolean()) {
+                if (!node.booleanValue()) {
+                    sb.append("        c.report(\"false\",ValidatorTypeCode.FALSE,").append(literal(schemaPath+"/false")).append(");\n");
+                }
+            } else {
+                if (node.isObject()) {
+                    JsonNode refNode=node.get("$ref");
+                    if (refNode!=null) {
+                        Iterator<String> names=node.fieldNames();
+                        while (unsupported == null && names.hasNext()) {
+                            String name=names.next();
+                            if (!REF_ANNOTATIONS.contains(name)) {
+                                unsupported(schemaPath+"/"+name);
+                            }
+                        }
+                        generateRef(sb,refNode.asText(),schemaPath);
+                    } else {
+                        generateKeywords(sb,node,schemaPath);
+                    }
+                } else {
+                    unsupported(schemaPath);
+                }
+            }
+            sb.append("    }\n");
+            return sb.toString();
+        }
+
+        private void generateRef(StringBuilder sb,
+                                 String ref,
+                                 String schemaPath) {
+            if (!ref.startsWith("#")) {
+                unsupported(schemaPath+"/$ref");
+            } else {
+                JsonNode target=rootNode.at(JsonPointer.compile(ref.substring(1)));
+                if (target.isMissingNode()) {
+                    unsupported(schemaPath+"/$ref");
+                } else {
+                    sb.append("        v").append(getMethod(target,ref)).append("(n,c);\n");
+                }
+            }
+        }
+
+        private void generateKeywords(StringBuilder sb,
+                                      JsonNode node,
+                                      String schemaPath) {
+            StringBuilder typeChecks=new StringBuilder();
+            StringBuilder valueChecks=new StringBuilder();
+            StringBuilder stringChecks=new StringBuilder();
+            StringBuilder numberChecks=new StringBuilder();
+            StringBuilder objectChecks=new StringBuilder();
+            StringBuilder arrayChecks=new StringBuilder();
+            boolean lengthNeeded=false;
+            Map<String,JsonNode> properties=null;
+            JsonNode additionalProperties=null;
+            JsonNode items=null;
+
+            Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+            while (unsupported == null && fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                String keyword=field.getKey();
+                JsonNode value=field.getValue();
+                String keywordPath=schemaPath+"/"+keyword;
+                String path=literal(keywordPath);
+                if (UNSUPPORTED_KEYWORDS.contains(keyword)) {
+                    unsupported(keywordPath);
+                } else {
+                    switch (keyword) {
+                        case "$id":
+                            if (node!=rootNode) {
+                                unsupported(keywordPath);
+                            }
+                            break;
+                        case "type":
+                            generateType(typeChecks,value,keywordPath);
+                            break;
+                        case "properties":
+                            properties=new java.util.LinkedHashMap<>();
+                            for (Iterator<Map.Entry<String,JsonNode>> i=value.fields(); i.hasNext(); ) {
+                                Map.Entry<String,JsonNode> property=i.next();
+                                properties.put(property.getKey(),property.getValue());
+                            }
+                            break;
+                        case "required":
+                            if (value.isArray()) {
+                                for (JsonNode name: value) {
+                                    objectChecks.append("            if (n.get(").append(literal(name.asText())).append(") == null) {\n");
+                                    objectChecks.append("                c.report(\"required\",ValidatorTypeCode.REQUIRED,").append(path).append(",").append(literal(name.asText())).append(");\n");
+                                    objectChecks.append("            }\n");
+                                }
+                            } else {
+                                unsupported(keywordPath);
+                            }
+                            break;
+                        case "additionalProperties":
+                            additionalProperties=value;
+                            break;
+                        case "items":
+                            if (value.isArray()) {
+                                unsupported(keywordPath);
+                            } else {
+                                items=value;
+                            }
+                            break;
+                        case "enum":
+                            if (value.isArray() && isScalars(value)) {
+                                String constant=addConstant("Set<Object>","ValidatorContext.getValues("+literal(value.toString())+")");
+                                valueChecks.append("        if (!").append(constant).append(".contains(ValidatorContext.getValue(n))) {\n");
+                                valueChecks.append("            c.report(\"enum\",ValidatorTypeCode.ENUM,").append(path).append(",").append(literal(toText(value))).append(");\n");
+                                valueChecks.append("        }\n");
+                            } else {
+                                unsupported(keywordPath);
+                            }
+                            break;
+                        case "const":
+                            if (value.isValueNode() && isFinite(value)) {
+                                String constant=addConstant("Object","ValidatorContext.getValue("+literal(value.toString())+")");
+                                valueChecks.append("        if (!").append(constant).append(".equals(ValidatorContext.getValue(n))) {\n");
+                                valueChecks.append("            c.report(\"const\",ValidatorTypeCode.CONST,").append(path).append(",").append(literal(value.asText())).append(");\n");
+                                valueChecks.append("        }\n");
+                            } else {
+                                unsupported(keywordPath);
+                            }
+                            break;
+                        case "minimum":
+                            generateBound(numberChecks,value,keywordPath,"<","MINIMUM");
+                            break;
+                        case "maximum":
+                            generateBound(numberChecks,value,keywordPath,">","MAXIMUM");
+                            break;
+                        case "exclusiveMinimum":
+                            generateBound(numberChecks,value,keywordPath,"<=","EXCLUSIVE_MINIMUM");
+                            break;
+                        case "exclusiveMaximum":
+                            generateBound(numberChecks,value,keywordPath,">=","EXCLUSIVE_MAXIMUM");
+                            break;
+                        case "minLength":
+                            generateCount(stringChecks,value,keywordPath,"l","<","MIN_LENGTH");
+                            lengthNeeded=true;
+                            break;
+                        case "maxLength":
+                            generateCount(stringChecks,value,keywordPath,"l",">","MAX_LENGTH");
+                            lengthNeeded=true;
+                            break;
+                        case "minItems":
+                            generateCount(arrayChecks,value,keywordPath,"n.size()","<","MIN_ITEMS");
+                            break;
+                        case "maxItems":
+                            generateCount(arrayChecks,value,keywordPath,"n.size()",">","MAX_ITEMS");
+                            break;
+                        case "minProperties":
+                            generateCount(objectChecks,value,keywordPath,"n.size()","<","MIN_PROPERTIES");
+                            break;
+                        case "maxProperties":
+                            generateCount(objectChecks,value,keywordPath,"n.size()",">","MAX_PROPERTIES");
+                            break;
+                        case "pattern":
+                            try {
+                                Pattern.compile(value.asText());
+                                String constant=addConstant("Pattern","Pattern.compile("+literal(value.asText())+")");
+                                stringChecks.append("            if (!").append(constant).append(".matcher(s).find()) {\n");
+                                stringChecks.append("                c.report(\"pattern\",ValidatorTypeCode.PATTERN,").append(path).append(",").append(literal(value.asText())).append(");\n");
+                                stringChecks.append("            }\n");
+                            } catch (PatternSyntaxException ex) {
+                                unsupported(keywordPath);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+
+            if (properties!=null || additionalProperties!=null) {
+                generateProperties(objectChecks,properties,additionalProperties,schemaPath);
+            }
+            if (items!=null && !isTrivial(items)) {
+                int method=getMethod(items,schemaPath+"/items");
+                arrayChecks.append("            for (int i=0, size=n.size(); i<size && !c.isFull(); i++) {\n");
+                arrayChecks.append("                c.push(i);\n");
+                arrayChecks.append("                v").append(method).append("(n.get(i),c);\n");
+                arrayChecks.append("                c.pop();\n");
+                arrayChecks.append("            }\n");
+            }
+
+            sb.append(typeChecks);
+            sb.append(valueChecks);
+            if (stringChecks.length()>0) {
+                sb.append("        if (n.isTextual()) {\n");
+                sb.append("            String s=n.textValue();\n");
+                if (lengthNeeded) {
+                    sb.append("            int l=s.codePointCount(0,s.length());\n");
+                }
+                sb.append(stringChecks);
+                sb.append("        }\n");
+            }
+            if (numberChecks.length()>0) {
+                sb.append("        if (n.isNumber()) {\n");
+                sb.append(numberChecks);
+                sb.append("        }\n");
+            }
+            if (objectChecks.length()>0) {
+                sb.append("        if (n.isObject()) {\n");
+                sb.append(objectChecks);
+                sb.append("        }\n");
+            }
+            if (arrayChecks.length()>0) {
+                sb.append("        if (n.isArray()) {\n");
+                sb.append(arrayChecks);
+                sb.append("        }\n");
+            }
+        }
+
+        private void generateProperties(StringBuilder sb,
+                                        Map<String,JsonNode> properties,
+                                        JsonNode additionalProperties,
+                                        String schemaPath) {
+            List<String> names=new ArrayList<>();
+            if (properties!=null) {
+                sb.append("            JsonNode p;\n");
+                for (Map.Entry<String,JsonNode> property: properties.entrySet()) {
+                    String name=property.getKey();
+                    names.add(name);
+                    if (!isTrivial(property.getValue())) {
+                        int method=getMethod(property.getValue(),schemaPath+"/properties/"+name);
+                        sb.append("            p=n.get(").append(literal(name)).append(");\n");
+                        sb.append("            if (p!=null && !c.isFull()) {\n");
+                        sb.append("                c.push(").append(literal(name)).append(");\n");
+                        sb.append("                v").append(method).append("(p,c);\n");
+                        sb.append("                c.pop();\n");
+                        sb.append("            }\n");
+                    }
+                }
+            }
+            if (additionalProperties!=null && !isTrivial(additionalProperties)) {
+                String additional;
+                if (additionalProperties.isBoolean()) {
+                    additional="c.report(\"additionalProperties\",ValidatorTypeCode.ADDITIONAL_PROPERTIES,"+literal(schemaPath+"/additionalProperties")+",e.getKey());\n";
+                } else {
+                    int method=getMethod(additionalProperties,"additionalProperties");
+                    additional="c.push(e.getKey());\n"+
+                               "                        v"+method+"(e.getValue(),c);\n"+
+                               "                        c.pop();\n";
+                }
+                sb.append("            for (Iterator<Map.Entry<String,JsonNode>> i=n.fields(); i.hasNext() && !c.isFull(); ) {\n");
+                sb.append("                Map.Entry<String,JsonNode> e=i.next();\n");
+                if (names.isEmpty()) {
+                    sb.append("                ").append(additional.replace("\n                        ","\n                "));
+                } else {
+                    sb.append("                switch (e.getKey()) {\n");
+                    for (String name: names) {
+                        sb.append("                    case ").append(literal(name)).append(":\n");
+                    }
+                    sb.append("                        break;\n");
+                    sb.append("                    default:\n");
+                    sb.append("                        ").append(additional);
+                    sb.append("                        break;\n");
+                    sb.append("                }\n");
+                }
+                sb.append("            }\n");
+            }
+        }
+
+        private void generateType(StringBuilder sb,
+                                  JsonNode value,
+                                  String keywordPath) {
+            List<String> conditions=new ArrayList<>();
+            if (value.isArray()) {
+                for (JsonNode element: value) {
+                    conditions.add(getTypeCondition(element.asText(),keywordPath));
+                }
+            } else {
+                conditions.add(getTypeCondition(value.asText(),keywordPath));
+            }
+            sb.append("        if (!(").append(String.join(" || ",conditions)).append(")) {\n");
+            if (value.isArray()) {
+                sb.append("            c.report(\"type\",ValidatorTypeCode.UNION_TYPE,").append(literal(keywordPath)).append(",ValidatorContext.getTypeName(n),").append(literal(toText(value))).append(");\n");
+            } else {
+                sb.append("            c.report(\"type\",ValidatorTypeCode.TYPE,").append(literal(keywordPath)).append(",ValidatorContext.getTypeName(n),").append(literal(value.asText())).append(");\n");
+            }
+            sb.append("        }\n");
+        }
+
+        private String getTypeCondition(String type,
+                                        String keywordPath) {
+            String condition;
+            switch (type) {
+                case "null":
+                    condition="n.isNull()";
+                    break;
+                case "boolean":
+                    condition="n.isBoolean()";
+                    break;
+                case "object":
+                    condition="n.isObject()";
+                    break;
+                case "array":
+                    condition="n.isArray()";
+                    break;
+                case "number":
+                    condition="n.isNumber()";
+                    break;
+                case "string":
+                    condition="n.isTextual()";
+                    break;
+                case "integer":
+                    condition="n.isIntegralNumber()";
+                    break;
+                default:
+                    unsupported(keywordPath);
+                    condition="false";
+                    break;
+            }
+            return condition;
+        }
+
+        private void generateBound(StringBuilder sb,
+                                   JsonNode value,
+                                   String keywordPath,
+                                   String operator,
+                                   String messageType) {
+            if (!value.isNumber() || Double.isNaN(value.doubleValue())) {
+                unsupported(keywordPath);
+            } else {
+                if (!isFinite(value)) {
+                    String bound=value.doubleValue()>0?"Double.POSITIVE_INFINITY":"Double.NEGATIVE_INFINITY";
+                    sb.append("            if (ValidatorContext.compare(n,").append(bound).append(")").append(operator).append("0) {\n");
+                } else {
+                    BigDecimal bound=value.decimalValue();
+                    String decimal=addConstant("BigDecimal","new BigDecimal("+literal(bound.toString())+")");
+                    String condition;
+                    if (value.isIntegralNumber() && value.canConvertToLong()) {
+                        condition="(n.isInt() || n.isLong()?n.longValue()"+operator+value.longValue()+"L:ValidatorContext.compare(n,"+decimal+")"+operator+"0)";
+                    } else {
+                        condition="ValidatorContext.compare(n,"+decimal+")"+operator+"0";
+                    }
+                    sb.append("            if (").append(condition).append(") {\n");
+                }
+                sb.append("                c.report(").append(literal(keywordPath.substring(keywordPath.lastIndexOf('/')+1))).append(",ValidatorTypeCode.").append(messageType).append(",").append(literal(keywordPath)).append(",").append(literal(value.asText())).append(");\n");
+                sb.append("            }\n");
+            }
+        }
+
+        private void generateCount(StringBuilder sb,
+                                   JsonNode value,
+                                   String keywordPath,
+                                   String expression,
+                                   String operator,
+                                   String messageType) {
+            if (!(value.canConvertToInt() && value.intValue()>=0)) {
+                unsupported(keywordPath);
+            } else {
+                int count=value.intValue();
+                sb.append("            if (").append(expression).append(operator).append(count).append(") {\n");
+                sb.append("                c.report(").append(literal(keywordPath.substring(keywordPath.lastIndexOf('/')+1))).append(",ValidatorTypeCode.").append(messageType).append(",").append(literal(keywordPath)).append(",").append(literal(String.valueOf(count))).append(");\n");
+                sb.append("            }\n");
+            }
+        }
+
+        private String addConstant(String type,
+                                   String initializer) {
+            String name="K"+constantCount;
+            constantCount++;
+            constants.append("    private static final ").append(type).append(" ").append(name).append("=").append(initializer).append(";\n");
+            return name;
+        }
+
+        private static boolean isTrivial(JsonNode node) {
+            return node.isBoolean()?node.booleanValue():node.isObject() && node.size() == 0;
+        }
+
+        private static boolean isScalars(JsonNode values) {
+            boolean scalars=true;
+            for (JsonNode value: values) {
+                scalars&=value.isValueNode() && isFinite(value);
+            }
+            return scalars;
+        }
+
+        private static boolean isFinite(JsonNode value) {
+            return !(value.isDouble() || value.isFloat()) || Double.isFinite(value.doubleValue());
+        }
+
+        private static String toText(JsonNode values) {
+            StringBuilder sb=new StringBuilder("[");
+            for (JsonNode value: values) {
+                if (sb.length()>1) {
+                    sb.append(", ");
+                }
+                sb.append(value.asText());
+            }
+            return sb.append(']').toString();
+        }
+
+        private void unsupported(String keywordPath) {
+            if (unsupported == null) {
+                unsupported=keywordPath;
+            }
+        }
+    }
+}
@@ -1,4 +1,8 @@
 /**
  * Jackson POJO generation.
+ * <p>
+ *     This includes validators compiled from JSON Schemas; see {@link com.yelstream.topp.jackson.gen.GeneratedValidators}.
+ *     This includes synthetic documents generated from JSON Schemas; see {@link com.yelstream.topp.jackson.gen.DataGenerator}.
+ * </p>
  */
 package com.yelstream.topp.jackson.gen;
@@ -1,5 +1,12 @@
 module com.yelstream.topp.json.generation {
     requires static lombok;
 
+    requires java.compiler;
+    requires jdk.jfr;
+
+    requires transitive com.yelstream.topp.json.serialization;
+
     exports com.yelstream.topp.jackson.gen;
+
+    provides javax.annotation.processing.Processor with com.yelstream.topp.jackson.gen.JsonPojoProcessor;
 }
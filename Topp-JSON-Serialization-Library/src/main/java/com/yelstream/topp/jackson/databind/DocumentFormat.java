@@ -0,0 +1,77 @@
+package com.yelstream.topp.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Encoding of JSON documents.
+ * <p>
+ *     Binary encodings carry the same data model as textual JSON,
+ *     and are parsed into the same tokens, JSON trees and Jackson POJOs.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum DocumentFormat {
+    /**
+     * Textual JSON encoded in UTF-8.
+     */
+    JSON {
+        @Override
+        public JsonFactory createFactory() {
+            return new JsonFactory();
+        }
+    },
+
+    /**
+     * Smile, with back-references to property names and short string values written before.
+     * Repeated names and values of records are written once per document.
+     */
+    SMILE {
+        @Override
+        public JsonFactory createFactory() {
+            return SmileFactory.builder()
+                               .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                               .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                               .build();
+        }
+    },
+
+    /**
+     * CBOR as of RFC 8949.
+     */
+    CBOR {
+        @Override
+        public JsonFactory createFactory() {
+            return new CBORFactory();
+        }
+    };
+
+    /**
+     * Creates a factory of parsers and generators of the format.
+     * @return Factory.
+     */
+    public abstract JsonFactory createFactory();
+
+    /**
+     * Creates a mapper between documents of the format and Jackson POJOs.
+     * Modules are to be registered on the mapper as for textual JSON.
+     * @return Mapper.
+     */
+    public ObjectMapper createMapper() {
+        return new ObjectMapper(createFactory());
+    }
+
+    /**
+     * Indicates, if the format is binary.
+     * @return Indicates, if the format is binary.
+     */
+    public boolean isBinary() {
+        return this!=JSON;
+    }
+}
@@ -0,0 +1,27 @@
+package com.yelstream.topp.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility addressing instances of {@link JsonPointer}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonPointers {
+    /**
+     * Escapes a property name as a JSON Pointer segment according to RFC 6901.
+     * @param name Property name.
+     * @return Escaped segment.
+     */
+    public static String escape(String name) {
+        String segment=name;
+        if (name.indexOf('~')>=0 || name.indexOf('/')>=0) {
+            segment=name.replace("~","~0").replace("/","~1");
+        }
+        return segment;
+    }
+}
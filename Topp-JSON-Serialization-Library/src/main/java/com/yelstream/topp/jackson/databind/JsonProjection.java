@@ -0,0 +1,384 @@
+package com.yelstream.topp.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * Selection of the parts of JSON documents addressed by a set of JSON Pointers.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Documents are read token by token, and subtrees not addressed are skipped by {@link JsonParser#skipChildren()}
+ *     without being bound to values.
+ *     The parts selected keep their positions in objects, and a segment {@code *} addresses all properties of objects
+ *     and all items of arrays.
+ *     Array items not addressed are left out, so array items selected by index only are renumbered.
+ *     Objects and arrays on the path to the parts selected are kept, even if none of their content is selected,
+ *     and other values on the path, such as {@code null}, are kept as they are,
+ *     so properties required on the path are present as in the document.
+ * </p>
+ * <p>
+ *     Instances are created by {@link JsonProjections}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded=true)
+public final class JsonProjection {
+    /**
+     * Segment addressing all properties of objects and all items of arrays.
+     */
+    public static final String WILDCARD="*";
+
+    /**
+     * JSON Pointers of the parts selected.
+     */
+    @Getter
+    @EqualsAndHashCode.Include
+    private final SortedSet<String> pointers;
+
+    /**
+     * Selection of the root.
+     */
+    private final Node root;
+
+    JsonProjection(SortedSet<String> pointers,
+                   Node root) {
+        this.pointers=Collections.unmodifiableSortedSet(pointers);
+        this.root=root;
+    }
+
+    /**
+     * Gets the selection of the root.
+     * @return Selection of the root.
+     */
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Copies the parts selected of the next JSON value read from a parser.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void copy(JsonParser parser,
+                     JsonGenerator generator) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new IOException("Failure to project JSON document; unexpected end of input!");
+        }
+        copy(root,parser,generator);
+    }
+
+    private static void copy(Node node,
+                             JsonParser parser,
+                             JsonGenerator generator) throws IOException {
+        if (node.selected) {
+            generator.copyCurrentStructure(parser);
+        } else {
+            JsonToken token=parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                generator.writeStartObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name=parser.getCurrentName();
+                    Node child=node.getChild(name);
+                    parser.nextToken();
+                    if (child == null) {
+                        parser.skipChildren();
+                    } else {
+                        generator.writeFieldName(name);
+                        copy(child,parser,generator);
+                    }
+                }
+                generator.writeEndObject();
+            } else {
+                if (token == JsonToken.START_ARRAY) {
+                    generator.writeStartArray();
+                    int index=0;
+                    while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                        Node child=node.getChild(index);
+                        if (child == null) {
+                            parser.skipChildren();
+                        } else {
+                            copy(child,parser,generator);
+                        }
+                        index++;
+                    }
+                    generator.writeEndArray();
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the parts selected of a JSON document into tokens.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param parser Parser of JSON document.
+     * @return Tokens of the parts selected.
+     * @throws IOException Thrown in case of errors.
+     */
+    private TokenBuffer read(ObjectMapper mapper,
+                             JsonParser parser) throws IOException {
+        TokenBuffer buffer=new TokenBuffer(mapper,false);
+        copy(parser,buffer);
+        return buffer;
+    }
+
+    /**
+     * Reads the parts selected of a JSON document into a JSON tree.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @return JSON tree.
+     * @throws IOException Thrown in case of errors.
+     */
+    public JsonNode readTree(ObjectMapper mapper,
+                             String document) throws IOException {
+        try (JsonParser parser=mapper.createParser(document)) {
+            return readTree(mapper,parser);
+        }
+    }
+
+    /**
+     * Reads the parts selected of a JSON document into a JSON tree.
+     * The JSON document is in the format of the factory of the mapper; see {@link DocumentFormat}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @return JSON tree.
+     * @throws IOException Thrown in case of errors.
+     */
+    public JsonNode readTree(ObjectMapper mapper,
+                             byte[] document) throws IOException {
+        try (JsonParser parser=mapper.createParser(document)) {
+            return readTree(mapper,parser);
+        }
+    }
+
+    private JsonNode readTree(ObjectMapper mapper,
+                              JsonParser parser) throws IOException {
+        JsonNode node;
+        try (JsonParser bufferParser=read(mapper,parser).asParser(mapper)) {
+            node=mapper.readTree(bufferParser);
+        }
+        return node == null?MissingNode.getInstance():node;
+    }
+
+    /**
+     * Deserializes the parts selected of a JSON document into a Jackson POJO.
+     * @param <T> Type of Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public <T> T readValue(ObjectMapper mapper,
+                           String document,
+                           Class<T> type) throws IOException {
+        try (JsonParser parser=mapper.createParser(document)) {
+            return readValue(mapper,parser,type);
+        }
+    }
+
+    /**
+     * Deserializes the parts selected of a JSON document into a Jackson POJO.
+     * The JSON document is in the format of the factory of the mapper; see {@link DocumentFormat}.
+     * @param <T> Type of Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public <T> T readValue(ObjectMapper mapper,
+                           byte[] document,
+                           Class<T> type) throws IOException {
+        try (JsonParser parser=mapper.createParser(document)) {
+            return readValue(mapper,parser,type);
+        }
+    }
+
+    private <T> T readValue(ObjectMapper mapper,
+                            JsonParser parser,
+                            Class<T> type) throws IOException {
+        try (JsonParser bufferParser=read(mapper,parser).asParser(mapper)) {
+            return mapper.readValue(bufferParser,type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonProjection"+pointers;
+    }
+
+    /**
+     * Selection of a value.
+     * This is immutable once created.
+     */
+    public static final class Node {
+        /**
+         * Indicates, if the value is selected as a whole.
+         */
+        private boolean selected;
+
+        /**
+         * Selections by name of properties or index of items.
+         * This may be {@code null}.
+         */
+        private Map<String,Node> children;
+
+        /**
+         * Selection of all properties and items.
+         * This may be {@code null}.
+         */
+        private Node wildcard;
+
+        Node() {
+        }
+
+        /**
+         * Indicates, if the value is selected as a whole.
+         * @return Indicates, if the value is selected as a whole.
+         */
+        public boolean isSelected() {
+            return selected;
+        }
+
+        /**
+         * Gets the selection of a property.
+         * @param name Name of property.
+         * @return Selection.
+         *         This is {@code null} if the property is not selected.
+         */
+        public Node getChild(String name) {
+            Node child=children == null?null:children.get(name);
+            return child == null?wildcard:child;
+        }
+
+        /**
+         * Gets the selection of an array item.
+         * @param index Index of item.
+         * @return Selection.
+         *         This is {@code null} if the item is not selected.
+         */
+        public Node getChild(int index) {
+            Node child=children == null?null:children.get(String.valueOf(index));
+            return child == null?wildcard:child;
+        }
+
+        /**
+         * Gets the selection of all properties and items.
+         * @return Selection.
+         *         This is {@code null} if not all properties and items are selected.
+         */
+        public Node getWildcard() {
+            return wildcard;
+        }
+
+        /**
+         * Gets the selections of named properties and indexed items.
+         * @return Selections by name of properties or index of items.
+         */
+        public Map<String,Node> getChildren() {
+            return children == null?Map.of():Collections.unmodifiableMap(children);
+        }
+
+        /**
+         * Indicates, if the selection has selections of named properties or indexed items.
+         * @return Indicates, if the selection has selections of named properties or indexed items.
+         */
+        public boolean hasChildren() {
+            return children!=null;
+        }
+
+        /**
+         * Merges selections of all properties and items into the selections of named properties and indexed items,
+         * since these are selected by both.
+         */
+        void complete() {
+            if (children!=null) {
+                for (Node child: children.values()) {
+                    if (wildcard!=null) {
+                        child.merge(wildcard);
+                    }
+                    child.complete();
+                }
+            }
+            if (wildcard!=null) {
+                wildcard.complete();
+            }
+        }
+
+        private void merge(Node other) {
+            if (!selected) {
+                if (other.selected) {
+                    selected=true;
+                    children=null;
+                    wildcard=null;
+                } else {
+                    if (other.children!=null) {
+                        if (children == null) {
+                            children=new HashMap<>();
+                        }
+                        for (Map.Entry<String,Node> entry: other.children.entrySet()) {
+                            children.computeIfAbsent(entry.getKey(),k -> new Node()).merge(entry.getValue());
+                        }
+                    }
+                    if (other.wildcard!=null) {
+                        if (wildcard == null) {
+                            wildcard=new Node();
+                        }
+                        wildcard.merge(other.wildcard);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds a JSON Pointer relative to this.
+         * @param segments Segments of JSON Pointer, unescaped.
+         * @param offset Index of the first segment.
+         */
+        void add(String[] segments,
+                 int offset) {
+            if (!selected) {
+                if (offset == segments.length) {
+                    selected=true;
+                    children=null;
+                    wildcard=null;
+                } else {
+                    String segment=segments[offset];
+                    Node child;
+                    if (segment.equals(WILDCARD)) {
+                        if (wildcard == null) {
+                            wildcard=new Node();
+                        }
+                        child=wildcard;
+                    } else {
+                        if (children == null) {
+                            children=new HashMap<>();
+                        }
+                        child=children.computeIfAbsent(segment,k -> new Node());
+                    }
+                    child.add(segments,offset+1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.yelstream.topp.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility addressing instances of {@link JsonProjection}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonProjections {
+    /**
+     * Projections of Jackson POJO types by mapper.
+     */
+    private static final Map<ObjectMapper,Map<Class<?>,JsonProjection>> TYPE_PROJECTIONS=Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a projection selecting the values addressed by JSON Pointers.
+     * @param pointers JSON Pointers.
+     *                 Segments {@value JsonProjection#WILDCARD} address all properties and items.
+     * @return Projection.
+     */
+    public static JsonProjection of(String... pointers) {
+        List<JsonPointer> list=new ArrayList<>(pointers.length);
+        for (String pointer: pointers) {
+            list.add(JsonPointer.compile(pointer));
+        }
+        return of(list);
+    }
+
+    /**
+     * Creates a projection selecting the values addressed by JSON Pointers.
+     * @param pointers JSON Pointers.
+     *                 Segments {@value JsonProjection#WILDCARD} address all properties and items.
+     * @return Projection.
+     */
+    public static JsonProjection of(JsonPointer... pointers) {
+        return of(Arrays.asList(pointers));
+    }
+
+    /**
+     * Creates a projection selecting the values addressed by JSON Pointers.
+     * @param pointers JSON Pointers.
+     *                 Segments {@value JsonProjection#WILDCARD} address all properties and items.
+     * @return Projection.
+     */
+    public static JsonProjection of(Collection<JsonPointer> pointers) {
+        if (pointers.isEmpty()) {
+            throw new IllegalArgumentException("Failure to create projection; no pointers are given!");
+        }
+        TreeSet<String> texts=new TreeSet<>();
+        JsonProjection.Node root=new JsonProjection.Node();
+        for (JsonPointer pointer: pointers) {
+            texts.add(pointer.toString());
+            List<String> segments=new ArrayList<>();
+            JsonPointer p=pointer;
+            while (!p.matches()) {
+                segments.add(p.getMatchingProperty());
+                p=p.tail();
+            }
+            root.add(segments.toArray(new String[0]),0);
+        }
+        root.complete();
+        return new JsonProjection(texts,root);
+    }
+
+    /**
+     * Gets the projection selecting the properties bound by a Jackson POJO type.
+     * Projections are created once per mapper and type.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param type Type of Jackson POJO.
+     * @return Projection.
+     */
+    public static JsonProjection getProjection(ObjectMapper mapper,
+                                               Class<?> type) {
+        Map<Class<?>,JsonProjection> projections=TYPE_PROJECTIONS.computeIfAbsent(mapper,k -> new ConcurrentHashMap<>());
+        return projections.computeIfAbsent(type,k -> createProjection(mapper,k));
+    }
+
+    /**
+     * Creates the projection selecting the properties bound by a Jackson POJO type.
+     * <p>
+     *     Properties of POJO types are followed into their properties, and collections and arrays into their elements.
+     *     Other values, such as scalars, maps and JSON trees, are selected as a whole.
+     *     POJO types accepting any property, unwrapping properties or referring to themselves are selected as a whole.
+     * </p>
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param type Type of Jackson POJO.
+     * @return Projection.
+     */
+    public static JsonProjection createProjection(ObjectMapper mapper,
+                                                  Class<?> type) {
+        List<JsonPointer> pointers=new ArrayList<>();
+        addPointers(mapper,mapper.constructType(type),JsonPointer.empty(),new HashSet<>(),pointers);
+        return of(pointers);
+    }
+
+    private static void addPointers(ObjectMapper mapper,
+                                    JavaType type,
+                                    JsonPointer pointer,
+                                    Set<Class<?>> types,
+                                    List<JsonPointer> pointers) {
+        if (type.isContainerType() && !type.isMapLikeType()) {
+            addPointers(mapper,type.getContentType(),pointer.append(JsonPointer.compile("/"+JsonProjection.WILDCARD)),types,pointers);
+        } else {
+            BeanDescription description=isBean(type)?mapper.getDeserializationConfig().introspect(type):null;
+            List<BeanPropertyDefinition> properties=description == null?Collections.emptyList():description.findProperties();
+            if (properties.isEmpty() ||
+                description.findAnySetterAccessor()!=null ||
+                isUnwrapping(mapper,properties) ||
+                !types.add(type.getRawClass())) {
+                pointers.add(pointer);
+            } else {
+                for (BeanPropertyDefinition property: properties) {
+                    if (property.couldDeserialize()) {
+                        JsonPointer propertyPointer=pointer.append(JsonPointer.compile("/"+JsonPointers.escape(property.getName())));
+                        addPointers(mapper,property.getPrimaryType(),propertyPointer,types,pointers);
+                    }
+                }
+                types.remove(type.getRawClass());
+            }
+        }
+    }
+
+    private static boolean isBean(JavaType type) {
+        Class<?> rawClass=type.getRawClass();
+        return !type.isPrimitive() && !type.isEnumType() && !type.isMapLikeType() && !type.isContainerType() &&
+               !rawClass.getName().startsWith("java.") && !JsonNode.class.isAssignableFrom(rawClass);
+    }
+
+    private static boolean isUnwrapping(ObjectMapper mapper,
+                                        List<BeanPropertyDefinition> properties) {
+        boolean unwrapping=false;
+        for (BeanPropertyDefinition property: properties) {
+            AnnotatedMember member=property.getPrimaryMember();
+            if (member!=null && mapper.getDeserializationConfig().getAnnotationIntrospector().findUnwrappingNameTransformer(member)!=null) {
+                unwrapping=true;
+                break;
+            }
+        }
+        return unwrapping;
+    }
+}
@@ -0,0 +1,191 @@
+package com.yelstream.topp.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Limits on the size of messages embedding JSON documents, e.g. in exceptions and in log statements.
+ * This is immutable.
+ * <p>
+ *     The default limits apply to messages rendered by this library and may be replaced by
+ *     {@link #setDefault(MessageLimits)}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class MessageLimits {
+    /**
+     * Default maximum number of characters of a JSON document embedded in a message.
+     */
+    public static final int DEFAULT_MAX_DOCUMENT_LENGTH=1024;
+
+    /**
+     * Default maximum number of validation messages embedded in a message.
+     */
+    public static final int DEFAULT_MAX_VALIDATION_MESSAGES=10;
+
+    /**
+     * Mapper writing JSON trees.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Current default limits.
+     */
+    private static volatile MessageLimits defaultLimits=MessageLimits.builder().build();
+
+    /**
+     * Maximum number of characters of a JSON document embedded in a message.
+     */
+    @lombok.Builder.Default
+    private final int maxDocumentLength=DEFAULT_MAX_DOCUMENT_LENGTH;
+
+    /**
+     * Maximum number of validation messages embedded in a message.
+     */
+    @lombok.Builder.Default
+    private final int maxValidationMessages=DEFAULT_MAX_VALIDATION_MESSAGES;
+
+    /**
+     * Constructor.
+     * @param maxDocumentLength Maximum number of characters of a JSON document embedded in a message.
+     * @param maxValidationMessages Maximum number of validation messages embedded in a message.
+     */
+    public MessageLimits(int maxDocumentLength,
+                         int maxValidationMessages) {
+        if (maxDocumentLength<0) {
+            throw new IllegalArgumentException(String.format("Failure to create message limits; maximum document length is %d!",maxDocumentLength));
+        }
+        if (maxValidationMessages<0) {
+            throw new IllegalArgumentException(String.format("Failure to create message limits; maximum number of validation messages is %d!",maxValidationMessages));
+        }
+        this.maxDocumentLength=maxDocumentLength;
+        this.maxValidationMessages=maxValidationMessages;
+    }
+
+    /**
+     * Gets the default limits.
+     * @return Default limits.
+     */
+    public static MessageLimits getDefault() {
+        return defaultLimits;
+    }
+
+    /**
+     * Sets the default limits.
+     * @param limits Default limits.
+     */
+    public static void setDefault(MessageLimits limits) {
+        if (limits == null) {
+            throw new IllegalArgumentException("Failure to set default message limits; limits are not set!");
+        }
+        defaultLimits=limits;
+    }
+
+    /**
+     * Creates an excerpt of a JSON document.
+     * If the document is longer than the maximum document length then the document is truncated and
+     * the number of characters omitted is stated.
+     * @param document JSON document.
+     *                 This may be {@code null}.
+     * @return Excerpt.
+     */
+    public String excerpt(String document) {
+        String excerpt=document;
+        if (document!=null && document.length()>maxDocumentLength) {
+            excerpt=document.substring(0,maxDocumentLength)+"...("+(document.length()-maxDocumentLength)+" characters omitted)";
+        }
+        return excerpt;
+    }
+
+    /**
+     * Creates an excerpt of a JSON tree.
+     * The JSON tree is written only up to the maximum document length;
+     * if the JSON tree is longer then it is truncated and the omission is stated.
+     * @param node JSON tree.
+     *             This may be {@code null}.
+     * @return Excerpt.
+     */
+    public String excerpt(JsonNode node) {
+        String excerpt;
+        if (node == null) {
+            excerpt=excerpt((String)null);
+        } else {
+            LimitedWriter writer=new LimitedWriter(maxDocumentLength);
+            try {
+                JsonGenerator generator=MAPPER.createGenerator(writer);
+                MAPPER.writeTree(generator,node);
+                generator.flush();
+            } catch (IOException ex) {  //Note: The writer fails when the limit is exceeded; output is incomplete in any case.
+                writer.exceeded=true;
+            }
+            excerpt=writer.exceeded?writer.buffer+"...(further characters omitted)":writer.buffer.toString();
+        }
+        return excerpt;
+    }
+
+    /**
+     * Creates an excerpt of the textual representation of an object.
+     * JSON trees are written only up to the maximum document length.
+     * @param value Object.
+     *              This may be {@code null}.
+     * @return Excerpt.
+     */
+    public String excerpt(Object value) {
+        String excerpt;
+        if (value instanceof JsonNode) {
+            excerpt=excerpt((JsonNode)value);
+        } else {
+            excerpt=excerpt(String.valueOf(value));
+        }
+        return excerpt;
+    }
+
+    /**
+     * Writer keeping characters up to a limit and failing once the limit is exceeded.
+     */
+    private static final class LimitedWriter extends Writer {
+        private final StringBuilder buffer=new StringBuilder();
+        private final int limit;
+        private boolean exceeded;
+
+        private LimitedWriter(int limit) {
+            this.limit=limit;
+        }
+
+        @Override
+        public void write(char[] chars,
+                          int offset,
+                          int length) throws IOException {
+            int available=limit-buffer.length();
+            if (length>available) {
+                buffer.append(chars,offset,available);
+                exceeded=true;
+                throw new IOException(String.format("Failure to write excerpt; limit is %d!",limit));
+            }
+            buffer.append(chars,offset,length);
+        }
+
+        @Override
+        public void flush() {
+            //Note: Nothing is buffered.
+        }
+
+        @Override
+        public void close() {
+            //Note: Nothing is held.
+        }
+    }
+}
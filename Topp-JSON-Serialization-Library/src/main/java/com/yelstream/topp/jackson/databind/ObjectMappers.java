@@ -1,6 +1,7 @@
 package com.yelstream.topp.jackson.databind;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.experimental.UtilityClass;
@@ -9,6 +10,9 @@ import java.io.IOException;
 
 /**
  * Utility addressing instances of {@link ObjectMapper}.
+ * <p>
+ *     JSON documents embedded in exception messages are truncated according to {@link MessageLimits#getDefault()}.
+ * </p>
  *
  * @author Morten Sabroe Mortensen
  * @version 1.0
@@ -30,7 +34,7 @@ public class ObjectMappers {
         try {
             text=writer.writeValueAsString(value);
         } catch (JsonProcessingException ex) {
-            throw new IllegalStateException(String.format("Failure to write Jackson object as text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),value),ex);
+            throw new IllegalStateException(String.format("Failure to write Jackson object as text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(value)),ex);
         }
         return text;
     }
@@ -61,7 +65,7 @@ public class ObjectMappers {
         try {
             text=writer.writeValueAsString(value);
         } catch (JsonProcessingException ex) {
-            throw new IllegalStateException(String.format("Failure to write Jackson object as text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),value),ex);
+            throw new IllegalStateException(String.format("Failure to write Jackson object as text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(value)),ex);
         }
         return text;
     }
@@ -93,7 +97,7 @@ public class ObjectMappers {
             Object objectValue=mapper.readValue(value,Object.class);
             text=toString(mapper,objectValue);
         } catch (JsonProcessingException ex) {
-            throw new IllegalStateException(String.format("Failure to format JSON text; mapper is %s, text is %s!",mapper.getClass().getName(),value),ex);
+            throw new IllegalStateException(String.format("Failure to format JSON text; mapper is %s, text is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(value)),ex);
         }
         return text;
     }
@@ -124,7 +128,7 @@ public class ObjectMappers {
             Object objectValue=mapper.readValue(value,Object.class);
             text=toStringWithPrettyPrint(mapper,objectValue);
         } catch (JsonProcessingException ex) {
-            throw new IllegalStateException(String.format("Failure to format JSON text; mapper is %s, text is %s!",mapper.getClass().getName(),value),ex);
+            throw new IllegalStateException(String.format("Failure to format JSON text; mapper is %s, text is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(value)),ex);
         }
         return text;
     }
@@ -157,7 +161,52 @@ public class ObjectMappers {
         try {
             value=mapper.readValue(document,type);
         } catch (JsonProcessingException ex) {
-            throw new IOException(String.format("Failure to deserialize JSON text to Jackson object; mapper is %s, JSON text is %s, type is %s!",mapper.getClass().getName(),document,type.getName()),ex);
+            throw new IOException(String.format("Failure to deserialize JSON text to Jackson object; mapper is %s, JSON text is %s, type is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(document),type.getName()),ex);
+        }
+        return value;
+    }
+
+    /**
+     * Deserializes the parts selected by a projection of a JSON document into a Jackson POJO.
+     * Subtrees not selected are skipped by the parser without being bound.
+     * @param <T> Type of Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @param projection Projection.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static <T> T deserialize(ObjectMapper mapper,
+                                    String document,
+                                    Class<T> type,
+                                    JsonProjection projection) throws IOException {
+        T value;
+        try {
+            value=projection.readValue(mapper,document,type);
+        } catch (JsonProcessingException ex) {
+            throw new IOException(String.format("Failure to deserialize JSON text to Jackson object; mapper is %s, JSON text is %s, type is %s, projection is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(document),type.getName(),projection),ex);
+        }
+        return value;
+    }
+
+    /**
+     * Converts a JSON tree into a Jackson POJO.
+     * @param <T> Type of Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param node JSON tree.
+     * @param type Type of Jackson POJO.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static <T> T convert(ObjectMapper mapper,
+                                JsonNode node,
+                                Class<T> type) throws IOException {
+        T value;
+        try {
+            value=mapper.treeToValue(node,type);
+        } catch (JsonProcessingException ex) {
+            throw new IOException(String.format("Failure to convert JSON tree to Jackson object; mapper is %s, JSON tree is %s, type is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(node),type.getName()),ex);
         }
         return value;
     }
@@ -176,7 +225,49 @@ public class ObjectMappers {
         try {
             document=writer.writeValueAsString(value);
         } catch (JsonProcessingException ex) {
-            throw new IOException(String.format("Failure to serialize Jackson object to JSON text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),value),ex);
+            throw new IOException(String.format("Failure to serialize Jackson object to JSON text; mapper is %s, Jackson object is %s!",mapper.getClass().getName(),MessageLimits.getDefault().excerpt(value)),ex);
+        }
+        return document;
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * The document is in the format of the factory of the mapper, such as Smile or CBOR; see {@link DocumentFormat}.
+     * @param <T> Type of Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static <T> T deserialize(ObjectMapper mapper,
+                                    byte[] document,
+                                    Class<T> type) throws IOException {
+        T value;
+        try {
+            value=mapper.readValue(document,type);
+        } catch (JsonProcessingException ex) {
+            throw new IOException(String.format("Failure to deserialize JSON document to Jackson object; mapper is %s, format is %s, document size is %d, type is %s!",mapper.getClass().getName(),mapper.getFactory().getFormatName(),document.length,type.getName()),ex);
+        }
+        return value;
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * The document is in the format of the factory of the mapper, such as Smile or CBOR; see {@link DocumentFormat}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static byte[] serializeToBytes(ObjectMapper mapper,
+                                          Object value) throws IOException {
+        byte[] document;
+        ObjectWriter writer=mapper.writer();
+        try {
+            document=writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IOException(String.format("Failure to serialize Jackson object to JSON document; mapper is %s, format is %s, Jackson object is %s!",mapper.getClass().getName(),mapper.getFactory().getFormatName(),MessageLimits.getDefault().excerpt(value)),ex);
         }
         return document;
     }
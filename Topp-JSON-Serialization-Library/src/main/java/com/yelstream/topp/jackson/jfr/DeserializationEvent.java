@@ -0,0 +1,46 @@
+package com.yelstream.topp.jackson.jfr;
+
+import com.networknt.schema.JsonSchema;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for the binding of a JSON document to a Jackson POJO.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Name("com.yelstream.topp.json.Deserialization")
+@Label("JSON Deserialization")
+@Description("Binding of a JSON document to a Jackson POJO")
+@Threshold("0 ms")
+public final class DeserializationEvent extends JsonEvent {
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     */
+    public void complete(JsonSchema schema,
+                         String document,
+                         Class<?> type) {
+        complete(schema,type,document,null,0);
+    }
+
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param document Binary JSON document.
+     * @param type Type of Jackson POJO.
+     */
+    public void complete(JsonSchema schema,
+                         byte[] document,
+                         Class<?> type) {
+        complete(schema,type,document,null,0);
+    }
+}
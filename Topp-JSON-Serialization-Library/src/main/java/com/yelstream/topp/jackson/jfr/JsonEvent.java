@@ -0,0 +1,121 @@
+package com.yelstream.topp.jackson.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event common to the processing phases of JSON documents.
+ * <p>
+ *     The attributes of an event are resolved only when the event is about to be committed.
+ *     When recording is disabled or the duration is below the threshold of the event, then the cost is limited to
+ *     the time-stamping of the begin and end of the phase.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Category({"Topp","JSON"})
+@StackTrace(false)
+public abstract class JsonEvent extends Event {
+    /**
+     * URI of JSON Schema.
+     */
+    @Label("Schema URI")
+    @Description("URI of the JSON Schema applied, if any")
+    protected String schemaUri;
+
+    /**
+     * Type of Jackson POJO.
+     */
+    @Label("Target Type")
+    @Description("Type of Jackson POJO, if any")
+    protected Class<?> targetType;
+
+    /**
+     * Size of JSON document in bytes.
+     */
+    @Label("Document Size")
+    @Description("Size of JSON document in bytes as encoded in UTF-8 or in a binary format")
+    @DataAmount
+    protected long documentSize;
+
+    /**
+     * Number of nodes in JSON tree.
+     */
+    @Label("Node Count")
+    @Description("Number of nodes in JSON tree, if a tree is present")
+    protected long nodeCount;
+
+    /**
+     * Number of validation messages.
+     */
+    @Label("Validation Message Count")
+    @Description("Number of validation messages, if validation is performed")
+    protected int validationMessageCount;
+
+    /**
+     * Ends the timing of the event and commits the event, if recording is enabled and the threshold is met.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param type Type of Jackson POJO.
+     *             This may be {@code null}.
+     * @param document JSON document.
+     *                 This may be {@code null}.
+     * @param node JSON tree.
+     *             This may be {@code null}.
+     * @param validationMessageCount Number of validation messages.
+     */
+    protected void complete(JsonSchema schema,
+                            Class<?> type,
+                            String document,
+                            JsonNode node,
+                            int validationMessageCount) {
+        end();
+        if (shouldCommit()) {
+            commit(schema,type,JsonEvents.getSize(document),node,validationMessageCount);
+        }
+    }
+
+    /**
+     * Ends the timing of the event and commits the event, if recording is enabled and the threshold is met.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param type Type of Jackson POJO.
+     *             This may be {@code null}.
+     * @param document Binary JSON document, such as Smile or CBOR.
+     *                 This may be {@code null}.
+     * @param node JSON tree.
+     *             This may be {@code null}.
+     * @param validationMessageCount Number of validation messages.
+     */
+    protected void complete(JsonSchema schema,
+                            Class<?> type,
+                            byte[] document,
+                            JsonNode node,
+                            int validationMessageCount) {
+        end();
+        if (shouldCommit()) {
+            commit(schema,type,document == null?0:document.length,node,validationMessageCount);
+        }
+    }
+
+    private void commit(JsonSchema schema,
+                        Class<?> type,
+                        long documentSize,
+                        JsonNode node,
+                        int validationMessageCount) {
+        this.schemaUri=JsonEvents.getSchemaUri(schema);
+        this.targetType=type;
+        this.documentSize=documentSize;
+        this.nodeCount=JsonEvents.getNodeCount(node);
+        this.validationMessageCount=validationMessageCount;
+        commit();
+    }
+}
@@ -0,0 +1,98 @@
+package com.yelstream.topp.jackson.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import lombok.experimental.UtilityClass;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Utility addressing the attributes of instances of {@link JsonEvent}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonEvents {
+    /**
+     * Gets the URI of a JSON Schema.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @return URI of JSON Schema.
+     *         This may be {@code null}.
+     */
+    public static String getSchemaUri(JsonSchema schema) {
+        String uri=null;
+        if (schema!=null) {
+            URI currentUri=schema.getCurrentUri();
+            if (currentUri!=null) {
+                uri=currentUri.toString();
+            }
+        }
+        return uri;
+    }
+
+    /**
+     * Gets the size of a JSON document as encoded in UTF-8.
+     * This does not encode the document.
+     * @param document JSON document.
+     *                 This may be {@code null}.
+     * @return Size in bytes.
+     */
+    public static long getSize(String document) {
+        long size=0;
+        if (document!=null) {
+            int length=document.length();
+            for (int i=0; i<length; i++) {
+                char c=document.charAt(i);
+                if (c<0x80) {
+                    size++;
+                } else {
+                    if (c<0x800) {
+                        size+=2;
+                    } else {
+                        if (Character.isHighSurrogate(c) && i+1<length && Character.isLowSurrogate(document.charAt(i+1))) {
+                            size+=4;
+                            i++;
+                        } else {
+                            size+=3;
+                        }
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the number of nodes in a JSON tree.
+     * @param node JSON tree.
+     *             This may be {@code null}.
+     * @return Number of nodes.
+     */
+    public static long getNodeCount(JsonNode node) {
+        long count=0;
+        if (node!=null) {
+            Deque<Iterator<JsonNode>> stack=new ArrayDeque<>();
+            count++;
+            stack.push(node.elements());
+            while (!stack.isEmpty()) {
+                Iterator<JsonNode> elements=stack.peek();
+                if (elements.hasNext()) {
+                    JsonNode element=elements.next();
+                    count++;
+                    if (element.isContainerNode()) {
+                        stack.push(element.elements());
+                    }
+                } else {
+                    stack.pop();
+                }
+            }
+        }
+        return count;
+    }
+}
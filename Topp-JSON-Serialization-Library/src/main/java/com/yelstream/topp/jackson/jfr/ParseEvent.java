@@ -0,0 +1,47 @@
+package com.yelstream.topp.jackson.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for the parsing of a JSON document into a JSON tree.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Name("com.yelstream.topp.json.Parse")
+@Label("JSON Parse")
+@Description("Parsing of a JSON document into a JSON tree")
+@Threshold("0 ms")
+public final class ParseEvent extends JsonEvent {
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param document JSON document.
+     * @param node JSON tree.
+     */
+    public void complete(JsonSchema schema,
+                         String document,
+                         JsonNode node) {
+        complete(schema,null,document,node,0);
+    }
+
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     *               This may be {@code null}.
+     * @param document Binary JSON document.
+     * @param node JSON tree.
+     */
+    public void complete(JsonSchema schema,
+                         byte[] document,
+                         JsonNode node) {
+        complete(schema,null,document,node,0);
+    }
+}
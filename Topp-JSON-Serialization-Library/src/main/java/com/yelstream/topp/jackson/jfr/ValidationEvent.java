@@ -0,0 +1,49 @@
+package com.yelstream.topp.jackson.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for the validation of a JSON tree against a JSON Schema.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Name("com.yelstream.topp.json.Validation")
+@Label("JSON Validation")
+@Description("Validation of a JSON tree against a JSON Schema")
+@Threshold("0 ms")
+public final class ValidationEvent extends JsonEvent {
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     * @param document JSON document.
+     * @param node JSON tree.
+     * @param validationMessageCount Number of validation messages.
+     */
+    public void complete(JsonSchema schema,
+                         String document,
+                         JsonNode node,
+                         int validationMessageCount) {
+        complete(schema,null,document,node,validationMessageCount);
+    }
+
+    /**
+     * Ends and conditionally commits the event.
+     * @param schema JSON Schema.
+     * @param document Binary JSON document.
+     * @param node JSON tree.
+     * @param validationMessageCount Number of validation messages.
+     */
+    public void complete(JsonSchema schema,
+                         byte[] document,
+                         JsonNode node,
+                         int validationMessageCount) {
+        complete(schema,null,document,node,validationMessageCount);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * JDK Flight Recorder events for the parsing, validation, deserialization and serialization of JSON documents.
+ * <p>
+ *     Events are named {@code com.yelstream.topp.json.*}.
+ *     To record only slow operations, set the threshold of an event in the recording settings,
+ *     e.g. {@code com.yelstream.topp.json.Validation#threshold=10 ms}.
+ * </p>
+ */
+package com.yelstream.topp.jackson.jfr;
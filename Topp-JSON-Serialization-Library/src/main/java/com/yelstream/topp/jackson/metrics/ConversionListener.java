@@ -0,0 +1,31 @@
+package com.yelstream.topp.jackson.metrics;
+
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+
+/**
+ * Listener receiving measurements of operations on JSON documents.
+ * <p>
+ *     Listeners are invoked on the thread performing the operation and must be thread-safe and cheap.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface ConversionListener {
+    /**
+     * Receives the measurement of an operation.
+     * @param schemaType JSON Schema and its deserialized object type.
+     * @param operation Operation performed.
+     * @param size Size of JSON document in characters.
+     * @param duration Duration of operation in nanoseconds.
+     * @param success Indicates, if the operation succeeded.
+     *                For validation, this is set if the JSON document is valid.
+     */
+    void onConversion(JsonSchemaType<?> schemaType,
+                      ConversionOperation operation,
+                      long size,
+                      long duration,
+                      boolean success);
+}
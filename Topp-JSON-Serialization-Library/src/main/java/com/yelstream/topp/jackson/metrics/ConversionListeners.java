@@ -0,0 +1,45 @@
+package com.yelstream.topp.jackson.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility addressing instances of {@link ConversionListener}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class ConversionListeners {
+    /**
+     * Listener ignoring all measurements.
+     */
+    public static final ConversionListener NOOP=(schemaType,operation,size,duration,success) -> { };
+
+    /**
+     * Creates a listener forwarding measurements to a number of listeners.
+     * @param listeners Listeners.
+     * @return Listener.
+     */
+    public static ConversionListener of(ConversionListener... listeners) {
+        ConversionListener result;
+        if (listeners.length == 0) {
+            result=NOOP;
+        } else {
+            if (listeners.length == 1) {
+                result=listeners[0];
+            } else {
+                List<ConversionListener> list=List.copyOf(Arrays.asList(listeners));
+                result=(schemaType,operation,size,duration,success) -> {
+                    for (ConversionListener listener: list) {
+                        listener.onConversion(schemaType,operation,size,duration,success);
+                    }
+                };
+            }
+        }
+        return result;
+    }
+}
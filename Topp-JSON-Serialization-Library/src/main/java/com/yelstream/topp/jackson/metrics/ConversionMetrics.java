@@ -0,0 +1,223 @@
+package com.yelstream.topp.jackson.metrics;
+
+import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory aggregation of measurements per JSON Schema type and operation.
+ * <p>
+ *     This is lock-free; counters are striped {@link LongAdder} instances and latencies are kept in instances of
+ *     {@link LatencyHistogram}.
+ *     Aggregates are read by {@link #snapshot()}.
+ * </p>
+ * <p>
+ *     Aggregates are kept per JSON Schema, compared by identity, and per deserialized object type.
+ *     JSON Schemas are held weakly; the aggregates of JSON Schemas no longer in use, such as retired versions, are released.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ConversionMetrics implements ConversionListener {
+    /**
+     * Aggregates per JSON Schema and type, indexed by operation.
+     */
+    private final Map<Key,Aggregate[]> aggregates=new ConcurrentHashMap<>();
+
+    /**
+     * Queue of references to JSON Schemas no longer in use.
+     */
+    private final ReferenceQueue<JsonSchema> released=new ReferenceQueue<>();
+
+    @Override
+    public void onConversion(JsonSchemaType<?> schemaType,
+                             ConversionOperation operation,
+                             long size,
+                             long duration,
+                             boolean success) {
+        Aggregate[] operationAggregates=aggregates.get(new LookupKey(schemaType.getSchema(),schemaType.getType()));
+        if (operationAggregates == null) {
+            expunge();
+            operationAggregates=aggregates.computeIfAbsent(new WeakKey(schemaType.getSchema(),schemaType.getType(),released),k -> createAggregates());
+        }
+        operationAggregates[operation.ordinal()].record(size,duration,success);
+    }
+
+    /**
+     * Creates a snapshot of the current aggregates.
+     * @return Snapshot.
+     */
+    public ConversionMetricsSnapshot snapshot() {
+        expunge();
+        long timestamp=System.nanoTime();
+        List<ConversionMetricsSnapshot.Entry> entries=new ArrayList<>();
+        aggregates.forEach((key,operationAggregates) -> {
+            JsonSchema schema=key.getSchema();
+            if (schema!=null) {
+                JsonSchemaType<?> schemaType=new JsonSchemaType<>(schema,key.type);
+                for (ConversionOperation operation: ConversionOperation.values()) {
+                    Aggregate aggregate=operationAggregates[operation.ordinal()];
+                    long count=aggregate.count.sum();
+                    if (count>0) {
+                        entries.add(new ConversionMetricsSnapshot.Entry(schemaType,
+                                                                        operation,
+                                                                        count,
+                                                                        aggregate.size.sum(),
+                                                                        aggregate.failures.sum(),
+                                                                        aggregate.latency.snapshot()));
+                    }
+                }
+            }
+        });
+        return new ConversionMetricsSnapshot(timestamp,entries);
+    }
+
+    /**
+     * Removes all aggregates.
+     */
+    public void reset() {
+        aggregates.clear();
+    }
+
+    private void expunge() {
+        Reference<? extends JsonSchema> reference;
+        while ((reference=released.poll())!=null) {
+            aggregates.remove(((SchemaReference)reference).key);
+        }
+    }
+
+    private static Aggregate[] createAggregates() {
+        Aggregate[] operationAggregates=new Aggregate[ConversionOperation.values().length];
+        for (int i=0; i<operationAggregates.length; i++) {
+            operationAggregates[i]=new Aggregate();
+        }
+        return operationAggregates;
+    }
+
+    /**
+     * Key of aggregates.
+     * The JSON Schema is compared by identity.
+     */
+    private abstract static class Key {
+        /**
+         * Deserialized object type.
+         */
+        private final Class<?> type;
+
+        /**
+         * Hash code, computed while the JSON Schema is present.
+         */
+        private final int hash;
+
+        private Key(JsonSchema schema,
+                    Class<?> type) {
+            this.type=type;
+            this.hash=31*System.identityHashCode(schema)+type.hashCode();
+        }
+
+        /**
+         * Gets the JSON Schema.
+         * @return JSON Schema.
+         *         This is {@code null} if the JSON Schema is no longer in use.
+         */
+        abstract JsonSchema getSchema();
+
+        @Override
+        public boolean equals(Object obj) {
+            boolean result=obj == this;
+            if (!result && obj instanceof Key) {
+                Key other=(Key)obj;
+                JsonSchema schema=getSchema();
+                result=schema!=null && schema == other.getSchema() && type == other.type;
+            }
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key used for lookup only.
+     */
+    private static final class LookupKey extends Key {
+        private final JsonSchema schema;
+
+        private LookupKey(JsonSchema schema,
+                          Class<?> type) {
+            super(schema,type);
+            this.schema=schema;
+        }
+
+        @Override
+        JsonSchema getSchema() {
+            return schema;
+        }
+    }
+
+    /**
+     * Key stored, holding the JSON Schema weakly.
+     */
+    private static final class WeakKey extends Key {
+        private final SchemaReference reference;
+
+        private WeakKey(JsonSchema schema,
+                        Class<?> type,
+                        ReferenceQueue<JsonSchema> queue) {
+            super(schema,type);
+            this.reference=new SchemaReference(schema,this,queue);
+        }
+
+        @Override
+        JsonSchema getSchema() {
+            return reference.get();
+        }
+    }
+
+    /**
+     * Weak reference to a JSON Schema, which is enqueued with its key when the JSON Schema is no longer in use.
+     */
+    private static final class SchemaReference extends WeakReference<JsonSchema> {
+        private final WeakKey key;
+
+        private SchemaReference(JsonSchema schema,
+                                WeakKey key,
+                                ReferenceQueue<JsonSchema> queue) {
+            super(schema,queue);
+            this.key=key;
+        }
+    }
+
+    /**
+     * Aggregate of a single operation on a single JSON Schema type.
+     */
+    private static final class Aggregate {
+        private final LongAdder count=new LongAdder();
+        private final LongAdder size=new LongAdder();
+        private final LongAdder failures=new LongAdder();
+        private final LatencyHistogram latency=new LatencyHistogram();
+
+        private void record(long size,
+                            long duration,
+                            boolean success) {
+            this.count.increment();
+            this.size.add(size);
+            if (!success) {
+                this.failures.increment();
+            }
+            this.latency.record(duration);
+        }
+    }
+}
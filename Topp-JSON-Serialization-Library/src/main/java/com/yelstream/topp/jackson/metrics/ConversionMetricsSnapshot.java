@@ -0,0 +1,145 @@
+package com.yelstream.topp.jackson.metrics;
+
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of aggregated measurements.
+ * Rates are derived by comparing two snapshots.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class ConversionMetricsSnapshot {
+    /**
+     * Time of snapshot as given by {@link System#nanoTime()}.
+     */
+    private final long timestamp;
+
+    /**
+     * Aggregates per JSON Schema type and operation.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * Gets the aggregate of a specific JSON Schema type and operation.
+     * JSON Schema types match if their JSON Schemas are identical and their types are equal.
+     * @param schemaType JSON Schema type.
+     * @param operation Operation.
+     * @return Aggregate.
+     *         This is {@code null} if no measurements exist.
+     */
+    public Entry getEntry(JsonSchemaType<?> schemaType,
+                          ConversionOperation operation) {
+        Entry result=null;
+        for (Entry entry: entries) {
+            if (entry.operation == operation && entry.schemaType.getSchema() == schemaType.getSchema() && entry.schemaType.getType() == schemaType.getType()) {
+                result=entry;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Aggregate of a single JSON Schema type and operation.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static final class Entry {
+        /**
+         * JSON Schema type.
+         * This holds the JSON Schema and the type measured only.
+         */
+        private final JsonSchemaType<?> schemaType;
+
+        /**
+         * Operation.
+         */
+        private final ConversionOperation operation;
+
+        /**
+         * Number of documents.
+         */
+        private final long count;
+
+        /**
+         * Total size of documents in characters.
+         */
+        private final long size;
+
+        /**
+         * Number of failed operations.
+         */
+        private final long failures;
+
+        /**
+         * Latencies.
+         */
+        @ToString.Exclude
+        private final LatencyHistogram.Snapshot latency;
+
+        /**
+         * Gets the ratio of failed operations.
+         * @return Failure ratio in the range {@code [0;1]}.
+         */
+        public double getFailureRate() {
+            return count == 0?0.0:(double)failures/count;
+        }
+
+        /**
+         * Gets the median latency.
+         * @return Latency in nanoseconds.
+         */
+        public long getP50() {
+            return latency.getValueAtPercentile(50.0);
+        }
+
+        /**
+         * Gets the 99th percentile latency.
+         * @return Latency in nanoseconds.
+         */
+        public long getP99() {
+            return latency.getValueAtPercentile(99.0);
+        }
+
+        /**
+         * Gets the number of documents per second since a previous snapshot.
+         * @param previous Aggregate of previous snapshot.
+         *                 This may be {@code null}.
+         * @param elapsed Time elapsed since previous snapshot in nanoseconds.
+         * @return Documents per second.
+         */
+        public double getCountRate(Entry previous,
+                                   long elapsed) {
+            return rate(count-(previous == null?0:previous.count),elapsed);
+        }
+
+        /**
+         * Gets the number of characters per second since a previous snapshot.
+         * @param previous Aggregate of previous snapshot.
+         *                 This may be {@code null}.
+         * @param elapsed Time elapsed since previous snapshot in nanoseconds.
+         * @return Characters per second.
+         */
+        public double getSizeRate(Entry previous,
+                                  long elapsed) {
+            return rate(size-(previous == null?0:previous.size),elapsed);
+        }
+
+        private static double rate(long delta,
+                                   long elapsed) {
+            return elapsed<=0?0.0:(double)delta*TimeUnit.SECONDS.toNanos(1)/elapsed;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.yelstream.topp.jackson.metrics;
+
+/**
+ * Operation on JSON documents subject to measurement.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum ConversionOperation {
+    /**
+     * Validation of a JSON document against a JSON Schema.
+     */
+    VALIDATE,
+
+    /**
+     * Deserialization of a JSON document into a Jackson POJO.
+     */
+    DESERIALIZE,
+
+    /**
+     * Serialization of a Jackson POJO into a JSON document.
+     */
+    SERIALIZE
+}
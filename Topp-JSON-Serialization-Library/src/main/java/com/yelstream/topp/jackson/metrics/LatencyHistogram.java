@@ -0,0 +1,150 @@
+package com.yelstream.topp.jackson.metrics;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ * <p>
+ *     Buckets are log-linear in the manner of HDR histograms; each power of two is divided into 16 buckets,
+ *     which bounds the relative error of reported values to about 6%.
+ *     Each bucket is a striped {@link LongAdder} created on first use.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of bits of sub-bucket resolution.
+     */
+    private static final int SUB_BUCKET_BITS=4;
+
+    /**
+     * Number of buckets per power of two.
+     */
+    private static final int SUB_BUCKET_COUNT=1<<SUB_BUCKET_BITS;
+
+    /**
+     * Largest duration recorded with full resolution; about 18 minutes.
+     * Larger durations are recorded in the last bucket.
+     */
+    private static final long MAX_VALUE=(1L<<40)-1;
+
+    /**
+     * Number of buckets.
+     */
+    private static final int BUCKET_COUNT=indexOf(MAX_VALUE)+1;
+
+    /**
+     * Buckets.
+     */
+    private final AtomicReferenceArray<LongAdder> buckets=new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    /**
+     * Records a duration.
+     * @param duration Duration in nanoseconds.
+     */
+    public void record(long duration) {
+        int index=indexOf(Math.min(Math.max(duration,0),MAX_VALUE));
+        LongAdder bucket=buckets.get(index);
+        if (bucket == null) {
+            buckets.compareAndSet(index,null,new LongAdder());
+            bucket=buckets.get(index);
+        }
+        bucket.increment();
+    }
+
+    /**
+     * Creates a snapshot of the current counts.
+     * The snapshot is not atomic relative to concurrent recordings.
+     * @return Snapshot.
+     */
+    public Snapshot snapshot() {
+        long[] counts=new long[BUCKET_COUNT];
+        long totalCount=0;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            LongAdder bucket=buckets.get(i);
+            if (bucket!=null) {
+                counts[i]=bucket.sum();
+                totalCount+=counts[i];
+            }
+        }
+        return new Snapshot(counts,totalCount);
+    }
+
+    private static int indexOf(long value) {
+        int index;
+        if (value<SUB_BUCKET_COUNT) {
+            index=(int)value;
+        } else {
+            int shift=(63-Long.numberOfLeadingZeros(value))-SUB_BUCKET_BITS;
+            index=(shift<<SUB_BUCKET_BITS)+(int)(value>>>shift);
+        }
+        return index;
+    }
+
+    private static long highestValueOf(int index) {
+        long value;
+        if (index<SUB_BUCKET_COUNT) {
+            value=index;
+        } else {
+            int shift=(index>>>SUB_BUCKET_BITS)-1;
+            long mantissa=SUB_BUCKET_COUNT+(index&(SUB_BUCKET_COUNT-1));
+            value=((mantissa+1)<<shift)-1;
+        }
+        return value;
+    }
+
+    /**
+     * Immutable snapshot of a histogram.
+     */
+    @AllArgsConstructor(access=AccessLevel.PRIVATE)
+    public static final class Snapshot {
+        /**
+         * Counts per bucket.
+         */
+        private final long[] counts;
+
+        /**
+         * Total number of durations recorded.
+         */
+        @Getter
+        private final long totalCount;
+
+        /**
+         * Gets the duration at a given percentile.
+         * @param percentile Percentile in the range {@code [0;100]}.
+         * @return Duration in nanoseconds.
+         *         This is the highest value of the bucket holding the percentile and is 0 if nothing is recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            long value=0;
+            if (totalCount>0) {
+                long rank=Math.max(1,(long)Math.ceil(Math.min(Math.max(percentile,0.0),100.0)/100.0*totalCount));
+                long cumulativeCount=0;
+                for (int i=0; i<counts.length; i++) {
+                    cumulativeCount+=counts[i];
+                    if (cumulativeCount>=rank) {
+                        value=highestValueOf(i);
+                        break;
+                    }
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Gets the highest duration recorded.
+         * @return Duration in nanoseconds.
+         */
+        public long getMaxValue() {
+            return getValueAtPercentile(100.0);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Metrics on the conversion between JSON documents and Jackson POJOs.
+ * <p>
+ *     Measurements are delivered to a {@link com.yelstream.topp.jackson.metrics.ConversionListener}.
+ *     A lock-free in-memory aggregation is provided by {@link com.yelstream.topp.jackson.metrics.ConversionMetrics}.
+ * </p>
+ */
+package com.yelstream.topp.jackson.metrics;
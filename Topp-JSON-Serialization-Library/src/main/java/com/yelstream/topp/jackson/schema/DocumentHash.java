@@ -0,0 +1,133 @@
+package com.yelstream.topp.jackson.schema;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 128-bit hash of a textual JSON document.
+ * This is immutable.
+ * <p>
+ *     The hash is MurmurHash3 (x64, 128-bit) of the UTF-16LE encoding of the text.
+ *     Characters are read in a single pass; the text is neither encoded nor copied.
+ *     This is not a cryptographic hash.
+ *     Texts colliding may be crafted for any seed; hashes of untrusted texts must be confirmed by comparison of the texts.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class DocumentHash {
+    private static final long C1=0x87c37b91114253d5L;
+    private static final long C2=0x4cf5ad432745937fL;
+
+    /**
+     * Lower 64 bits.
+     */
+    private final long low;
+
+    /**
+     * Upper 64 bits.
+     */
+    private final long high;
+
+    /**
+     * Computes the hash of a text.
+     * @param text Text.
+     * @return Hash.
+     */
+    public static DocumentHash of(CharSequence text) {
+        return of(text,0);
+    }
+
+    /**
+     * Computes the hash of a text using a specific seed.
+     * @param text Text.
+     * @param seed Seed.
+     * @return Hash.
+     */
+    public static DocumentHash of(CharSequence text,
+                                  long seed) {
+        int length=text.length();
+        long h1=seed;
+        long h2=seed;
+
+        int blockEnd=length&~7;
+        for (int i=0; i<blockEnd; i+=8) {
+            long k1=pack(text,i,4);
+            long k2=pack(text,i+4,4);
+
+            h1^=mixK1(k1);
+            h1=Long.rotateLeft(h1,27);
+            h1+=h2;
+            h1=h1*5+0x52dce729;
+
+            h2^=mixK2(k2);
+            h2=Long.rotateLeft(h2,31);
+            h2+=h1;
+            h2=h2*5+0x38495ab5;
+        }
+
+        int remaining=length-blockEnd;
+        if (remaining>4) {
+            h2^=mixK2(pack(text,blockEnd+4,remaining-4));
+        }
+        if (remaining>0) {
+            h1^=mixK1(pack(text,blockEnd,Math.min(remaining,4)));
+        }
+
+        long byteLength=2L*length;
+        h1^=byteLength;
+        h2^=byteLength;
+        h1+=h2;
+        h2+=h1;
+        h1=fmix(h1);
+        h2=fmix(h2);
+        h1+=h2;
+        h2+=h1;
+
+        return new DocumentHash(h1,h2);
+    }
+
+    private static long pack(CharSequence text,
+                             int offset,
+                             int count) {
+        long k=0;
+        for (int i=0; i<count; i++) {
+            k|=((long)text.charAt(offset+i))<<(16*i);
+        }
+        return k;
+    }
+
+    private static long mixK1(long k1) {
+        long k=k1*C1;
+        k=Long.rotateLeft(k,31);
+        return k*C2;
+    }
+
+    private static long mixK2(long k2) {
+        long k=k2*C2;
+        k=Long.rotateLeft(k,33);
+        return k*C1;
+    }
+
+    private static long fmix(long value) {
+        long k=value;
+        k^=k>>>33;
+        k*=0xff51afd7ed558ccdL;
+        k^=k>>>33;
+        k*=0xc4ceb9fe1a85ec53L;
+        k^=k>>>33;
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x",high,low);
+    }
+}
@@ -0,0 +1,32 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Validation of textual JSON documents against a JSON Schema.
+ * <p>
+ *     Implementations may replace the interpreted validation of {@link JsonSchemas#validate(com.networknt.schema.JsonSchema,ObjectMapper,String,ValidationMode)}
+ *     for a {@link JsonSchemaType}; see {@link StreamingSchemas#createValidator(com.networknt.schema.JsonSchema)}.
+ *     Implementations must be thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface DocumentValidator {
+    /**
+     * Validates a JSON document.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    ValidationResult validate(ObjectMapper mapper,
+                              String document,
+                              ValidationMode mode) throws IOException;
+}
@@ -0,0 +1,131 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.SchemaValidatorsConfig;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Utility addressing variants of instances of {@link JsonSchema} which stop validation at the first violation.
+ * <p>
+ *     The fail-fast option of the validator aborts on the first violation found anywhere in the schema,
+ *     including within alternatives expected to fail.
+ *     Schemas using {@code anyOf}, {@code oneOf}, {@code not}, {@code contains}, {@code if}, a union of types or
+ *     a non-local {@code $ref} have no fail-fast variant, and validation of these falls back to full validation.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class FailFastSchemas {
+    /**
+     * Fail-fast variants by schema.
+     * An empty variant indicates that the schema has no fail-fast variant.
+     */
+    private static final Map<JsonSchema,Optional<JsonSchema>> VARIANTS=Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the fail-fast variant of a schema.
+     * Variants are created once per schema.
+     * @param schema JSON Schema.
+     * @return Fail-fast variant.
+     *         This is {@code null} if the schema has no fail-fast variant.
+     */
+    public static JsonSchema getFailFastSchema(JsonSchema schema) {
+        Optional<JsonSchema> variant=VARIANTS.get(schema);
+        if (variant == null) {
+            variant=Optional.ofNullable(createFailFastSchema(schema));
+            VARIANTS.put(schema,variant);
+        }
+        return variant.orElse(null);
+    }
+
+    /**
+     * Creates the fail-fast variant of a schema.
+     * @param schema JSON Schema.
+     * @return Fail-fast variant.
+     *         This is {@code null} if the schema has no fail-fast variant.
+     */
+    public static JsonSchema createFailFastSchema(JsonSchema schema) {
+        JsonSchema variant=null;
+        JsonNode schemaNode=schema.getSchemaNode();
+        if (isFailFastApplicable(schemaNode)) {
+            SchemaValidatorsConfig config=new SchemaValidatorsConfig();
+            config.setFailFast(true);
+            variant=JsonSchemas.createSchemaFactory().getSchema(schema.getCurrentUri(),schemaNode,config);
+        }
+        return variant;
+    }
+
+    /**
+     * Indicates, if fail-fast validation gives the same verdict as full validation for a schema.
+     * @param schemaNode JSON Schema document.
+     * @return Indicates, if fail-fast validation is applicable.
+     */
+    public static boolean isFailFastApplicable(JsonNode schemaNode) {
+        boolean applicable=true;
+        if (schemaNode!=null && schemaNode.isObject()) {
+            Iterator<Map.Entry<String,JsonNode>> fields=schemaNode.fields();
+            while (applicable && fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                JsonNode value=field.getValue();
+                switch (field.getKey()) {
+                    case "anyOf":
+                    case "oneOf":
+                    case "not":
+                    case "contains":
+                    case "if":
+                        applicable=false;
+                        break;
+                    case "type":
+                        applicable=!value.isArray();
+                        break;
+                    case "$ref":
+                        applicable=value.asText().startsWith("#");
+                        break;
+                    case "properties":
+                    case "patternProperties":
+                    case "definitions":
+                    case "$defs":
+                    case "dependencies":
+                    case "allOf": {
+                        Iterator<JsonNode> elements=value.elements();
+                        while (applicable && elements.hasNext()) {
+                            applicable=isFailFastApplicable(elements.next());
+                        }
+                        break;
+                    }
+                    case "items": {
+                        if (value.isArray()) {
+                            Iterator<JsonNode> elements=value.elements();
+                            while (applicable && elements.hasNext()) {
+                                applicable=isFailFastApplicable(elements.next());
+                            }
+                        } else {
+                            applicable=isFailFastApplicable(value);
+                        }
+                        break;
+                    }
+                    case "additionalProperties":
+                    case "additionalItems":
+                    case "propertyNames":
+                    case "then":
+                    case "else":
+                        applicable=isFailFastApplicable(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return applicable;
+    }
+}
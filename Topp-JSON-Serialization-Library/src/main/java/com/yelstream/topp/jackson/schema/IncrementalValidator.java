@@ -0,0 +1,412 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.databind.JsonPointers;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Validation of a JSON tree against a JSON Schema kept up to date as the tree changes,
+ * re-evaluating only the subtrees changed.
+ * <p>
+ *     Validation messages are recorded by the JSON Pointer of the value addressed.
+ *     On change, the messages of the subtrees changed are dropped, and each subtree is validated by the subschema
+ *     resolved for its location through {@code properties}, {@code additionalProperties}, {@code items} and {@code $ref}.
+ *     The keywords {@code required}, {@code additionalProperties} and the bounds of the number of properties and items
+ *     are then re-evaluated for the objects and arrays containing the subtrees.
+ *     The validation messages are the same as those of a full validation by the streaming variant of the schema.
+ * </p>
+ * <p>
+ *     Changes are given by the JSON Pointers of the values added, replaced or removed.
+ *     Inserting or removing array items shifts the items following, and such changes are given by the pointer of the array;
+ *     see {@link #getChangedPointers(JsonNode)}.
+ *     A last segment {@code -} addresses the last item of an array, as appended by JSON Patch.
+ * </p>
+ * <p>
+ *     Schemas without a streaming variant, see {@link StreamingSchemas}, are validated in full on every change.
+ * </p>
+ * <p>
+ *     This is not thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class IncrementalValidator {
+    /**
+     * Keywords applying to the properties and items of objects and arrays as a whole.
+     */
+    private static final Set<String> CONTAINER_KEYWORDS=Set.of("required","additionalProperties",
+                                                               "minProperties","maxProperties","minItems","maxItems");
+
+    /**
+     * JSON Schema.
+     */
+    @Getter
+    private final JsonSchema schema;
+
+    /**
+     * Constraints of the root of JSON documents.
+     * This is {@code null} if the schema has no streaming variant.
+     */
+    private final StreamingConstraint root;
+
+    /**
+     * JSON tree validated.
+     */
+    @Getter
+    private JsonNode node;
+
+    /**
+     * Validation messages by JSON Pointer of the node addressed.
+     */
+    private final NavigableMap<String,List<ValidationMessage>> validationMessagesByPointer=new TreeMap<>();
+
+    /**
+     * Validation messages of a full validation.
+     * This is set only if the schema has no streaming variant.
+     */
+    private Set<ValidationMessage> validationMessages;
+
+    /**
+     * Result of the current validation.
+     * This is created on first access.
+     */
+    private ValidationResult result;
+
+    private IncrementalValidator(JsonSchema schema,
+                                 StreamingConstraint root,
+                                 JsonNode node) {
+        this.schema=schema;
+        this.root=root;
+        this.node=node;
+    }
+
+    /**
+     * Creates an incremental validation of a JSON tree.
+     * The JSON tree is validated in full.
+     * @param schema JSON Schema.
+     * @param node JSON tree.
+     * @return Incremental validation.
+     */
+    public static IncrementalValidator of(JsonSchema schema,
+                                          JsonNode node) {
+        StreamingSchema streamingSchema=StreamingSchemas.getStreamingSchema(schema);
+        IncrementalValidator validator=new IncrementalValidator(schema,streamingSchema == null?null:streamingSchema.getRoot(),node);
+        validator.update(node,Collections.singleton(JsonPointer.empty()));
+        return validator;
+    }
+
+    /**
+     * Gets the result of the current validation.
+     * @return Validation result.
+     */
+    public ValidationResult getResult() {
+        ValidationResult r=result;
+        if (r == null) {
+            Set<ValidationMessage> messages;
+            if (root == null) {
+                messages=validationMessages;
+            } else {
+                messages=new LinkedHashSet<>();
+                for (List<ValidationMessage> list: validationMessagesByPointer.values()) {
+                    messages.addAll(list);
+                }
+                messages=Collections.unmodifiableSet(messages);
+            }
+            r=new ValidationResult(node,messages);
+            result=r;
+        }
+        return r;
+    }
+
+    /**
+     * Indicates, if the current validation is successful.
+     * @return Indicates, if the current validation is successful.
+     */
+    public boolean isValid() {
+        return root == null?validationMessages.isEmpty():validationMessagesByPointer.isEmpty();
+    }
+
+    /**
+     * Re-validates the JSON tree after changes in place.
+     * @param pointers JSON Pointers of the values changed.
+     * @return Validation result.
+     */
+    public ValidationResult update(Collection<JsonPointer> pointers) {
+        return update(node,pointers);
+    }
+
+    /**
+     * Re-validates a new version of the JSON tree.
+     * @param node New version of the JSON tree.
+     *             This differs from the current version only at the values changed.
+     * @param pointers JSON Pointers of the values changed.
+     * @return Validation result.
+     */
+    public ValidationResult update(JsonNode node,
+                                   Collection<JsonPointer> pointers) {
+        this.node=node;
+        result=null;
+        if (root == null) {
+            validationMessages=JsonSchemas.validate(schema,node,ValidationMode.FULL);
+        } else {
+            Map<String,Container> containers=new LinkedHashMap<>();
+            for (JsonPointer pointer: getOutermost(pointers)) {
+                revalidate(pointer,containers);
+            }
+            for (Container container: containers.values()) {
+                revalidate(container);
+            }
+        }
+        return getResult();
+    }
+
+    /**
+     * Gets the changed pointers of JSON Patch operations, for {@link #update(Collection)}.
+     * Insertion and removal of array items, including appending by a last segment {@code -},
+     * are given by the pointer of the array, as they shift the items following.
+     * @param patch JSON Patch document.
+     * @return JSON Pointers of the values changed.
+     */
+    public static List<JsonPointer> getChangedPointers(JsonNode patch) {
+        if (!patch.isArray()) {
+            throw new IllegalArgumentException(String.format("Failure to get changed pointers; patch is not an array; patch is %s!",patch));
+        }
+        List<JsonPointer> pointers=new ArrayList<>();
+        for (JsonNode operation: patch) {
+            String op=operation.path("op").asText();
+            switch (op) {
+                case "add":
+                case "copy":
+                case "remove":
+                    pointers.add(getChangedPointer(operation,"path",true));
+                    break;
+                case "move":
+                    pointers.add(getChangedPointer(operation,"from",true));
+                    pointers.add(getChangedPointer(operation,"path",true));
+                    break;
+                case "replace":
+                    pointers.add(getChangedPointer(operation,"path",false));
+                    break;
+                case "test":
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Failure to get changed pointers; operation is not known; operation is %s!",operation));
+            }
+        }
+        return pointers;
+    }
+
+    private static JsonPointer getChangedPointer(JsonNode operation,
+                                                 String name,
+                                                 boolean shifting) {
+        JsonNode path=operation.get(name);
+        if (path == null || !path.isTextual()) {
+            throw new IllegalArgumentException(String.format("Failure to get changed pointers; %s is not a string; operation is %s!",name,operation));
+        }
+        JsonPointer pointer=JsonPointer.compile(path.textValue());
+        if (shifting) {
+            JsonPointer last=pointer.last();
+            if (last!=null && (last.getMatchingIndex()>=0 || last.getMatchingProperty().equals("-"))) {
+                pointer=pointer.head();
+            }
+        }
+        return pointer;
+    }
+
+    /**
+     * Gets the pointers changed which are not within other pointers changed.
+     * @param pointers JSON Pointers of the values changed.
+     * @return JSON Pointers of the values changed.
+     */
+    private static List<JsonPointer> getOutermost(Collection<JsonPointer> pointers) {
+        Set<JsonPointer> changed=new HashSet<>(pointers);
+        List<JsonPointer> outermost=new ArrayList<>(changed.size());
+        for (JsonPointer pointer: changed) {
+            JsonPointer ancestor=pointer.head();
+            while (ancestor!=null && !changed.contains(ancestor)) {
+                ancestor=ancestor.head();
+            }
+            if (ancestor == null) {
+                outermost.add(pointer);
+            }
+        }
+        return outermost;
+    }
+
+    /**
+     * Re-validates the subtree at a pointer changed.
+     * The subtree is located by descending from the root as long as the values addressed exist.
+     * If a value does not exist, the location of the last value is the location changed.
+     * @param pointer JSON Pointer of the value changed.
+     * @param containers Objects and arrays containing the values changed, to re-validate.
+     */
+    private void revalidate(JsonPointer pointer,
+                            Map<String,Container> containers) {
+        Container parent=null;
+        String location="";
+        String path="$";
+        JsonNode value=node;
+        StreamingConstraint constraint=root.resolve();
+        JsonPointer remaining=pointer;
+        while (!remaining.matches() && value!=null) {
+            String segment=remaining.getMatchingProperty();
+            JsonNode child;
+            StreamingConstraint childConstraint;
+            String childPath;
+            if (value.isObject()) {
+                child=value.get(segment);
+                childConstraint=constraint == null?null:constraint.getPropertyConstraint(segment);
+                childPath=path+"."+segment;
+            } else {
+                if (value.isArray()) {
+                    int index=segment.equals("-")?value.size()-1:remaining.getMatchingIndex();
+                    child=index<0?null:value.get(index);
+                    childConstraint=constraint == null?null:constraint.items;
+                    childPath=path+"["+index+"]";
+                    segment=String.valueOf(index);
+                } else {
+                    break;
+                }
+            }
+            parent=new Container(location,path,value,constraint);
+            location=location+"/"+JsonPointers.escape(segment);
+            path=childPath;
+            value=child;
+            constraint=childConstraint == null?null:childConstraint.resolve();
+            remaining=remaining.tail();
+        }
+        removeSubtree(location);
+        if (value!=null && constraint!=null) {
+            StreamingValidation validation=new StreamingValidation(ValidationMode.FULL,path,location);
+            try (JsonParser parser=value.traverse()) {
+                validation.validate(constraint,parser);
+                addAll(validation);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        if (parent!=null) {
+            containers.put(parent.location,parent);
+        }
+    }
+
+    /**
+     * Re-validates the properties or items of an object or array as a whole.
+     * @param container Object or array.
+     */
+    private void revalidate(Container container) {
+        List<ValidationMessage> messages=validationMessagesByPointer.get(container.location);
+        if (messages!=null) {
+            messages.removeIf(message -> CONTAINER_KEYWORDS.contains(message.getType()));
+            if (messages.isEmpty()) {
+                validationMessagesByPointer.remove(container.location);
+            }
+        }
+        StreamingConstraint constraint=container.constraint;
+        if (constraint!=null && !constraint.rejectAll) {
+            StreamingValidation validation=new StreamingValidation(ValidationMode.FULL,container.path,container.location);
+            JsonNode value=container.node;
+            if (value.isObject() && constraint.objectConstrained) {
+                boolean[] seen=constraint.required == null?null:new boolean[constraint.required.length];
+                Iterator<String> names=value.fieldNames();
+                while (names.hasNext()) {
+                    String name=names.next();
+                    if (seen!=null) {
+                        int index=constraint.indexOfRequired(name);
+                        if (index>=0) {
+                            seen[index]=true;
+                        }
+                    }
+                    constraint.getPropertyConstraint(validation,name);
+                }
+                constraint.validateObject(validation,seen,value.size());
+            } else {
+                if (value.isArray() && constraint.arrayConstrained) {
+                    constraint.validateArray(validation,value.size());
+                }
+            }
+            addAll(validation);
+        }
+    }
+
+    /**
+     * Removes the validation messages of a subtree.
+     * @param location JSON Pointer of the subtree.
+     */
+    private void removeSubtree(String location) {
+        if (location.isEmpty()) {
+            validationMessagesByPointer.clear();
+        } else {
+            validationMessagesByPointer.remove(location);
+            validationMessagesByPointer.subMap(location+"/",true,location+"0",false).clear();  //Note: '0' follows '/'.
+        }
+    }
+
+    /**
+     * Adds the validation messages of a validation by the JSON Pointers of the values in violation.
+     * @param validation Validation.
+     */
+    private void addAll(StreamingValidation validation) {
+        for (ValidationMessage message: validation.getValidationMessages()) {
+            String location=validation.getPointer(message);
+            validationMessagesByPointer.computeIfAbsent(location,k -> new ArrayList<>(1)).add(message);
+        }
+    }
+
+    /**
+     * Object or array containing a value changed.
+     */
+    private static final class Container {
+        /**
+         * JSON Pointer of the object or array.
+         */
+        private final String location;
+
+        /**
+         * Path of the object or array, in the format of validation messages.
+         */
+        private final String path;
+
+        /**
+         * Object or array.
+         */
+        private final JsonNode node;
+
+        /**
+         * Constraints of the object or array.
+         * This may be {@code null}.
+         */
+        private final StreamingConstraint constraint;
+
+        private Container(String location,
+                          String path,
+                          JsonNode node,
+                          StreamingConstraint constraint) {
+            this.location=location;
+            this.path=path;
+            this.node=node;
+            this.constraint=constraint;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package com.yelstream.topp.jackson.schema;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import lombok.With;
 
 import java.io.IOException;
 
@@ -21,7 +22,7 @@ import java.io.IOException;
 @Getter
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor
+@AllArgsConstructor
 public final class JsonSchemaType<T> {
     /**
      * JSON Schema constraint.
@@ -33,8 +34,53 @@ public final class JsonSchemaType<T> {
      */
     private final Class<T> type;
 
+    /**
+     * Mode of validation applied when verifying JSON documents.
+     */
+    @With
+    private final ValidationMode verificationMode;
+
+    /**
+     * Validation of JSON documents in place of the interpreted JSON Schema.
+     * This may be {@code null} in which case JSON documents are validated by the JSON Schema.
+     */
+    @With
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final DocumentValidator validator;
+
+    /**
+     * Cache of validation verdicts.
+     * This may be {@code null} in which case every JSON document is validated.
+     */
+    @With
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ValidationCache validationCache;
+
+    /**
+     * Sampling of JSON documents verified after serialization.
+     * This may be {@code null} in which case every JSON document serialized is verified.
+     */
+    @With
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final VerificationSampler serializationSampler;
+
+    /**
+     * Constructor.
+     * Verification stops at the first violation.
+     * @param schema JSON Schema constraint.
+     * @param type Type of deserialized form of JSON text.
+     */
+    public JsonSchemaType(JsonSchema schema,
+                          Class<T> type) {
+        this(schema,type,ValidationMode.FAIL_FAST,null,null,null);
+    }
+
     /**
      * Validates a JSON document against the JSON Schema.
+     * All validation messages are collected.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
      * @param document JSON document.
      * @return Result of validation.
@@ -42,7 +88,39 @@ public final class JsonSchemaType<T> {
      */
     public ValidationResult validate(ObjectMapper mapper,
                                      String document) throws IOException {
-        return JsonSchemas.validate(schema,mapper,document);
+        return validate(mapper,document,ValidationMode.FULL);
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(ObjectMapper mapper,
+                                     String document,
+                                     ValidationMode mode) throws IOException {
+        ValidationResult result;
+        if (validationCache == null) {
+            result=validateDocument(mapper,document,mode);
+        } else {
+            result=validationCache.validate(schema,this::validateDocument,mapper,document,mode);
+        }
+        return result;
+    }
+
+    private ValidationResult validateDocument(ObjectMapper mapper,
+                                              String document,
+                                              ValidationMode mode) throws IOException {
+        ValidationResult result;
+        if (validator == null) {
+            result=JsonSchemas.validate(schema,mapper,document,mode);
+        } else {
+            result=validator.validate(mapper,document,mode);
+        }
+        return result;
     }
 
     /**
@@ -54,7 +132,7 @@ public final class JsonSchemaType<T> {
      */
     public void verify(ObjectMapper mapper,
                        String document) throws IOException {
-        JsonSchemas.verify(schema,mapper,document);
+        JsonSchemas.verify(this::validate,mapper,document,verificationMode);
     }
 
     /**
@@ -66,7 +144,7 @@ public final class JsonSchemaType<T> {
      */
     public T deserialize(ObjectMapper mapper,
                          String document) throws IOException {
-        return JsonSchemas.deserialize(schema,mapper,document,type);
+        return JsonSchemas.deserialize(schema,this::validate,mapper,document,type,verificationMode);
     }
 
     /**
@@ -82,12 +160,13 @@ public final class JsonSchemaType<T> {
     public T deserialize(ObjectMapper mapper,
                          String document,
                          boolean verify) throws IOException {
-        return JsonSchemas.deserialize(verify?schema:null,mapper,document,type);
+        return JsonSchemas.deserialize(verify?schema:null,this::validate,mapper,document,type,verificationMode);
     }
 
     /**
      * Serializes a Jackson POJO into a JSON document.
-     * If the schema is non-{@code null} then the JSON document is verified after serialization.
+     * If the schema is non-{@code null} then the JSON document is verified after serialization,
+     * subject to the sampling of JSON documents verified, if set.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
      * @param value Jackson POJO.
      * @return JSON document.
@@ -96,7 +175,19 @@ public final class JsonSchemaType<T> {
      */
     public String serialize(ObjectMapper mapper,
                             Object value) throws IOException {
-        return JsonSchemas.serialize(schema,mapper,value);
+        String document;
+        if (serializationSampler == null || schema == null) {
+            document=JsonSchemas.serialize(schema,this::validate,mapper,value,verificationMode);
+        } else {
+            boolean verify=serializationSampler.sample(value.getClass());
+            try {
+                document=JsonSchemas.serialize(verify?schema:null,this::validate,mapper,value,verificationMode);
+            } catch (ValidationException ex) {
+                serializationSampler.recordFailure();
+                throw ex;
+            }
+        }
+        return document;
     }
 
     /**
@@ -112,6 +203,119 @@ public final class JsonSchemaType<T> {
     public String serialize(ObjectMapper mapper,
                             Object value,
                             boolean verify) throws IOException {
-        return JsonSchemas.serialize(verify?schema:null,mapper,value);
+        return JsonSchemas.serialize(verify?schema:null,this::validate,mapper,value,verificationMode);
+    }
+
+    /**
+     * Validates a binary JSON document against the JSON Schema.
+     * All validation messages are collected.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(ObjectMapper mapper,
+                                     byte[] document) throws IOException {
+        return validate(mapper,document,ValidationMode.FULL);
+    }
+
+    /**
+     * Validates a binary JSON document against the JSON Schema.
+     * The JSON document is in the format of the factory of the mapper, such as Smile or CBOR.
+     * The JSON document is validated by the streaming variant of the JSON Schema, if present;
+     * the validation and the cache of validation verdicts of textual JSON documents are not applied.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(ObjectMapper mapper,
+                                     byte[] document,
+                                     ValidationMode mode) throws IOException {
+        return StreamingSchemas.validate(schema,mapper,document,mode);
+    }
+
+    /**
+     * Verifies a binary JSON document against the JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public void verify(ObjectMapper mapper,
+                       byte[] document) throws IOException {
+        JsonSchemas.verify(schema,mapper,document,verificationMode);
+    }
+
+    /**
+     * Deserializes a binary JSON document into a Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     */
+    public T deserialize(ObjectMapper mapper,
+                         byte[] document) throws IOException {
+        return deserialize(mapper,document,true);
+    }
+
+    /**
+     * Deserializes a binary JSON document into a Jackson POJO.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     *               If the JSON Schema is not present then this has no effect.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public T deserialize(ObjectMapper mapper,
+                         byte[] document,
+                         boolean verify) throws IOException {
+        return JsonSchemas.deserialize(verify?schema:null,mapper,document,type,verificationMode);
+    }
+
+    /**
+     * Serializes a Jackson POJO into a binary JSON document.
+     * If the schema is non-{@code null} then the JSON document is verified after serialization,
+     * subject to the sampling of JSON documents verified, if set.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public byte[] serializeToBytes(ObjectMapper mapper,
+                                   Object value) throws IOException {
+        byte[] document;
+        if (serializationSampler == null || schema == null) {
+            document=JsonSchemas.serializeToBytes(schema,mapper,value,verificationMode);
+        } else {
+            boolean verify=serializationSampler.sample(value.getClass());
+            try {
+                document=JsonSchemas.serializeToBytes(verify?schema:null,mapper,value,verificationMode);
+            } catch (ValidationException ex) {
+                serializationSampler.recordFailure();
+                throw ex;
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Serializes a Jackson POJO into a binary JSON document.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     *               If the JSON Schema is not present then this has no effect.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public byte[] serializeToBytes(ObjectMapper mapper,
+                                   Object value,
+                                   boolean verify) throws IOException {
+        return JsonSchemas.serializeToBytes(verify?schema:null,mapper,value,verificationMode);
     }
 }
@@ -2,16 +2,29 @@ package com.yelstream.topp.jackson.schema;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.databind.DocumentFormat;
+import com.yelstream.topp.jackson.databind.JsonProjection;
+import com.yelstream.topp.jackson.databind.MessageLimits;
 import com.yelstream.topp.jackson.databind.ObjectMappers;
+import com.yelstream.topp.jackson.jfr.DeserializationEvent;
+import com.yelstream.topp.jackson.jfr.ParseEvent;
+import com.yelstream.topp.jackson.jfr.SerializationEvent;
+import com.yelstream.topp.jackson.jfr.ValidationEvent;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -60,6 +73,7 @@ public class JsonSchemas {
     /**
      * Validates a JSON documents against JSON-schema.
      * The result of the validation is returned in a controlled manner as the return argument.
+     * All validation messages are collected.
      * @param schema IETF JSON Schema.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
      * @param document JSON document.
@@ -69,14 +83,72 @@ public class JsonSchemas {
     public static ValidationResult validate(JsonSchema schema,
                                             ObjectMapper mapper,
                                             String document) throws IOException {
+        return validate(schema,mapper,document,ValidationMode.FULL);
+    }
+
+    /**
+     * Validates a JSON documents against JSON-schema.
+     * The result of the validation is returned in a controlled manner as the return argument.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static ValidationResult validate(JsonSchema schema,
+                                            ObjectMapper mapper,
+                                            String document,
+                                            ValidationMode mode) throws IOException {
+        ParseEvent parseEvent=new ParseEvent();
+        parseEvent.begin();
         JsonNode node=mapper.readTree(document);
-        Set<ValidationMessage> validationMessages=schema.validate(node);
+        parseEvent.complete(schema,document,node);
+
+        ValidationEvent validationEvent=new ValidationEvent();
+        validationEvent.begin();
+        Set<ValidationMessage> validationMessages=validate(schema,node,mode);
+        validationEvent.complete(schema,document,node,validationMessages.size());
+
         return new ValidationResult(node,validationMessages);
     }
 
+    /**
+     * Validates a JSON tree against JSON-schema.
+     * <p>
+     *     In the fail-fast mode, validation stops at the first violation if the schema has a fail-fast variant;
+     *     see {@link FailFastSchemas}.
+     *     Otherwise, all validation messages are collected and then limited to the maximum number of the mode.
+     * </p>
+     * @param schema IETF JSON Schema.
+     * @param node JSON tree.
+     * @param mode Mode of validation.
+     * @return Validation messages.
+     */
+    public static Set<ValidationMessage> validate(JsonSchema schema,
+                                                  JsonNode node,
+                                                  ValidationMode mode) {
+        Set<ValidationMessage> validationMessages;
+        JsonSchema failFastSchema=mode.isFailFast()?FailFastSchemas.getFailFastSchema(schema):null;
+        if (failFastSchema == null) {
+            validationMessages=mode.limit(schema.validate(node));
+        } else {
+            try {
+                validationMessages=failFastSchema.validate(node);
+            } catch (JsonSchemaException ex) {
+                validationMessages=ex.getValidationMessages();
+                if (validationMessages == null || validationMessages.isEmpty()) {
+                    validationMessages=mode.limit(schema.validate(node));
+                }
+            }
+        }
+        return validationMessages;
+    }
+
     /**
      * Verifies a JSON documents against a JSON Schema.
      * If verification is negative then an exception is thrown.
+     * Verification stops at the first violation.
      * @param schema IETF JSON Schema.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
      * @param document JSON document.
@@ -86,9 +158,46 @@ public class JsonSchemas {
     public static void verify(JsonSchema schema,
                               ObjectMapper mapper,
                               String document) throws IOException {
-        ValidationResult validationResult=validate(schema,mapper,document);
+        verify(schema,mapper,document,ValidationMode.FAIL_FAST);
+    }
+
+    /**
+     * Verifies a JSON documents against a JSON Schema.
+     * If verification is negative then an exception is thrown.
+     * The message of the exception is rendered on first access and is bounded by {@link MessageLimits#getDefault()}.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static void verify(JsonSchema schema,
+                              ObjectMapper mapper,
+                              String document,
+                              ValidationMode mode) throws IOException {
+        verify((m,d,md) -> validate(schema,m,d,md),mapper,document,mode);
+    }
+
+    /**
+     * Verifies a JSON documents using a specific validation.
+     * If verification is negative then an exception is thrown.
+     * @param validator Validation of JSON documents.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    static void verify(DocumentValidator validator,
+                       ObjectMapper mapper,
+                       String document,
+                       ValidationMode mode) throws IOException {
+        ValidationResult validationResult=validator.validate(mapper,document,mode);
         if (!validationResult.isValid()) {
-            throw new ValidationException(String.format("Failure to verify format of JSON; JSON text is %s, validation messages are %s!",document,ValidationMessages.toString(validationResult.getValidationMessages())),validationResult);
+            MessageLimits limits=MessageLimits.getDefault();
+            String excerpt=limits.excerpt(document);
+            throw new ValidationException(() -> String.format("Failure to verify format of JSON; JSON text is %s, validation messages are %s!",excerpt,validationResult.toString(limits)),validationResult);
         }
     }
 
@@ -98,21 +207,25 @@ public class JsonSchemas {
      * If verification is negative then an exception is thrown.
      * @param schema IETF JSON Schema.
      *               This may be {@code null}.
+     * @param validator Validation of JSON documents against the JSON Schema.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
      * @param document JSON document.
+     * @param mode Mode of validation.
      * @return Indicates, if verification has been performed.
      * @throws IOException Thrown in case of errors.
      * @throws ValidationException Thrown in case of validation errors.
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")  //This is nonsense! MSM, 2022-02-10.
     private static boolean conditionalVerify(JsonSchema schema,
+                                             DocumentValidator validator,
                                              ObjectMapper mapper,
-                                             String document) throws IOException {
+                                             String document,
+                                             ValidationMode mode) throws IOException {
         boolean result=false;
         if (schema == null) {
             log.trace("Ignoring validation of document since schema is not set; mapper is {}, JSON text is {}.",mapper.getClass().getName(),document);
         } else {
-            verify(schema,mapper,document);
+            verify(validator,mapper,document,mode);
             result=true;
         }
         return result;
@@ -121,6 +234,7 @@ public class JsonSchemas {
     /**
      * Deserializes a JSON document into a Jackson POJO.
      * If the schema given is non-{@code null} then the JSON document is verified before deserialization.
+     * Verification stops at the first violation.
      * @param <T> Type of Jackson POJO.
      * @param schema IETF JSON Schema.
      *               This may be {@code null}.
@@ -135,15 +249,66 @@ public class JsonSchemas {
                                     ObjectMapper mapper,
                                     String document,
                                     Class<T> type) throws IOException {
-        if (!conditionalVerify(schema,mapper,document)) {
+        return deserialize(schema,mapper,document,type,ValidationMode.FAIL_FAST);
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * If the schema given is non-{@code null} then the JSON document is verified before deserialization.
+     * @param <T> Type of Jackson POJO.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @param mode Mode of validation.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static <T> T deserialize(JsonSchema schema,
+                                    ObjectMapper mapper,
+                                    String document,
+                                    Class<T> type,
+                                    ValidationMode mode) throws IOException {
+        return deserialize(schema,(m,d,md) -> validate(schema,m,d,md),mapper,document,type,mode);
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO using a specific validation.
+     * If the schema given is non-{@code null} then the JSON document is verified before deserialization.
+     * @param <T> Type of Jackson POJO.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param validator Validation of JSON documents against the JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @param mode Mode of validation.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    static <T> T deserialize(JsonSchema schema,
+                             DocumentValidator validator,
+                             ObjectMapper mapper,
+                             String document,
+                             Class<T> type,
+                             ValidationMode mode) throws IOException {
+        if (!conditionalVerify(schema,validator,mapper,document,mode)) {
             log.debug("Ignoring validation of document before deserialization since schema is not set; type is {}.",type.getName());
         }
-        return ObjectMappers.deserialize(mapper,document,type);
+        DeserializationEvent event=new DeserializationEvent();
+        event.begin();
+        T value=ObjectMappers.deserialize(mapper,document,type);
+        event.complete(schema,document,type);
+        return value;
     }
 
     /**
      * Serializes a Jackson POJO into a JSON document.
      * If the schema given is non-{@code null} then the JSON document is verified after serialization.
+     * Verification stops at the first violation.
      * @param schema IETF JSON Schema.
      *               This may be {@code null}.
      * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
@@ -155,10 +320,288 @@ public class JsonSchemas {
     public static String serialize(JsonSchema schema,
                                    ObjectMapper mapper,
                                    Object value) throws IOException {
+        return serialize(schema,mapper,value,ValidationMode.FAIL_FAST);
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * If the schema given is non-{@code null} then the JSON document is verified after serialization.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @param mode Mode of validation.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static String serialize(JsonSchema schema,
+                                   ObjectMapper mapper,
+                                   Object value,
+                                   ValidationMode mode) throws IOException {
+        return serialize(schema,(m,d,md) -> validate(schema,m,d,md),mapper,value,mode);
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document using a specific validation.
+     * If the schema given is non-{@code null} then the JSON document is verified after serialization.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param validator Validation of JSON documents against the JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @param mode Mode of validation.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    static String serialize(JsonSchema schema,
+                            DocumentValidator validator,
+                            ObjectMapper mapper,
+                            Object value,
+                            ValidationMode mode) throws IOException {
+        SerializationEvent event=new SerializationEvent();
+        event.begin();
         String document=ObjectMappers.serialize(mapper,value);
-        if (!conditionalVerify(schema,mapper,document)) {
+        event.complete(schema,document,value.getClass());
+        if (!conditionalVerify(schema,validator,mapper,document,mode)) {
+            log.debug("Ignoring validation of document after serialization since schema is not set; type is {}.",value.getClass().getName());
+        }
+        return document;
+    }
+
+    /**
+     * Validates a binary JSON document against JSON-schema.
+     * The JSON document is in the format of the factory of the mapper, such as Smile or CBOR;
+     * see {@link DocumentFormat}.
+     * The JSON document is validated as a JSON tree,
+     * where binary values are validated as the base64 strings of textual JSON documents.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static ValidationResult validate(JsonSchema schema,
+                                            ObjectMapper mapper,
+                                            byte[] document,
+                                            ValidationMode mode) throws IOException {
+        ParseEvent parseEvent=new ParseEvent();
+        parseEvent.begin();
+        JsonNode node=mapper.readTree(document);
+        parseEvent.complete(schema,document,node);
+
+        ValidationEvent validationEvent=new ValidationEvent();
+        validationEvent.begin();
+        Set<ValidationMessage> validationMessages=validate(schema,toTextual(node),mode);
+        validationEvent.complete(schema,document,node,validationMessages.size());
+
+        return new ValidationResult(node,validationMessages);
+    }
+
+    /**
+     * Replaces the binary values of a JSON tree by their base64 strings, as written to textual JSON documents.
+     * @param node JSON tree.
+     * @return JSON tree.
+     *         This is the tree given if it holds no binary values.
+     */
+    static JsonNode toTextual(JsonNode node) {
+        JsonNode result=node;
+        if (node.isBinary()) {
+            result=TextNode.valueOf(node.asText());
+        } else {
+            if (node.isObject()) {
+                ObjectNode copy=null;
+                Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String,JsonNode> field=fields.next();
+                    JsonNode child=toTextual(field.getValue());
+                    if (child!=field.getValue() && copy == null) {
+                        copy=((ObjectNode)node).objectNode();
+                        copy.setAll((ObjectNode)node);
+                    }
+                    if (copy!=null) {
+                        copy.set(field.getKey(),child);
+                    }
+                }
+                result=copy == null?node:copy;
+            } else {
+                if (node.isArray()) {
+                    ArrayNode copy=null;
+                    for (int i=0; i<node.size(); i++) {
+                        JsonNode child=toTextual(node.get(i));
+                        if (child!=node.get(i) && copy == null) {
+                            copy=((ArrayNode)node).arrayNode();
+                            copy.addAll((ArrayNode)node);
+                        }
+                        if (copy!=null) {
+                            copy.set(i,child);
+                        }
+                    }
+                    result=copy == null?node:copy;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Verifies a binary JSON document against a JSON Schema.
+     * If verification is negative then an exception is thrown.
+     * The JSON document is validated by the streaming variant of the schema, if present; see {@link StreamingSchemas}.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static void verify(JsonSchema schema,
+                              ObjectMapper mapper,
+                              byte[] document,
+                              ValidationMode mode) throws IOException {
+        ValidationResult validationResult=StreamingSchemas.validate(schema,mapper,document,mode);
+        if (!validationResult.isValid()) {
+            MessageLimits limits=MessageLimits.getDefault();
+            String format=mapper.getFactory().getFormatName();
+            throw new ValidationException(() -> String.format("Failure to verify format of JSON; format is %s, document size is %d, validation messages are %s!",format,document.length,validationResult.toString(limits)),validationResult);
+        }
+    }
+
+    /**
+     * Deserializes a binary JSON document into a Jackson POJO.
+     * If the schema given is non-{@code null} then the JSON document is verified before deserialization.
+     * @param <T> Type of Jackson POJO.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param type Type of Jackson POJO.
+     * @param mode Mode of validation.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static <T> T deserialize(JsonSchema schema,
+                                    ObjectMapper mapper,
+                                    byte[] document,
+                                    Class<T> type,
+                                    ValidationMode mode) throws IOException {
+        if (schema == null) {
+            log.debug("Ignoring validation of document before deserialization since schema is not set; type is {}.",type.getName());
+        } else {
+            verify(schema,mapper,document,mode);
+        }
+        DeserializationEvent event=new DeserializationEvent();
+        event.begin();
+        T value=ObjectMappers.deserialize(mapper,document,type);
+        event.complete(schema,document,type);
+        return value;
+    }
+
+    /**
+     * Serializes a Jackson POJO into a binary JSON document.
+     * If the schema given is non-{@code null} then the JSON document is verified after serialization.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param value Jackson POJO.
+     * @param mode Mode of validation.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static byte[] serializeToBytes(JsonSchema schema,
+                                          ObjectMapper mapper,
+                                          Object value,
+                                          ValidationMode mode) throws IOException {
+        SerializationEvent event=new SerializationEvent();
+        event.begin();
+        byte[] document=ObjectMappers.serializeToBytes(mapper,value);
+        event.complete(schema,document,value.getClass());
+        if (schema == null) {
             log.debug("Ignoring validation of document after serialization since schema is not set; type is {}.",value.getClass().getName());
+        } else {
+            verify(schema,mapper,document,mode);
         }
         return document;
     }
+
+    /**
+     * Validates the parts selected by a projection of a JSON document against the JSON Schema limited to these parts.
+     * Subtrees not selected are skipped by the parser, and are neither built nor validated;
+     * see {@link ProjectedSchemas}.
+     * Locations of validation messages are relative to the projected JSON tree.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param projection Projection.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static ValidationResult validate(JsonSchema schema,
+                                            ObjectMapper mapper,
+                                            String document,
+                                            JsonProjection projection,
+                                            ValidationMode mode) throws IOException {
+        ParseEvent parseEvent=new ParseEvent();
+        parseEvent.begin();
+        JsonNode node=projection.readTree(mapper,document);
+        parseEvent.complete(schema,document,node);
+
+        JsonSchema projectedSchema=ProjectedSchemas.getProjectedSchema(schema,projection);
+        ValidationEvent validationEvent=new ValidationEvent();
+        validationEvent.begin();
+        Set<ValidationMessage> validationMessages=validate(projectedSchema,node,mode);
+        validationEvent.complete(schema,document,node,validationMessages.size());
+
+        return new ValidationResult(node,validationMessages);
+    }
+
+    /**
+     * Deserializes the parts selected by a projection of a JSON document into a Jackson POJO.
+     * Subtrees not selected are skipped by the parser, and are neither bound nor validated.
+     * If the schema given is non-{@code null} then the parts selected are verified before deserialization against
+     * the JSON Schema limited to these parts; see {@link ProjectedSchemas}.
+     * @param <T> Type of Jackson POJO.
+     * @param schema IETF JSON Schema.
+     *               This may be {@code null}.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param projection Projection.
+     * @param type Type of Jackson POJO.
+     * @param mode Mode of validation.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public static <T> T deserialize(JsonSchema schema,
+                                    ObjectMapper mapper,
+                                    String document,
+                                    JsonProjection projection,
+                                    Class<T> type,
+                                    ValidationMode mode) throws IOException {
+        T value;
+        if (schema == null) {
+            log.debug("Ignoring validation of document before deserialization since schema is not set; type is {}.",type.getName());
+            DeserializationEvent event=new DeserializationEvent();
+            event.begin();
+            value=ObjectMappers.deserialize(mapper,document,type,projection);
+            event.complete(schema,document,type);
+        } else {
+            ValidationResult validationResult=validate(schema,mapper,document,projection,mode);
+            if (!validationResult.isValid()) {
+                MessageLimits limits=MessageLimits.getDefault();
+                String excerpt=limits.excerpt(document);
+                throw new ValidationException(() -> String.format("Failure to verify format of JSON; JSON text is %s, projection is %s, validation messages are %s!",excerpt,projection,validationResult.toString(limits)),validationResult);
+            }
+            DeserializationEvent event=new DeserializationEvent();
+            event.begin();
+            value=ObjectMappers.convert(mapper,validationResult.getNode(),type);
+            event.complete(schema,document,type);
+        }
+        return value;
+    }
 }
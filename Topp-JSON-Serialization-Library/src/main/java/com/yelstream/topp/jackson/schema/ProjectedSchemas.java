@@ -0,0 +1,407 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.yelstream.topp.jackson.databind.JsonProjection;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Utility addressing variants of instances of {@link JsonSchema} limited to the parts of JSON documents selected by
+ * a {@link JsonProjection}.
+ * <p>
+ *     Subschemas of the parts selected are kept as they are, while subschemas of parts not selected are left out.
+ *     Properties selected by name and matched by {@code patternProperties} or {@code additionalProperties}
+ *     are declared with the subschemas applying to them, and items selected by index are given by a tuple of
+ *     the subschemas applying to them, each projected by the selection of its property or item.
+ *     Keywords constraining objects and arrays on the path to the parts selected are kept as far as they hold for
+ *     the parts selected;
+ *     {@code required} is limited to the properties selected or on the path to the parts selected, which are kept
+ *     by the projection whatever their values, and {@code minProperties}, {@code minItems},
+ *     {@code uniqueItems} and {@code dependencies} are kept only if all properties or items are selected.
+ *     On the path to the parts selected, local {@code $ref} are inlined, {@code oneOf} is relaxed to {@code anyOf},
+ *     and {@code not}, {@code if}, {@code enum}, {@code const} and non-local {@code $ref} are left out.
+ * </p>
+ * <p>
+ *     A JSON document valid against a schema has its projection valid against the projected schema.
+ *     The opposite does not hold, since the parts not selected are not validated.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class ProjectedSchemas {
+    /**
+     * Projected variants by schema and projection.
+     */
+    private static final Map<JsonSchema,Map<JsonProjection,JsonSchema>> VARIANTS=Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Keywords of the root kept in projected variants, since subschemas selected may refer to these.
+     */
+    private static final String[] ROOT_KEYWORDS={"$schema","$id","definitions","$defs"};
+
+    /**
+     * Gets the projected variant of a schema.
+     * Variants are created once per schema and projection.
+     * @param schema JSON Schema.
+     * @param projection Projection.
+     * @return Projected variant.
+     */
+    public static JsonSchema getProjectedSchema(JsonSchema schema,
+                                                JsonProjection projection) {
+        Map<JsonProjection,JsonSchema> variants=VARIANTS.computeIfAbsent(schema,k -> new ConcurrentHashMap<>());
+        return variants.computeIfAbsent(projection,k -> createProjectedSchema(schema,k));
+    }
+
+    /**
+     * Creates the projected variant of a schema.
+     * @param schema JSON Schema.
+     * @param projection Projection.
+     * @return Projected variant.
+     */
+    public static JsonSchema createProjectedSchema(JsonSchema schema,
+                                                   JsonProjection projection) {
+        JsonNode schemaNode=createProjectedSchemaNode(schema.getSchemaNode(),projection);
+        return JsonSchemas.createSchemaFactory().getSchema(schema.getCurrentUri(),schemaNode,new SchemaValidatorsConfig());
+    }
+
+    /**
+     * Creates the projected variant of a JSON Schema document.
+     * @param schemaNode JSON Schema document.
+     * @param projection Projection.
+     * @return Projected JSON Schema document.
+     */
+    public static JsonNode createProjectedSchemaNode(JsonNode schemaNode,
+                                                     JsonProjection projection) {
+        JsonNode projectedNode=project(schemaNode,projection.getRoot(),schemaNode);
+        if (projectedNode.isObject() && projectedNode!=schemaNode) {
+            ObjectNode objectNode=(ObjectNode)projectedNode;
+            for (String keyword: ROOT_KEYWORDS) {
+                JsonNode value=schemaNode.get(keyword);
+                if (value!=null && !objectNode.has(keyword)) {
+                    objectNode.set(keyword,value);
+                }
+            }
+        }
+        return projectedNode;
+    }
+
+    private static JsonNode project(JsonNode schemaNode,
+                                    JsonProjection.Node selection,
+                                    JsonNode rootNode) {
+        JsonNode projectedNode;
+        if (selection.isSelected() || !schemaNode.isObject()) {
+            projectedNode=schemaNode;
+        } else {
+            JsonNode node=resolve(schemaNode,rootNode);
+            if (node == null) {
+                projectedNode=BooleanNode.TRUE;
+            } else {
+                if (node.isObject()) {
+                    projectedNode=projectObject(node,selection,rootNode);
+                } else {
+                    projectedNode=node;
+                }
+            }
+        }
+        return projectedNode;
+    }
+
+    /**
+     * Resolves local references of a subschema.
+     * @param schemaNode Subschema.
+     * @param rootNode JSON Schema document.
+     * @return Subschema referred.
+     *         This is {@code null} if the reference is not local, or is circular.
+     */
+    private static JsonNode resolve(JsonNode schemaNode,
+                                    JsonNode rootNode) {
+        JsonNode node=schemaNode;
+        Set<String> references=new HashSet<>();
+        while (node!=null && node.isObject() && node.has("$ref")) {
+            String reference=node.get("$ref").asText();
+            if (!reference.startsWith("#") || !references.add(reference)) {
+                node=null;
+            } else {
+                JsonNode target=rootNode.at(JsonPointer.compile(reference.substring(1)));
+                node=target.isMissingNode()?null:target;
+            }
+        }
+        return node;
+    }
+
+    private static ObjectNode projectObject(JsonNode schemaNode,
+                                            JsonProjection.Node selection,
+                                            JsonNode rootNode) {
+        ObjectNode projectedNode=JsonNodeFactory.instance.objectNode();
+        JsonProjection.Node wildcard=selection.getWildcard();
+        ArrayNode alternatives=null;
+        Iterator<Map.Entry<String,JsonNode>> fields=schemaNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String,JsonNode> field=fields.next();
+            String keyword=field.getKey();
+            JsonNode value=field.getValue();
+            switch (keyword) {
+                case "properties": {
+                    ObjectNode properties=JsonNodeFactory.instance.objectNode();
+                    Iterator<Map.Entry<String,JsonNode>> propertyFields=value.fields();
+                    while (propertyFields.hasNext()) {
+                        Map.Entry<String,JsonNode> propertyField=propertyFields.next();
+                        JsonProjection.Node child=selection.getChild(propertyField.getKey());
+                        if (child!=null) {
+                            properties.set(propertyField.getKey(),project(propertyField.getValue(),child,rootNode));
+                        }
+                    }
+                    projectedNode.set(keyword,properties);
+                    break;
+                }
+                case "required": {
+                    ArrayNode required=JsonNodeFactory.instance.arrayNode();
+                    for (JsonNode name: value) {
+                        if (selection.getChild(name.asText())!=null) {
+                            required.add(name);
+                        }
+                    }
+                    if (!required.isEmpty()) {
+                        projectedNode.set(keyword,required);
+                    }
+                    break;
+                }
+                case "patternProperties": {
+                    ObjectNode patternProperties=JsonNodeFactory.instance.objectNode();
+                    Iterator<Map.Entry<String,JsonNode>> patternFields=value.fields();
+                    while (patternFields.hasNext()) {
+                        Map.Entry<String,JsonNode> patternField=patternFields.next();
+                        JsonNode patternSchema=wildcard == null?BooleanNode.TRUE:project(patternField.getValue(),wildcard,rootNode);  //Note: Patterns are kept for additionalProperties to apply as before.
+                        patternProperties.set(patternField.getKey(),patternSchema);
+                    }
+                    projectedNode.set(keyword,patternProperties);
+                    break;
+                }
+                case "additionalProperties": {
+                    if (value.isBoolean()) {
+                        projectedNode.set(keyword,value);
+                    } else {
+                        if (wildcard!=null) {
+                            projectedNode.set(keyword,project(value,wildcard,rootNode));
+                        }
+                    }
+                    break;
+                }
+                case "items":
+                case "additionalItems":
+                    break;
+                case "contains": {
+                    if (wildcard!=null) {
+                        projectedNode.set(keyword,project(value,wildcard,rootNode));
+                    }
+                    break;
+                }
+                case "minProperties":
+                case "minItems": {
+                    if (wildcard!=null) {
+                        projectedNode.set(keyword,value);
+                    }
+                    break;
+                }
+                case "uniqueItems":
+                case "dependencies": {
+                    if (wildcard!=null && wildcard.isSelected()) {
+                        projectedNode.set(keyword,value);
+                    }
+                    break;
+                }
+                case "allOf":
+                case "anyOf": {
+                    projectedNode.set(keyword,projectBranches(value,selection,rootNode));
+                    break;
+                }
+                case "oneOf": {
+                    alternatives=projectBranches(value,selection,rootNode);
+                    break;
+                }
+                case "$ref":
+                case "not":
+                case "if":
+                case "then":
+                case "else":
+                case "enum":
+                case "const":
+                case "unevaluatedProperties":
+                case "unevaluatedItems":
+                    break;
+                default:
+                    projectedNode.set(keyword,value);
+                    break;
+            }
+        }
+        projectNamedProperties(schemaNode,selection,rootNode,projectedNode);
+        projectItems(schemaNode,selection,rootNode,projectedNode);
+        if (alternatives!=null) {
+            if (!projectedNode.has("anyOf")) {
+                projectedNode.set("anyOf",alternatives);
+            } else {
+                ObjectNode alternativesNode=JsonNodeFactory.instance.objectNode();
+                alternativesNode.set("anyOf",alternatives);
+                if (projectedNode.has("allOf")) {
+                    ((ArrayNode)projectedNode.get("allOf")).add(alternativesNode);
+                } else {
+                    projectedNode.putArray("allOf").add(alternativesNode);
+                }
+            }
+        }
+        return projectedNode;
+    }
+
+    /**
+     * Projects the subschemas of properties selected by name, which are not declared by {@code properties},
+     * by the subschemas of the patterns matching their names, or else by {@code additionalProperties}.
+     * The subschemas are set as declared properties, since the subschemas of patterns and additional properties
+     * are projected by the selection of all properties only.
+     * @param schemaNode Subschema of objects.
+     * @param selection Selection of objects.
+     * @param rootNode JSON Schema document.
+     * @param projectedNode Projected subschema, updated.
+     */
+    private static void projectNamedProperties(JsonNode schemaNode,
+                                               JsonProjection.Node selection,
+                                               JsonNode rootNode,
+                                               ObjectNode projectedNode) {
+        JsonNode declared=schemaNode.path("properties");
+        JsonNode patternProperties=schemaNode.path("patternProperties");
+        JsonNode additionalProperties=schemaNode.get("additionalProperties");
+        for (Map.Entry<String,JsonProjection.Node> child: selection.getChildren().entrySet()) {
+            String name=child.getKey();
+            if (!declared.has(name)) {
+                ArrayNode subschemas=JsonNodeFactory.instance.arrayNode();
+                Iterator<Map.Entry<String,JsonNode>> patternFields=patternProperties.fields();
+                while (patternFields.hasNext()) {
+                    Map.Entry<String,JsonNode> patternField=patternFields.next();
+                    if (Pattern.compile(patternField.getKey()).matcher(name).find()) {
+                        subschemas.add(project(patternField.getValue(),child.getValue(),rootNode));
+                    }
+                }
+                if (subschemas.isEmpty() && additionalProperties!=null) {
+                    subschemas.add(project(additionalProperties,child.getValue(),rootNode));
+                }
+                if (!subschemas.isEmpty()) {
+                    JsonNode subschema;
+                    if (subschemas.size() == 1) {
+                        subschema=subschemas.get(0);
+                    } else {
+                        subschema=JsonNodeFactory.instance.objectNode().set("allOf",subschemas);
+                    }
+                    ObjectNode properties=projectedNode.has("properties")?(ObjectNode)projectedNode.get("properties"):projectedNode.putObject("properties");
+                    properties.set(name,subschema);
+                }
+            }
+        }
+    }
+
+    /**
+     * Projects the subschemas of items.
+     * Items selected by index are given by a tuple of subschemas, each projected by the selection of its item.
+     * If not all items are selected, the items selected by index are renumbered by the projection,
+     * and the tuple follows the order of their indexes.
+     * @param schemaNode Subschema of arrays.
+     * @param selection Selection of arrays.
+     * @param rootNode JSON Schema document.
+     * @param projectedNode Projected subschema, updated.
+     */
+    private static void projectItems(JsonNode schemaNode,
+                                     JsonProjection.Node selection,
+                                     JsonNode rootNode,
+                                     ObjectNode projectedNode) {
+        JsonNode items=schemaNode.get("items");
+        JsonNode additionalItems=schemaNode.get("additionalItems");
+        JsonProjection.Node wildcard=selection.getWildcard();
+        SortedSet<Integer> indexes=new TreeSet<>();
+        for (String name: selection.getChildren().keySet()) {
+            if (name.matches("0|[1-9][0-9]{0,8}")) {
+                indexes.add(Integer.parseInt(name));
+            }
+        }
+        if (wildcard!=null) {
+            int length=Math.max(indexes.isEmpty()?0:indexes.last()+1,items!=null && items.isArray()?items.size():0);
+            if (items!=null && (length>0 || items.isArray())) {
+                ArrayNode tuple=projectedNode.putArray("items");
+                for (int i=0; i<length; i++) {
+                    tuple.add(project(getItemSchema(items,additionalItems,i),selection.getChild(i),rootNode));
+                }
+                JsonNode rest=items.isArray()?additionalItems:items;
+                if (rest!=null) {
+                    projectedNode.set("additionalItems",project(rest,wildcard,rootNode));
+                }
+            } else {
+                if (items!=null) {
+                    projectedNode.set("items",project(items,wildcard,rootNode));
+                }
+            }
+        } else {
+            if (!indexes.isEmpty() && items!=null) {
+                ArrayNode tuple=projectedNode.putArray("items");
+                for (int index: indexes) {
+                    tuple.add(project(getItemSchema(items,additionalItems,index),selection.getChild(index),rootNode));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the subschema of an item.
+     * @param items Value of {@code items}.
+     *              This may be {@code null}.
+     * @param additionalItems Value of {@code additionalItems}.
+     *                        This may be {@code null}.
+     * @param index Index of item.
+     * @return Subschema.
+     */
+    private static JsonNode getItemSchema(JsonNode items,
+                                          JsonNode additionalItems,
+                                          int index) {
+        JsonNode subschema;
+        if (items == null) {
+            subschema=BooleanNode.TRUE;
+        } else {
+            if (items.isArray()) {
+                if (index<items.size()) {
+                    subschema=items.get(index);
+                } else {
+                    subschema=additionalItems == null?BooleanNode.TRUE:additionalItems;
+                }
+            } else {
+                subschema=items;
+            }
+        }
+        return subschema;
+    }
+
+    private static ArrayNode projectBranches(JsonNode branches,
+                                             JsonProjection.Node selection,
+                                             JsonNode rootNode) {
+        ArrayNode projectedBranches=JsonNodeFactory.instance.arrayNode();
+        for (JsonNode branch: branches) {
+            projectedBranches.add(project(branch,selection,rootNode));
+        }
+        return projectedBranches;
+    }
+}
@@ -0,0 +1,641 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.SchemaValidatorsConfig;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry of named, versioned JSON Schemas loaded from a directory or from the classpath.
+ * <p>
+ *     Schemas are named by the file names of their documents, such as {@code catalog.schema.json}.
+ *     The current version of a schema is published by an atomic swap of a reference, after the schema has been
+ *     fully loaded, including its references and its streaming and fail-fast variants.
+ *     Readers never block, and an operation holding a version keeps using it to the end.
+ *     Previous versions are kept for a drain period after being replaced, and are then released.
+ * </p>
+ * <p>
+ *     The documents of a directory are watched for changes, and changed documents are reloaded in the background
+ *     after a short delay, which coalesces the events of a document being written.
+ *     Documents that fail to load, or are deleted, leave the current version in place.
+ *     Documents on the classpath are loaded on first access, and are reloaded on request only.
+ * </p>
+ * <p>
+ *     Documents referred by {@code $ref} by relative file name, such as {@code common.schema.json#/definitions/id},
+ *     directly or through other documents referred, are dependencies of a schema.
+ *     A schema is reloaded together with the documents it depends on, and a new version is published
+ *     if the document of the schema or any of its dependencies has changed.
+ *     Documents referred by absolute URI or by a path of directories are not tracked.
+ * </p>
+ * <p>
+ *     This is thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Slf4j
+public final class SchemaRegistry implements AutoCloseable {
+    /**
+     * Default period of keeping previous versions after being replaced.
+     */
+    public static final Duration DEFAULT_DRAIN_PERIOD=Duration.ofMinutes(5);
+
+    /**
+     * Default delay of reloading changed documents.
+     */
+    public static final Duration DEFAULT_RELOAD_DELAY=Duration.ofMillis(200);
+
+    /**
+     * Suffix of names of JSON Schema documents watched in directories.
+     */
+    public static final String DOCUMENT_SUFFIX=".json";
+
+    /**
+     * Mapper reading JSON Schema documents.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Directory of JSON Schema documents.
+     * This is {@code null} if documents are loaded from the classpath.
+     */
+    @Getter
+    private final Path directory;
+
+    /**
+     * Class loader of JSON Schema documents.
+     * This is {@code null} if documents are loaded from a directory.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Prefix of resource names of JSON Schema documents on the classpath.
+     */
+    private final String resourcePrefix;
+
+    /**
+     * Period of keeping previous versions after being replaced.
+     */
+    @Getter
+    private final Duration drainPeriod;
+
+    /**
+     * Delay of reloading changed documents.
+     */
+    @Getter
+    private final Duration reloadDelay;
+
+    /**
+     * Schemas by name.
+     */
+    private final Map<String,Entry> entries=new ConcurrentHashMap<>();
+
+    /**
+     * Reloads pending by name.
+     */
+    private final Map<String,ScheduledFuture<?>> pendingReloads=new ConcurrentHashMap<>();
+
+    /**
+     * Executor of reloads and drains.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Watch of the directory.
+     * This is {@code null} if documents are loaded from the classpath.
+     */
+    private final WatchService watchService;
+
+    private SchemaRegistry(Path directory,
+                           ClassLoader classLoader,
+                           String resourcePrefix,
+                           Duration drainPeriod,
+                           Duration reloadDelay,
+                           WatchService watchService) {
+        this.directory=directory;
+        this.classLoader=classLoader;
+        this.resourcePrefix=resourcePrefix;
+        this.drainPeriod=drainPeriod;
+        this.reloadDelay=reloadDelay;
+        this.watchService=watchService;
+        this.executor=Executors.newSingleThreadScheduledExecutor(runnable->{
+            Thread thread=new Thread(runnable,"schema-registry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a registry of the JSON Schema documents of a directory.
+     * The documents present are loaded, and the directory is watched for changes.
+     * @param directory Directory of JSON Schema documents.
+     * @return Registry.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static SchemaRegistry ofDirectory(Path directory) throws IOException {
+        return ofDirectory(directory,DEFAULT_DRAIN_PERIOD,DEFAULT_RELOAD_DELAY);
+    }
+
+    /**
+     * Creates a registry of the JSON Schema documents of a directory.
+     * The documents present are loaded, and the directory is watched for changes.
+     * @param directory Directory of JSON Schema documents.
+     * @param drainPeriod Period of keeping previous versions after being replaced.
+     * @param reloadDelay Delay of reloading changed documents.
+     * @return Registry.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static SchemaRegistry ofDirectory(Path directory,
+                                             Duration drainPeriod,
+                                             Duration reloadDelay) throws IOException {
+        Path absoluteDirectory=directory.toAbsolutePath().normalize();
+        if (!Files.isDirectory(absoluteDirectory)) {
+            throw new IOException(String.format("Failure to create schema registry; directory is %s!",absoluteDirectory));
+        }
+        WatchService watchService=absoluteDirectory.getFileSystem().newWatchService();
+        SchemaRegistry registry=new SchemaRegistry(absoluteDirectory,null,null,drainPeriod,reloadDelay,watchService);
+        try {
+            absoluteDirectory.register(watchService,StandardWatchEventKinds.ENTRY_CREATE,StandardWatchEventKinds.ENTRY_MODIFY,StandardWatchEventKinds.ENTRY_DELETE);
+            for (String name: registry.listDirectory()) {
+                registry.getEntry(name);
+            }
+        } catch (IOException|RuntimeException ex) {
+            registry.close();
+            throw ex;
+        }
+        Thread watcher=new Thread(registry::watch,"schema-registry-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return registry;
+    }
+
+    /**
+     * Creates a registry of JSON Schema documents on the classpath.
+     * @param resourcePrefix Prefix of resource names of JSON Schema documents, such as {@code schema/}.
+     * @return Registry.
+     */
+    public static SchemaRegistry ofClasspath(String resourcePrefix) {
+        return ofClasspath(SchemaRegistry.class.getClassLoader(),resourcePrefix,DEFAULT_DRAIN_PERIOD);
+    }
+
+    /**
+     * Creates a registry of JSON Schema documents on the classpath.
+     * @param classLoader Class loader of JSON Schema documents.
+     * @param resourcePrefix Prefix of resource names of JSON Schema documents, such as {@code schema/}.
+     * @param drainPeriod Period of keeping previous versions after being replaced.
+     * @return Registry.
+     */
+    public static SchemaRegistry ofClasspath(ClassLoader classLoader,
+                                             String resourcePrefix,
+                                             Duration drainPeriod) {
+        return new SchemaRegistry(null,classLoader,resourcePrefix,drainPeriod,DEFAULT_RELOAD_DELAY,null);
+    }
+
+    /**
+     * Gets the current version of a schema.
+     * A schema not yet loaded is loaded by the calling thread.
+     * @param name Name of schema.
+     * @return Current version.
+     * @throws IllegalArgumentException Thrown in case of the schema not being present.
+     * @throws UncheckedIOException Thrown in case of errors loading the schema.
+     */
+    public SchemaVersion getVersion(String name) {
+        return getEntry(name).current.get();
+    }
+
+    /**
+     * Gets the current JSON Schema of a schema.
+     * @param name Name of schema.
+     * @return JSON Schema.
+     * @throws IllegalArgumentException Thrown in case of the schema not being present.
+     * @throws UncheckedIOException Thrown in case of errors loading the schema.
+     */
+    public JsonSchema getSchema(String name) {
+        return getVersion(name).getSchema();
+    }
+
+    /**
+     * Gets a specific version of a schema.
+     * @param name Name of schema.
+     * @param version Number of version.
+     * @return Version.
+     *         This is {@code null} if the version is not current, and has been drained or never existed.
+     */
+    public SchemaVersion getVersion(String name,
+                                    int version) {
+        SchemaVersion result=null;
+        for (SchemaVersion schemaVersion: getVersions(name)) {
+            if (schemaVersion.getVersion() == version) {
+                result=schemaVersion;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the versions kept of a schema.
+     * @param name Name of schema.
+     * @return Versions, starting with the current version, followed by previous versions being drained.
+     *         This is empty if the schema is not loaded.
+     */
+    public List<SchemaVersion> getVersions(String name) {
+        List<SchemaVersion> versions=new ArrayList<>();
+        Entry entry=entries.get(name);
+        if (entry!=null) {
+            versions.add(entry.current.get());
+            for (Retirement retirement: entry.retirements) {
+                versions.add(retirement.version);
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Gets the names of the schemas loaded.
+     * @return Names of schemas.
+     */
+    public Set<String> getNames() {
+        return new TreeSet<>(entries.keySet());
+    }
+
+    /**
+     * Reloads a schema from its JSON Schema document, together with the schemas loaded depending on it.
+     * A new version is published only if the document or any of its dependencies has changed.
+     * @param name Name of schema.
+     * @return Current version.
+     * @throws IOException Thrown in case of errors.
+     * @throws IllegalArgumentException Thrown in case of the schema not being present.
+     */
+    public SchemaVersion reload(String name) throws IOException {
+        SchemaVersion version=reloadEntry(name);
+        for (Map.Entry<String,Entry> dependent: entries.entrySet()) {
+            if (dependent.getValue().dependencies.containsKey(name)) {
+                reloadEntry(dependent.getKey());
+            }
+        }
+        return version;
+    }
+
+    private SchemaVersion reloadEntry(String name) throws IOException {
+        SchemaVersion version;
+        Entry entry=entries.get(name);
+        if (entry == null) {
+            version=getVersion(name);
+        } else {
+            synchronized (entry) {
+                version=entry.current.get();
+                Document document=read(name);
+                if (document == null) {
+                    log.info("Keeping schema since its document is not present; name is {}, version is {}.",name,version.getVersion());
+                } else {
+                    Map<String,DocumentHash> dependencies=getDependencies(name,document);
+                    if (!document.hash.equals(version.getHash()) || !dependencies.equals(entry.dependencies)) {
+                        SchemaVersion previous=version;
+                        version=new SchemaVersion(name,previous.getVersion()+1,document.location,document.hash,compile(document),Instant.now());
+                        entry.current.set(version);
+                        entry.dependencies=dependencies;
+                        entry.retirements.addFirst(new Retirement(previous,System.nanoTime()));
+                        executor.schedule(() -> drain(entry),drainPeriod.toNanos(),TimeUnit.NANOSECONDS);
+                        log.info("Published schema; name is {}, version is {}, previous version is {}.",name,version.getVersion(),previous.getVersion());
+                    }
+                }
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Stops watching for changes.
+     * Versions published remain in use by their holders.
+     */
+    @Override
+    public void close() {
+        if (watchService!=null) {
+            try {
+                watchService.close();
+            } catch (IOException ex) {
+                log.warn("Failure to close watch of schema directory; directory is {}!",directory,ex);
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    private Entry getEntry(String name) {
+        Entry entry=entries.get(name);
+        if (entry == null) {
+            entry=entries.computeIfAbsent(name,this::createEntry);
+        }
+        return entry;
+    }
+
+    private Entry createEntry(String name) {
+        Document document;
+        SchemaVersion version;
+        Map<String,DocumentHash> dependencies;
+        try {
+            document=read(name);
+            if (document == null) {
+                throw new IllegalArgumentException(String.format("Failure to get schema; name is %s, schema is not present!",name));
+            }
+            dependencies=getDependencies(name,document);
+            version=new SchemaVersion(name,1,document.location,document.hash,compile(document),Instant.now());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Published schema; name is {}, version is {}.",name,version.getVersion());
+        return new Entry(version,dependencies);
+    }
+
+    /**
+     * Gets the documents a JSON Schema document depends on, directly or through other documents referred.
+     * @param name Name of schema.
+     * @param document Document.
+     * @return Hashes of documents by name.
+     * @throws IOException Thrown in case of errors.
+     */
+    private Map<String,DocumentHash> getDependencies(String name,
+                                                     Document document) throws IOException {
+        Map<String,DocumentHash> dependencies=new HashMap<>();
+        Deque<Document> pending=new ArrayDeque<>();
+        pending.add(document);
+        while (!pending.isEmpty()) {
+            Set<String> references=new HashSet<>();
+            collectReferences(MAPPER.readTree(pending.remove().text),references);
+            for (String reference: references) {
+                String dependency=getReferencedName(reference);
+                if (dependency!=null && !dependency.equals(name) && !dependencies.containsKey(dependency)) {
+                    Document dependencyDocument=read(dependency);
+                    if (dependencyDocument!=null) {
+                        dependencies.put(dependency,dependencyDocument.hash);
+                        pending.add(dependencyDocument);
+                    }
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    private static void collectReferences(JsonNode node,
+                                          Set<String> references) {
+        if (node.isObject()) {
+            JsonNode reference=node.get("$ref");
+            if (reference!=null && reference.isTextual()) {
+                references.add(reference.textValue());
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child: node) {
+                collectReferences(child,references);
+            }
+        }
+    }
+
+    /**
+     * Gets the name of the schema referred by a reference.
+     * @param reference Reference.
+     * @return Name of schema.
+     *         This is {@code null} if the reference is local, absolute or contains a path of directories.
+     */
+    private static String getReferencedName(String reference) {
+        int index=reference.indexOf('#');
+        String path=index<0?reference:reference.substring(0,index);
+        if (path.startsWith("./")) {
+            path=path.substring(2);
+        }
+        return path.isEmpty() || path.contains("/") || path.contains(":")?null:path;
+    }
+
+    /**
+     * Reads a JSON Schema document.
+     * @param name Name of schema.
+     * @return Document.
+     *         This is {@code null} if the document is not present.
+     * @throws IOException Thrown in case of errors.
+     */
+    private Document read(String name) throws IOException {
+        Document document=null;
+        if (directory!=null) {
+            Path path=directory.resolve(name).normalize();
+            if (!directory.equals(path.getParent())) {
+                throw new IllegalArgumentException(String.format("Failure to get schema; name is %s, directory is %s!",name,directory));
+            }
+            if (Files.isRegularFile(path)) {
+                document=new Document(path.toUri(),Files.readString(path,StandardCharsets.UTF_8));
+            }
+        } else {
+            URL url=classLoader.getResource(resourcePrefix+name);
+            if (url!=null) {
+                try (InputStream in=url.openStream()) {
+                    document=new Document(url.toURI(),new String(in.readAllBytes(),StandardCharsets.UTF_8));
+                } catch (URISyntaxException ex) {
+                    throw new IOException(String.format("Failure to read schema; name is %s, resource is %s!",name,url),ex);
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Compiles a JSON Schema document, including its references and its streaming and fail-fast variants.
+     * @param document Document.
+     * @return JSON Schema.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static JsonSchema compile(Document document) throws IOException {
+        JsonSchema schema;
+        JsonNode schemaNode=MAPPER.readTree(document.text);
+        try {
+            schema=JsonSchemas.createSchemaFactory().getSchema(document.location,schemaNode,new SchemaValidatorsConfig());
+            schema.initializeValidators();
+            StreamingSchemas.getStreamingSchema(schema);
+            FailFastSchemas.getFailFastSchema(schema);
+        } catch (RuntimeException ex) {
+            throw new IOException(String.format("Failure to compile schema; location is %s!",document.location),ex);
+        }
+        return schema;
+    }
+
+    private List<String> listDirectory() throws IOException {
+        List<String> names=new ArrayList<>();
+        try (DirectoryStream<Path> paths=Files.newDirectoryStream(directory,"*"+DOCUMENT_SUFFIX)) {
+            for (Path path: paths) {
+                if (Files.isRegularFile(path)) {
+                    names.add(path.getFileName().toString());
+                }
+            }
+        }
+        return names;
+    }
+
+    private void watch() {
+        boolean watching=true;
+        try {
+            while (watching) {
+                WatchKey key=watchService.take();
+                for (WatchEvent<?> event: key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        for (String name: listDirectory()) {
+                            scheduleReload(name);
+                        }
+                    } else {
+                        String name=event.context().toString();
+                        if (name.endsWith(DOCUMENT_SUFFIX)) {
+                            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                                log.info("Keeping schema after deletion of its document; name is {}.",name);
+                            } else {
+                                scheduleReload(name);
+                            }
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("Stopping watch of schema directory since it is no longer accessible; directory is {}.",directory);
+                    watching=false;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            log.debug("Stopping watch of schema directory since the registry is closed; directory is {}.",directory);
+        } catch (IOException ex) {
+            log.warn("Stopping watch of schema directory; directory is {}!",directory,ex);
+        }
+    }
+
+    private void scheduleReload(String name) {
+        pendingReloads.compute(name,(k,pending) -> {
+            if (pending!=null) {
+                pending.cancel(false);
+            }
+            return executor.schedule(() -> reloadInBackground(k),reloadDelay.toNanos(),TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void reloadInBackground(String name) {
+        pendingReloads.remove(name);
+        try {
+            reload(name);
+        } catch (IOException|RuntimeException ex) {
+            log.warn("Keeping current version of schema after failure to reload; name is {}!",name,ex);
+        }
+    }
+
+    private void drain(Entry entry) {
+        long now=System.nanoTime();
+        Retirement retirement;
+        while ((retirement=entry.retirements.peekLast())!=null && now-retirement.retired>=drainPeriod.toNanos()) {
+            if (entry.retirements.removeLastOccurrence(retirement)) {
+                log.debug("Drained schema; name is {}, version is {}.",retirement.version.getName(),retirement.version.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Schema by name.
+     */
+    private static final class Entry {
+        /**
+         * Current version.
+         */
+        private final AtomicReference<SchemaVersion> current;
+
+        /**
+         * Hashes of the documents the current version depends on, by name.
+         */
+        private volatile Map<String,DocumentHash> dependencies;
+
+        /**
+         * Previous versions being drained, latest first.
+         */
+        private final Deque<Retirement> retirements=new ConcurrentLinkedDeque<>();
+
+        private Entry(SchemaVersion version,
+                      Map<String,DocumentHash> dependencies) {
+            this.current=new AtomicReference<>(version);
+            this.dependencies=dependencies;
+        }
+    }
+
+    /**
+     * Previous version being drained.
+     */
+    @AllArgsConstructor
+    private static final class Retirement {
+        /**
+         * Version.
+         */
+        private final SchemaVersion version;
+
+        /**
+         * Time of replacement, in nanoseconds.
+         */
+        private final long retired;
+    }
+
+    /**
+     * JSON Schema document read.
+     */
+    private static final class Document {
+        /**
+         * Location.
+         */
+        private final URI location;
+
+        /**
+         * Text.
+         */
+        private final String text;
+
+        /**
+         * Hash of text.
+         */
+        private final DocumentHash hash;
+
+        private Document(URI location,
+                         String text) {
+            this.location=location;
+            this.text=text;
+            this.hash=DocumentHash.of(text);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.networknt.schema.JsonSchema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Version of a named JSON Schema published by a {@link SchemaRegistry}.
+ * This is immutable.
+ * <p>
+ *     The JSON Schema of a version is fully loaded before it is published, and does not change.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class SchemaVersion {
+    /**
+     * Name of JSON Schema.
+     */
+    private final String name;
+
+    /**
+     * Number of version.
+     * Numbers start at 1 and increase by 1 per version published under the same name.
+     */
+    private final int version;
+
+    /**
+     * Location of JSON Schema document.
+     */
+    private final URI location;
+
+    /**
+     * Hash of JSON Schema document.
+     */
+    @ToString.Exclude
+    private final DocumentHash hash;
+
+    /**
+     * JSON Schema.
+     */
+    @ToString.Exclude
+    private final JsonSchema schema;
+
+    /**
+     * Time of publication.
+     */
+    private final Instant published;
+}
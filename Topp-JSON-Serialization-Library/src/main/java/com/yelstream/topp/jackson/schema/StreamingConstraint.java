@@ -0,0 +1,530 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.ValidatorTypeCode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Constraints of a single JSON Schema object compiled for validation of parser tokens.
+ * <p>
+ *     Constraints are created by {@link StreamingSchema} and are immutable once compiled.
+ *     Constraints of keywords applicable to other types of values than the value validated are ignored.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class StreamingConstraint {
+    static final int TYPE_NULL=1;
+    static final int TYPE_BOOLEAN=1<<1;
+    static final int TYPE_OBJECT=1<<2;
+    static final int TYPE_ARRAY=1<<3;
+    static final int TYPE_NUMBER=1<<4;
+    static final int TYPE_STRING=1<<5;
+    static final int TYPE_INTEGER=1<<6;
+
+    /**
+     * Marker of the JSON value {@code null} in sets of values.
+     */
+    static final Object NULL_VALUE=new Object();
+
+    /**
+     * Marker of objects and arrays, which never equal values of {@code enum} and {@code const} of scalars.
+     */
+    private static final Object CONTAINER_VALUE=new Object();
+
+    /**
+     * JSON Schema object compiled.
+     */
+    JsonNode schemaNode;
+
+    /**
+     * JSON Pointer of the JSON Schema object, as a URI fragment.
+     */
+    String schemaPath;
+
+    /**
+     * Referenced constraints replacing this.
+     * This may be {@code null}.
+     */
+    StreamingConstraint ref;
+
+    /**
+     * Indicates, if every value is invalid.
+     */
+    boolean rejectAll;
+
+    /**
+     * Types allowed.
+     * This is 0 if all types are allowed.
+     */
+    int types;
+
+    /**
+     * Constraints by name of properties.
+     * This may be {@code null}.
+     */
+    Map<String,StreamingConstraint> properties;
+
+    /**
+     * Names of required properties.
+     * This may be {@code null}.
+     */
+    String[] required;
+
+    /**
+     * Indicates, if properties not listed are allowed.
+     */
+    boolean additionalPropertiesAllowed=true;
+
+    /**
+     * Constraints of properties not listed.
+     * This may be {@code null}.
+     */
+    StreamingConstraint additionalProperties;
+
+    /**
+     * Constraints of array items.
+     * This may be {@code null}.
+     */
+    StreamingConstraint items;
+
+    /**
+     * Values allowed.
+     * This may be {@code null}.
+     */
+    Set<Object> enumValues;
+
+    /**
+     * Textual representation of values allowed, as rendered in validation messages.
+     */
+    String enumText;
+
+    /**
+     * Constant value required.
+     * This may be {@code null}.
+     */
+    Object constValue;
+
+    /**
+     * Bounds of numbers.
+     * These may be {@code null}.
+     */
+    BigDecimal minimum;
+    BigDecimal maximum;
+    BigDecimal exclusiveMinimum;
+    BigDecimal exclusiveMaximum;
+
+    /**
+     * Bounds of the length of strings in code points.
+     * These are -1 if not set.
+     */
+    int minLength=-1;
+    int maxLength=-1;
+
+    /**
+     * Pattern which strings must contain a match of.
+     * This may be {@code null}.
+     */
+    Pattern pattern;
+
+    /**
+     * Bounds of the number of items of arrays and properties of objects.
+     * These are -1 if not set.
+     */
+    int minItems=-1;
+    int maxItems=-1;
+    int minProperties=-1;
+    int maxProperties=-1;
+
+    /**
+     * Indicates, if the text of string values is needed.
+     */
+    boolean textNeeded;
+
+    /**
+     * Indicates, if the properties of object values are constrained.
+     */
+    boolean objectConstrained;
+
+    /**
+     * Indicates, if the items of array values are constrained.
+     */
+    boolean arrayConstrained;
+
+    /**
+     * Gets the constraints in effect, following references.
+     * @return Constraints.
+     */
+    StreamingConstraint resolve() {
+        StreamingConstraint constraint=this;
+        while (constraint.ref!=null) {
+            constraint=constraint.ref;
+        }
+        return constraint;
+    }
+
+    /**
+     * Gets the constraints of a property.
+     * Reports a violation if the property is not allowed.
+     * @param validation Validation in progress.
+     * @param name Name of property.
+     * @return Constraints.
+     *         This is {@code null} if the value of the property is unconstrained.
+     */
+    StreamingConstraint getPropertyConstraint(StreamingValidation validation,
+                                              String name) {
+        StreamingConstraint constraint=properties == null?null:properties.get(name);
+        if (constraint == null) {
+            if (additionalPropertiesAllowed) {
+                constraint=additionalProperties;
+            } else {
+                validation.reportParent("additionalProperties",ValidatorTypeCode.ADDITIONAL_PROPERTIES,schemaPath+"/additionalProperties",name);
+            }
+        }
+        return constraint;
+    }
+
+    /**
+     * Gets the constraints of a property without reporting properties not allowed.
+     * @param name Name of property.
+     * @return Constraints.
+     *         This is {@code null} if the value of the property is unconstrained or the property is not allowed.
+     */
+    StreamingConstraint getPropertyConstraint(String name) {
+        StreamingConstraint constraint=properties == null?null:properties.get(name);
+        if (constraint == null && additionalPropertiesAllowed) {
+            constraint=additionalProperties;
+        }
+        return constraint;
+    }
+
+    /**
+     * Validates the current token of a parser as the start of a value.
+     * @param validation Validation in progress.
+     * @param parser Parser.
+     * @param token Current token.
+     * @throws IOException Thrown in case of errors.
+     */
+    void validateValue(StreamingValidation validation,
+                       JsonParser parser,
+                       JsonToken token) throws IOException {
+        if (rejectAll) {
+            validation.report("false",ValidatorTypeCode.FALSE,schemaPath+"/false");
+        } else {
+            boolean binary=token == JsonToken.VALUE_EMBEDDED_OBJECT && parser.getEmbeddedObject() instanceof byte[];
+            int type=binary?TYPE_STRING:getType(token);
+            if (types!=0 && (types&type) == 0 && !(type == TYPE_INTEGER && (types&TYPE_NUMBER)!=0)) {
+                reportType(validation,type);
+            }
+            switch (token) {
+                case VALUE_STRING:
+                    validateString(validation,parser);
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    validateNumber(validation,parser);
+                    break;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    validateScalar(validation,token == JsonToken.VALUE_TRUE);
+                    break;
+                case VALUE_NULL:
+                    validateScalar(validation,NULL_VALUE);
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    validateScalar(validation,CONTAINER_VALUE);
+                    break;
+                case VALUE_EMBEDDED_OBJECT:
+                    if (binary) {
+                        validateString(validation,parser);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void reportType(StreamingValidation validation,
+                            int type) {
+        JsonNode typeNode=schemaNode.get("type");
+        if (typeNode.isArray()) {
+            validation.report("type",ValidatorTypeCode.UNION_TYPE,schemaPath+"/type",getTypeName(type),toText(typeNode));
+        } else {
+            validation.report("type",ValidatorTypeCode.TYPE,schemaPath+"/type",getTypeName(type),typeNode.asText());
+        }
+    }
+
+    private void validateString(StreamingValidation validation,
+                                JsonParser parser) throws IOException {
+        if (textNeeded) {
+            String text=parser.currentToken() == JsonToken.VALUE_STRING?parser.getText():Base64Variants.getDefaultVariant().encode(parser.getBinaryValue());
+            if (minLength>=0 || maxLength>=0) {
+                int length=text.codePointCount(0,text.length());
+                if (minLength>=0 && length<minLength) {
+                    validation.report("minLength",ValidatorTypeCode.MIN_LENGTH,schemaPath+"/minLength",String.valueOf(minLength));
+                }
+                if (maxLength>=0 && length>maxLength) {
+                    validation.report("maxLength",ValidatorTypeCode.MAX_LENGTH,schemaPath+"/maxLength",String.valueOf(maxLength));
+                }
+            }
+            if (pattern!=null && !pattern.matcher(text).find()) {
+                validation.report("pattern",ValidatorTypeCode.PATTERN,schemaPath+"/pattern",pattern.pattern());
+            }
+            validateScalar(validation,text);
+        }
+    }
+
+    private void validateNumber(StreamingValidation validation,
+                                JsonParser parser) throws IOException {
+        if (minimum!=null || maximum!=null || exclusiveMinimum!=null || exclusiveMaximum!=null || enumValues!=null || constValue!=null) {
+            BigDecimal value=parser.getDecimalValue();
+            if (minimum!=null && value.compareTo(minimum)<0) {
+                validation.report("minimum",ValidatorTypeCode.MINIMUM,schemaPath+"/minimum",schemaNode.get("minimum").asText());
+            }
+            if (maximum!=null && value.compareTo(maximum)>0) {
+                validation.report("maximum",ValidatorTypeCode.MAXIMUM,schemaPath+"/maximum",schemaNode.get("maximum").asText());
+            }
+            if (exclusiveMinimum!=null && value.compareTo(exclusiveMinimum)<=0) {
+                validation.report("exclusiveMinimum",ValidatorTypeCode.EXCLUSIVE_MINIMUM,schemaPath+"/exclusiveMinimum",schemaNode.get("exclusiveMinimum").asText());
+            }
+            if (exclusiveMaximum!=null && value.compareTo(exclusiveMaximum)>=0) {
+                validation.report("exclusiveMaximum",ValidatorTypeCode.EXCLUSIVE_MAXIMUM,schemaPath+"/exclusiveMaximum",schemaNode.get("exclusiveMaximum").asText());
+            }
+            if (enumValues!=null || constValue!=null) {
+                validateScalar(validation,toValue(value));
+            }
+        }
+    }
+
+    private void validateScalar(StreamingValidation validation,
+                                Object value) {
+        if (enumValues!=null && !enumValues.contains(value)) {
+            validation.report("enum",ValidatorTypeCode.ENUM,schemaPath+"/enum",enumText);
+        }
+        if (constValue!=null && !constValue.equals(value)) {
+            validation.report("const",ValidatorTypeCode.CONST,schemaPath+"/const",schemaNode.get("const").asText());
+        }
+    }
+
+    /**
+     * Validates the properties of an object when the end of the object is reached.
+     * @param validation Validation in progress.
+     * @param seen Indicates, which of the required properties are present.
+     *             This may be {@code null}.
+     * @param count Number of properties.
+     */
+    void validateObject(StreamingValidation validation,
+                        boolean[] seen,
+                        int count) {
+        if (required!=null) {
+            for (int i=0; i<required.length; i++) {
+                if (!seen[i]) {
+                    validation.report("required",ValidatorTypeCode.REQUIRED,schemaPath+"/required",required[i]);
+                }
+            }
+        }
+        if (minProperties>=0 && count<minProperties) {
+            validation.report("minProperties",ValidatorTypeCode.MIN_PROPERTIES,schemaPath+"/minProperties",String.valueOf(minProperties));
+        }
+        if (maxProperties>=0 && count>maxProperties) {
+            validation.report("maxProperties",ValidatorTypeCode.MAX_PROPERTIES,schemaPath+"/maxProperties",String.valueOf(maxProperties));
+        }
+    }
+
+    /**
+     * Validates the items of an array when the end of the array is reached.
+     * @param validation Validation in progress.
+     * @param count Number of items.
+     */
+    void validateArray(StreamingValidation validation,
+                       int count) {
+        if (minItems>=0 && count<minItems) {
+            validation.report("minItems",ValidatorTypeCode.MIN_ITEMS,schemaPath+"/minItems",String.valueOf(minItems));
+        }
+        if (maxItems>=0 && count>maxItems) {
+            validation.report("maxItems",ValidatorTypeCode.MAX_ITEMS,schemaPath+"/maxItems",String.valueOf(maxItems));
+        }
+    }
+
+    /**
+     * Gets the index of a required property.
+     * @param name Name of property.
+     * @return Index of property.
+     *         This is -1 if the property is not required.
+     */
+    int indexOfRequired(String name) {
+        int index=-1;
+        if (required!=null) {
+            for (int i=0; i<required.length; i++) {
+                if (required[i].equals(name)) {
+                    index=i;
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the comparable form of a scalar JSON value.
+     * @param node Scalar JSON value.
+     * @return Comparable form.
+     */
+    static Object toValue(JsonNode node) {
+        Object value;
+        if (node.isNull()) {
+            value=NULL_VALUE;
+        } else {
+            if (node.isBoolean()) {
+                value=node.booleanValue();
+            } else {
+                if (node.isNumber()) {
+                    value=toValue(node.decimalValue());
+                } else {
+                    value=node.textValue();
+                }
+            }
+        }
+        return value;
+    }
+
+    private static Object toValue(BigDecimal number) {
+        return number.stripTrailingZeros();
+    }
+
+    /**
+     * Creates the set of comparable forms of scalar JSON values.
+     * @param nodes Scalar JSON values.
+     * @return Comparable forms.
+     */
+    static Set<Object> toValues(JsonNode nodes) {
+        Set<Object> values=new HashSet<>();
+        for (JsonNode node: nodes) {
+            values.add(toValue(node));
+        }
+        return values;
+    }
+
+    /**
+     * Creates the textual representation of scalar JSON values.
+     * @param nodes Scalar JSON values.
+     * @return Textual representation.
+     */
+    static String toText(JsonNode nodes) {
+        StringBuilder sb=new StringBuilder("[");
+        for (JsonNode node: nodes) {
+            if (sb.length()>1) {
+                sb.append(", ");
+            }
+            sb.append(node.asText());
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Gets the type flag of the name of a JSON Schema type.
+     * @param name Name of type.
+     * @return Type flag.
+     *         This is 0 if the name is unknown.
+     */
+    static int getType(String name) {
+        int type;
+        switch (name) {
+            case "null":
+                type=TYPE_NULL;
+                break;
+            case "boolean":
+                type=TYPE_BOOLEAN;
+                break;
+            case "object":
+                type=TYPE_OBJECT;
+                break;
+            case "array":
+                type=TYPE_ARRAY;
+                break;
+            case "number":
+                type=TYPE_NUMBER;
+                break;
+            case "string":
+                type=TYPE_STRING;
+                break;
+            case "integer":
+                type=TYPE_INTEGER;
+                break;
+            default:
+                type=0;
+                break;
+        }
+        return type;
+    }
+
+    private static int getType(JsonToken token) {
+        int type;
+        switch (token) {
+            case START_OBJECT:
+                type=TYPE_OBJECT;
+                break;
+            case START_ARRAY:
+                type=TYPE_ARRAY;
+                break;
+            case VALUE_STRING:
+                type=TYPE_STRING;
+                break;
+            case VALUE_NUMBER_INT:
+                type=TYPE_INTEGER;
+                break;
+            case VALUE_NUMBER_FLOAT:
+                type=TYPE_NUMBER;
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                type=TYPE_BOOLEAN;
+                break;
+            default:
+                type=TYPE_NULL;
+                break;
+        }
+        return type;
+    }
+
+    private static String getTypeName(int type) {
+        String name;
+        switch (type) {
+            case TYPE_OBJECT:
+                name="object";
+                break;
+            case TYPE_ARRAY:
+                name="array";
+                break;
+            case TYPE_STRING:
+                name="string";
+                break;
+            case TYPE_INTEGER:
+                name="integer";
+                break;
+            case TYPE_NUMBER:
+                name="number";
+                break;
+            case TYPE_BOOLEAN:
+                name="boolean";
+                break;
+            default:
+                name="null";
+                break;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,65 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * JSON Schema compiled for validation of JSON documents directly from parser tokens, without building a JSON tree.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link StreamingSchemas} for schemas using supported keywords only.
+ *     Validation uses memory proportional to the depth of the document.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class StreamingSchema {
+    /**
+     * JSON Schema compiled.
+     */
+    @Getter
+    private final JsonSchema schema;
+
+    /**
+     * Constraints of the root of JSON documents.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final StreamingConstraint root;
+
+    /**
+     * Validates the next JSON value read from a parser.
+     * On return, the parser is positioned at the last token of the value,
+     * unless validation stopped early due to the maximum number of validation messages of the mode.
+     * <p>
+     *     Empty input is validated as a missing JSON node, as by validation of a JSON tree.
+     * </p>
+     * @param parser Parser.
+     * @param mode Mode of validation.
+     * @return Validation messages.
+     * @throws IOException Thrown in case of errors.
+     */
+    public Set<ValidationMessage> validate(JsonParser parser,
+                                           ValidationMode mode) throws IOException {
+        Set<ValidationMessage> validationMessages;
+        JsonToken token=parser.nextToken();
+        if (token == null) {
+            validationMessages=JsonSchemas.validate(schema,MissingNode.getInstance(),mode);
+        } else {
+            StreamingValidation validation=new StreamingValidation(mode);
+            validationMessages=validation.validate(root,parser,token);
+        }
+        return validationMessages;
+    }
+}
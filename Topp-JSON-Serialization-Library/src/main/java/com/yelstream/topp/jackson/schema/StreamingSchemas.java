@@ -0,0 +1,496 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.jfr.ValidationEvent;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Utility addressing instances of {@link StreamingSchema}.
+ * <p>
+ *     Supported keywords are {@code type}, {@code properties}, {@code required}, {@code additionalProperties},
+ *     {@code items} given as a single schema, {@code enum} and {@code const} of scalar values,
+ *     {@code minimum}, {@code maximum}, {@code exclusiveMinimum}, {@code exclusiveMaximum},
+ *     {@code minLength}, {@code maxLength}, {@code pattern}, {@code minItems}, {@code maxItems},
+ *     {@code minProperties}, {@code maxProperties} and local {@code $ref} without validation keywords as siblings.
+ *     Schemas using other validation keywords have no streaming variant, and validation of these falls back to
+ *     validation of a JSON tree.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Slf4j
+@UtilityClass
+public class StreamingSchemas {
+    /**
+     * Streaming variants by schema.
+     * An empty variant indicates that the schema has no streaming variant.
+     */
+    private static final Map<JsonSchema,Optional<StreamingSchema>> VARIANTS=Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the streaming variant of a schema.
+     * Variants are created once per schema.
+     * @param schema JSON Schema.
+     * @return Streaming variant.
+     *         This is {@code null} if the schema has no streaming variant.
+     */
+    public static StreamingSchema getStreamingSchema(JsonSchema schema) {
+        Optional<StreamingSchema> variant=VARIANTS.get(schema);
+        if (variant == null) {
+            variant=Optional.ofNullable(createStreamingSchema(schema));
+            VARIANTS.put(schema,variant);
+        }
+        return variant.orElse(null);
+    }
+
+    /**
+     * Creates the streaming variant of a schema.
+     * @param schema JSON Schema.
+     * @return Streaming variant.
+     *         This is {@code null} if the schema has no streaming variant.
+     */
+    public static StreamingSchema createStreamingSchema(JsonSchema schema) {
+        Compiler compiler=new Compiler(schema.getSchemaNode());
+        StreamingConstraint root=compiler.compile();
+        StreamingSchema streamingSchema=null;
+        if (root == null) {
+            log.debug("Streaming validation is not applicable; schema is {}, keyword is {}.",schema.getCurrentUri(),compiler.unsupported);
+        } else {
+            streamingSchema=new StreamingSchema(schema,root);
+        }
+        return streamingSchema;
+    }
+
+    /**
+     * Validates a JSON document against JSON-schema without building a JSON tree, if the schema has a streaming variant.
+     * Otherwise, the JSON document is validated as a JSON tree.
+     * <p>
+     *     The JSON tree of the result is parsed on first access only.
+     * </p>
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static ValidationResult validate(JsonSchema schema,
+                                            ObjectMapper mapper,
+                                            String document,
+                                            ValidationMode mode) throws IOException {
+        ValidationResult result;
+        StreamingSchema streamingSchema=getStreamingSchema(schema);
+        if (streamingSchema == null) {
+            result=JsonSchemas.validate(schema,mapper,document,mode);
+        } else {
+            ValidationEvent event=new ValidationEvent();
+            event.begin();
+            Set<ValidationMessage> validationMessages;
+            try (JsonParser parser=mapper.createParser(document)) {
+                validationMessages=streamingSchema.validate(parser,mode);
+            }
+            event.complete(schema,document,null,validationMessages.size());
+            result=ValidationResult.deferred(mapper,document,validationMessages);
+        }
+        return result;
+    }
+
+    /**
+     * Validates a JSON document read from a stream against JSON-schema without building a JSON tree,
+     * if the schema has a streaming variant.
+     * Otherwise, the JSON document is read into a JSON tree and validated.
+     * The stream is not closed.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param input Stream of JSON document.
+     * @param mode Mode of validation.
+     * @return Validation messages.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static Set<ValidationMessage> validate(JsonSchema schema,
+                                                  ObjectMapper mapper,
+                                                  InputStream input,
+                                                  ValidationMode mode) throws IOException {
+        Set<ValidationMessage> validationMessages;
+        StreamingSchema streamingSchema=getStreamingSchema(schema);
+        if (streamingSchema == null) {
+            JsonNode node=mapper.readTree(input);
+            validationMessages=JsonSchemas.validate(schema,node,mode);
+        } else {
+            try (JsonParser parser=mapper.createParser(input)) {
+                parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                validationMessages=streamingSchema.validate(parser,mode);
+            }
+        }
+        return validationMessages;
+    }
+
+    /**
+     * Validates a binary JSON document against JSON-schema without building a JSON tree,
+     * if the schema has a streaming variant.
+     * Otherwise, the JSON document is validated as a JSON tree.
+     * The JSON document is in the format of the factory of the mapper, such as Smile or CBOR.
+     * <p>
+     *     The JSON tree of the result is parsed on first access only.
+     * </p>
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static ValidationResult validate(JsonSchema schema,
+                                            ObjectMapper mapper,
+                                            byte[] document,
+                                            ValidationMode mode) throws IOException {
+        ValidationResult result;
+        StreamingSchema streamingSchema=getStreamingSchema(schema);
+        if (streamingSchema == null) {
+            result=JsonSchemas.validate(schema,mapper,document,mode);
+        } else {
+            ValidationEvent event=new ValidationEvent();
+            event.begin();
+            Set<ValidationMessage> validationMessages;
+            try (JsonParser parser=mapper.createParser(document)) {
+                validationMessages=streamingSchema.validate(parser,mode);
+            }
+            event.complete(schema,document,null,validationMessages.size());
+            result=ValidationResult.deferred(mapper,document,validationMessages);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a validation of JSON documents which uses the streaming variant of a schema, if present.
+     * This may be set on a {@link JsonSchemaType}.
+     * @param schema IETF JSON Schema.
+     * @return Validation of JSON documents.
+     */
+    public static DocumentValidator createValidator(JsonSchema schema) {
+        return (mapper,document,mode) -> validate(schema,mapper,document,mode);
+    }
+
+    /**
+     * Compilation of a JSON Schema document into constraints.
+     * This is not thread-safe.
+     */
+    private static final class Compiler {
+        /**
+         * Validation keywords which are not supported.
+         */
+        private static final Set<String> UNSUPPORTED_KEYWORDS=Set.of("allOf","anyOf","oneOf","not","if","then","else",
+                                                                     "dependencies","dependentRequired","dependentSchemas",
+                                                                     "patternProperties","propertyNames","additionalItems",
+                                                                     "contains","minContains","maxContains","uniqueItems",
+                                                                     "multipleOf","format","unevaluatedProperties","unevaluatedItems",
+                                                                     "readOnly","writeOnly","nullable",
+                                                                     "$recursiveRef","$dynamicRef","$anchor");
+
+        /**
+         * Keywords which may be siblings of {@code $ref} without being validated.
+         */
+        private static final Set<String> REF_ANNOTATIONS=Set.of("$ref","definitions","$defs","$schema","$id","$comment",
+                                                                "title","description","default","examples");
+
+        /**
+         * Root of JSON Schema document.
+         */
+        private final JsonNode rootNode;
+
+        /**
+         * Constraints by JSON Schema object.
+         */
+        private final Map<JsonNode,StreamingConstraint> constraints=new IdentityHashMap<>();
+
+        /**
+         * First keyword which is not supported.
+         * This is {@code null} if all keywords are supported.
+         */
+        private String unsupported;
+
+        private Compiler(JsonNode rootNode) {
+            this.rootNode=rootNode;
+        }
+
+        /**
+         * Compiles the JSON Schema document.
+         * @return Constraints of the root.
+         *         This is {@code null} if the schema uses keywords not supported.
+         */
+        private StreamingConstraint compile() {
+            StreamingConstraint root=compile(rootNode,"#");
+            if (unsupported == null) {
+                for (StreamingConstraint constraint: constraints.values()) {
+                    int steps=0;
+                    StreamingConstraint c=constraint;
+                    while (c.ref!=null && steps<=constraints.size()) {
+                        c=c.ref;
+                        steps++;
+                    }
+                    if (c.ref!=null) {
+                        unsupported="$ref";
+                        break;
+                    }
+                }
+            }
+            return unsupported == null?root:null;
+        }
+
+        private StreamingConstraint compile(JsonNode node,
+                                            String schemaPath) {
+            StreamingConstraint constraint=constraints.get(node);
+            if (constraint == null) {
+                constraint=new StreamingConstraint();
+                constraint.schemaNode=node;
+                constraint.schemaPath=schemaPath;
+                constraints.put(node,constraint);
+                if (node.isBoolean()) {
+                    constraint.rejectAll=!node.booleanValue();
+                } else {
+                    if (node.isObject()) {
+                        compileObject(node,schemaPath,constraint);
+                    } else {
+                        unsupported(schemaPath);
+                    }
+                }
+            }
+            return constraint;
+        }
+
+        private void compileObject(JsonNode node,
+                                   String schemaPath,
+                                   StreamingConstraint constraint) {
+            JsonNode refNode=node.get("$ref");
+            if (refNode!=null) {
+                Iterator<String> names=node.fieldNames();
+                while (unsupported == null && names.hasNext()) {
+                    String name=names.next();
+                    if (!REF_ANNOTATIONS.contains(name)) {
+                        unsupported(schemaPath+"/"+name);
+                    }
+                }
+                compileRef(refNode.asText(),schemaPath,constraint);
+            } else {
+                Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+                while (unsupported == null && fields.hasNext()) {
+                    Map.Entry<String,JsonNode> field=fields.next();
+                    compileKeyword(field.getKey(),field.getValue(),schemaPath+"/"+field.getKey(),node,constraint);
+                }
+                constraint.textNeeded=constraint.minLength>=0 || constraint.maxLength>=0 || constraint.pattern!=null ||
+                                      constraint.enumValues!=null || constraint.constValue!=null;
+                constraint.objectConstrained=constraint.properties!=null || constraint.required!=null ||
+                                             !constraint.additionalPropertiesAllowed || constraint.additionalProperties!=null ||
+                                             constraint.minProperties>=0 || constraint.maxProperties>=0;
+                constraint.arrayConstrained=constraint.items!=null || constraint.minItems>=0 || constraint.maxItems>=0;
+            }
+        }
+
+        private void compileRef(String ref,
+                                String schemaPath,
+                                StreamingConstraint constraint) {
+            if (!ref.startsWith("#")) {
+                unsupported(schemaPath+"/$ref");
+            } else {
+                JsonNode target=rootNode.at(JsonPointer.compile(ref.substring(1)));
+                if (target.isMissingNode()) {
+                    unsupported(schemaPath+"/$ref");
+                } else {
+                    constraint.ref=compile(target,ref);
+                }
+            }
+        }
+
+        private void compileKeyword(String keyword,
+                                    JsonNode value,
+                                    String keywordPath,
+                                    JsonNode node,
+                                    StreamingConstraint constraint) {
+            if (UNSUPPORTED_KEYWORDS.contains(keyword)) {
+                unsupported(keywordPath);
+            } else {
+                switch (keyword) {
+                    case "$id":
+                        if (node!=rootNode) {
+                            unsupported(keywordPath);
+                        }
+                        break;
+                    case "type":
+                        constraint.types=compileType(value,keywordPath);
+                        break;
+                    case "properties": {
+                        Map<String,StreamingConstraint> properties=new HashMap<>();
+                        Iterator<Map.Entry<String,JsonNode>> fields=value.fields();
+                        while (fields.hasNext()) {
+                            Map.Entry<String,JsonNode> field=fields.next();
+                            properties.put(field.getKey(),compile(field.getValue(),keywordPath+"/"+field.getKey()));
+                        }
+                        constraint.properties=properties;
+                        break;
+                    }
+                    case "required":
+                        if (value.isArray()) {
+                            String[] required=new String[value.size()];
+                            for (int i=0; i<required.length; i++) {
+                                required[i]=value.get(i).asText();
+                            }
+                            constraint.required=required.length == 0?null:required;
+                        } else {
+                            unsupported(keywordPath);
+                        }
+                        break;
+                    case "additionalProperties":
+                        if (value.isBoolean()) {
+                            constraint.additionalPropertiesAllowed=value.booleanValue();
+                        } else {
+                            constraint.additionalProperties=compile(value,"additionalProperties");
+                        }
+                        break;
+                    case "items":
+                        if (value.isArray()) {
+                            unsupported(keywordPath);
+                        } else {
+                            constraint.items=compile(value,keywordPath);
+                        }
+                        break;
+                    case "enum":
+                        if (value.isArray() && isScalars(value)) {
+                            constraint.enumValues=StreamingConstraint.toValues(value);
+                            constraint.enumText=StreamingConstraint.toText(value);
+                        } else {
+                            unsupported(keywordPath);
+                        }
+                        break;
+                    case "const":
+                        if (value.isValueNode() && isFinite(value)) {
+                            constraint.constValue=StreamingConstraint.toValue(value);
+                        } else {
+                            unsupported(keywordPath);
+                        }
+                        break;
+                    case "minimum":
+                        constraint.minimum=compileNumber(value,keywordPath);
+                        break;
+                    case "maximum":
+                        constraint.maximum=compileNumber(value,keywordPath);
+                        break;
+                    case "exclusiveMinimum":
+                        constraint.exclusiveMinimum=compileNumber(value,keywordPath);
+                        break;
+                    case "exclusiveMaximum":
+                        constraint.exclusiveMaximum=compileNumber(value,keywordPath);
+                        break;
+                    case "minLength":
+                        constraint.minLength=compileCount(value,keywordPath);
+                        break;
+                    case "maxLength":
+                        constraint.maxLength=compileCount(value,keywordPath);
+                        break;
+                    case "minItems":
+                        constraint.minItems=compileCount(value,keywordPath);
+                        break;
+                    case "maxItems":
+                        constraint.maxItems=compileCount(value,keywordPath);
+                        break;
+                    case "minProperties":
+                        constraint.minProperties=compileCount(value,keywordPath);
+                        break;
+                    case "maxProperties":
+                        constraint.maxProperties=compileCount(value,keywordPath);
+                        break;
+                    case "pattern":
+                        try {
+                            constraint.pattern=Pattern.compile(value.asText());
+                        } catch (PatternSyntaxException ex) {
+                            unsupported(keywordPath);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        private int compileType(JsonNode value,
+                                String keywordPath) {
+            int types=0;
+            if (value.isArray()) {
+                for (JsonNode element: value) {
+                    int type=StreamingConstraint.getType(element.asText());
+                    if (type == 0) {
+                        unsupported(keywordPath);
+                    }
+                    types|=type;
+                }
+            } else {
+                types=StreamingConstraint.getType(value.asText());
+                if (types == 0) {
+                    unsupported(keywordPath);
+                }
+            }
+            return types;
+        }
+
+        private BigDecimal compileNumber(JsonNode value,
+                                         String keywordPath) {
+            BigDecimal number=null;
+            if (value.isNumber() && isFinite(value)) {
+                number=value.decimalValue();
+            } else {
+                unsupported(keywordPath);
+            }
+            return number;
+        }
+
+        private int compileCount(JsonNode value,
+                                 String keywordPath) {
+            int count=-1;
+            if (value.canConvertToInt() && value.intValue()>=0) {
+                count=value.intValue();
+            } else {
+                unsupported(keywordPath);
+            }
+            return count;
+        }
+
+        private static boolean isScalars(JsonNode values) {
+            boolean scalars=true;
+            for (JsonNode value: values) {
+                scalars&=value.isValueNode() && isFinite(value);
+            }
+            return scalars;
+        }
+
+        private static boolean isFinite(JsonNode value) {
+            return !(value.isDouble() || value.isFloat()) || Double.isFinite(value.doubleValue());
+        }
+
+        private void unsupported(String keywordPath) {
+            if (unsupported == null) {
+                unsupported=keywordPath;
+            }
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.networknt.schema.ErrorMessageType;
+import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.databind.JsonPointers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validation of the tokens of a single JSON document in progress.
+ * <p>
+ *     Memory used is proportional to the depth of the document.
+ *     Subtrees of values which are unconstrained are skipped.
+ * </p>
+ * <p>
+ *     This is not thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class StreamingValidation {
+    /**
+     * Maximum number of validation messages collected.
+     */
+    private final int maxErrors;
+
+    /**
+     * Path of the value validated, in the format of validation messages.
+     */
+    private final String basePath;
+
+    /**
+     * JSON Pointer of the value validated.
+     * This is {@code null} if the JSON Pointers of validation messages are not recorded.
+     */
+    private final String basePointer;
+
+    /**
+     * Open objects and arrays with constraints, innermost last.
+     */
+    private final List<Frame> frames=new ArrayList<>();
+
+    /**
+     * Validation messages.
+     * This is created on the first violation.
+     */
+    private Set<ValidationMessage> validationMessages;
+
+    /**
+     * JSON Pointers of the values in violation by validation message.
+     * This is created on the first violation, if JSON Pointers are recorded.
+     */
+    private Map<ValidationMessage,String> pointers;
+
+    /**
+     * Constructor.
+     * @param mode Mode of validation.
+     */
+    StreamingValidation(ValidationMode mode) {
+        this(mode,"$",null);
+    }
+
+    /**
+     * Constructor.
+     * @param mode Mode of validation.
+     * @param basePath Path of the value validated, in the format of validation messages.
+     * @param basePointer JSON Pointer of the value validated.
+     *                    This is {@code null} if the JSON Pointers of validation messages are not to be recorded.
+     */
+    StreamingValidation(ValidationMode mode,
+                        String basePath,
+                        String basePointer) {
+        this.maxErrors=mode.getMaxErrors();
+        this.basePath=basePath;
+        this.basePointer=basePointer;
+    }
+
+    /**
+     * Validates the next JSON value read from a parser.
+     * @param root Constraints of the value.
+     * @param parser Parser.
+     * @return Validation messages.
+     * @throws IOException Thrown in case of errors.
+     */
+    Set<ValidationMessage> validate(StreamingConstraint root,
+                                    JsonParser parser) throws IOException {
+        JsonToken token=parser.nextToken();
+        if (token == null) {
+            throw new IOException("Failure to validate JSON document; unexpected end of input!");
+        }
+        return validate(root,parser,token);
+    }
+
+    /**
+     * Validates a JSON value read from a parser.
+     * @param root Constraints of the value.
+     * @param parser Parser.
+     * @param token First token of the value, read from the parser.
+     * @return Validation messages.
+     * @throws IOException Thrown in case of errors.
+     */
+    Set<ValidationMessage> validate(StreamingConstraint root,
+                                    JsonParser parser,
+                                    JsonToken token) throws IOException {
+        StreamingConstraint next=root;
+        boolean done=false;
+        while (!done) {
+            switch (token) {
+                case FIELD_NAME: {
+                    Frame frame=frames.get(frames.size()-1);
+                    String name=parser.getCurrentName();
+                    frame.key=name;
+                    frame.count++;
+                    if (frame.seen!=null) {
+                        int index=frame.constraint.indexOfRequired(name);
+                        if (index>=0) {
+                            frame.seen[index]=true;
+                        }
+                    }
+                    next=frame.constraint.getPropertyConstraint(this,name);
+                    break;
+                }
+                case END_OBJECT: {
+                    Frame frame=frames.remove(frames.size()-1);
+                    frame.constraint.validateObject(this,frame.seen,frame.count);
+                    done=frames.isEmpty();
+                    break;
+                }
+                case END_ARRAY: {
+                    Frame frame=frames.remove(frames.size()-1);
+                    frame.constraint.validateArray(this,frame.count);
+                    done=frames.isEmpty();
+                    break;
+                }
+                default: {
+                    if (!frames.isEmpty()) {
+                        Frame frame=frames.get(frames.size()-1);
+                        if (frame.array) {
+                            frame.count++;
+                            next=frame.constraint.items;
+                        }
+                    }
+                    StreamingConstraint constraint=next == null?null:next.resolve();
+                    if (constraint!=null) {
+                        constraint.validateValue(this,parser,token);
+                    }
+                    if (token == JsonToken.START_OBJECT) {
+                        if (constraint == null || !constraint.objectConstrained || constraint.rejectAll) {
+                            parser.skipChildren();
+                        } else {
+                            frames.add(new Frame(constraint,false));
+                        }
+                    } else {
+                        if (token == JsonToken.START_ARRAY) {
+                            if (constraint == null || !constraint.arrayConstrained || constraint.rejectAll) {
+                                parser.skipChildren();
+                            } else {
+                                frames.add(new Frame(constraint,true));
+                            }
+                        }
+                    }
+                    next=null;
+                    done=frames.isEmpty();
+                    break;
+                }
+            }
+            if (!done) {
+                done=isFull();
+                if (!done) {
+                    token=parser.nextToken();
+                    if (token == null) {
+                        throw new IOException("Failure to validate JSON document; unexpected end of input!");
+                    }
+                }
+            }
+        }
+        return getValidationMessages();
+    }
+
+    /**
+     * Gets the validation messages reported.
+     * @return Validation messages.
+     */
+    Set<ValidationMessage> getValidationMessages() {
+        return validationMessages == null?Collections.emptySet():Collections.unmodifiableSet(validationMessages);
+    }
+
+    /**
+     * Indicates, if the maximum number of validation messages has been collected.
+     * @return Indicates, if no more validation messages are to be collected.
+     */
+    boolean isFull() {
+        return validationMessages!=null && validationMessages.size()>=maxErrors;
+    }
+
+    /**
+     * Gets the JSON Pointer of the value in violation of a validation message.
+     * @param message Validation message.
+     * @return JSON Pointer.
+     *         This is {@code null} if JSON Pointers are not recorded.
+     */
+    String getPointer(ValidationMessage message) {
+        return pointers == null?null:pointers.get(message);
+    }
+
+    /**
+     * Reports a violation by the value being validated.
+     * @param type Keyword violated.
+     * @param messageType Type of message.
+     * @param schemaPath JSON Pointer of the keyword in the JSON Schema, as a URI fragment.
+     * @param arguments Arguments of message.
+     */
+    void report(String type,
+                ErrorMessageType messageType,
+                String schemaPath,
+                String... arguments) {
+        report(type,messageType,schemaPath,frames.size(),arguments);
+    }
+
+    /**
+     * Reports a violation by the innermost open object or array.
+     * @param type Keyword violated.
+     * @param messageType Type of message.
+     * @param schemaPath JSON Pointer of the keyword in the JSON Schema, as a URI fragment.
+     * @param arguments Arguments of message.
+     */
+    void reportParent(String type,
+                      ErrorMessageType messageType,
+                      String schemaPath,
+                      String... arguments) {
+        report(type,messageType,schemaPath,frames.size()-1,arguments);
+    }
+
+    private void report(String type,
+                        ErrorMessageType messageType,
+                        String schemaPath,
+                        int depth,
+                        String[] arguments) {
+        if (validationMessages == null) {
+            validationMessages=new LinkedHashSet<>();
+            if (basePointer!=null) {
+                pointers=new HashMap<>();
+            }
+        }
+        if (validationMessages.size()<maxErrors) {
+            ValidationMessage message=ValidationMessage.of(type,messageType,getPath(depth),schemaPath,arguments);
+            if (validationMessages.add(message) && pointers!=null) {
+                pointers.put(message,getPointer(depth));
+            }
+        }
+    }
+
+    private String getPath(int depth) {
+        StringBuilder sb=new StringBuilder(basePath);
+        for (int i=0; i<depth; i++) {
+            Frame frame=frames.get(i);
+            if (frame.array) {
+                sb.append('[').append(frame.count-1).append(']');
+            } else {
+                sb.append('.').append(frame.key);
+            }
+        }
+        return sb.toString();
+    }
+
+    private String getPointer(int depth) {
+        StringBuilder sb=new StringBuilder(basePointer);
+        for (int i=0; i<depth; i++) {
+            Frame frame=frames.get(i);
+            sb.append('/');
+            if (frame.array) {
+                sb.append(frame.count-1);
+            } else {
+                sb.append(JsonPointers.escape(frame.key));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Open object or array.
+     */
+    private static final class Frame {
+        /**
+         * Constraints of the object or array.
+         */
+        private final StreamingConstraint constraint;
+
+        /**
+         * Indicates, if this is an array.
+         */
+        private final boolean array;
+
+        /**
+         * Indicates, which of the required properties have been read.
+         * This may be {@code null}.
+         */
+        private final boolean[] seen;
+
+        /**
+         * Number of properties or items read.
+         */
+        private int count;
+
+        /**
+         * Name of the property being read.
+         */
+        private String key;
+
+        private Frame(StreamingConstraint constraint,
+                      boolean array) {
+            this.constraint=constraint;
+            this.array=array;
+            this.seen=array || constraint.required == null?null:new boolean[constraint.required.length];
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of validation verdicts of JSON documents keyed by the identity of the JSON Schema, the identity of the mapper
+ * and the {@link DocumentHash} of the JSON document.
+ * <p>
+ *     Hashes are seeded randomly per cache, and hits are confirmed by comparison of the JSON documents,
+ *     so documents crafted to collide are never served the verdict of another document.
+ *     On a hit, the JSON document is neither parsed nor validated.
+ *     The JSON tree of a validation result served from the cache is parsed on first access only.
+ * </p>
+ * <p>
+ *     The cache is bounded by size and by time.
+ *     When full, entries are evicted in order of insertion.
+ *     Entries older than the time-to-live are treated as absent, and are removed on lookup.
+ *     Validation messages served from the cache are unmodifiable.
+ *     Verdicts with more validation messages than {@link #getMaxValidationMessages()} are not cached.
+ * </p>
+ * <p>
+ *     This is thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class ValidationCache {
+    /**
+     * Default maximum number of entries.
+     */
+    public static final int DEFAULT_MAX_SIZE=10_000;
+
+    /**
+     * Default time-to-live of entries.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE=Duration.ofMinutes(5);
+
+    /**
+     * Default maximum number of validation messages of a cached verdict.
+     */
+    public static final int DEFAULT_MAX_VALIDATION_MESSAGES=16;
+
+    /**
+     * Maximum number of entries.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxSize=DEFAULT_MAX_SIZE;
+
+    /**
+     * Time-to-live of entries.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final Duration timeToLive=DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Maximum number of validation messages of a cached verdict.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxValidationMessages=DEFAULT_MAX_VALIDATION_MESSAGES;
+
+    /**
+     * Seed of hashes of JSON documents.
+     */
+    private final long seed=new SecureRandom().nextLong();
+
+    /**
+     * Entries by key.
+     */
+    private final Map<Key,Entry> entries=new ConcurrentHashMap<>();
+
+    /**
+     * Entries in order of insertion.
+     * Entries replaced or removed are kept until evicted, and are counted towards the maximum size.
+     */
+    private final Queue<Entry> insertionOrder=new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of entries in order of insertion.
+     */
+    private final AtomicInteger insertionCount=new AtomicInteger();
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    private final LongAdder hitCount=new LongAdder();
+
+    /**
+     * Number of lookups not served from the cache.
+     */
+    private final LongAdder missCount=new LongAdder();
+
+    /**
+     * Number of entries evicted due to size.
+     */
+    private final LongAdder evictionCount=new LongAdder();
+
+    /**
+     * Validates a JSON document against a JSON Schema.
+     * The verdict is served from the cache if present; otherwise the document is validated and the verdict cached.
+     * @param schema IETF JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(JsonSchema schema,
+                                     ObjectMapper mapper,
+                                     String document,
+                                     ValidationMode mode) throws IOException {
+        return validate(schema,(m,d,md) -> JsonSchemas.validate(schema,m,d,md),mapper,document,mode);
+    }
+
+    /**
+     * Validates a JSON document against a JSON Schema using a specific validation.
+     * The verdict is served from the cache if present; otherwise the document is validated and the verdict cached.
+     * @param schema IETF JSON Schema.
+     * @param validator Validation of JSON documents against the JSON Schema.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Validation result.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(JsonSchema schema,
+                                     DocumentValidator validator,
+                                     ObjectMapper mapper,
+                                     String document,
+                                     ValidationMode mode) throws IOException {
+        ValidationResult result;
+        Key key=new Key(schema,mapper,DocumentHash.of(document,seed));
+        Set<ValidationMessage> validationMessages=lookup(key,document,mode);
+        if (validationMessages == null) {
+            missCount.increment();
+            result=validator.validate(mapper,document,mode);
+            store(key,document,result.getValidationMessages(),mode);
+        } else {
+            hitCount.increment();
+            result=ValidationResult.deferred(mapper,document,validationMessages);
+        }
+        return result;
+    }
+
+    private Set<ValidationMessage> lookup(Key key,
+                                          String document,
+                                          ValidationMode mode) {
+        Set<ValidationMessage> validationMessages=null;
+        Entry entry=entries.get(key);
+        if (entry!=null && entry.document.equals(document)) {
+            if (System.nanoTime()-entry.created>timeToLive.toNanos()) {
+                entries.remove(key,entry);
+            } else {
+                if (entry.validationMessages.isEmpty()) {
+                    validationMessages=entry.validationMessages;
+                } else {
+                    if (entry.maxErrors>=mode.getMaxErrors() || entry.validationMessages.size()<entry.maxErrors) {
+                        validationMessages=mode.limit(entry.validationMessages);
+                    }
+                }
+            }
+        }
+        return validationMessages;
+    }
+
+    private void store(Key key,
+                       String document,
+                       Set<ValidationMessage> validationMessages,
+                       ValidationMode mode) {
+        if (validationMessages.size()<=maxValidationMessages) {
+            Entry entry=new Entry(key,document,Collections.unmodifiableSet(validationMessages),mode.getMaxErrors(),System.nanoTime());
+            entries.put(key,entry);
+            insertionOrder.add(entry);
+            if (insertionCount.incrementAndGet()>maxSize) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        Entry entry;
+        while (insertionCount.get()>maxSize && (entry=insertionOrder.poll())!=null) {
+            insertionCount.decrementAndGet();
+            if (entries.remove(entry.key,entry)) {  //Note: Entries replaced since insertion are kept.
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     * Statistics are retained.
+     */
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+        insertionCount.set(0);
+    }
+
+    /**
+     * Gets the current number of entries.
+     * This may include entries which have expired.
+     * @return Number of entries.
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Creates a snapshot of the statistics of the cache.
+     * @return Statistics.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hitCount.sum(),missCount.sum(),evictionCount.sum(),getSize());
+    }
+
+    /**
+     * Key of a cache entry.
+     * The JSON Schema and the mapper are compared by identity.
+     */
+    @AllArgsConstructor
+    private static final class Key {
+        private final JsonSchema schema;
+        private final ObjectMapper mapper;
+        private final DocumentHash hash;
+
+        @Override
+        public boolean equals(Object obj) {
+            boolean result=false;
+            if (obj instanceof Key) {
+                Key other=(Key)obj;
+                result=schema == other.schema && mapper == other.mapper && hash.equals(other.hash);
+            }
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31*(31*System.identityHashCode(schema)+System.identityHashCode(mapper))+hash.hashCode();
+        }
+    }
+
+    /**
+     * Cached verdict.
+     */
+    @AllArgsConstructor
+    private static final class Entry {
+        /**
+         * Key.
+         */
+        private final Key key;
+
+        /**
+         * JSON document.
+         */
+        private final String document;
+
+        /**
+         * Validation messages.
+         * This is unmodifiable.
+         */
+        private final Set<ValidationMessage> validationMessages;
+
+        /**
+         * Maximum number of validation messages of the mode of validation producing the verdict.
+         */
+        private final int maxErrors;
+
+        /**
+         * Time of creation as given by {@link System#nanoTime()}.
+         */
+        private final long created;
+    }
+
+    /**
+     * Snapshot of the statistics of a cache.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static final class Statistics {
+        /**
+         * Number of lookups served from the cache.
+         */
+        private final long hitCount;
+
+        /**
+         * Number of lookups not served from the cache.
+         */
+        private final long missCount;
+
+        /**
+         * Number of entries evicted due to size.
+         */
+        private final long evictionCount;
+
+        /**
+         * Number of entries.
+         */
+        private final int size;
+
+        /**
+         * Gets the ratio of lookups served from the cache.
+         * @return Ratio of hits in the range from 0 to 1.
+         */
+        public double getHitRate() {
+            long requestCount=hitCount+missCount;
+            return requestCount == 0?0.0:(double)hitCount/requestCount;
+        }
+    }
+}
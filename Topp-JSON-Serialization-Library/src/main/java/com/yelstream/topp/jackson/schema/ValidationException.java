@@ -1,11 +1,18 @@
 package com.yelstream.topp.jackson.schema;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
 
 /**
  * Indicates a failed verification of a JSON document against its JSON Schema.
+ * <p>
+ *     The detail message may be rendered on first access to avoid the cost of building messages never read.
+ *     On serialization, the detail message is rendered and kept, while the result of validation is not kept.
+ * </p>
  *
  * @author Morten Sabroe Mortensen
  * @version 1.0
@@ -15,8 +22,21 @@ import java.io.IOException;
 public final class ValidationException extends IOException {
     /**
      * Result of JSON document validation against a JSON Schema.
+     * This is {@code null} after deserialization.
      */
-    private final ValidationResult validationResult;
+    private final transient ValidationResult validationResult;
+
+    /**
+     * Renderer of detail message.
+     */
+    @Getter(AccessLevel.NONE)
+    private final transient Supplier<String> messageSupplier;
+
+    /**
+     * Detail message rendered.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile String renderedMessage;
 
     /**
      * Constructor.
@@ -24,6 +44,7 @@ public final class ValidationException extends IOException {
      */
     public ValidationException(ValidationResult validationResult) {
         super();
+        this.messageSupplier=null;
         this.validationResult=validationResult;
     }
 
@@ -34,6 +55,37 @@ public final class ValidationException extends IOException {
      */
     public ValidationException(String message,final ValidationResult validationResult) {
         super(message);
+        this.messageSupplier=null;
+        this.validationResult=validationResult;
+    }
+
+    /**
+     * Constructor.
+     * @param messageSupplier Renderer of detail message.
+     *                        This is invoked on first access to the message.
+     * @param validationResult Result of JSON document validation.
+     */
+    public ValidationException(Supplier<String> messageSupplier,final ValidationResult validationResult) {
+        super();
+        this.messageSupplier=messageSupplier;
         this.validationResult=validationResult;
     }
+
+    @Override
+    public String getMessage() {
+        String message=super.getMessage();
+        if (message == null) {
+            message=renderedMessage;
+            if (message == null && messageSupplier!=null) {
+                message=messageSupplier.get();
+                renderedMessage=message;
+            }
+        }
+        return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();  //Note: Renders the detail message into the serialized form, since the renderer is not serializable.
+        out.defaultWriteObject();
+    }
 }
@@ -1,8 +1,16 @@
 package com.yelstream.topp.jackson.schema;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.networknt.schema.ValidationMessage;
+import com.yelstream.topp.jackson.databind.JsonPointers;
 import lombok.experimental.UtilityClass;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,4 +31,89 @@ public class ValidationMessages {
     public static String toString(Set<ValidationMessage> validationMessages) {
         return validationMessages.stream().map(ValidationMessage::getMessage).collect(Collectors.joining(System.lineSeparator()));
     }
+
+    /**
+     * Converts a set of validation messages to a textual representation of bounded size.
+     * Only the first messages are included followed by the number of messages omitted.
+     * @param validationMessages Validation messages.
+     * @param maxValidationMessages Maximum number of messages to include.
+     * @return Textual representation of validation messages.
+     */
+    public static String toString(Set<ValidationMessage> validationMessages,
+                                  int maxValidationMessages) {
+        StringBuilder sb=new StringBuilder();
+        Iterator<ValidationMessage> iterator=validationMessages.iterator();
+        int count=0;
+        while (iterator.hasNext() && count<maxValidationMessages) {
+            if (count>0) {
+                sb.append(System.lineSeparator());
+            }
+            sb.append(iterator.next().getMessage());
+            count++;
+        }
+        int omitted=validationMessages.size()-count;
+        if (omitted>0) {
+            if (count>0) {
+                sb.append(System.lineSeparator());
+            }
+            sb.append("...(").append(omitted).append(" validation messages omitted)");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Converts the path of a validation message to a JSON Pointer.
+     * The path is in the form {@code $.a.b[0]} or {@code $['a'].b}, which is converted to {@code /a/b/0}.
+     * @param path Path of validation message.
+     * @return JSON Pointer.
+     */
+    public static JsonPointer toPointer(String path) {
+        StringBuilder sb=new StringBuilder();
+        if (path!=null) {
+            int length=path.length();
+            int i=path.startsWith("$")?1:0;
+            while (i<length) {
+                char c=path.charAt(i);
+                if (c == '.') {
+                    int end=i+1;
+                    while (end<length && path.charAt(end)!='.' && path.charAt(end)!='[') {
+                        end++;
+                    }
+                    sb.append(JsonPointer.SEPARATOR).append(JsonPointers.escape(path.substring(i+1,end)));
+                    i=end;
+                } else {
+                    if (c == '[') {
+                        int end=path.indexOf(']',i);
+                        if (end<0) {
+                            end=length;
+                        }
+                        String segment=path.substring(i+1,end);
+                        if (segment.length()>=2 && (segment.charAt(0) == '\'' || segment.charAt(0) == '"')) {
+                            segment=segment.substring(1,segment.length()-1);
+                        }
+                        sb.append(JsonPointer.SEPARATOR).append(JsonPointers.escape(segment));
+                        i=end+1;
+                    } else {
+                        i++;
+                    }
+                }
+            }
+        }
+        return JsonPointer.compile(sb.toString());
+    }
+
+    /**
+     * Indexes a set of validation messages by the JSON Pointer of the node addressed.
+     * @param validationMessages Validation messages.
+     * @return Validation messages by JSON Pointer.
+     */
+    public static Map<JsonPointer,List<ValidationMessage>> indexByPointer(Set<ValidationMessage> validationMessages) {
+        Map<JsonPointer,List<ValidationMessage>> index=new HashMap<>();
+        for (ValidationMessage validationMessage: validationMessages) {
+            JsonPointer pointer=toPointer(validationMessage.getPath());
+            index.computeIfAbsent(pointer,k -> new ArrayList<>(1)).add(validationMessage);
+        }
+        index.replaceAll((k,v) -> Collections.unmodifiableList(v));
+        return Collections.unmodifiableMap(index);
+    }
 }
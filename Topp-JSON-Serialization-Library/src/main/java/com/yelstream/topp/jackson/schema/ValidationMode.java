@@ -0,0 +1,112 @@
+package com.yelstream.topp.jackson.schema;
+
+import com.networknt.schema.ValidationMessage;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Mode of validation of JSON documents against a JSON Schema, limiting the number of validation messages collected.
+ * This is immutable.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class ValidationMode {
+    /**
+     * Collects all validation messages.
+     */
+    public static final ValidationMode FULL=new ValidationMode(Integer.MAX_VALUE);
+
+    /**
+     * Stops at the first violation.
+     * This is the default mode of verification.
+     */
+    public static final ValidationMode FAIL_FAST=new ValidationMode(1);
+
+    /**
+     * Maximum number of validation messages collected.
+     */
+    private final int maxErrors;
+
+    /**
+     * Gets the mode collecting at most a given number of validation messages.
+     * @param maxErrors Maximum number of validation messages.
+     * @return Validation mode.
+     */
+    public static ValidationMode maxErrors(int maxErrors) {
+        ValidationMode mode;
+        if (maxErrors<1) {
+            throw new IllegalArgumentException(String.format("Failure to create validation mode; maximum number of errors is %d!",maxErrors));
+        }
+        if (maxErrors == 1) {
+            mode=FAIL_FAST;
+        } else {
+            if (maxErrors == Integer.MAX_VALUE) {
+                mode=FULL;
+            } else {
+                mode=new ValidationMode(maxErrors);
+            }
+        }
+        return mode;
+    }
+
+    /**
+     * Indicates, if all validation messages are collected.
+     * @return Indicates, if all validation messages are collected.
+     */
+    public boolean isFull() {
+        return maxErrors == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Indicates, if validation stops at the first violation.
+     * @return Indicates, if validation stops at the first violation.
+     */
+    public boolean isFailFast() {
+        return maxErrors == 1;
+    }
+
+    /**
+     * Limits a set of validation messages to the maximum number of this mode.
+     * @param validationMessages Validation messages.
+     * @return Validation messages.
+     */
+    public Set<ValidationMessage> limit(Set<ValidationMessage> validationMessages) {
+        Set<ValidationMessage> result=validationMessages;
+        if (validationMessages.size()>maxErrors) {
+            Set<ValidationMessage> limited=new LinkedHashSet<>();
+            Iterator<ValidationMessage> iterator=validationMessages.iterator();
+            while (limited.size()<maxErrors) {
+                limited.add(iterator.next());
+            }
+            result=Collections.unmodifiableSet(limited);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        String text;
+        if (isFull()) {
+            text="FULL";
+        } else {
+            if (isFailFast()) {
+                text="FAIL_FAST";
+            } else {
+                text="MAX_ERRORS("+maxErrors+")";
+            }
+        }
+        return text;
+    }
+}
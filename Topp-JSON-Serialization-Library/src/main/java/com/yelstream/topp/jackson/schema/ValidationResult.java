@@ -1,32 +1,158 @@
 package com.yelstream.topp.jackson.schema;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.ValidationMessage;
-import lombok.AllArgsConstructor;
+import com.yelstream.topp.jackson.databind.MessageLimits;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Result of JSON document validation against a JSON Schema.
+ * <p>
+ *     The textual representation is rendered on first access and is bounded by {@link MessageLimits#getDefault()}.
+ * </p>
  *
  * @author Morten Sabroe Mortensen
  * @version 1.0
  * @since 2022-04-23
  */
-@Getter
-@AllArgsConstructor
 public class ValidationResult {
     /**
      * JSON tree node evaluated.
+     * This is created on first access if a supplier of the node is set.
      */
-    private final JsonNode node;
+    private volatile JsonNode node;
+
+    /**
+     * Supplier of the JSON tree node evaluated.
+     * This may be {@code null}.
+     */
+    private final Supplier<JsonNode> nodeSupplier;
 
     /**
      * Validation messages.
      */
+    @Getter
     private final Set<ValidationMessage> validationMessages;
 
+    /**
+     * Validation messages by JSON Pointer of the node addressed.
+     * This is created on first access.
+     */
+    private volatile Map<JsonPointer,List<ValidationMessage>> validationMessagesByPointer;
+
+    /**
+     * Textual representation.
+     * This is created on first access.
+     */
+    private volatile String text;
+
+    /**
+     * Constructor.
+     * @param node JSON tree node evaluated.
+     * @param validationMessages Validation messages.
+     */
+    public ValidationResult(JsonNode node,
+                            Set<ValidationMessage> validationMessages) {
+        this.node=node;
+        this.nodeSupplier=null;
+        this.validationMessages=validationMessages;
+    }
+
+    /**
+     * Constructor.
+     * @param nodeSupplier Supplier of the JSON tree node evaluated.
+     * @param validationMessages Validation messages.
+     */
+    private ValidationResult(Supplier<JsonNode> nodeSupplier,
+                             Set<ValidationMessage> validationMessages) {
+        this.node=null;
+        this.nodeSupplier=nodeSupplier;
+        this.validationMessages=validationMessages;
+    }
+
+    /**
+     * Creates a validation result where the JSON tree node evaluated is created on first access.
+     * @param nodeSupplier Supplier of the JSON tree node evaluated.
+     *                     This is invoked on first access to the node.
+     * @param validationMessages Validation messages.
+     * @return Validation result.
+     */
+    public static ValidationResult deferred(Supplier<JsonNode> nodeSupplier,
+                                            Set<ValidationMessage> validationMessages) {
+        return new ValidationResult(nodeSupplier,validationMessages);
+    }
+
+    /**
+     * Creates a validation result where the JSON tree node evaluated is parsed from a JSON document on first access.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document.
+     * @param validationMessages Validation messages.
+     * @return Validation result.
+     */
+    public static ValidationResult deferred(ObjectMapper mapper,
+                                            String document,
+                                            Set<ValidationMessage> validationMessages) {
+        return deferred(() -> readTree(mapper,document),validationMessages);
+    }
+
+    /**
+     * Creates a validation result where the JSON tree node evaluated is parsed from a binary JSON document on first access.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param document JSON document in the format of the factory of the mapper.
+     * @param validationMessages Validation messages.
+     * @return Validation result.
+     */
+    public static ValidationResult deferred(ObjectMapper mapper,
+                                            byte[] document,
+                                            Set<ValidationMessage> validationMessages) {
+        return deferred(() -> readTree(mapper,document),validationMessages);
+    }
+
+    private static JsonNode readTree(ObjectMapper mapper,
+                                     String document) {
+        JsonNode node;
+        try {
+            node=mapper.readTree(document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return node;
+    }
+
+    private static JsonNode readTree(ObjectMapper mapper,
+                                     byte[] document) {
+        JsonNode node;
+        try {
+            node=mapper.readTree(document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return node;
+    }
+
+    /**
+     * Gets the JSON tree node evaluated.
+     * @return JSON tree node.
+     */
+    public JsonNode getNode() {
+        JsonNode n=node;
+        if (n == null && nodeSupplier!=null) {
+            n=nodeSupplier.get();
+            node=n;
+        }
+        return n;
+    }
+
     /**
      * Indicates, if the validation is successful.
      * @return Indicates, if the validation is successful.
@@ -35,8 +161,52 @@ public class ValidationResult {
         return validationMessages == null || validationMessages.isEmpty();
     }
 
+    /**
+     * Gets the number of validation messages.
+     * @return Number of validation messages.
+     */
+    public int getValidationMessageCount() {
+        return validationMessages == null?0:validationMessages.size();
+    }
+
+    /**
+     * Gets the validation messages addressing a specific node.
+     * @param pointer JSON Pointer of node.
+     * @return Validation messages.
+     */
+    public List<ValidationMessage> getValidationMessages(JsonPointer pointer) {
+        return getValidationMessagesByPointer().getOrDefault(pointer,Collections.emptyList());
+    }
+
+    /**
+     * Gets the validation messages indexed by the JSON Pointer of the node addressed.
+     * @return Validation messages by JSON Pointer.
+     */
+    public Map<JsonPointer,List<ValidationMessage>> getValidationMessagesByPointer() {
+        Map<JsonPointer,List<ValidationMessage>> index=validationMessagesByPointer;
+        if (index == null) {
+            index=validationMessages == null?Collections.emptyMap():ValidationMessages.indexByPointer(validationMessages);
+            validationMessagesByPointer=index;
+        }
+        return index;
+    }
+
+    /**
+     * Creates a textual representation of the validation messages.
+     * @param limits Limits on the size of the representation.
+     * @return Textual representation.
+     */
+    public String toString(MessageLimits limits) {
+        return validationMessages == null?"":ValidationMessages.toString(validationMessages,limits.getMaxValidationMessages());
+    }
+
     @Override
     public String toString() {
-        return super.toString()+"//"+(validationMessages == null?"":ValidationMessages.toString(validationMessages));
+        String s=text;
+        if (s == null) {
+            s=super.toString()+"//"+toString(MessageLimits.getDefault());
+            text=s;
+        }
+        return s;
     }
 }
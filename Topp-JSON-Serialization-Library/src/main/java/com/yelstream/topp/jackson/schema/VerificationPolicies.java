@@ -0,0 +1,114 @@
+package com.yelstream.topp.jackson.schema;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility addressing instances of {@link VerificationPolicy}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class VerificationPolicies {
+    /**
+     * Policy verifying all JSON documents.
+     */
+    public static final VerificationPolicy ALWAYS=named(type -> true,"ALWAYS");
+
+    /**
+     * Policy verifying no JSON documents.
+     */
+    public static final VerificationPolicy NEVER=named(type -> false,"NEVER");
+
+    /**
+     * Creates a policy verifying every n'th JSON document, starting with the first.
+     * @param n Interval between JSON documents verified.
+     * @return Policy.
+     */
+    public static VerificationPolicy everyNth(long n) {
+        VerificationPolicy policy;
+        if (n<1) {
+            throw new IllegalArgumentException(String.format("Failure to create verification policy; interval is %d!",n));
+        }
+        if (n == 1) {
+            policy=ALWAYS;
+        } else {
+            AtomicLong counter=new AtomicLong();
+            policy=named(type -> counter.getAndIncrement()%n == 0,"EVERY_NTH("+n+")");
+        }
+        return policy;
+    }
+
+    /**
+     * Creates a policy verifying a random fraction of JSON documents.
+     * @param rate Probability of a JSON document being verified in the range from 0 to 1.
+     * @return Policy.
+     */
+    public static VerificationPolicy rate(double rate) {
+        VerificationPolicy policy;
+        if (!(rate>=0.0 && rate<=1.0)) {
+            throw new IllegalArgumentException(String.format("Failure to create verification policy; rate is %s!",rate));
+        }
+        if (rate == 0.0) {
+            policy=NEVER;
+        } else {
+            if (rate == 1.0) {
+                policy=ALWAYS;
+            } else {
+                policy=named(type -> ThreadLocalRandom.current().nextDouble()<rate,"RATE("+rate+")");
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Creates a policy verifying the first JSON documents serialized from each type of Jackson POJO and
+     * applying another policy to the remaining JSON documents.
+     * @param count Number of JSON documents verified per type.
+     * @param then Policy applied when the number of JSON documents of a type has been verified.
+     * @return Policy.
+     */
+    public static VerificationPolicy firstPerClass(long count,
+                                                   VerificationPolicy then) {
+        if (count<0) {
+            throw new IllegalArgumentException(String.format("Failure to create verification policy; count is %d!",count));
+        }
+        ClassValue<AtomicLong> counters=new ClassValue<>() {
+            @Override
+            protected AtomicLong computeValue(Class<?> type) {
+                return new AtomicLong();
+            }
+        };
+        VerificationPolicy policy=type -> {
+            AtomicLong counter=counters.get(type);
+            boolean verify=counter.get()<count && counter.incrementAndGet()<=count;
+            return verify || then.shouldVerify(type);
+        };
+        return named(policy,"FIRST_PER_CLASS("+count+","+then+")");
+    }
+
+    /**
+     * Gives a policy a textual representation.
+     * @param policy Policy.
+     * @param name Textual representation.
+     * @return Policy.
+     */
+    private static VerificationPolicy named(VerificationPolicy policy,
+                                            String name) {
+        return new VerificationPolicy() {
+            @Override
+            public boolean shouldVerify(Class<?> type) {
+                return policy.shouldVerify(type);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.yelstream.topp.jackson.schema;
+
+/**
+ * Policy deciding if a JSON document produced by serialization is to be verified against its JSON Schema.
+ * <p>
+ *     Policies are invoked on the thread performing serialization and must be thread-safe and cheap.
+ *     See {@link VerificationPolicies} for the policies available.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface VerificationPolicy {
+    /**
+     * Indicates, if the JSON document serialized from a Jackson POJO is to be verified.
+     * @param type Type of Jackson POJO.
+     * @return Indicates, if the JSON document is to be verified.
+     */
+    boolean shouldVerify(Class<?> type);
+}
@@ -0,0 +1,133 @@
+package com.yelstream.topp.jackson.schema;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampling of JSON documents produced by serialization for verification against their JSON Schema.
+ * <p>
+ *     The policy may be replaced at runtime; serializations in progress complete using the policy read.
+ *     Counters of JSON documents sampled, skipped and failing verification are kept across replacements.
+ * </p>
+ * <p>
+ *     This is thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public final class VerificationSampler {
+    /**
+     * Current policy.
+     */
+    @ToString.Include
+    private final AtomicReference<VerificationPolicy> policy;
+
+    /**
+     * Number of JSON documents verified.
+     */
+    private final LongAdder sampledCount=new LongAdder();
+
+    /**
+     * Number of JSON documents not verified.
+     */
+    private final LongAdder skippedCount=new LongAdder();
+
+    /**
+     * Number of JSON documents failing verification.
+     */
+    private final LongAdder failedCount=new LongAdder();
+
+    /**
+     * Constructor.
+     * @param policy Initial policy.
+     */
+    public VerificationSampler(VerificationPolicy policy) {
+        this.policy=new AtomicReference<>(checkPolicy(policy));
+    }
+
+    /**
+     * Gets the current policy.
+     * @return Policy.
+     */
+    public VerificationPolicy getPolicy() {
+        return policy.get();
+    }
+
+    /**
+     * Replaces the current policy.
+     * @param newPolicy New policy.
+     * @return Previous policy.
+     */
+    public VerificationPolicy setPolicy(VerificationPolicy newPolicy) {
+        return policy.getAndSet(checkPolicy(newPolicy));
+    }
+
+    /**
+     * Indicates, if the JSON document serialized from a Jackson POJO is to be verified, and counts the decision.
+     * @param type Type of Jackson POJO.
+     * @return Indicates, if the JSON document is to be verified.
+     */
+    public boolean sample(Class<?> type) {
+        boolean verify=policy.get().shouldVerify(type);
+        if (verify) {
+            sampledCount.increment();
+        } else {
+            skippedCount.increment();
+        }
+        return verify;
+    }
+
+    /**
+     * Counts a JSON document failing verification.
+     */
+    public void recordFailure() {
+        failedCount.increment();
+    }
+
+    /**
+     * Creates a snapshot of the counters.
+     * @return Statistics.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(sampledCount.sum(),skippedCount.sum(),failedCount.sum());
+    }
+
+    private static VerificationPolicy checkPolicy(VerificationPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Failure to set verification policy; policy is not set!");
+        }
+        return policy;
+    }
+
+    /**
+     * Snapshot of the counters of a sampler.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static final class Statistics {
+        /**
+         * Number of JSON documents verified.
+         */
+        private final long sampledCount;
+
+        /**
+         * Number of JSON documents not verified.
+         */
+        private final long skippedCount;
+
+        /**
+         * Number of JSON documents failing verification.
+         */
+        private final long failedCount;
+    }
+}
@@ -0,0 +1,212 @@
+package com.yelstream.topp.jackson.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yelstream.topp.jackson.databind.DocumentFormat;
+import com.yelstream.topp.jackson.metrics.ConversionListener;
+import com.yelstream.topp.jackson.metrics.ConversionListeners;
+import com.yelstream.topp.jackson.metrics.ConversionOperation;
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+import com.yelstream.topp.jackson.schema.ValidationException;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import com.yelstream.topp.jackson.schema.VerificationSampler;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+
+import java.io.IOException;
+
+/**
+ * Converts between binary JSON documents, such as Smile or CBOR, and Jackson POJOs
+ * using a specific JSON schema and a specific Jackson object mapper.
+ * <p>
+ *     The format of documents is given by the factory of the mapper; see {@link DocumentFormat}.
+ *     Documents are validated against the same JSON Schema and bound to the same Jackson POJOs as textual JSON documents
+ *     by a {@link JsonConverter}.
+ *     Documents are validated from parser tokens if the JSON Schema has a streaming variant, and otherwise as JSON trees.
+ *     Binary values are validated as the base64 strings, which represent them in textual JSON documents.
+ *     Sizes reported to the listener are in bytes.
+ * </p>
+ * @param <T> Type of Jackson POJOs for the deserialized form of binary JSON documents.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BinaryJsonConverter<T> {
+    /**
+     * JSON Schema and its deserialized object type.
+     */
+    private final JsonSchemaType<T> schemaType;
+
+    /**
+     * Configuration of mapping between binary JSON documents and Jackson POJOs.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * Listener receiving measurements of operations.
+     */
+    @With
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ConversionListener listener;
+
+    /**
+     * Constructor.
+     * @param schemaType JSON Schema and its deserialized object type.
+     * @param mapper Configuration of mapping between binary JSON documents and Jackson POJOs.
+     */
+    public BinaryJsonConverter(JsonSchemaType<T> schemaType,
+                               ObjectMapper mapper) {
+        this(schemaType,mapper,ConversionListeners.NOOP);
+    }
+
+    /**
+     * Gets the name of the format of documents.
+     * @return Name of format.
+     */
+    public String getFormatName() {
+        return mapper.getFactory().getFormatName();
+    }
+
+    /**
+     * Creates a converter sampling the JSON documents verified after serialization.
+     * @param serializationSampler Sampling of JSON documents verified after serialization.
+     *                             This may be {@code null} in which case every JSON document serialized is verified.
+     * @return Converter.
+     */
+    public BinaryJsonConverter<T> withSerializationSampler(VerificationSampler serializationSampler) {
+        return new BinaryJsonConverter<>(schemaType.withSerializationSampler(serializationSampler),mapper,listener);
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * All validation messages are collected.
+     * @param document JSON document.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(byte[] document) throws IOException {
+        return validate(document,ValidationMode.FULL);
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(byte[] document,
+                                     ValidationMode mode) throws IOException {
+        ValidationResult result;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            result=schemaType.validate(mapper,document,mode);
+            success=result.isValid();
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.VALIDATE,document.length,System.nanoTime()-start,success);
+        }
+        return result;
+    }
+
+    /**
+     * Verifies a JSON document against the JSON Schema.
+     * This applies the verification mode of the JSON Schema type.
+     * @param document JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public void verify(byte[] document) throws IOException {
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            schemaType.verify(mapper,document);
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.VALIDATE,document.length,System.nanoTime()-start,success);
+        }
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * @param document JSON document.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public T deserialize(byte[] document) throws IOException {
+        return deserialize(document,true);
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * @param document JSON document.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     *               If the JSON Schema is not present then this has no effect.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public T deserialize(byte[] document,
+                         boolean verify) throws IOException {
+        T value;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            value=schemaType.deserialize(mapper,document,verify);
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.DESERIALIZE,document.length,System.nanoTime()-start,success);
+        }
+        return value;
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * If the schema is non-{@code null} then the JSON document is verified after serialization.
+     * @param value Jackson POJO.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public byte[] serialize(Object value) throws IOException {
+        byte[] document=null;
+        long start=System.nanoTime();
+        try {
+            document=schemaType.serializeToBytes(mapper,value);
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.SERIALIZE,document == null?0:document.length,System.nanoTime()-start,document!=null);
+        }
+        return document;
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * @param value Jackson POJO.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     *               If the JSON Schema is not present then this has no effect.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public byte[] serialize(Object value,
+                            boolean verify) throws IOException {
+        byte[] document=null;
+        long start=System.nanoTime();
+        try {
+            document=schemaType.serializeToBytes(mapper,value,verify);
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.SERIALIZE,document == null?0:document.length,System.nanoTime()-start,document!=null);
+        }
+        return document;
+    }
+}
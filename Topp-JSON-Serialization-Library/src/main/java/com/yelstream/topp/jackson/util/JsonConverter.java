@@ -1,14 +1,24 @@
 package com.yelstream.topp.jackson.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yelstream.topp.jackson.databind.JsonProjection;
+import com.yelstream.topp.jackson.databind.JsonProjections;
 import com.yelstream.topp.jackson.databind.ObjectMappers;
+import com.yelstream.topp.jackson.metrics.ConversionListener;
+import com.yelstream.topp.jackson.metrics.ConversionListeners;
+import com.yelstream.topp.jackson.metrics.ConversionOperation;
 import com.yelstream.topp.jackson.schema.JsonSchemaType;
+import com.yelstream.topp.jackson.schema.JsonSchemas;
+import com.yelstream.topp.jackson.schema.ValidationCache;
 import com.yelstream.topp.jackson.schema.ValidationException;
+import com.yelstream.topp.jackson.schema.ValidationMode;
 import com.yelstream.topp.jackson.schema.ValidationResult;
+import com.yelstream.topp.jackson.schema.VerificationSampler;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import lombok.With;
 
 import java.io.IOException;
 
@@ -23,7 +33,7 @@ import java.io.IOException;
 @Getter
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class JsonConverter<T> {
     /**
      * JSON Schema and its deserialized object type.
@@ -35,6 +45,44 @@ public class JsonConverter<T> {
      */
     private final ObjectMapper mapper;
 
+    /**
+     * Listener receiving measurements of operations.
+     */
+    @With
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ConversionListener listener;
+
+    /**
+     * Constructor.
+     * @param schemaType JSON Schema and its deserialized object type.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     */
+    public JsonConverter(JsonSchemaType<T> schemaType,
+                         ObjectMapper mapper) {
+        this(schemaType,mapper,ConversionListeners.NOOP);
+    }
+
+    /**
+     * Creates a converter applying a cache of validation verdicts.
+     * @param validationCache Cache of validation verdicts.
+     *                        This may be {@code null} in which case every JSON document is validated.
+     * @return Converter.
+     */
+    public JsonConverter<T> withValidationCache(ValidationCache validationCache) {
+        return new JsonConverter<>(schemaType.withValidationCache(validationCache),mapper,listener);
+    }
+
+    /**
+     * Creates a converter sampling the JSON documents verified after serialization.
+     * @param serializationSampler Sampling of JSON documents verified after serialization.
+     *                             This may be {@code null} in which case every JSON document serialized is verified.
+     * @return Converter.
+     */
+    public JsonConverter<T> withSerializationSampler(VerificationSampler serializationSampler) {
+        return new JsonConverter<>(schemaType.withSerializationSampler(serializationSampler),mapper,listener);
+    }
+
     /**
      * Validates a JSON document against the JSON Schema.
      * @param document JSON document.
@@ -42,17 +90,55 @@ public class JsonConverter<T> {
      * @throws IOException Thrown in case of errors.
      */
     public ValidationResult validate(String document) throws IOException {
-        return schemaType.validate(mapper,document);
+        ValidationResult result;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            result=schemaType.validate(mapper,document);
+            success=result.isValid();
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.VALIDATE,document.length(),System.nanoTime()-start,success);
+        }
+        return result;
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(String document,
+                                     ValidationMode mode) throws IOException {
+        ValidationResult result;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            result=schemaType.validate(mapper,document,mode);
+            success=result.isValid();
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.VALIDATE,document.length(),System.nanoTime()-start,success);
+        }
+        return result;
     }
 
     /**
      * Verifies a JSON document against the JSON Schema.
+     * This applies the verification mode of the JSON Schema type.
      * @param document JSON document.
      * @throws IOException Thrown in case of errors.
      * @throws ValidationException Thrown in case of validation errors.
      */
     public void verify(String document) throws IOException {
-        schemaType.verify(mapper,document);
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            schemaType.verify(mapper,document);
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.VALIDATE,document.length(),System.nanoTime()-start,success);
+        }
     }
 
     /**
@@ -62,7 +148,16 @@ public class JsonConverter<T> {
      * @throws IOException Thrown in case of errors.
      */
     public T deserialize(String document) throws IOException {
-        return schemaType.deserialize(mapper,document);
+        T value;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            value=schemaType.deserialize(mapper,document);
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.DESERIALIZE,document.length(),System.nanoTime()-start,success);
+        }
+        return value;
     }
 
     /**
@@ -76,7 +171,59 @@ public class JsonConverter<T> {
      */
     public T deserialize(String document,
                          boolean verify) throws IOException {
-        return schemaType.deserialize(mapper,document,verify);
+        T value;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            value=schemaType.deserialize(mapper,document,verify);
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.DESERIALIZE,document.length(),System.nanoTime()-start,success);
+        }
+        return value;
+    }
+
+    /**
+     * Deserializes the parts selected by a projection of a JSON document into a Jackson POJO.
+     * Subtrees not selected are skipped by the parser without being bound.
+     * If the schema is non-{@code null} then the parts selected are verified against the JSON Schema limited to
+     * these parts, according to the verification mode of the JSON Schema type.
+     * @param <P> Type of Jackson POJO.
+     * @param document JSON document.
+     * @param projection Projection.
+     * @param type Type of Jackson POJO.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public <P> P deserialize(String document,
+                             JsonProjection projection,
+                             Class<P> type) throws IOException {
+        P value;
+        long start=System.nanoTime();
+        boolean success=false;
+        try {
+            value=JsonSchemas.deserialize(schemaType.getSchema(),mapper,document,projection,type,schemaType.getVerificationMode());
+            success=true;
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.DESERIALIZE,document.length(),System.nanoTime()-start,success);
+        }
+        return value;
+    }
+
+    /**
+     * Deserializes the parts of a JSON document bound by a projection POJO into the projection POJO.
+     * The projection is given by the properties of the projection POJO; see {@link JsonProjections#getProjection(ObjectMapper,Class)}.
+     * @param <P> Type of projection POJO.
+     * @param document JSON document.
+     * @param type Type of projection POJO.
+     * @return Projection POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public <P> P deserializeProjection(String document,
+                                       Class<P> type) throws IOException {
+        return deserialize(document,JsonProjections.getProjection(mapper,type),type);
     }
 
     /**
@@ -88,7 +235,14 @@ public class JsonConverter<T> {
      * @throws ValidationException Thrown in case of validation errors.
      */
     public String serialize(Object value) throws IOException {
-        return schemaType.serialize(mapper,value);
+        String document=null;
+        long start=System.nanoTime();
+        try {
+            document=schemaType.serialize(mapper,value);
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.SERIALIZE,document == null?0:document.length(),System.nanoTime()-start,document!=null);
+        }
+        return document;
     }
 
     /**
@@ -102,7 +256,14 @@ public class JsonConverter<T> {
      */
     public String serialize(Object value,
                             boolean verify) throws IOException {
-        return schemaType.serialize(mapper,value,verify);
+        String document=null;
+        long start=System.nanoTime();
+        try {
+            document=schemaType.serialize(mapper,value,verify);
+        } finally {
+            listener.onConversion(schemaType,ConversionOperation.SERIALIZE,document == null?0:document.length(),System.nanoTime()-start,document!=null);
+        }
+        return document;
     }
 
     /**
@@ -2,8 +2,11 @@ package com.yelstream.topp.jackson.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.databind.DocumentFormat;
+import com.yelstream.topp.jackson.metrics.ConversionListener;
 import com.yelstream.topp.jackson.schema.JsonSchemaType;
 import com.yelstream.topp.jackson.schema.JsonSchemas;
+import com.yelstream.topp.jackson.schema.SchemaRegistry;
 import lombok.experimental.UtilityClass;
 
 import java.net.URI;
@@ -61,4 +64,68 @@ public class JsonConverters {
         JsonSchema schema=JsonSchemas.getSchema(jsonSchemaResource);
         return createJsonConverter(schema,clazz,objectMapper);
     }
+
+    /**
+     * Creates a converter between textual JSON documents and Jackson POJOs.
+     * @param schema JSON Schema constraint.
+     * @param clazz Jackson object class for the deserialized form of JSON documents.
+     * @param objectMapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param listener Listener receiving measurements of operations.
+     * @param <T> Type of Jackson object for the deserialized form of JSON documents.
+     * @return Converter.
+     */
+    public static <T> JsonConverter<T> createJsonConverter(JsonSchema schema,
+                                                           Class<T> clazz,
+                                                           ObjectMapper objectMapper,
+                                                           ConversionListener listener) {
+        JsonSchemaType<T> schemaType=new JsonSchemaType<>(schema,clazz);
+        return new JsonConverter<>(schemaType,objectMapper,listener);
+    }
+
+    /**
+     * Creates a converter between binary JSON documents and Jackson POJOs.
+     * @param schema JSON Schema constraint.
+     * @param clazz Jackson object class for the deserialized form of JSON documents.
+     * @param objectMapper Configuration of mapping between binary JSON documents and Jackson POJOs.
+     *                     This is created by a factory of a binary format such as {@link DocumentFormat#SMILE}.
+     * @param <T> Type of Jackson object for the deserialized form of JSON documents.
+     * @return Converter.
+     */
+    public static <T> BinaryJsonConverter<T> createBinaryJsonConverter(JsonSchema schema,
+                                                                       Class<T> clazz,
+                                                                       ObjectMapper objectMapper) {
+        JsonSchemaType<T> schemaType=new JsonSchemaType<>(schema,clazz);
+        return new BinaryJsonConverter<>(schemaType,objectMapper);
+    }
+
+    /**
+     * Creates a converter between binary JSON documents and Jackson POJOs using a mapper with default settings.
+     * @param schema JSON Schema constraint.
+     * @param clazz Jackson object class for the deserialized form of JSON documents.
+     * @param format Format of JSON documents.
+     * @param <T> Type of Jackson object for the deserialized form of JSON documents.
+     * @return Converter.
+     */
+    public static <T> BinaryJsonConverter<T> createBinaryJsonConverter(JsonSchema schema,
+                                                                       Class<T> clazz,
+                                                                       DocumentFormat format) {
+        return createBinaryJsonConverter(schema,clazz,format.createMapper());
+    }
+
+    /**
+     * Creates a converter between textual JSON documents and Jackson POJOs
+     * using the current version of a named JSON Schema of a registry.
+     * @param registry Registry of JSON Schemas.
+     * @param name Name of JSON Schema.
+     * @param clazz Jackson object class for the deserialized form of JSON documents.
+     * @param objectMapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param <T> Type of Jackson object for the deserialized form of JSON documents.
+     * @return Converter.
+     */
+    public static <T> RegisteredJsonConverter<T> createJsonConverter(SchemaRegistry registry,
+                                                                     String name,
+                                                                     Class<T> clazz,
+                                                                     ObjectMapper objectMapper) {
+        return new RegisteredJsonConverter<>(registry,name,clazz,objectMapper);
+    }
 }
@@ -0,0 +1,240 @@
+package com.yelstream.topp.jackson.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.yelstream.topp.jackson.metrics.ConversionListener;
+import com.yelstream.topp.jackson.metrics.ConversionListeners;
+import com.yelstream.topp.jackson.schema.JsonSchemaType;
+import com.yelstream.topp.jackson.schema.SchemaRegistry;
+import com.yelstream.topp.jackson.schema.SchemaVersion;
+import com.yelstream.topp.jackson.schema.ValidationException;
+import com.yelstream.topp.jackson.schema.ValidationMode;
+import com.yelstream.topp.jackson.schema.ValidationResult;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Converts between textual JSON documents and Jackson POJOs using the current version of a named JSON Schema of
+ * a {@link SchemaRegistry}.
+ * <p>
+ *     Each operation resolves the current version once and applies it throughout, so a version published while an
+ *     operation is in progress applies to later operations only.
+ *     The converter of a version is created once, when the version is first used.
+ * </p>
+ * @param <T> Type of Jackson POJOs for the deserialized form of textual JSON documents.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public class RegisteredJsonConverter<T> {
+    /**
+     * Registry of JSON Schemas.
+     */
+    @Getter
+    private final SchemaRegistry registry;
+
+    /**
+     * Name of JSON Schema.
+     */
+    @Getter
+    @ToString.Include
+    private final String name;
+
+    /**
+     * Type of Jackson POJOs.
+     */
+    @Getter
+    @ToString.Include
+    private final Class<T> type;
+
+    /**
+     * Configuration of mapping between JSON documents and Jackson POJOs.
+     */
+    @Getter
+    private final ObjectMapper mapper;
+
+    /**
+     * Listener receiving measurements of operations.
+     */
+    @Getter
+    private final ConversionListener listener;
+
+    /**
+     * Creation of the JSON Schema type of a version.
+     */
+    private final Function<JsonSchema,JsonSchemaType<T>> schemaTypeFactory;
+
+    /**
+     * Converter of the version used most recently.
+     */
+    private final AtomicReference<Binding<T>> binding=new AtomicReference<>();
+
+    /**
+     * Constructor.
+     * @param registry Registry of JSON Schemas.
+     * @param name Name of JSON Schema.
+     * @param type Type of Jackson POJOs.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     */
+    public RegisteredJsonConverter(SchemaRegistry registry,
+                                   String name,
+                                   Class<T> type,
+                                   ObjectMapper mapper) {
+        this(registry,name,type,mapper,ConversionListeners.NOOP,schema -> new JsonSchemaType<>(schema,type));
+    }
+
+    /**
+     * Constructor.
+     * @param registry Registry of JSON Schemas.
+     * @param name Name of JSON Schema.
+     * @param type Type of Jackson POJOs.
+     * @param mapper Configuration of mapping between JSON documents and Jackson POJOs.
+     * @param listener Listener receiving measurements of operations.
+     * @param schemaTypeFactory Creation of the JSON Schema type of a version,
+     *                          such as one applying a validation cache or a streaming validator.
+     */
+    public RegisteredJsonConverter(SchemaRegistry registry,
+                                   String name,
+                                   Class<T> type,
+                                   ObjectMapper mapper,
+                                   ConversionListener listener,
+                                   Function<JsonSchema,JsonSchemaType<T>> schemaTypeFactory) {
+        this.registry=registry;
+        this.name=name;
+        this.type=type;
+        this.mapper=mapper;
+        this.listener=listener;
+        this.schemaTypeFactory=schemaTypeFactory;
+    }
+
+    /**
+     * Gets the current version of the JSON Schema.
+     * @return Current version.
+     */
+    public SchemaVersion getVersion() {
+        return registry.getVersion(name);
+    }
+
+    /**
+     * Gets the converter of the current version of the JSON Schema.
+     * @return Converter.
+     */
+    public JsonConverter<T> getConverter() {
+        SchemaVersion version=registry.getVersion(name);
+        Binding<T> current=binding.get();
+        if (current == null || current.version!=version) {
+            current=new Binding<>(version,new JsonConverter<>(schemaTypeFactory.apply(version.getSchema()),mapper,listener));
+            binding.set(current);
+        }
+        return current.converter;
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * @param document JSON document.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(String document) throws IOException {
+        return getConverter().validate(document);
+    }
+
+    /**
+     * Validates a JSON document against the JSON Schema.
+     * @param document JSON document.
+     * @param mode Mode of validation.
+     * @return Result of validation.
+     * @throws IOException Thrown in case of errors.
+     */
+    public ValidationResult validate(String document,
+                                     ValidationMode mode) throws IOException {
+        return getConverter().validate(document,mode);
+    }
+
+    /**
+     * Verifies a JSON document against the JSON Schema.
+     * @param document JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public void verify(String document) throws IOException {
+        getConverter().verify(document);
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * @param document JSON document.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public T deserialize(String document) throws IOException {
+        return getConverter().deserialize(document);
+    }
+
+    /**
+     * Deserializes a JSON document into a Jackson POJO.
+     * @param document JSON document.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     * @return Jackson POJO.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public T deserialize(String document,
+                         boolean verify) throws IOException {
+        return getConverter().deserialize(document,verify);
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * The JSON document is verified after serialization.
+     * @param value Jackson POJO.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public String serialize(Object value) throws IOException {
+        return getConverter().serialize(value);
+    }
+
+    /**
+     * Serializes a Jackson POJO into a JSON document.
+     * @param value Jackson POJO.
+     * @param verify Indicates, if verification of JSON document against its JSON Schema is to be performed.
+     * @return JSON document.
+     * @throws IOException Thrown in case of errors.
+     * @throws ValidationException Thrown in case of validation errors.
+     */
+    public String serialize(Object value,
+                            boolean verify) throws IOException {
+        return getConverter().serialize(value,verify);
+    }
+
+    /**
+     * Converter of a version.
+     * @param <T> Type of Jackson POJOs.
+     */
+    private static final class Binding<T> {
+        /**
+         * Version.
+         */
+        private final SchemaVersion version;
+
+        /**
+         * Converter.
+         */
+        private final JsonConverter<T> converter;
+
+        private Binding(SchemaVersion version,
+                        JsonConverter<T> converter) {
+            this.version=version;
+            this.converter=converter;
+        }
+    }
+}
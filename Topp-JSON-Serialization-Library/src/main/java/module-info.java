@@ -4,11 +4,16 @@ module com.yelstream.topp.json.serialization {
 
     requires com.fasterxml.jackson.core;
     requires org.slf4j;
+    requires jdk.jfr;
 
     requires transitive com.fasterxml.jackson.databind;
+    requires transitive com.fasterxml.jackson.dataformat.smile;
+    requires transitive com.fasterxml.jackson.dataformat.cbor;
     requires transitive json.schema.validator;
 
     exports com.yelstream.topp.jackson.databind;
+    exports com.yelstream.topp.jackson.jfr;
+    exports com.yelstream.topp.jackson.metrics;
     exports com.yelstream.topp.jackson.schema;
     exports com.yelstream.topp.jackson.util;
 }
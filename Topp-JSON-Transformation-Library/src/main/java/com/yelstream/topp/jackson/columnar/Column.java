@@ -0,0 +1,78 @@
+package com.yelstream.topp.jackson.columnar;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column of flattened records holding the values at a path.
+ * This is immutable.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded=true)
+@EqualsAndHashCode(onlyExplicitlyIncluded=true)
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class Column {
+    /**
+     * Path of values as a JSON Pointer into records.
+     */
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private final String path;
+
+    /**
+     * Name of column, being the names of the properties of the path separated by dots.
+     */
+    private final String name;
+
+    /**
+     * Type of values.
+     */
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private final ColumnType type;
+
+    /**
+     * Names of the properties of the path.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<String> segments;
+
+    /**
+     * Creates a column.
+     * @param path Path of values as a JSON Pointer into records.
+     * @param type Type of values.
+     * @return Column.
+     * @throws IllegalArgumentException Thrown in case of a path not valid.
+     */
+    public static Column of(String path,
+                            ColumnType type) {
+        if (type == null) {
+            throw new IllegalArgumentException(String.format("Failure to create column; type is null; path is %s!",path));
+        }
+        JsonPointer pointer=JsonPointer.compile(path);
+        if (pointer.matches()) {
+            throw new IllegalArgumentException(String.format("Failure to create column; path addresses the record; path is %s!",path));
+        }
+        List<String> segments=new ArrayList<>();
+        while (!pointer.matches()) {
+            segments.add(pointer.getMatchingProperty());
+            pointer=pointer.tail();
+        }
+        return new Column(path,String.join(".",segments),type,List.copyOf(segments));
+    }
+
+    List<String> segments() {
+        return segments;
+    }
+}
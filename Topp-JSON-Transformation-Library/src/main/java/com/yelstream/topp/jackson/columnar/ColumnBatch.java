@@ -0,0 +1,266 @@
+package com.yelstream.topp.jackson.columnar;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of flattened records held as columns.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Records are restored with the properties of the columns in the order of the layout.
+ *     Objects containing columns are restored as read, including objects {@code null}
+ *     and objects without properties of columns.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class ColumnBatch {
+    /**
+     * Factory of parsers of values of columns of type {@link ColumnType#JSON}.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Mapper of values of columns of type {@link ColumnType#JSON}.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Layout of columns.
+     */
+    @Getter
+    private final ColumnLayout layout;
+
+    /**
+     * Number of records.
+     */
+    @Getter
+    private final int rowCount;
+
+    /**
+     * Columns by index of the layout.
+     */
+    private final ColumnVector[] vectors;
+
+    /**
+     * Bitmaps of rows holding objects by object of the layout.
+     */
+    private final long[][] objects;
+
+    /**
+     * Bitmaps of rows holding {@code null} in place of objects by object of the layout.
+     */
+    private final long[][] objectNulls;
+
+    /**
+     * Gets a column.
+     * @param index Index of column.
+     * @return Column.
+     */
+    public ColumnVector getColumn(int index) {
+        return vectors[index];
+    }
+
+    /**
+     * Gets a column.
+     * @param path Path of column.
+     * @return Column.
+     *         This is {@code null} if there is no column of the path.
+     */
+    public ColumnVector getColumn(String path) {
+        int index=layout.indexOf(path);
+        return index<0?null:vectors[index];
+    }
+
+    /**
+     * Gets all columns.
+     * @return Columns by index of the layout.
+     */
+    public List<ColumnVector> getColumns() {
+        return List.of(vectors);
+    }
+
+    /**
+     * Estimates the number of bytes held by this batch.
+     * @return Estimated number of bytes.
+     */
+    public long estimateSize() {
+        long size=0L;
+        for (ColumnVector vector: vectors) {
+            size+=vector.estimateSize();
+        }
+        for (int i=0; i<objects.length; i++) {
+            size+=(objects[i].length+objectNulls[i].length)*8L;
+        }
+        return size;
+    }
+
+    /**
+     * Restores a record.
+     * @param row Index of record.
+     * @return Record.
+     */
+    public ObjectNode getRecord(int row) {
+        if (row<0 || row>=rowCount) {
+            throw new IndexOutOfBoundsException(String.format("Failure to get record; row is out of bounds; row is %d, row count is %d!",row,rowCount));
+        }
+        ObjectNode record=JsonNodeFactory.instance.objectNode();
+        fill(layout.root,record,row);
+        return record;
+    }
+
+    /**
+     * Restores all records.
+     * @return Records.
+     */
+    public List<JsonNode> toJsonNodes() {
+        List<JsonNode> records=new ArrayList<>(rowCount);
+        for (int row=0; row<rowCount; row++) {
+            records.add(getRecord(row));
+        }
+        return records;
+    }
+
+    /**
+     * Writes all records as root-level values.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        for (int row=0; row<rowCount; row++) {
+            writeObject(layout.root,generator,row);
+        }
+    }
+
+    private void fill(ColumnLayout.Node node,
+                      ObjectNode object,
+                      int row) {
+        for (Map.Entry<String,ColumnLayout.Node> entry: node.children.entrySet()) {
+            ColumnLayout.Node child=entry.getValue();
+            if (child.column>=0) {
+                ColumnVector vector=vectors[child.column];
+                if (!ColumnVector.isSet(vector.getMissingBitmap(),row)) {
+                    object.set(entry.getKey(),toJsonNode(vector,row));
+                }
+            } else {
+                if (ColumnVector.isSet(objectNulls[child.object],row)) {
+                    object.putNull(entry.getKey());
+                } else {
+                    if (ColumnVector.isSet(objects[child.object],row)) {
+                        fill(child,object.putObject(entry.getKey()),row);
+                    }
+                }
+            }
+        }
+    }
+
+    private static JsonNode toJsonNode(ColumnVector vector,
+                                       int row) {
+        JsonNode value;
+        if (ColumnVector.isSet(vector.getNullBitmap(),row)) {
+            value=JsonNodeFactory.instance.nullNode();
+        } else {
+            switch (vector.getType()) {
+                case LONG: {
+                    long longValue=vector.getLongs()[row];
+                    value=longValue == (int)longValue?JsonNodeFactory.instance.numberNode((int)longValue):JsonNodeFactory.instance.numberNode(longValue);
+                    break;
+                }
+                case DOUBLE:
+                    value=JsonNodeFactory.instance.numberNode(vector.getDoubles()[row]);
+                    break;
+                case BOOLEAN:
+                    value=JsonNodeFactory.instance.booleanNode(ColumnVector.isSet(vector.getBooleans(),row));
+                    break;
+                case STRING:
+                    value=JsonNodeFactory.instance.textNode(vector.getString(row));
+                    break;
+                case JSON:
+                    try {
+                        value=MAPPER.readTree(vector.getString(row));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Failure to restore value; type is %s!",vector.getType()));
+            }
+        }
+        return value;
+    }
+
+    private void writeObject(ColumnLayout.Node node,
+                             JsonGenerator generator,
+                             int row) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String,ColumnLayout.Node> entry: node.children.entrySet()) {
+            ColumnLayout.Node child=entry.getValue();
+            if (child.column>=0) {
+                ColumnVector vector=vectors[child.column];
+                if (!ColumnVector.isSet(vector.getMissingBitmap(),row)) {
+                    generator.writeFieldName(entry.getKey());
+                    writeValue(vector,generator,row);
+                }
+            } else {
+                if (ColumnVector.isSet(objectNulls[child.object],row)) {
+                    generator.writeFieldName(entry.getKey());
+                    generator.writeNull();
+                } else {
+                    if (ColumnVector.isSet(objects[child.object],row)) {
+                        generator.writeFieldName(entry.getKey());
+                        writeObject(child,generator,row);
+                    }
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(ColumnVector vector,
+                                   JsonGenerator generator,
+                                   int row) throws IOException {
+        if (ColumnVector.isSet(vector.getNullBitmap(),row)) {
+            generator.writeNull();
+        } else {
+            switch (vector.getType()) {
+                case LONG:
+                    generator.writeNumber(vector.getLongs()[row]);
+                    break;
+                case DOUBLE:
+                    generator.writeNumber(vector.getDoubles()[row]);
+                    break;
+                case BOOLEAN:
+                    generator.writeBoolean(ColumnVector.isSet(vector.getBooleans(),row));
+                    break;
+                case STRING:
+                    generator.writeString(vector.getString(row));
+                    break;
+                case JSON:
+                    try (JsonParser parser=FACTORY.createParser(vector.getString(row))) {
+                        parser.nextToken();
+                        generator.copyCurrentStructure(parser);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Failure to restore value; type is %s!",vector.getType()));
+            }
+        }
+    }
+}
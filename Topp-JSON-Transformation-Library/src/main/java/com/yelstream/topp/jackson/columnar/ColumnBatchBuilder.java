@@ -0,0 +1,401 @@
+package com.yelstream.topp.jackson.columnar;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder flattening records into a batch of columns.
+ * This is not thread-safe.
+ * <p>
+ *     Properties of records without columns are skipped.
+ *     Values of a type other than the type of their column are rejected,
+ *     except for numbers without a fraction in columns of type {@link ColumnType#LONG}.
+ *     Objects containing columns are marked in bitmaps, also when they hold {@code null} or no properties of columns.
+ *     Once a batch is built, the builder starts a new batch.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ColumnBatchBuilder {
+    /**
+     * Factory of generators of values of columns of type {@link ColumnType#JSON}.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Layout of columns.
+     */
+    @Getter
+    private final ColumnLayout layout;
+
+    /**
+     * Maximum number of records of a batch.
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * Values of columns of the current batch.
+     * This is {@code null} until the first record of the batch is added.
+     */
+    private ColumnState[] states;
+
+    /**
+     * Bitmaps of rows holding objects by object of the layout.
+     * This is {@code null} until the first record of the batch is added.
+     */
+    private long[][] objects;
+
+    /**
+     * Bitmaps of rows holding {@code null} in place of objects by object of the layout.
+     * This is {@code null} until the first record of the batch is added.
+     */
+    private long[][] objectNulls;
+
+    /**
+     * Number of the last record giving a value by column.
+     */
+    private final int[] assignedRecords;
+
+    /**
+     * Number of records attempted added.
+     */
+    private int recordCount;
+
+    /**
+     * Number of records of the current batch.
+     */
+    @Getter
+    private int rowCount;
+
+    /**
+     * Constructor.
+     * @param layout Layout of columns.
+     * @param capacity Maximum number of records of a batch.
+     */
+    public ColumnBatchBuilder(ColumnLayout layout,
+                              int capacity) {
+        if (capacity<1) {
+            throw new IllegalArgumentException(String.format("Failure to create builder; capacity is not positive; capacity is %d!",capacity));
+        }
+        this.layout=layout;
+        this.capacity=capacity;
+        this.assignedRecords=new int[layout.size()];
+    }
+
+    /**
+     * Indicates, if the current batch holds as many records as allowed.
+     * @return Indicates, if the batch is full.
+     */
+    public boolean isFull() {
+        return rowCount == capacity;
+    }
+
+    /**
+     * Adds a record.
+     * @param record Record.
+     * @throws IllegalArgumentException Thrown in case of a record not matching the layout.
+     * @throws IllegalStateException Thrown in case of the batch being full.
+     */
+    public void add(JsonNode record) {
+        try (JsonParser parser=record.traverse()) {
+            parser.nextToken();
+            add(parser);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex.getOriginalMessage(),ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Adds the record at the current token of a parser, or at the next token if there is no current token.
+     * On return, the parser is positioned at the last token of the record.
+     * @param parser Parser.
+     * @throws IOException Thrown in case of errors, including records not matching the layout.
+     * @throws IllegalStateException Thrown in case of the batch being full.
+     */
+    public void add(JsonParser parser) throws IOException {
+        if (isFull()) {
+            throw new IllegalStateException(String.format("Failure to add record; batch is full; capacity is %d!",capacity));
+        }
+        if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+            throw new EOFException("Failure to add record; end of input!");
+        }
+        if (parser.currentToken()!=JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser,String.format("Failure to add record; record is not an object; token is %s!",parser.currentToken()));
+        }
+        if (states == null) {
+            states=new ColumnState[layout.size()];
+            for (int i=0; i<states.length; i++) {
+                states[i]=new ColumnState(layout.getColumns().get(i).getType(),capacity);
+            }
+            objects=new long[layout.objectCount][(capacity+63)>>>6];
+            objectNulls=new long[layout.objectCount][(capacity+63)>>>6];
+        }
+        int row=rowCount;
+        recordCount++;
+        for (int i=0; i<objects.length; i++) {
+            objects[i][row>>>6]&=~(1L<<row);
+            objectNulls[i][row>>>6]&=~(1L<<row);
+        }
+        readObject(layout.root,parser,row);
+        for (int i=0; i<states.length; i++) {
+            if (assignedRecords[i] == recordCount) {
+                states[i].clearMissing(row);
+            } else {
+                states[i].setMissing(row);
+            }
+        }
+        rowCount++;
+    }
+
+    /**
+     * Builds the current batch and starts a new batch.
+     * @return Batch.
+     */
+    public ColumnBatch build() {
+        ColumnVector[] vectors=new ColumnVector[layout.size()];
+        for (int i=0; i<vectors.length; i++) {
+            Column column=layout.getColumns().get(i);
+            vectors[i]=states == null?new ColumnState(column.getType(),0).toVector(column,0):states[i].toVector(column,rowCount);
+        }
+        int words=(rowCount+63)>>>6;
+        long[][] batchObjects=new long[layout.objectCount][];
+        long[][] batchObjectNulls=new long[layout.objectCount][];
+        for (int i=0; i<layout.objectCount; i++) {
+            batchObjects[i]=objects == null?new long[words]:Arrays.copyOf(objects[i],words);
+            batchObjectNulls[i]=objectNulls == null?new long[words]:Arrays.copyOf(objectNulls[i],words);
+        }
+        ColumnBatch batch=new ColumnBatch(layout,rowCount,vectors,batchObjects,batchObjectNulls);
+        states=null;
+        objects=null;
+        objectNulls=null;
+        rowCount=0;
+        return batch;
+    }
+
+    private void readObject(ColumnLayout.Node node,
+                            JsonParser parser,
+                            int row) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            ColumnLayout.Node child=node.children.get(parser.getCurrentName());
+            JsonToken token=parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                if (child.column>=0) {
+                    readValue(child.column,parser,token,row);
+                } else {
+                    if (token == JsonToken.START_OBJECT) {
+                        objects[child.object][row>>>6]|=1L<<row;
+                        readObject(child,parser,row);
+                    } else {
+                        if (token!=JsonToken.VALUE_NULL) {
+                            throw new JsonParseException(parser,String.format("Failure to add record; value is not an object; path is %s, token is %s!",parser.getParsingContext().pathAsPointer(),token));
+                        }
+                        objectNulls[child.object][row>>>6]|=1L<<row;
+                    }
+                }
+            }
+        }
+    }
+
+    private void readValue(int column,
+                           JsonParser parser,
+                           JsonToken token,
+                           int row) throws IOException {
+        ColumnState state=states[column];
+        assignedRecords[column]=recordCount;
+        if (token == JsonToken.VALUE_NULL) {
+            state.setNull(row);
+        } else {
+            switch (state.type) {
+                case LONG:
+                    if (token == JsonToken.VALUE_NUMBER_INT) {
+                        state.setLong(row,parser.getLongValue());
+                    } else {
+                        double value=token == JsonToken.VALUE_NUMBER_FLOAT?parser.getDoubleValue():Double.NaN;
+                        if (value!=Math.rint(value) || Math.abs(value)>=0x1p63) {
+                            throw mismatch(parser,column,token);
+                        }
+                        state.setLong(row,(long)value);
+                    }
+                    break;
+                case DOUBLE:
+                    if (!token.isNumeric()) {
+                        throw mismatch(parser,column,token);
+                    }
+                    state.setDouble(row,parser.getDoubleValue());
+                    break;
+                case BOOLEAN:
+                    if (!token.isBoolean()) {
+                        throw mismatch(parser,column,token);
+                    }
+                    state.setBoolean(row,token == JsonToken.VALUE_TRUE);
+                    break;
+                case STRING:
+                    if (token!=JsonToken.VALUE_STRING) {
+                        throw mismatch(parser,column,token);
+                    }
+                    state.setString(row,parser.getText());
+                    break;
+                case JSON: {
+                    StringWriter writer=new StringWriter();
+                    try (JsonGenerator generator=FACTORY.createGenerator(writer)) {
+                        generator.copyCurrentStructure(parser);
+                    }
+                    state.setString(row,writer.toString());
+                    break;
+                }
+                default:
+                    throw new IllegalStateException(String.format("Failure to add record; type is %s!",state.type));
+            }
+        }
+    }
+
+    private JsonParseException mismatch(JsonParser parser,
+                                        int column,
+                                        JsonToken token) {
+        return new JsonParseException(parser,String.format("Failure to add record; value does not match the type of its column; column is %s, token is %s!",layout.getColumns().get(column),token));
+    }
+
+    /**
+     * Values of a column of the current batch.
+     */
+    private static final class ColumnState {
+        private final ColumnType type;
+        private final long[] nulls;
+        private final long[] missing;
+        private final long[] longs;
+        private final double[] doubles;
+        private final long[] booleans;
+        private final int[] codes;
+
+        /**
+         * Codes of strings by string.
+         */
+        private final Map<String,Integer> dictionary;
+
+        /**
+         * Strings by code.
+         */
+        private final List<String> values;
+
+        private ColumnState(ColumnType type,
+                            int capacity) {
+            int words=(capacity+63)>>>6;
+            this.type=type;
+            this.nulls=new long[words];
+            this.missing=new long[words];
+            this.longs=type == ColumnType.LONG?new long[capacity]:null;
+            this.doubles=type == ColumnType.DOUBLE?new double[capacity]:null;
+            this.booleans=type == ColumnType.BOOLEAN?new long[words]:null;
+            boolean strings=type == ColumnType.STRING || type == ColumnType.JSON;
+            this.codes=strings?new int[capacity]:null;
+            this.dictionary=strings?new HashMap<>():null;
+            this.values=strings?new ArrayList<>():null;
+        }
+
+        private void setNull(int row) {
+            nulls[row>>>6]|=1L<<row;
+            clearValue(row);
+        }
+
+        private void setMissing(int row) {
+            missing[row>>>6]|=1L<<row;
+            nulls[row>>>6]&=~(1L<<row);
+            clearValue(row);
+        }
+
+        private void clearMissing(int row) {
+            missing[row>>>6]&=~(1L<<row);
+        }
+
+        private void clearValue(int row) {
+            if (longs!=null) {
+                longs[row]=0L;
+            }
+            if (doubles!=null) {
+                doubles[row]=0.0;
+            }
+            if (booleans!=null) {
+                booleans[row>>>6]&=~(1L<<row);
+            }
+            if (codes!=null) {
+                codes[row]=-1;
+            }
+        }
+
+        private void setLong(int row,
+                             long value) {
+            nulls[row>>>6]&=~(1L<<row);
+            longs[row]=value;
+        }
+
+        private void setDouble(int row,
+                               double value) {
+            nulls[row>>>6]&=~(1L<<row);
+            doubles[row]=value;
+        }
+
+        private void setBoolean(int row,
+                                boolean value) {
+            nulls[row>>>6]&=~(1L<<row);
+            if (value) {
+                booleans[row>>>6]|=1L<<row;
+            } else {
+                booleans[row>>>6]&=~(1L<<row);
+            }
+        }
+
+        private void setString(int row,
+                               String value) {
+            nulls[row>>>6]&=~(1L<<row);
+            Integer code=dictionary.get(value);
+            if (code == null) {
+                code=values.size();
+                dictionary.put(value,code);
+                values.add(value);
+            }
+            codes[row]=code;
+        }
+
+        private ColumnVector toVector(Column column,
+                                      int rowCount) {
+            int words=(rowCount+63)>>>6;
+            return new ColumnVector(column,
+                                    rowCount,
+                                    trim(nulls,words),
+                                    trim(missing,words),
+                                    longs == null?null:longs.length == rowCount?longs:Arrays.copyOf(longs,rowCount),
+                                    doubles == null?null:doubles.length == rowCount?doubles:Arrays.copyOf(doubles,rowCount),
+                                    booleans == null?null:trim(booleans,words),
+                                    codes == null?null:codes.length == rowCount?codes:Arrays.copyOf(codes,rowCount),
+                                    values == null?null:values.toArray(new String[0]));
+        }
+
+        private static long[] trim(long[] bitmap,
+                                   int words) {
+            return bitmap.length == words?bitmap:Arrays.copyOf(bitmap,words);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.yelstream.topp.jackson.columnar;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Flattening of records into batches of columns, and restoring of records from batches.
+ * <p>
+ *     Records are flattened into batches of a fixed number of records, except for the last batch.
+ *     With a parallelism above one, batches are built in parallel and delivered in order.
+ *     Newline-delimited JSON is split into batches by lines before being parsed,
+ *     and must hold a single record per line to give batches of the fixed number of records.
+ * </p>
+ * <p>
+ *     This is immutable and thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class ColumnFlattener {
+    /**
+     * Default number of records of a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE=4096;
+
+    /**
+     * Factory of parsers and generators of newline-delimited JSON.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Separator of records written.
+     */
+    private static final SerializedString NEWLINE=new SerializedString("\n");
+
+    /**
+     * Size of buffer reading newline-delimited JSON.
+     */
+    private static final int BUFFER_SIZE=65536;
+
+    /**
+     * Layout of columns.
+     */
+    @Getter
+    @ToString.Include
+    private final ColumnLayout layout;
+
+    /**
+     * Number of records of a batch.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int batchSize=DEFAULT_BATCH_SIZE;
+
+    /**
+     * Number of threads building batches in parallel.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int parallelism=Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates a builder of batches of the layout and size of batches.
+     * @return Builder of batches.
+     */
+    public ColumnBatchBuilder newBatchBuilder() {
+        if (layout == null) {
+            throw new IllegalStateException("Failure to create builder; layout is null!");
+        }
+        return new ColumnBatchBuilder(layout,batchSize);
+    }
+
+    /**
+     * Flattens records into batches.
+     * @param records Records.
+     * @return Batches.
+     * @throws IOException Thrown in case of being interrupted.
+     * @throws IllegalArgumentException Thrown in case of records not matching the layout.
+     */
+    public List<ColumnBatch> flatten(List<? extends JsonNode> records) throws IOException {
+        List<ColumnBatch> batches=new ArrayList<>();
+        if (parallelism<=1 || records.size()<=batchSize) {
+            ColumnBatchBuilder builder=newBatchBuilder();
+            for (JsonNode record: records) {
+                builder.add(record);
+                if (builder.isFull()) {
+                    batches.add(builder.build());
+                }
+            }
+            if (builder.getRowCount()>0) {
+                batches.add(builder.build());
+            }
+        } else {
+            int[] index={0};
+            process(()->{
+                Callable<List<ColumnBatch>> task=null;
+                if (index[0]<records.size()) {
+                    List<? extends JsonNode> chunk=records.subList(index[0],Math.min(index[0]+batchSize,records.size()));
+                    index[0]+=chunk.size();
+                    task=()->{
+                        ColumnBatchBuilder builder=newBatchBuilder();
+                        for (JsonNode record: chunk) {
+                            builder.add(record);
+                        }
+                        return List.of(builder.build());
+                    };
+                }
+                return task;
+            },batches::add);
+        }
+        return batches;
+    }
+
+    /**
+     * Flattens records read as newline-delimited JSON into batches.
+     * @param in Source of records.
+     *           This is not closed.
+     * @return Batches.
+     * @throws IOException Thrown in case of errors, including records not matching the layout.
+     */
+    public List<ColumnBatch> flatten(InputStream in) throws IOException {
+        List<ColumnBatch> batches=new ArrayList<>();
+        flatten(in,batches::add);
+        return batches;
+    }
+
+    /**
+     * Flattens records read as newline-delimited JSON into batches delivered in order.
+     * Memory use is proportional to the size of batches and the parallelism.
+     * @param in Source of records.
+     *           This is not closed.
+     * @param consumer Consumer of batches.
+     *                 This is invoked by the calling thread.
+     * @throws IOException Thrown in case of errors, including records not matching the layout.
+     */
+    public void flatten(InputStream in,
+                        Consumer<ColumnBatch> consumer) throws IOException {
+        if (parallelism<=1) {
+            try (JsonParser parser=FACTORY.createParser(in)) {
+                parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                parseChunk(parser,consumer);
+            }
+        } else {
+            LineChunker chunker=new LineChunker(in,batchSize);
+            process(()->{
+                byte[] chunk=chunker.next();
+                Callable<List<ColumnBatch>> task=null;
+                if (chunk!=null) {
+                    task=()->{
+                        List<ColumnBatch> batches=new ArrayList<>(1);
+                        try (JsonParser parser=FACTORY.createParser(chunk)) {
+                            parseChunk(parser,batches::add);
+                        }
+                        return batches;
+                    };
+                }
+                return task;
+            },consumer);
+        }
+    }
+
+    /**
+     * Restores the records of batches as newline-delimited JSON.
+     * @param batches Batches.
+     * @param out Target of records.
+     *            This is not closed.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static void unflatten(List<ColumnBatch> batches,
+                                 OutputStream out) throws IOException {
+        try (JsonGenerator generator=FACTORY.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(NEWLINE);
+            for (ColumnBatch batch: batches) {
+                batch.writeTo(generator);
+            }
+        }
+    }
+
+    /**
+     * Restores the records of batches.
+     * @param batches Batches.
+     * @return Records.
+     */
+    public static List<JsonNode> unflatten(List<ColumnBatch> batches) {
+        List<JsonNode> records=new ArrayList<>();
+        for (ColumnBatch batch: batches) {
+            records.addAll(batch.toJsonNodes());
+        }
+        return records;
+    }
+
+    private void parseChunk(JsonParser parser,
+                            Consumer<ColumnBatch> consumer) throws IOException {
+        ColumnBatchBuilder builder=newBatchBuilder();
+        while (parser.nextToken()!=null) {
+            builder.add(parser);
+            if (builder.isFull()) {
+                consumer.accept(builder.build());
+            }
+        }
+        if (builder.getRowCount()>0) {
+            consumer.accept(builder.build());
+        }
+    }
+
+    /**
+     * Source of tasks building batches.
+     */
+    @FunctionalInterface
+    private interface TaskSource {
+        /**
+         * Gets the next task.
+         * @return Task.
+         *         This is {@code null} if there are no more tasks.
+         * @throws IOException Thrown in case of errors.
+         */
+        Callable<List<ColumnBatch>> next() throws IOException;
+    }
+
+    /**
+     * Runs tasks in parallel and delivers their batches in order.
+     * @param source Source of tasks.
+     * @param consumer Consumer of batches.
+     * @throws IOException Thrown in case of errors.
+     */
+    private void process(TaskSource source,
+                         Consumer<ColumnBatch> consumer) throws IOException {
+        ExecutorService executor=Executors.newFixedThreadPool(parallelism,runnable->{
+            Thread thread=new Thread(runnable,"column-flattener");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Queue<Future<List<ColumnBatch>>> results=new ArrayDeque<>();
+            Callable<List<ColumnBatch>> task=source.next();
+            while (task!=null || !results.isEmpty()) {
+                while (task!=null && results.size()<parallelism*2) {
+                    results.add(executor.submit(task));
+                    task=source.next();
+                }
+                getBatches(results.poll()).forEach(consumer);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<ColumnBatch> getBatches(Future<List<ColumnBatch>> result) throws IOException {
+        List<ColumnBatch> batches;
+        try {
+            batches=result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Failure to flatten records; interrupted!");
+        } catch (ExecutionException ex) {
+            Throwable cause=ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException("Failure to flatten records!",cause);
+        }
+        return batches;
+    }
+
+    /**
+     * Splitting of newline-delimited JSON into chunks of a number of non-blank lines.
+     * This is not thread-safe.
+     */
+    private static final class LineChunker {
+        private final InputStream in;
+
+        private final int lineCount;
+
+        private final byte[] buffer=new byte[BUFFER_SIZE];
+
+        /**
+         * Start of bytes of the buffer not yet added to a chunk.
+         */
+        private int start;
+
+        /**
+         * End of bytes read into the buffer.
+         */
+        private int end;
+
+        private boolean endOfInput;
+
+        private LineChunker(InputStream in,
+                            int lineCount) {
+            this.in=in;
+            this.lineCount=lineCount;
+        }
+
+        /**
+         * Reads the next chunk.
+         * @return Chunk.
+         *         This is {@code null} at the end of input.
+         * @throws IOException Thrown in case of errors.
+         */
+        private byte[] next() throws IOException {
+            ByteArrayOutputStream chunk=new ByteArrayOutputStream();
+            int lines=0;
+            boolean content=false;
+            while (lines<lineCount && !(start == end && endOfInput)) {
+                if (start == end) {
+                    int count=in.read(buffer);
+                    start=0;
+                    end=Math.max(count,0);
+                    endOfInput=count<0;
+                } else {
+                    int i=start;
+                    while (i<end && lines<lineCount) {
+                        byte b=buffer[i++];
+                        if (b == '\n') {
+                            if (content) {
+                                lines++;
+                                content=false;
+                            }
+                        } else {
+                            if (b!=' ' && b!='\t' && b!='\r') {
+                                content=true;
+                            }
+                        }
+                    }
+                    chunk.write(buffer,start,i-start);
+                    start=i;
+                }
+            }
+            return lines>0 || content?chunk.toByteArray():null;
+        }
+    }
+}
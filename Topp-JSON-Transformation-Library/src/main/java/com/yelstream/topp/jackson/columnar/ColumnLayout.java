@@ -0,0 +1,122 @@
+package com.yelstream.topp.jackson.columnar;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columns of flattened records.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link ColumnLayouts}.
+ *     Paths of columns form a tree, where no path is a prefix of another path.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public final class ColumnLayout {
+    /**
+     * Columns.
+     */
+    @Getter
+    @ToString.Include
+    private final List<Column> columns;
+
+    /**
+     * Indexes of columns by path.
+     */
+    private final Map<String,Integer> indexes;
+
+    /**
+     * Tree of the paths of columns.
+     */
+    final Node root;
+
+    /**
+     * Number of objects containing columns, excluding records.
+     */
+    final int objectCount;
+
+    ColumnLayout(List<Column> columns) {
+        this.columns=List.copyOf(columns);
+        this.indexes=new HashMap<>();
+        this.root=new Node();
+        for (int i=0; i<this.columns.size(); i++) {
+            Column column=this.columns.get(i);
+            if (indexes.put(column.getPath(),i)!=null) {
+                throw new IllegalArgumentException(String.format("Failure to create layout; path is not unique; path is %s!",column.getPath()));
+            }
+            Node node=root;
+            for (String segment: column.segments()) {
+                if (node.column>=0) {
+                    throw new IllegalArgumentException(String.format("Failure to create layout; path is within the path of another column; path is %s!",column.getPath()));
+                }
+                node=node.children.computeIfAbsent(segment,name->new Node());
+            }
+            if (!node.children.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Failure to create layout; path contains the path of another column; path is %s!",column.getPath()));
+            }
+            node.column=i;
+        }
+        this.objectCount=root.number(0);
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return Number of columns.
+     */
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Gets the index of a column.
+     * @param path Path of column.
+     * @return Index of column.
+     *         This is -1 if there is no column of the path.
+     */
+    public int indexOf(String path) {
+        Integer index=indexes.get(path);
+        return index == null?-1:index;
+    }
+
+    /**
+     * Node of the tree of paths of columns.
+     */
+    static final class Node {
+        /**
+         * Nodes of properties by name, in the order of columns.
+         */
+        final Map<String,Node> children=new LinkedHashMap<>();
+
+        /**
+         * Index of the column of this path.
+         * This is -1 for objects.
+         */
+        int column=-1;
+
+        /**
+         * Index of the object of this path.
+         * This is -1 for columns and records.
+         */
+        int object=-1;
+
+        private int number(int next) {
+            int count=next;
+            for (Node child: children.values()) {
+                if (child.column<0) {
+                    child.object=count++;
+                    count=child.number(count);
+                }
+            }
+            return count;
+        }
+    }
+}
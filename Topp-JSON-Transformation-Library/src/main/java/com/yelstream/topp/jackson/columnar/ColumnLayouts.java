@@ -0,0 +1,234 @@
+package com.yelstream.topp.jackson.columnar;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility creating instances of {@link ColumnLayout}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class ColumnLayouts {
+    /**
+     * Creates a layout of columns.
+     * @param columns Columns.
+     * @return Layout.
+     * @throws IllegalArgumentException Thrown in case of paths of columns overlapping.
+     */
+    public static ColumnLayout of(Column... columns) {
+        return of(Arrays.asList(columns));
+    }
+
+    /**
+     * Creates a layout of columns.
+     * @param columns Columns.
+     * @return Layout.
+     * @throws IllegalArgumentException Thrown in case of paths of columns overlapping.
+     */
+    public static ColumnLayout of(List<Column> columns) {
+        return new ColumnLayout(columns);
+    }
+
+    /**
+     * Creates the layout of the records described by a JSON Schema,
+     * such as the schema node of the JSON Schema of a {@code JsonSchemaType}.
+     * <p>
+     *     Properties of objects are flattened into a column per scalar property, in the order of the JSON Schema.
+     *     Properties of type {@code integer}, {@code number}, {@code boolean} and {@code string}
+     *     become columns of type {@link ColumnType#LONG}, {@link ColumnType#DOUBLE}, {@link ColumnType#BOOLEAN}
+     *     and {@link ColumnType#STRING}, also when {@code null} is allowed.
+     *     Arrays, objects without properties and properties of other or several types
+     *     become columns of type {@link ColumnType#JSON}.
+     * </p>
+     * <p>
+     *     Properties of subschemas of {@code allOf} and of local references are included.
+     *     Recursive references become columns of type {@link ColumnType#JSON}.
+     * </p>
+     * @param schema JSON Schema.
+     * @return Layout.
+     * @throws IllegalArgumentException Thrown in case of a JSON Schema not describing objects with properties.
+     */
+    public static ColumnLayout fromSchema(JsonNode schema) {
+        List<Column> columns=new ArrayList<>();
+        Walker walker=new Walker(schema,columns);
+        Map<String,JsonNode> properties=walker.getProperties(schema,new HashSet<>());
+        if (properties == null) {
+            throw new IllegalArgumentException("Failure to create layout; schema does not describe objects with properties!");
+        }
+        walker.walkProperties(properties,"",new HashSet<>());
+        return of(columns);
+    }
+
+    /**
+     * Walk of a JSON Schema collecting columns.
+     */
+    private static final class Walker {
+        private final JsonNode root;
+
+        private final List<Column> columns;
+
+        private Walker(JsonNode root,
+                       List<Column> columns) {
+            this.root=root;
+            this.columns=columns;
+        }
+
+        /**
+         * Walks the subschema of a property.
+         * @param schema Subschema.
+         * @param path Path of property.
+         * @param references References followed to the subschema.
+         */
+        private void walk(JsonNode schema,
+                          String path,
+                          Set<String> references) {
+            Set<String> followed=new HashSet<>(references);
+            JsonNode resolved=resolve(schema,followed);
+            if (resolved == null) {
+                columns.add(Column.of(path,ColumnType.JSON));
+            } else {
+                Map<String,JsonNode> properties=getProperties(resolved,new HashSet<>(followed));
+                if (properties!=null) {
+                    walkProperties(properties,path,followed);
+                } else {
+                    columns.add(Column.of(path,getType(resolved)));
+                }
+            }
+        }
+
+        private void walkProperties(Map<String,JsonNode> properties,
+                                    String path,
+                                    Set<String> references) {
+            for (Map.Entry<String,JsonNode> property: properties.entrySet()) {
+                walk(property.getValue(),path+"/"+escape(property.getKey()),references);
+            }
+        }
+
+        /**
+         * Resolves a local reference of a subschema.
+         * @param schema Subschema.
+         * @param references References followed, updated by the reference resolved.
+         * @return Resolved subschema.
+         *         This is {@code null} in case of a recursive reference.
+         */
+        private JsonNode resolve(JsonNode schema,
+                                 Set<String> references) {
+            JsonNode result=schema;
+            while (result!=null && result.has("$ref") && result.get("$ref").asText().startsWith("#")) {
+                String pointer=result.get("$ref").asText().substring(1);
+                if (references.add(pointer)) {
+                    JsonNode target=root.at(pointer);
+                    if (target.isMissingNode()) {
+                        throw new IllegalArgumentException(String.format("Failure to create layout; reference is not resolved; reference is %s!",result.get("$ref")));
+                    }
+                    result=target;
+                } else {
+                    result=null;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the properties of a subschema of objects, including properties of subschemas of {@code allOf}.
+         * @param schema Subschema.
+         * @param references References followed to the subschema.
+         * @return Subschemas of properties by name.
+         *         This is {@code null} if the subschema does not describe objects with properties.
+         */
+        private Map<String,JsonNode> getProperties(JsonNode schema,
+                                                   Set<String> references) {
+            Map<String,JsonNode> properties=null;
+            Set<String> types=getTypes(schema);
+            if (types.isEmpty() || (types.size() == 1 && types.contains("object"))) {
+                JsonNode propertiesNode=schema.get("properties");
+                if (propertiesNode!=null && propertiesNode.size()>0) {
+                    properties=new LinkedHashMap<>();
+                    Iterator<Map.Entry<String,JsonNode>> fields=propertiesNode.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String,JsonNode> field=fields.next();
+                        properties.put(field.getKey(),field.getValue());
+                    }
+                }
+                JsonNode allOf=schema.get("allOf");
+                if (allOf!=null) {
+                    for (JsonNode subschema: allOf) {
+                        Set<String> followed=new HashSet<>(references);
+                        JsonNode resolved=resolve(subschema,followed);
+                        Map<String,JsonNode> subproperties=resolved == null?null:getProperties(resolved,followed);
+                        if (subproperties!=null) {
+                            if (properties == null) {
+                                properties=new LinkedHashMap<>();
+                            }
+                            for (Map.Entry<String,JsonNode> subproperty: subproperties.entrySet()) {
+                                properties.putIfAbsent(subproperty.getKey(),subproperty.getValue());
+                            }
+                        }
+                    }
+                }
+            }
+            return properties;
+        }
+
+        private static ColumnType getType(JsonNode schema) {
+            ColumnType type=ColumnType.JSON;
+            Set<String> types=getTypes(schema);
+            if (types.size() == 1) {
+                switch (types.iterator().next()) {
+                    case "integer":
+                        type=ColumnType.LONG;
+                        break;
+                    case "number":
+                        type=ColumnType.DOUBLE;
+                        break;
+                    case "boolean":
+                        type=ColumnType.BOOLEAN;
+                        break;
+                    case "string":
+                        type=ColumnType.STRING;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return type;
+        }
+
+        /**
+         * Gets the types of a subschema other than {@code null}.
+         * @param schema Subschema.
+         * @return Types.
+         */
+        private static Set<String> getTypes(JsonNode schema) {
+            Set<String> types=new HashSet<>();
+            JsonNode type=schema.get("type");
+            if (type!=null) {
+                if (type.isArray()) {
+                    for (JsonNode element: type) {
+                        types.add(element.asText());
+                    }
+                } else {
+                    types.add(type.asText());
+                }
+            }
+            types.remove("null");
+            return types;
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("~","~0").replace("/","~1");
+    }
+}
@@ -0,0 +1,35 @@
+package com.yelstream.topp.jackson.columnar;
+
+/**
+ * Type of values of a column.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum ColumnType {
+    /**
+     * Integers held as {@code long} values.
+     */
+    LONG,
+
+    /**
+     * Numbers held as {@code double} values.
+     */
+    DOUBLE,
+
+    /**
+     * Booleans held as bits.
+     */
+    BOOLEAN,
+
+    /**
+     * Strings held as codes into a dictionary of distinct strings.
+     */
+    STRING,
+
+    /**
+     * Values of any type, such as arrays, held as codes into a dictionary of distinct compact JSON texts.
+     */
+    JSON
+}
@@ -0,0 +1,224 @@
+package com.yelstream.topp.jackson.columnar;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Values of a column of a batch of flattened records.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Values are held in primitive arrays of the type of the column,
+ *     and strings are held as codes into a dictionary of the distinct strings of the batch.
+ *     Values {@code null} and missing values are marked in bitmaps,
+ *     in which case the primitive value is zero and the code of strings is -1.
+ *     Arrays returned are shared and must not be modified.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class ColumnVector {
+    /**
+     * Column.
+     */
+    @Getter
+    private final Column column;
+
+    /**
+     * Number of rows.
+     */
+    @Getter
+    private final int rowCount;
+
+    /**
+     * Bitmap of rows holding {@code null}.
+     */
+    private final long[] nulls;
+
+    /**
+     * Bitmap of rows without a value.
+     */
+    private final long[] missing;
+
+    /**
+     * Values of a column of type {@link ColumnType#LONG}.
+     * This is {@code null} for other types.
+     */
+    @Getter
+    private final long[] longs;
+
+    /**
+     * Values of a column of type {@link ColumnType#DOUBLE}.
+     * This is {@code null} for other types.
+     */
+    @Getter
+    private final double[] doubles;
+
+    /**
+     * Bitmap of values of a column of type {@link ColumnType#BOOLEAN}.
+     * This is {@code null} for other types.
+     */
+    @Getter
+    private final long[] booleans;
+
+    /**
+     * Codes of values of columns of type {@link ColumnType#STRING} and {@link ColumnType#JSON}.
+     * This is {@code null} for other types.
+     */
+    @Getter
+    private final int[] codes;
+
+    /**
+     * Distinct values of columns of type {@link ColumnType#STRING} and {@link ColumnType#JSON} by code.
+     * This is {@code null} for other types.
+     */
+    @Getter
+    private final String[] dictionary;
+
+    /**
+     * Gets the type of values.
+     * @return Type of values.
+     */
+    public ColumnType getType() {
+        return column.getType();
+    }
+
+    /**
+     * Indicates, if a row holds a value other than {@code null}.
+     * @param row Index of row.
+     * @return Indicates, if the row holds a value.
+     */
+    public boolean hasValue(int row) {
+        checkRow(row);
+        return !isSet(nulls,row) && !isSet(missing,row);
+    }
+
+    /**
+     * Indicates, if a row holds {@code null}.
+     * @param row Index of row.
+     * @return Indicates, if the row holds {@code null}.
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return isSet(nulls,row);
+    }
+
+    /**
+     * Indicates, if a row has no value, not even {@code null}.
+     * @param row Index of row.
+     * @return Indicates, if the row has no value.
+     */
+    public boolean isMissing(int row) {
+        checkRow(row);
+        return isSet(missing,row);
+    }
+
+    /**
+     * Gets the value of a row of a column of type {@link ColumnType#LONG}.
+     * @param row Index of row.
+     * @return Value.
+     */
+    public long getLong(int row) {
+        checkRow(row);
+        checkType(ColumnType.LONG);
+        return longs[row];
+    }
+
+    /**
+     * Gets the value of a row of a column of type {@link ColumnType#DOUBLE}.
+     * @param row Index of row.
+     * @return Value.
+     */
+    public double getDouble(int row) {
+        checkRow(row);
+        checkType(ColumnType.DOUBLE);
+        return doubles[row];
+    }
+
+    /**
+     * Gets the value of a row of a column of type {@link ColumnType#BOOLEAN}.
+     * @param row Index of row.
+     * @return Value.
+     */
+    public boolean getBoolean(int row) {
+        checkRow(row);
+        checkType(ColumnType.BOOLEAN);
+        return isSet(booleans,row);
+    }
+
+    /**
+     * Gets the value of a row of a column of type {@link ColumnType#STRING},
+     * or the compact JSON text of a row of a column of type {@link ColumnType#JSON}.
+     * @param row Index of row.
+     * @return Value.
+     *         This is {@code null} if the row has no value.
+     */
+    public String getString(int row) {
+        checkRow(row);
+        if (codes == null) {
+            throw new IllegalStateException(String.format("Failure to get value; column does not hold strings; column is %s!",column));
+        }
+        int code=codes[row];
+        return code<0?null:dictionary[code];
+    }
+
+    /**
+     * Gets the bitmap of rows holding {@code null}.
+     * @return Bitmap, where bit {@code row%64} of element {@code row/64} is set for rows holding {@code null}.
+     */
+    public long[] getNullBitmap() {
+        return nulls;
+    }
+
+    /**
+     * Gets the bitmap of rows without a value.
+     * @return Bitmap, where bit {@code row%64} of element {@code row/64} is set for rows without a value.
+     */
+    public long[] getMissingBitmap() {
+        return missing;
+    }
+
+    /**
+     * Estimates the number of bytes held by this column.
+     * @return Estimated number of bytes.
+     */
+    public long estimateSize() {
+        long size=(nulls.length+missing.length)*8L;
+        if (longs!=null) {
+            size+=longs.length*8L;
+        }
+        if (doubles!=null) {
+            size+=doubles.length*8L;
+        }
+        if (booleans!=null) {
+            size+=booleans.length*8L;
+        }
+        if (codes!=null) {
+            size+=codes.length*4L;
+            for (String value: dictionary) {
+                size+=56L+value.length();
+            }
+        }
+        return size;
+    }
+
+    static boolean isSet(long[] bitmap,
+                         int row) {
+        return (bitmap[row>>>6]&(1L<<row))!=0;
+    }
+
+    private void checkRow(int row) {
+        if (row<0 || row>=rowCount) {
+            throw new IndexOutOfBoundsException(String.format("Failure to get value; row is out of bounds; row is %d, row count is %d!",row,rowCount));
+        }
+    }
+
+    private void checkType(ColumnType type) {
+        if (column.getType()!=type) {
+            throw new IllegalStateException(String.format("Failure to get value; column is not of type %s; column is %s!",type,column));
+        }
+    }
+}
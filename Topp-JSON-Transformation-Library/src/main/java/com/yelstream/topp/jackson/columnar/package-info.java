@@ -0,0 +1,4 @@
+/**
+ * Column-oriented batches of flattened JSON records.
+ */
+package com.yelstream.topp.jackson.columnar;
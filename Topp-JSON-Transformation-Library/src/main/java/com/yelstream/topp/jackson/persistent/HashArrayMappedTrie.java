@@ -0,0 +1,419 @@
+package com.yelstream.topp.jackson.persistent;
+
+import java.util.Arrays;
+
+/**
+ * Persistent hash array mapped trie from names to integers.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Nodes hold entries and child nodes in separate bitmaps, indexed by 5 bits of the hash per level.
+ *     Lookup, update and removal take time logarithmic in base 32 of the size,
+ *     and copy only the path to the entry changed.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class HashArrayMappedTrie {
+    private static final int BITS=5;
+
+    private static final int MASK=(1<<BITS)-1;
+
+    static final HashArrayMappedTrie EMPTY=new HashArrayMappedTrie(BitmapNode.EMPTY,0);
+
+    private final Node root;
+
+    private final int size;
+
+    private HashArrayMappedTrie(Node root,
+                                int size) {
+        this.root=root;
+        this.size=size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the value of a name.
+     * @param name Name.
+     * @param absent Value returned if the name is absent.
+     * @return Value.
+     */
+    int get(String name,
+            int absent) {
+        return root.get(0,hash(name),name,absent);
+    }
+
+    /**
+     * Creates a trie with a name set to a value.
+     * @param name Name.
+     * @param value Value.
+     * @return Trie.
+     */
+    HashArrayMappedTrie with(String name,
+                             int value) {
+        boolean[] added=new boolean[1];
+        Node newRoot=root.with(0,hash(name),name,value,added);
+        return newRoot == root?this:new HashArrayMappedTrie(newRoot,added[0]?size+1:size);
+    }
+
+    /**
+     * Creates a trie without a name.
+     * @param name Name.
+     * @return Trie.
+     */
+    HashArrayMappedTrie without(String name) {
+        Node newRoot=root.without(0,hash(name),name);
+        return newRoot == root?this:new HashArrayMappedTrie(newRoot,size-1);
+    }
+
+    private static int hash(String name) {
+        int h=name.hashCode();
+        return h^(h>>>16);
+    }
+
+    private abstract static class Node {
+        abstract int get(int shift,
+                         int hash,
+                         String name,
+                         int absent);
+
+        abstract Node with(int shift,
+                           int hash,
+                           String name,
+                           int value,
+                           boolean[] added);
+
+        abstract Node without(int shift,
+                              int hash,
+                              String name);
+
+        /**
+         * Indicates if this holds a single entry and no child nodes, and may be inlined into its parent.
+         * @return Indicates if a single entry.
+         */
+        abstract boolean isSingleEntry();
+
+        abstract String getSingleName();
+
+        abstract int getSingleValue();
+
+        abstract boolean isEmpty();
+    }
+
+    private static final class BitmapNode extends Node {
+        private static final BitmapNode EMPTY=new BitmapNode(0,0,new String[0],new int[0],new Node[0]);
+
+        /**
+         * Bitmap of positions holding entries.
+         */
+        private final int entryMap;
+
+        /**
+         * Bitmap of positions holding child nodes.
+         */
+        private final int nodeMap;
+
+        private final String[] names;
+
+        private final int[] values;
+
+        private final Node[] nodes;
+
+        private BitmapNode(int entryMap,
+                           int nodeMap,
+                           String[] names,
+                           int[] values,
+                           Node[] nodes) {
+            this.entryMap=entryMap;
+            this.nodeMap=nodeMap;
+            this.names=names;
+            this.values=values;
+            this.nodes=nodes;
+        }
+
+        @Override
+        int get(int shift,
+                int hash,
+                String name,
+                int absent) {
+            int bit=1<<((hash>>>shift)&MASK);
+            int result=absent;
+            if ((entryMap&bit)!=0) {
+                int index=Integer.bitCount(entryMap&(bit-1));
+                if (names[index].equals(name)) {
+                    result=values[index];
+                }
+            } else {
+                if ((nodeMap&bit)!=0) {
+                    result=nodes[Integer.bitCount(nodeMap&(bit-1))].get(shift+BITS,hash,name,absent);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        Node with(int shift,
+                  int hash,
+                  String name,
+                  int value,
+                  boolean[] added) {
+            int bit=1<<((hash>>>shift)&MASK);
+            Node result;
+            if ((entryMap&bit)!=0) {
+                int index=Integer.bitCount(entryMap&(bit-1));
+                String existing=names[index];
+                if (existing.equals(name)) {
+                    if (values[index] == value) {
+                        result=this;
+                    } else {
+                        int[] newValues=values.clone();
+                        newValues[index]=value;
+                        result=new BitmapNode(entryMap,nodeMap,names,newValues,nodes);
+                    }
+                } else {
+                    Node child=merge(shift+BITS,hash(existing),existing,values[index],hash,name,value);
+                    added[0]=true;
+                    int nodeIndex=Integer.bitCount(nodeMap&(bit-1));
+                    result=new BitmapNode(entryMap^bit,nodeMap|bit,remove(names,index),remove(values,index),insert(nodes,nodeIndex,child));
+                }
+            } else {
+                if ((nodeMap&bit)!=0) {
+                    int nodeIndex=Integer.bitCount(nodeMap&(bit-1));
+                    Node child=nodes[nodeIndex];
+                    Node newChild=child.with(shift+BITS,hash,name,value,added);
+                    if (newChild == child) {
+                        result=this;
+                    } else {
+                        Node[] newNodes=nodes.clone();
+                        newNodes[nodeIndex]=newChild;
+                        result=new BitmapNode(entryMap,nodeMap,names,values,newNodes);
+                    }
+                } else {
+                    int index=Integer.bitCount(entryMap&(bit-1));
+                    added[0]=true;
+                    result=new BitmapNode(entryMap|bit,nodeMap,insert(names,index,name),insert(values,index,value),nodes);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        Node without(int shift,
+                     int hash,
+                     String name) {
+            int bit=1<<((hash>>>shift)&MASK);
+            Node result=this;
+            if ((entryMap&bit)!=0) {
+                int index=Integer.bitCount(entryMap&(bit-1));
+                if (names[index].equals(name)) {
+                    result=new BitmapNode(entryMap^bit,nodeMap,remove(names,index),remove(values,index),nodes);
+                }
+            } else {
+                if ((nodeMap&bit)!=0) {
+                    int nodeIndex=Integer.bitCount(nodeMap&(bit-1));
+                    Node child=nodes[nodeIndex];
+                    Node newChild=child.without(shift+BITS,hash,name);
+                    if (newChild!=child) {
+                        if (newChild.isSingleEntry()) {
+                            String childName=newChild.getSingleName();
+                            int index=Integer.bitCount(entryMap&(bit-1));
+                            result=new BitmapNode(entryMap|bit,nodeMap^bit,insert(names,index,childName),insert(values,index,newChild.getSingleValue()),remove(nodes,nodeIndex));
+                        } else {
+                            if (newChild.isEmpty()) {
+                                result=new BitmapNode(entryMap,nodeMap^bit,names,values,remove(nodes,nodeIndex));
+                            } else {
+                                Node[] newNodes=nodes.clone();
+                                newNodes[nodeIndex]=newChild;
+                                result=new BitmapNode(entryMap,nodeMap,names,values,newNodes);
+                            }
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        boolean isSingleEntry() {
+            return nodeMap == 0 && names.length == 1;
+        }
+
+        @Override
+        String getSingleName() {
+            return names[0];
+        }
+
+        @Override
+        int getSingleValue() {
+            return values[0];
+        }
+
+        @Override
+        boolean isEmpty() {
+            return entryMap == 0 && nodeMap == 0;
+        }
+    }
+
+    /**
+     * Node of entries whose names have equal hashes.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+
+        private final String[] names;
+
+        private final int[] values;
+
+        private CollisionNode(int hash,
+                              String[] names,
+                              int[] values) {
+            this.hash=hash;
+            this.names=names;
+            this.values=values;
+        }
+
+        private int indexOf(String name) {
+            int result=-1;
+            for (int i=0; i<names.length && result<0; i++) {
+                if (names[i].equals(name)) {
+                    result=i;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        int get(int shift,
+                int hash,
+                String name,
+                int absent) {
+            int index=indexOf(name);
+            return index<0?absent:values[index];
+        }
+
+        @Override
+        Node with(int shift,
+                  int hash,
+                  String name,
+                  int value,
+                  boolean[] added) {
+            int index=indexOf(name);
+            Node result;
+            if (index<0) {
+                added[0]=true;
+                result=new CollisionNode(this.hash,insert(names,names.length,name),insert(values,values.length,value));
+            } else {
+                if (values[index] == value) {
+                    result=this;
+                } else {
+                    int[] newValues=values.clone();
+                    newValues[index]=value;
+                    result=new CollisionNode(this.hash,names,newValues);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        Node without(int shift,
+                     int hash,
+                     String name) {
+            int index=indexOf(name);
+            return index<0?this:new CollisionNode(this.hash,remove(names,index),remove(values,index));
+        }
+
+        @Override
+        boolean isSingleEntry() {
+            return names.length == 1;
+        }
+
+        @Override
+        String getSingleName() {
+            return names[0];
+        }
+
+        @Override
+        int getSingleValue() {
+            return values[0];
+        }
+
+        @Override
+        boolean isEmpty() {
+            return names.length == 0;
+        }
+    }
+
+    /**
+     * Creates a node of two entries.
+     * @param shift Shift of the node.
+     * @param hash1 Hash of first name.
+     * @param name1 First name.
+     * @param value1 First value.
+     * @param hash2 Hash of second name.
+     * @param name2 Second name.
+     * @param value2 Second value.
+     * @return Node.
+     */
+    private static Node merge(int shift,
+                              int hash1,
+                              String name1,
+                              int value1,
+                              int hash2,
+                              String name2,
+                              int value2) {
+        Node result;
+        if (shift>=32) {
+            result=new CollisionNode(hash1,new String[]{name1,name2},new int[]{value1,value2});
+        } else {
+            int index1=(hash1>>>shift)&MASK;
+            int index2=(hash2>>>shift)&MASK;
+            if (index1 == index2) {
+                Node child=merge(shift+BITS,hash1,name1,value1,hash2,name2,value2);
+                result=new BitmapNode(0,1<<index1,new String[0],new int[0],new Node[]{child});
+            } else {
+                boolean first=index1<index2;
+                result=new BitmapNode((1<<index1)|(1<<index2),0,
+                                      first?new String[]{name1,name2}:new String[]{name2,name1},
+                                      first?new int[]{value1,value2}:new int[]{value2,value1},
+                                      new Node[0]);
+            }
+        }
+        return result;
+    }
+
+    private static <T> T[] insert(T[] array,
+                                  int index,
+                                  T element) {
+        T[] result=Arrays.copyOf(array,array.length+1);
+        System.arraycopy(array,index,result,index+1,array.length-index);
+        result[index]=element;
+        return result;
+    }
+
+    private static int[] insert(int[] array,
+                                int index,
+                                int element) {
+        int[] result=Arrays.copyOf(array,array.length+1);
+        System.arraycopy(array,index,result,index+1,array.length-index);
+        result[index]=element;
+        return result;
+    }
+
+    private static <T> T[] remove(T[] array,
+                                  int index) {
+        T[] result=Arrays.copyOf(array,array.length-1);
+        System.arraycopy(array,index+1,result,index,array.length-index-1);
+        return result;
+    }
+
+    private static int[] remove(int[] array,
+                                int index) {
+        int[] result=Arrays.copyOf(array,array.length-1);
+        System.arraycopy(array,index+1,result,index,array.length-index-1);
+        return result;
+    }
+}
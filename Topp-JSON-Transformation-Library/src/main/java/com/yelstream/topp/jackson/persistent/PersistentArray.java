@@ -0,0 +1,200 @@
+package com.yelstream.topp.jackson.persistent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Persistent JSON array.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Elements are kept in a persistent vector.
+ *     Lookup, replacement and appending take time logarithmic in base 32 of the size,
+ *     and create new arrays sharing all structure not changed with this.
+ *     Insertion and removal before the end copy the array.
+ * </p>
+ * <p>
+ *     Elements are Jackson nodes, where objects and arrays are the read-only views of
+ *     {@link PersistentObject} and {@link PersistentArray}.
+ *     The view of this as an {@link ArrayNode} is created once and may be walked, read and serialized as any other node.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class PersistentArray implements Iterable<JsonNode> {
+    private static final PersistentArray EMPTY=new PersistentArray(PersistentVector.empty());
+
+    private final PersistentVector<JsonNode> elements;
+
+    private final PersistentArrayNode node;
+
+    private PersistentArray(PersistentVector<JsonNode> elements) {
+        this.elements=elements;
+        this.node=new PersistentArrayNode(this);
+    }
+
+    /**
+     * Gets the empty array.
+     * @return Empty array.
+     */
+    public static PersistentArray empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a persistent array from a JSON array.
+     * Objects and arrays contained are converted, too.
+     * If the array is a view of a persistent array, that persistent array is returned.
+     * @param node JSON array.
+     * @return Persistent array.
+     */
+    public static PersistentArray of(ArrayNode node) {
+        PersistentArray result;
+        if (node instanceof PersistentArrayNode) {
+            result=((PersistentArrayNode)node).getSource();
+        } else {
+            if (node.isEmpty()) {
+                result=EMPTY;
+            } else {
+                PersistentVector.Builder<JsonNode> builder=new PersistentVector.Builder<>();
+                for (JsonNode element: node) {
+                    builder.add(PersistentJson.of(element));
+                }
+                result=new PersistentArray(builder.build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of elements.
+     * @return Number of elements.
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    public boolean isEmpty() {
+        return elements.size() == 0;
+    }
+
+    /**
+     * Gets an element.
+     * @param index Index of element.
+     * @return Element.
+     * @throws IndexOutOfBoundsException Thrown in case of an index out of bounds.
+     */
+    public JsonNode get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Creates an array with an element replaced.
+     * @param index Index of element.
+     * @param value Element.
+     *              Objects and arrays not persistent are converted.
+     * @return Array.
+     * @throws IndexOutOfBoundsException Thrown in case of an index out of bounds.
+     */
+    public PersistentArray with(int index,
+                                JsonNode value) {
+        JsonNode persistentValue=PersistentJson.of(requireValue(value));
+        return elements.get(index) == persistentValue?this:new PersistentArray(elements.set(index,persistentValue));
+    }
+
+    /**
+     * Creates an array with an element appended.
+     * @param value Element.
+     *              Objects and arrays not persistent are converted.
+     * @return Array.
+     */
+    public PersistentArray append(JsonNode value) {
+        return new PersistentArray(elements.append(PersistentJson.of(requireValue(value))));
+    }
+
+    /**
+     * Creates an array with an element inserted.
+     * @param index Index of element.
+     * @param value Element.
+     *              Objects and arrays not persistent are converted.
+     * @return Array.
+     * @throws IndexOutOfBoundsException Thrown in case of an index out of bounds.
+     */
+    public PersistentArray insert(int index,
+                                  JsonNode value) {
+        return new PersistentArray(elements.insert(index,PersistentJson.of(requireValue(value))));
+    }
+
+    /**
+     * Creates an array without an element.
+     * @param index Index of element.
+     * @return Array.
+     * @throws IndexOutOfBoundsException Thrown in case of an index out of bounds.
+     */
+    public PersistentArray without(int index) {
+        PersistentVector<JsonNode> newElements=elements.remove(index);
+        return newElements.size() == 0?EMPTY:new PersistentArray(newElements);
+    }
+
+    private static JsonNode requireValue(JsonNode value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Failure to set element; value is null!");
+        }
+        return value;
+    }
+
+    /**
+     * Iterates the elements in order.
+     * @return Iterator of elements.
+     */
+    @Override
+    public Iterator<JsonNode> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Gets the read-only view of this as a JSON array.
+     * This takes constant time.
+     * @return View.
+     */
+    public ArrayNode asJsonNode() {
+        return node;
+    }
+
+    /**
+     * Creates a mutable copy of this as a JSON array.
+     * @return Copy.
+     */
+    public ArrayNode toJsonNode() {
+        return node.deepCopy();
+    }
+
+    /**
+     * Writes this to a generator.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        PersistentJson.write(node,generator);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PersistentArray && node.equals(((PersistentArray)other).node);
+    }
+
+    @Override
+    public int hashCode() {
+        return node.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return node.toString();
+    }
+}
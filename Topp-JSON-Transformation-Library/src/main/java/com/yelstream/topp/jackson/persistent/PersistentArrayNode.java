@@ -0,0 +1,73 @@
+package com.yelstream.topp.jackson.persistent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.Getter;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of a persistent array as a JSON array.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Methods modifying the array throw {@link UnsupportedOperationException}.
+ *     Deep copies are mutable JSON arrays.
+ *     Java serialization writes a deep copy.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@SuppressWarnings("unchecked")  //ArrayNode overrides the generic deepCopy() of JsonNode by its own type, which javac flags on subclasses.
+final class PersistentArrayNode extends ArrayNode {
+    private static final long serialVersionUID=1L;
+
+    /**
+     * Persistent array viewed.
+     */
+    @Getter
+    private final transient PersistentArray source;
+
+    PersistentArrayNode(PersistentArray source) {
+        super(JsonNodeFactory.instance,new View(source));
+        this.source=source;
+    }
+
+    /**
+     * Replaces this by a deep copy in Java serialization, since the view of the persistent array is not serializable.
+     * @return Deep copy.
+     */
+    private Object writeReplace() {
+        return deepCopy();
+    }
+
+    /**
+     * Read-only list of the elements of a persistent array.
+     */
+    private static final class View extends AbstractList<JsonNode> implements RandomAccess {
+        private final PersistentArray source;
+
+        private View(PersistentArray source) {
+            this.source=source;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public Iterator<JsonNode> iterator() {
+            return source.iterator();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.yelstream.topp.jackson.persistent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+
+/**
+ * Utility addressing persistent JSON trees.
+ * <p>
+ *     A persistent tree is a Jackson tree whose objects and arrays are the read-only views of
+ *     {@link PersistentObject} and {@link PersistentArray}.
+ *     Updates by pointer copy only the objects and arrays on the path to the value changed,
+ *     and share everything else with the tree updated.
+ *     As trees never change, readers on any thread may hold and walk any version without copies or locks.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class PersistentJson {
+    /**
+     * Mapper writing trees.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Converts a JSON tree to a persistent tree.
+     * Parts already persistent are shared and not converted.
+     * @param node JSON tree.
+     * @return Persistent tree.
+     */
+    public static JsonNode of(JsonNode node) {
+        JsonNode result;
+        if (node == null) {
+            throw new IllegalArgumentException("Failure to convert tree; node is null!");
+        }
+        if (node instanceof PersistentObjectNode || node instanceof PersistentArrayNode) {
+            result=node;
+        } else {
+            if (node.isObject()) {
+                result=PersistentObject.of((ObjectNode)node).asJsonNode();
+            } else {
+                if (node.isArray()) {
+                    result=PersistentArray.of((ArrayNode)node).asJsonNode();
+                } else {
+                    result=node;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if a JSON tree is persistent at the top.
+     * @param node JSON tree.
+     * @return Indicates if persistent.
+     */
+    public static boolean isPersistent(JsonNode node) {
+        return node instanceof PersistentObjectNode || node instanceof PersistentArrayNode || !node.isContainerNode();
+    }
+
+    /**
+     * Creates a tree with a value set.
+     * The value of an object property present is replaced, and the value of a property absent is added.
+     * The value of an array element is replaced, and the index {@code -} or the size of the array appends the value.
+     * @param root Root of tree.
+     * @param pointer Pointer to value.
+     * @param value Value.
+     * @return Root of persistent tree.
+     * @throws IllegalArgumentException Thrown in case of a pointer not addressing a value or the child of a container.
+     */
+    public static JsonNode with(JsonNode root,
+                                JsonPointer pointer,
+                                JsonNode value) {
+        return update(of(root),pointer,pointer,of(value));
+    }
+
+    /**
+     * Creates a tree with a value set.
+     * @param root Root of tree.
+     * @param pointer Pointer to value.
+     * @param value Value.
+     * @return Root of persistent tree.
+     * @throws IllegalArgumentException Thrown in case of a pointer not addressing a value or the child of a container.
+     */
+    public static JsonNode with(JsonNode root,
+                                String pointer,
+                                JsonNode value) {
+        return with(root,JsonPointer.compile(pointer),value);
+    }
+
+    /**
+     * Creates a tree without a value.
+     * @param root Root of tree.
+     * @param pointer Pointer to value.
+     * @return Root of persistent tree.
+     * @throws IllegalArgumentException Thrown in case of a pointer not addressing a value other than the root.
+     */
+    public static JsonNode without(JsonNode root,
+                                   JsonPointer pointer) {
+        if (pointer.matches()) {
+            throw new IllegalArgumentException(String.format("Failure to remove value; cannot remove root; pointer is %s!",pointer));
+        }
+        return update(of(root),pointer,pointer,null);
+    }
+
+    /**
+     * Creates a tree without a value.
+     * @param root Root of tree.
+     * @param pointer Pointer to value.
+     * @return Root of persistent tree.
+     * @throws IllegalArgumentException Thrown in case of a pointer not addressing a value other than the root.
+     */
+    public static JsonNode without(JsonNode root,
+                                   String pointer) {
+        return without(root,JsonPointer.compile(pointer));
+    }
+
+    /**
+     * Writes a tree to a generator.
+     * @param node JSON tree.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public static void write(JsonNode node,
+                             JsonGenerator generator) throws IOException {
+        MAPPER.writeTree(generator,node);
+    }
+
+    /**
+     * Creates a persistent tree with a value set or removed, copying the path to the value.
+     * @param node Persistent tree.
+     * @param pointer Pointer to value relative to the tree.
+     * @param fullPointer Pointer to value relative to the root.
+     * @param value Persistent value.
+     *              This is {@code null} to remove the value.
+     * @return Persistent tree.
+     */
+    private static JsonNode update(JsonNode node,
+                                   JsonPointer pointer,
+                                   JsonPointer fullPointer,
+                                   JsonNode value) {
+        JsonNode result;
+        if (pointer.matches()) {
+            result=value;
+        } else {
+            String name=pointer.getMatchingProperty();
+            JsonPointer tail=pointer.tail();
+            boolean last=tail.matches();
+            if (node instanceof PersistentObjectNode) {
+                PersistentObject object=((PersistentObjectNode)node).getSource();
+                JsonNode child=object.get(name);
+                if (last) {
+                    if (value == null) {
+                        if (child == null) {
+                            throw failure(fullPointer);
+                        }
+                        result=object.without(name).asJsonNode();
+                    } else {
+                        result=object.with(name,value).asJsonNode();
+                    }
+                } else {
+                    if (child == null) {
+                        throw failure(fullPointer);
+                    }
+                    JsonNode newChild=update(child,tail,fullPointer,value);
+                    result=newChild == child?node:object.with(name,newChild).asJsonNode();
+                }
+            } else {
+                if (node instanceof PersistentArrayNode) {
+                    PersistentArray array=((PersistentArrayNode)node).getSource();
+                    int index=name.equals("-")?array.size():pointer.getMatchingIndex();
+                    if (index<0 || index>array.size() || (index == array.size() && !(last && value!=null))) {
+                        throw failure(fullPointer);
+                    }
+                    if (last) {
+                        if (value == null) {
+                            result=array.without(index).asJsonNode();
+                        } else {
+                            result=index == array.size()?array.append(value).asJsonNode():array.with(index,value).asJsonNode();
+                        }
+                    } else {
+                        JsonNode child=array.get(index);
+                        JsonNode newChild=update(child,tail,fullPointer,value);
+                        result=newChild == child?node:array.with(index,newChild).asJsonNode();
+                    }
+                } else {
+                    throw failure(fullPointer);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static IllegalArgumentException failure(JsonPointer pointer) {
+        return new IllegalArgumentException(String.format("Failure to update tree; pointer does not address a value or the child of a container; pointer is %s!",pointer));
+    }
+}
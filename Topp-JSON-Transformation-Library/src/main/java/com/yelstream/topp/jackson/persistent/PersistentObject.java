@@ -0,0 +1,370 @@
+package com.yelstream.topp.jackson.persistent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent JSON object.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Properties are kept in order of insertion in a persistent vector, and are indexed by name in a hash array mapped trie
+ *     for objects of more than {@link #INDEX_THRESHOLD} properties.
+ *     Updates create new objects sharing all structure not changed with this.
+ * </p>
+ * <p>
+ *     Values of properties are Jackson nodes, where objects and arrays are the read-only views of
+ *     {@link PersistentObject} and {@link PersistentArray}.
+ *     The view of this as an {@link ObjectNode} is created once and may be walked, read and serialized as any other node.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class PersistentObject implements Iterable<Map.Entry<String,JsonNode>> {
+    /**
+     * Number of property slots above which properties are indexed by name.
+     */
+    static final int INDEX_THRESHOLD=8;
+
+    private static final PersistentObject EMPTY=new PersistentObject(PersistentVector.empty(),null,0);
+
+    /**
+     * Properties in order of insertion.
+     * Slots of properties removed are {@code null}.
+     */
+    private final PersistentVector<Member> members;
+
+    /**
+     * Index of slots by name.
+     * This is {@code null} for objects of at most {@link #INDEX_THRESHOLD} slots.
+     */
+    private final HashArrayMappedTrie index;
+
+    private final int size;
+
+    private final PersistentObjectNode node;
+
+    private PersistentObject(PersistentVector<Member> members,
+                             HashArrayMappedTrie index,
+                             int size) {
+        this.members=members;
+        this.index=index;
+        this.size=size;
+        this.node=new PersistentObjectNode(this);
+    }
+
+    /**
+     * Gets the empty object.
+     * @return Empty object.
+     */
+    public static PersistentObject empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a persistent object from a JSON object.
+     * Objects and arrays contained are converted, too.
+     * If the object is a view of a persistent object, that persistent object is returned.
+     * @param node JSON object.
+     * @return Persistent object.
+     */
+    public static PersistentObject of(ObjectNode node) {
+        PersistentObject result;
+        if (node instanceof PersistentObjectNode) {
+            result=((PersistentObjectNode)node).getSource();
+        } else {
+            PersistentVector.Builder<Member> builder=new PersistentVector.Builder<>();
+            HashArrayMappedTrie index=node.size()>INDEX_THRESHOLD?HashArrayMappedTrie.EMPTY:null;
+            int slot=0;
+            Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                builder.add(new Member(field.getKey(),PersistentJson.of(field.getValue())));
+                if (index!=null) {
+                    index=index.with(field.getKey(),slot);
+                }
+                slot++;
+            }
+            result=slot == 0?EMPTY:new PersistentObject(builder.build(),index,slot);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of properties.
+     * @return Number of properties.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the slot of a property.
+     * @param name Name of property.
+     * @return Slot.
+     *         This is -1 if absent.
+     */
+    private int slotOf(String name) {
+        int result=-1;
+        if (index == null) {
+            int count=members.size();
+            for (int i=0; i<count && result<0; i++) {
+                Member member=members.get(i);
+                if (member!=null && member.name.equals(name)) {
+                    result=i;
+                }
+            }
+        } else {
+            result=index.get(name,-1);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if a property is present.
+     * @param name Name of property.
+     * @return Indicates if present.
+     */
+    public boolean has(String name) {
+        return slotOf(name)>=0;
+    }
+
+    /**
+     * Gets the value of a property.
+     * @param name Name of property.
+     * @return Value.
+     *         This is {@code null} if absent.
+     */
+    public JsonNode get(String name) {
+        int slot=slotOf(name);
+        return slot<0?null:members.get(slot).value;
+    }
+
+    /**
+     * Creates an object with a property set.
+     * A property present keeps its position; a property absent is added last.
+     * @param name Name of property.
+     * @param value Value.
+     *              Objects and arrays not persistent are converted.
+     * @return Object.
+     */
+    public PersistentObject with(String name,
+                                 JsonNode value) {
+        if (name == null || value == null) {
+            throw new IllegalArgumentException(String.format("Failure to set property; name is %s, value is %s!",name,value));
+        }
+        JsonNode persistentValue=PersistentJson.of(value);
+        int slot=slotOf(name);
+        PersistentObject result;
+        if (slot<0) {
+            int newSlot=members.size();
+            HashArrayMappedTrie newIndex=index;
+            if (newIndex == null && newSlot+1>INDEX_THRESHOLD) {
+                newIndex=createIndex(members);
+            }
+            if (newIndex!=null) {
+                newIndex=newIndex.with(name,newSlot);
+            }
+            result=new PersistentObject(members.append(new Member(name,persistentValue)),newIndex,size+1);
+        } else {
+            if (members.get(slot).value == persistentValue) {
+                result=this;
+            } else {
+                result=new PersistentObject(members.set(slot,new Member(name,persistentValue)),index,size);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates an object without a property.
+     * @param name Name of property.
+     * @return Object.
+     */
+    public PersistentObject without(String name) {
+        int slot=slotOf(name);
+        PersistentObject result;
+        if (slot<0) {
+            result=this;
+        } else {
+            if (size == 1) {
+                result=EMPTY;
+            } else {
+                PersistentVector<Member> newMembers=members.set(slot,null);
+                if (newMembers.size()-(size-1)>size-1) {
+                    result=compact(newMembers,size-1);
+                } else {
+                    result=new PersistentObject(newMembers,index == null?null:index.without(name),size-1);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates an object of the properties present of slots, without slots of properties removed.
+     * @param members Slots.
+     * @param size Number of properties present.
+     * @return Object.
+     */
+    private static PersistentObject compact(PersistentVector<Member> members,
+                                            int size) {
+        PersistentVector.Builder<Member> builder=new PersistentVector.Builder<>();
+        for (Member member: members) {
+            if (member!=null) {
+                builder.add(member);
+            }
+        }
+        PersistentVector<Member> newMembers=builder.build();
+        return new PersistentObject(newMembers,size>INDEX_THRESHOLD?createIndex(newMembers):null,size);
+    }
+
+    private static HashArrayMappedTrie createIndex(PersistentVector<Member> members) {
+        HashArrayMappedTrie index=HashArrayMappedTrie.EMPTY;
+        int slot=0;
+        for (Member member: members) {
+            if (member!=null) {
+                index=index.with(member.name,slot);
+            }
+            slot++;
+        }
+        return index;
+    }
+
+    /**
+     * Iterates the properties in order.
+     * @return Iterator of properties.
+     */
+    @Override
+    public Iterator<Map.Entry<String,JsonNode>> iterator() {
+        Iterator<Member> iterator=members.iterator();
+        return new Iterator<>() {
+            private Member next=advance();
+
+            private Member advance() {
+                Member member=null;
+                while (member == null && iterator.hasNext()) {
+                    member=iterator.next();
+                }
+                return member;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next!=null;
+            }
+
+            @Override
+            public Map.Entry<String,JsonNode> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Member member=next;
+                next=advance();
+                return member;
+            }
+        };
+    }
+
+    /**
+     * Gets the read-only view of this as a JSON object.
+     * This takes constant time.
+     * @return View.
+     */
+    public ObjectNode asJsonNode() {
+        return node;
+    }
+
+    /**
+     * Creates a mutable copy of this as a JSON object.
+     * @return Copy.
+     */
+    public ObjectNode toJsonNode() {
+        return node.deepCopy();
+    }
+
+    /**
+     * Writes this to a generator.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        PersistentJson.write(node,generator);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PersistentObject && node.equals(((PersistentObject)other).node);
+    }
+
+    @Override
+    public int hashCode() {
+        return node.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return node.toString();
+    }
+
+    /**
+     * Property.
+     */
+    static final class Member implements Map.Entry<String,JsonNode> {
+        private final String name;
+
+        private final JsonNode value;
+
+        private Member(String name,
+                       JsonNode value) {
+            this.name=name;
+            this.value=value;
+        }
+
+        @Override
+        public String getKey() {
+            return name;
+        }
+
+        @Override
+        public JsonNode getValue() {
+            return value;
+        }
+
+        @Override
+        public JsonNode setValue(JsonNode value) {
+            throw new UnsupportedOperationException("Failure to set value; object is persistent!");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            boolean result=false;
+            if (other instanceof Map.Entry) {
+                Map.Entry<?,?> entry=(Map.Entry<?,?>)other;
+                result=name.equals(entry.getKey()) && value.equals(entry.getValue());
+            }
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode()^value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name+"="+value;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.yelstream.topp.jackson.persistent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of a persistent object as a JSON object.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Methods modifying the object throw {@link UnsupportedOperationException}.
+ *     Deep copies are mutable JSON objects.
+ *     Java serialization writes a deep copy.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@SuppressWarnings("unchecked")  //ObjectNode overrides the generic deepCopy() of JsonNode by its own type, which javac flags on subclasses.
+final class PersistentObjectNode extends ObjectNode {
+    private static final long serialVersionUID=1L;
+
+    /**
+     * Persistent object viewed.
+     */
+    @Getter
+    private final transient PersistentObject source;
+
+    PersistentObjectNode(PersistentObject source) {
+        super(JsonNodeFactory.instance,new View(source));
+        this.source=source;
+    }
+
+    /**
+     * Replaces this by a deep copy in Java serialization, since the view of the persistent object is not serializable.
+     * @return Deep copy.
+     */
+    private Object writeReplace() {
+        return deepCopy();
+    }
+
+    /**
+     * Read-only map of the properties of a persistent object.
+     */
+    private static final class View extends AbstractMap<String,JsonNode> {
+        private final PersistentObject source;
+
+        private View(PersistentObject source) {
+            this.source=source;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            return key instanceof String?source.get((String)key):null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && source.has((String)key);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public Set<Map.Entry<String,JsonNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String,JsonNode>> iterator() {
+                    return source.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return source.size();
+                }
+            };
+        }
+    }
+}
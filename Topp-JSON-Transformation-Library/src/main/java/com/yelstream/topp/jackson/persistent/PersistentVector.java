@@ -0,0 +1,318 @@
+package com.yelstream.topp.jackson.persistent;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent vector as a 32-way trie with a tail.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Lookup, update and append take time logarithmic in base 32 of the size,
+ *     and copy only the path to the element changed.
+ *     Insertion and removal before the end rebuild the vector.
+ * </p>
+ *
+ * @param <T> Type of elements.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS=5;
+
+    private static final int WIDTH=1<<BITS;
+
+    private static final int MASK=WIDTH-1;
+
+    private static final Object[] EMPTY_NODE=new Object[WIDTH];
+
+    private static final PersistentVector<?> EMPTY=new PersistentVector<>(0,BITS,EMPTY_NODE,new Object[0]);
+
+    private final int size;
+
+    /**
+     * Number of bits by which indexes are shifted at the root.
+     */
+    private final int shift;
+
+    private final Object[] root;
+
+    /**
+     * Last elements not yet in the trie.
+     */
+    private final Object[] tail;
+
+    private PersistentVector(int size,
+                             int shift,
+                             Object[] root,
+                             Object[] tail) {
+        this.size=size;
+        this.shift=shift;
+        this.root=root;
+        this.tail=tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>)EMPTY;
+    }
+
+    /**
+     * Creates a vector of elements.
+     * @param elements Elements.
+     * @param <T> Type of elements.
+     * @return Vector.
+     */
+    static <T> PersistentVector<T> of(Iterable<? extends T> elements) {
+        Builder<T> builder=new Builder<>();
+        for (T element: elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int getTailOffset() {
+        return size<WIDTH?0:((size-1)>>>BITS)<<BITS;
+    }
+
+    /**
+     * Gets the leaf holding an element.
+     * @param index Index of element.
+     * @return Leaf.
+     */
+    private Object[] getLeaf(int index) {
+        Object[] node;
+        if (index>=getTailOffset()) {
+            node=tail;
+        } else {
+            node=root;
+            for (int level=shift; level>0; level-=BITS) {
+                node=(Object[])node[(index>>>level)&MASK];
+            }
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        if (index<0 || index>=size) {
+            throw new IndexOutOfBoundsException(String.format("Failure to get element; index is %d, size is %d!",index,size));
+        }
+        return (T)getLeaf(index)[index&MASK];
+    }
+
+    /**
+     * Creates a vector with an element replaced.
+     * @param index Index of element.
+     * @param element Element.
+     * @return Vector.
+     */
+    PersistentVector<T> set(int index,
+                            T element) {
+        if (index<0 || index>=size) {
+            throw new IndexOutOfBoundsException(String.format("Failure to set element; index is %d, size is %d!",index,size));
+        }
+        PersistentVector<T> result;
+        if (index>=getTailOffset()) {
+            Object[] newTail=tail.clone();
+            newTail[index&MASK]=element;
+            result=new PersistentVector<>(size,shift,root,newTail);
+        } else {
+            result=new PersistentVector<>(size,shift,set(shift,root,index,element),tail);
+        }
+        return result;
+    }
+
+    private static Object[] set(int level,
+                                Object[] node,
+                                int index,
+                                Object element) {
+        Object[] copy=node.clone();
+        if (level == 0) {
+            copy[index&MASK]=element;
+        } else {
+            int child=(index>>>level)&MASK;
+            copy[child]=set(level-BITS,(Object[])node[child],index,element);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a vector with an element appended.
+     * @param element Element.
+     * @return Vector.
+     */
+    PersistentVector<T> append(T element) {
+        PersistentVector<T> result;
+        if (size-getTailOffset()<WIDTH) {
+            Object[] newTail=Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=element;
+            result=new PersistentVector<>(size+1,shift,root,newTail);
+        } else {
+            result=withTail(new Object[]{element});
+        }
+        return result;
+    }
+
+    /**
+     * Creates a vector with the full tail of this pushed into the trie, and with a new tail.
+     * @param newTail New tail.
+     * @return Vector.
+     */
+    private PersistentVector<T> withTail(Object[] newTail) {
+        PersistentVector<T> result;
+        if (size == 0) {
+            result=new PersistentVector<>(newTail.length,BITS,EMPTY_NODE,newTail);
+        } else {
+            Object[] newRoot;
+            int newShift=shift;
+            if ((size>>>BITS)>(1<<shift)) {
+                newRoot=new Object[WIDTH];
+                newRoot[0]=root;
+                newRoot[1]=newPath(shift,tail);
+                newShift+=BITS;
+            } else {
+                newRoot=pushTail(size,shift,root,tail);
+            }
+            result=new PersistentVector<>(size+newTail.length,newShift,newRoot,newTail);
+        }
+        return result;
+    }
+
+    private static Object[] pushTail(int size,
+                                     int level,
+                                     Object[] parent,
+                                     Object[] tail) {
+        int child=((size-1)>>>level)&MASK;
+        Object[] copy=parent.clone();
+        if (level == BITS) {
+            copy[child]=tail;
+        } else {
+            Object[] node=(Object[])parent[child];
+            copy[child]=node == null?newPath(level-BITS,tail):pushTail(size,level-BITS,node,tail);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level,
+                                    Object[] node) {
+        Object[] result=node;
+        for (int l=level; l>0; l-=BITS) {
+            Object[] parent=new Object[WIDTH];
+            parent[0]=result;
+            result=parent;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a vector with an element inserted.
+     * @param index Index of element.
+     * @param element Element.
+     * @return Vector.
+     */
+    PersistentVector<T> insert(int index,
+                               T element) {
+        if (index<0 || index>size) {
+            throw new IndexOutOfBoundsException(String.format("Failure to insert element; index is %d, size is %d!",index,size));
+        }
+        PersistentVector<T> result;
+        if (index == size) {
+            result=append(element);
+        } else {
+            Builder<T> builder=new Builder<>();
+            for (int i=0; i<size; i++) {
+                if (i == index) {
+                    builder.add(element);
+                }
+                builder.add(get(i));
+            }
+            result=builder.build();
+        }
+        return result;
+    }
+
+    /**
+     * Creates a vector with an element removed.
+     * @param index Index of element.
+     * @return Vector.
+     */
+    PersistentVector<T> remove(int index) {
+        if (index<0 || index>=size) {
+            throw new IndexOutOfBoundsException(String.format("Failure to remove element; index is %d, size is %d!",index,size));
+        }
+        PersistentVector<T> result;
+        if (index == size-1 && size-getTailOffset()>1) {
+            result=new PersistentVector<>(size-1,shift,root,Arrays.copyOf(tail,tail.length-1));
+        } else {
+            Builder<T> builder=new Builder<>();
+            for (int i=0; i<size; i++) {
+                if (i!=index) {
+                    builder.add(get(i));
+                }
+            }
+            result=builder.build();
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index>=size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index&MASK) == 0 || leaf == null) {
+                    leaf=getLeaf(index);
+                }
+                return (T)leaf[(index++)&MASK];
+            }
+        };
+    }
+
+    /**
+     * Builder of vectors filling leaves in place before adding these to the trie.
+     * This is not thread-safe.
+     * @param <T> Type of elements.
+     */
+    static final class Builder<T> {
+        /**
+         * Vector built so far, whose tail is full unless empty.
+         */
+        private PersistentVector<T> vector=empty();
+
+        private Object[] leaf=new Object[WIDTH];
+
+        private int count;
+
+        void add(T element) {
+            if (count == WIDTH) {
+                vector=vector.withTail(leaf);
+                leaf=new Object[WIDTH];
+                count=0;
+            }
+            leaf[count++]=element;
+        }
+
+        PersistentVector<T> build() {
+            return count == 0?vector:vector.withTail(Arrays.copyOf(leaf,count));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Persistent JSON trees sharing structure between versions.
+ */
+package com.yelstream.topp.jackson.persistent;
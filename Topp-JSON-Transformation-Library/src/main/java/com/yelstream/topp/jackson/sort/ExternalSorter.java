@@ -0,0 +1,606 @@
+package com.yelstream.topp.jackson.sort;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sorting, grouping and deduplication of streams of JSON records by a key, using memory bounded independently of
+ * the number of records.
+ * <p>
+ *     Records are read either as the elements of a single JSON array or as a sequence of root-level values,
+ *     such as newline-delimited JSON.
+ *     The key of a record is the value at a JSON Pointer into the record, and records are ordered as described by
+ *     keys, with records of equal keys kept in the order read.
+ * </p>
+ * <p>
+ *     Records are read into runs of bounded memory, held as compact JSON text.
+ *     Runs exceeding the memory allowed are sorted, in parallel if the parallelism is above one,
+ *     and spilled to temporary files in a binary form, while the next run is read.
+ *     Runs are then merged in a single pass, or in several passes if there are more runs than the width of merges.
+ *     Temporary files are deleted when done.
+ * </p>
+ * <p>
+ *     This is immutable and thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class ExternalSorter {
+    /**
+     * Default JSON Pointer of keys, being the entire record.
+     */
+    public static final String DEFAULT_KEY="";
+
+    /**
+     * Default maximum estimated number of bytes of a run held in memory.
+     */
+    public static final long DEFAULT_MAX_RUN_SIZE=64L*1024L*1024L;
+
+    /**
+     * Default maximum number of runs merged at a time.
+     */
+    public static final int DEFAULT_MERGE_WIDTH=64;
+
+    /**
+     * Factory of parsers and generators.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Size of buffer of output.
+     */
+    private static final int BUFFER_SIZE=65536;
+
+    /**
+     * JSON Pointer of keys into records.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final String key=DEFAULT_KEY;
+
+    /**
+     * Indicates, if records are ordered by descending keys.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final boolean descending=false;
+
+    /**
+     * Maximum estimated number of bytes of a run held in memory.
+     * While a run is spilled, the next run is read, and up to twice this is held in memory.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final long maxRunSize=DEFAULT_MAX_RUN_SIZE;
+
+    /**
+     * Maximum number of runs merged at a time.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int mergeWidth=DEFAULT_MERGE_WIDTH;
+
+    /**
+     * Number of threads sorting runs.
+     * With a parallelism of one, runs are read, sorted and spilled by the calling thread only.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int parallelism=Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Directory of temporary files.
+     * This may be {@code null} for the default directory of temporary files.
+     */
+    @Getter
+    @ToString.Include
+    private final Path temporaryDirectory;
+
+    /**
+     * Format of records written.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final RecordFormat format=RecordFormat.NDJSON;
+
+    /**
+     * Sorts records by key.
+     * @param in Source of records.
+     *           This is not closed.
+     * @param out Target of sorted records.
+     *            This is not closed.
+     * @return Number of records written.
+     * @throws IOException Thrown in case of errors.
+     */
+    public long sort(InputStream in,
+                     OutputStream out) throws IOException {
+        RecordWriter writer=new RecordWriter(out,format);
+        long[] count={0L};
+        process(in,entry->{
+            writer.write(entry.record);
+            count[0]++;
+        });
+        writer.finish();
+        return count[0];
+    }
+
+    /**
+     * Deduplicates records by key, keeping the first record read of each key.
+     * Records are written in the order of keys.
+     * @param in Source of records.
+     *           This is not closed.
+     * @param out Target of deduplicated records.
+     *            This is not closed.
+     * @return Number of records written.
+     * @throws IOException Thrown in case of errors.
+     */
+    public long deduplicate(InputStream in,
+                            OutputStream out) throws IOException {
+        RecordWriter writer=new RecordWriter(out,format);
+        long[] count={0L};
+        SortKey[] previous={null};
+        process(in,entry->{
+            if (previous[0] == null || previous[0].compareTo(entry.key)!=0) {
+                writer.write(entry.record);
+                previous[0]=entry.key;
+                count[0]++;
+            }
+        });
+        writer.finish();
+        return count[0];
+    }
+
+    /**
+     * Groups records by key.
+     * For each key, an object is written in the order of keys with the property {@code key} holding the key,
+     * and the property {@code records} holding the records of the key in the order read.
+     * Records without a key form a group without the property {@code key}.
+     * Groups are written as they are merged, and are not held in memory.
+     * @param in Source of records.
+     *           This is not closed.
+     * @param out Target of groups.
+     *            This is not closed.
+     * @return Number of groups written.
+     * @throws IOException Thrown in case of errors.
+     */
+    public long group(InputStream in,
+                      OutputStream out) throws IOException {
+        RecordWriter writer=new RecordWriter(out,format);
+        long[] count={0L};
+        SortKey[] previous={null};
+        process(in,entry->{
+            if (previous[0] == null || previous[0].compareTo(entry.key)!=0) {
+                if (previous[0]!=null) {
+                    writer.out.write(']');
+                    writer.out.write('}');
+                    writer.endValue();
+                }
+                writer.startValue();
+                writer.out.write(createGroupPrefix(entry.key));
+                writer.out.write(entry.record);
+                previous[0]=entry.key;
+                count[0]++;
+            } else {
+                writer.out.write(',');
+                writer.out.write(entry.record);
+            }
+        });
+        if (previous[0]!=null) {
+            writer.out.write(']');
+            writer.out.write('}');
+            writer.endValue();
+        }
+        writer.finish();
+        return count[0];
+    }
+
+    private static byte[] createGroupPrefix(SortKey key) throws IOException {
+        ByteArrayOutputStream prefix=new ByteArrayOutputStream();
+        if (key.isMissing()) {
+            prefix.write("{\"records\":[".getBytes(StandardCharsets.UTF_8));
+        } else {
+            prefix.write("{\"key\":".getBytes(StandardCharsets.UTF_8));
+            try (JsonGenerator generator=FACTORY.createGenerator(prefix)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                key.writeJson(generator);
+            }
+            prefix.write(",\"records\":[".getBytes(StandardCharsets.UTF_8));
+        }
+        return prefix.toByteArray();
+    }
+
+    /**
+     * Consumer of sorted entries.
+     */
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(SortEntry entry) throws IOException;
+    }
+
+    /**
+     * Reads, sorts and merges records.
+     * @param in Source of records.
+     * @param consumer Consumer of entries in sorted order.
+     * @throws IOException Thrown in case of errors.
+     */
+    private void process(InputStream in,
+                         EntryConsumer consumer) throws IOException {
+        if (maxRunSize<1 || mergeWidth<2) {
+            throw new IllegalStateException(String.format("Failure to sort records; configuration is not valid; configuration is %s!",this));
+        }
+        JsonPointer pointer=JsonPointer.compile(key);
+        Comparator<SortEntry> order=descending?SortEntry.DESCENDING:SortEntry.ASCENDING;
+        List<Path> files=new ArrayList<>();
+        ExecutorService executor=parallelism<=1?null:Executors.newSingleThreadExecutor(runnable->{
+            Thread thread=new Thread(runnable,"external-sorter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<Path> pending=null;
+        try {
+            SortEntry[] entries=new SortEntry[1024];
+            int count=0;
+            long size=0L;
+            long sequence=0L;
+            ByteArrayOutputStream recordBuffer=new ByteArrayOutputStream();
+            try (JsonParser parser=FACTORY.createParser(in)) {
+                parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                JsonToken token=parser.nextToken();
+                boolean array=token == JsonToken.START_ARRAY;
+                if (array) {
+                    token=parser.nextToken();
+                }
+                while (token!=null && !(array && token == JsonToken.END_ARRAY)) {
+                    SortEntry entry=readEntry(parser,pointer,sequence++,recordBuffer);
+                    if (count == entries.length) {
+                        entries=Arrays.copyOf(entries,count*2);
+                    }
+                    entries[count++]=entry;
+                    size+=entry.estimateSize();
+                    if (size>=maxRunSize) {
+                        if (pending!=null) {
+                            files.add(getFile(pending));
+                            pending=null;
+                        }
+                        SortEntry[] run=entries;
+                        int runCount=count;
+                        if (executor == null) {
+                            files.add(sortAndSpill(run,runCount,order));
+                        } else {
+                            pending=executor.submit(()->sortAndSpill(run,runCount,order));
+                        }
+                        entries=new SortEntry[Math.max(1024,runCount)];
+                        count=0;
+                        size=0L;
+                    }
+                    token=parser.nextToken();
+                }
+            }
+            if (pending!=null) {
+                files.add(getFile(pending));
+                pending=null;
+            }
+            sort(entries,count,order);
+            while (files.size()+1>mergeWidth) {
+                List<Path> group=new ArrayList<>(files.subList(0,mergeWidth));
+                files.subList(0,mergeWidth).clear();
+                files.add(mergeFiles(group,order));
+            }
+            List<SortRun> runs=new ArrayList<>();
+            try {
+                for (Path file: files) {
+                    runs.add(new SortRun.FileRun(file));
+                }
+                runs.add(new SortRun.MemoryRun(entries,count));
+                merge(runs,order,consumer);
+            } finally {
+                for (SortRun run: runs) {
+                    run.close();
+                }
+            }
+        } finally {
+            if (pending!=null) {
+                deleteSpilled(pending);
+            }
+            if (executor!=null) {
+                executor.shutdownNow();
+            }
+            for (Path file: files) {
+                delete(file);
+            }
+        }
+    }
+
+    /**
+     * Reads the record at the current token of a parser.
+     * @param parser Parser positioned at the first token of the record.
+     * @param pointer JSON Pointer of key.
+     * @param sequence Position of the record in the input.
+     * @param buffer Buffer of compact JSON text.
+     * @return Entry.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static SortEntry readEntry(JsonParser parser,
+                                       JsonPointer pointer,
+                                       long sequence,
+                                       ByteArrayOutputStream buffer) throws IOException {
+        buffer.reset();
+        SortKey recordKey;
+        try (JsonGenerator generator=FACTORY.createGenerator(buffer)) {
+            recordKey=copy(parser,generator,pointer);
+        }
+        return new SortEntry(recordKey == null?SortKey.MISSING_KEY:recordKey,sequence,buffer.toByteArray());
+    }
+
+    /**
+     * Copies the value at the current token of a parser while extracting the value at a JSON Pointer.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @param pointer JSON Pointer relative to the value.
+     * @return Key.
+     *         This is {@code null} if there is no value at the JSON Pointer.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static SortKey copy(JsonParser parser,
+                                JsonGenerator generator,
+                                JsonPointer pointer) throws IOException {
+        SortKey result=null;
+        JsonToken token=parser.currentToken();
+        if (pointer.matches()) {
+            if (token.isStructStart()) {
+                StringWriter writer=new StringWriter();
+                try (JsonGenerator keyGenerator=FACTORY.createGenerator(writer)) {
+                    keyGenerator.copyCurrentStructure(parser);
+                }
+                String json=writer.toString();
+                generator.writeRawValue(json);
+                result=SortKey.ofStructure(json);
+            } else {
+                result=SortKey.ofScalar(parser);
+                generator.copyCurrentEvent(parser);
+            }
+        } else {
+            if (token == JsonToken.START_OBJECT) {
+                String property=pointer.getMatchingProperty();
+                generator.writeStartObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name=parser.getCurrentName();
+                    generator.writeFieldName(name);
+                    parser.nextToken();
+                    if (result == null && name.equals(property)) {
+                        result=copy(parser,generator,pointer.tail());
+                    } else {
+                        generator.copyCurrentStructure(parser);
+                    }
+                }
+                generator.writeEndObject();
+            } else {
+                if (token == JsonToken.START_ARRAY) {
+                    int matchingIndex=pointer.getMatchingIndex();
+                    int index=0;
+                    generator.writeStartArray();
+                    while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                        if (index == matchingIndex) {
+                            result=copy(parser,generator,pointer.tail());
+                        } else {
+                            generator.copyCurrentStructure(parser);
+                        }
+                        index++;
+                    }
+                    generator.writeEndArray();
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void sort(SortEntry[] entries,
+                      int count,
+                      Comparator<SortEntry> order) {
+        if (parallelism>1) {
+            Arrays.parallelSort(entries,0,count,order);
+        } else {
+            Arrays.sort(entries,0,count,order);
+        }
+    }
+
+    private Path sortAndSpill(SortEntry[] entries,
+                              int count,
+                              Comparator<SortEntry> order) throws IOException {
+        sort(entries,count,order);
+        return SortRun.spill(entries,count,temporaryDirectory);
+    }
+
+    /**
+     * Merges runs of files into a single run of a file.
+     * The files merged are deleted.
+     * @param files Files of runs.
+     * @param order Order of entries.
+     * @return File of merged run.
+     * @throws IOException Thrown in case of errors.
+     */
+    private Path mergeFiles(List<Path> files,
+                            Comparator<SortEntry> order) throws IOException {
+        Path file=SortRun.createFile(temporaryDirectory);
+        List<SortRun> runs=new ArrayList<>();
+        try {
+            long count=0L;
+            for (Path runFile: files) {
+                SortRun.FileRun run=new SortRun.FileRun(runFile);
+                runs.add(run);
+                count+=run.count;
+            }
+            try (DataOutputStream out=SortRun.openOutput(file)) {
+                out.writeLong(count);
+                merge(runs,order,entry->entry.write(out));
+            }
+        } catch (IOException ex) {
+            delete(file);
+            throw ex;
+        } finally {
+            for (SortRun run: runs) {
+                run.close();
+            }
+            for (Path runFile: files) {
+                delete(runFile);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Merges sorted runs.
+     * @param runs Runs.
+     * @param order Order of entries.
+     * @param consumer Consumer of entries in sorted order.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void merge(List<SortRun> runs,
+                              Comparator<SortEntry> order,
+                              EntryConsumer consumer) throws IOException {
+        PriorityQueue<SortRun> queue=new PriorityQueue<>(Math.max(1,runs.size()),(run,other)->order.compare(run.current,other.current));
+        for (SortRun run: runs) {
+            if (run.advance()) {
+                queue.add(run);
+            }
+        }
+        while (!queue.isEmpty()) {
+            SortRun run=queue.poll();
+            consumer.accept(run.current);
+            if (run.advance()) {
+                queue.add(run);
+            }
+        }
+    }
+
+    private static Path getFile(Future<Path> pending) throws IOException {
+        Path file;
+        try {
+            file=pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Failure to sort records; interrupted!");
+        } catch (ExecutionException ex) {
+            Throwable cause=ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException("Failure to sort records!",cause);
+        }
+        return file;
+    }
+
+    /**
+     * Awaits a pending spill of a run and deletes its file.
+     * @param pending Pending spill.
+     */
+    private static void deleteSpilled(Future<Path> pending) {
+        try {
+            delete(pending.get());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            //Ignore; a failed spill deletes its own file.
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            //Ignore; temporary files are deleted on a best-effort basis.
+        }
+    }
+
+    /**
+     * Writer of records and groups in a format.
+     * This is not thread-safe.
+     */
+    private static final class RecordWriter {
+        private final OutputStream out;
+
+        private final RecordFormat format;
+
+        /**
+         * Indicates, if a value has been written.
+         */
+        private boolean written;
+
+        private RecordWriter(OutputStream out,
+                             RecordFormat format) throws IOException {
+            this.out=new BufferedOutputStream(out,BUFFER_SIZE);
+            this.format=format;
+            if (format == RecordFormat.ARRAY) {
+                this.out.write('[');
+            }
+        }
+
+        private void write(byte[] record) throws IOException {
+            startValue();
+            out.write(record);
+            endValue();
+        }
+
+        private void startValue() throws IOException {
+            if (format == RecordFormat.ARRAY && written) {
+                out.write(',');
+            }
+            written=true;
+        }
+
+        private void endValue() throws IOException {
+            if (format == RecordFormat.NDJSON) {
+                out.write('\n');
+            }
+        }
+
+        private void finish() throws IOException {
+            if (format == RecordFormat.ARRAY) {
+                out.write(']');
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.yelstream.topp.jackson.sort;
+
+/**
+ * Format of a stream of JSON records written.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum RecordFormat {
+    /**
+     * Newline-delimited JSON, with each record on a line of its own.
+     */
+    NDJSON,
+
+    /**
+     * A single JSON array holding all records.
+     */
+    ARRAY
+}
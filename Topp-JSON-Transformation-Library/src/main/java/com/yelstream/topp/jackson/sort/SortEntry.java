@@ -0,0 +1,86 @@
+package com.yelstream.topp.jackson.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * Record being sorted, held as compact JSON text together with its key and its position in the input.
+ * This is immutable.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class SortEntry {
+    /**
+     * Order of entries by key, with entries of equal keys in the order of the input.
+     */
+    static final Comparator<SortEntry> ASCENDING=(entry,other)->{
+        int result=entry.key.compareTo(other.key);
+        return result == 0?Long.compare(entry.sequence,other.sequence):result;
+    };
+
+    /**
+     * Order of entries by key in reverse, with entries of equal keys in the order of the input.
+     */
+    static final Comparator<SortEntry> DESCENDING=(entry,other)->{
+        int result=other.key.compareTo(entry.key);
+        return result == 0?Long.compare(entry.sequence,other.sequence):result;
+    };
+
+    final SortKey key;
+
+    /**
+     * Position of the record in the input.
+     */
+    final long sequence;
+
+    /**
+     * Compact JSON text of the record encoded in UTF-8.
+     */
+    final byte[] record;
+
+    SortEntry(SortKey key,
+              long sequence,
+              byte[] record) {
+        this.key=key;
+        this.sequence=sequence;
+        this.record=record;
+    }
+
+    /**
+     * Estimates the number of bytes held by this entry.
+     * @return Estimated number of bytes.
+     */
+    int estimateSize() {
+        return 48+record.length+key.estimateSize();
+    }
+
+    /**
+     * Writes this entry in binary form.
+     * @param out Target.
+     * @throws IOException Thrown in case of errors.
+     */
+    void write(DataOutput out) throws IOException {
+        key.write(out);
+        out.writeLong(sequence);
+        out.writeInt(record.length);
+        out.write(record);
+    }
+
+    /**
+     * Reads an entry in binary form.
+     * @param in Source.
+     * @return Entry.
+     * @throws IOException Thrown in case of errors.
+     */
+    static SortEntry read(DataInput in) throws IOException {
+        SortKey key=SortKey.read(in);
+        long sequence=in.readLong();
+        byte[] record=new byte[in.readInt()];
+        in.readFully(record);
+        return new SortEntry(key,sequence,record);
+    }
+}
@@ -0,0 +1,317 @@
+package com.yelstream.topp.jackson.sort;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Key of a record extracted by a JSON Pointer.
+ * This is immutable.
+ * <p>
+ *     Keys are ordered by type first, in the order of a missing key, {@code null}, {@code false}, {@code true},
+ *     numbers, strings, and objects and arrays.
+ *     Numbers are ordered by value, strings by their characters, and objects and arrays by their compact JSON text.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class SortKey implements Comparable<SortKey> {
+    private static final int MISSING=0;
+    private static final int NULL=1;
+    private static final int FALSE=2;
+    private static final int TRUE=3;
+    private static final int NUMBER=4;
+    private static final int STRING=5;
+    private static final int STRUCTURE=6;
+
+    /**
+     * Key of records without a value at the key pointer.
+     */
+    static final SortKey MISSING_KEY=new SortKey(MISSING,0L,null,null);
+
+    private static final SortKey NULL_KEY=new SortKey(NULL,0L,null,null);
+    private static final SortKey FALSE_KEY=new SortKey(FALSE,0L,null,null);
+    private static final SortKey TRUE_KEY=new SortKey(TRUE,0L,null,null);
+
+    /**
+     * Rank of the type of key.
+     */
+    private final int rank;
+
+    /**
+     * Value of integer numbers within the range of {@code long}.
+     */
+    private final long longValue;
+
+    /**
+     * Value of other numbers.
+     * This is {@code null} for numbers held as {@link #longValue}.
+     */
+    private final BigDecimal decimalValue;
+
+    /**
+     * Value of strings, or the compact JSON text of objects and arrays.
+     */
+    private final String text;
+
+    private SortKey(int rank,
+                    long longValue,
+                    BigDecimal decimalValue,
+                    String text) {
+        this.rank=rank;
+        this.longValue=longValue;
+        this.decimalValue=decimalValue;
+        this.text=text;
+    }
+
+    /**
+     * Creates the key of the scalar at the current token of a parser.
+     * @param parser Parser positioned at a scalar.
+     * @return Key.
+     * @throws IOException Thrown in case of errors.
+     */
+    static SortKey ofScalar(JsonParser parser) throws IOException {
+        SortKey key;
+        JsonToken token=parser.currentToken();
+        switch (token) {
+            case VALUE_NULL:
+                key=NULL_KEY;
+                break;
+            case VALUE_FALSE:
+                key=FALSE_KEY;
+                break;
+            case VALUE_TRUE:
+                key=TRUE_KEY;
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    key=new SortKey(NUMBER,0L,parser.getDecimalValue(),null);
+                } else {
+                    key=new SortKey(NUMBER,parser.getLongValue(),null,null);
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                key=new SortKey(NUMBER,0L,parser.getDecimalValue(),null);
+                break;
+            case VALUE_STRING:
+                key=new SortKey(STRING,0L,null,parser.getText());
+                break;
+            default:
+                throw new IllegalStateException(String.format("Failure to create key; token is not a scalar; token is %s!",token));
+        }
+        return key;
+    }
+
+    /**
+     * Creates the key of an object or an array.
+     * @param json Compact JSON text of object or array.
+     * @return Key.
+     */
+    static SortKey ofStructure(String json) {
+        return new SortKey(STRUCTURE,0L,null,json);
+    }
+
+    /**
+     * Estimates the number of bytes held by this key.
+     * @return Estimated number of bytes.
+     */
+    int estimateSize() {
+        int size=32;
+        if (decimalValue!=null) {
+            size+=64;
+        }
+        if (text!=null) {
+            size+=56+text.length()*2;
+        }
+        return size;
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        int result=Integer.compare(rank,other.rank);
+        if (result == 0) {
+            if (rank == NUMBER) {
+                if (decimalValue == null && other.decimalValue == null) {
+                    result=Long.compare(longValue,other.longValue);
+                } else {
+                    result=toDecimal().compareTo(other.toDecimal());
+                }
+            } else {
+                if (rank>=STRING) {
+                    result=text.compareTo(other.text);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SortKey && compareTo((SortKey)other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash=rank;
+        if (rank == NUMBER) {
+            hash=31*hash+toDecimal().stripTrailingZeros().hashCode();
+        } else {
+            if (rank>=STRING) {
+                hash=31*hash+text.hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String result;
+        switch (rank) {
+            case MISSING:
+                result="<missing>";
+                break;
+            case NULL:
+                result="null";
+                break;
+            case FALSE:
+                result="false";
+                break;
+            case TRUE:
+                result="true";
+                break;
+            case NUMBER:
+                result=decimalValue == null?Long.toString(longValue):decimalValue.toString();
+                break;
+            default:
+                result=text;
+                break;
+        }
+        return result;
+    }
+
+    private BigDecimal toDecimal() {
+        return decimalValue == null?BigDecimal.valueOf(longValue):decimalValue;
+    }
+
+    /**
+     * Indicates, if records have no value at the key pointer.
+     * @return Indicates, if the key is missing.
+     */
+    boolean isMissing() {
+        return rank == MISSING;
+    }
+
+    /**
+     * Writes the JSON value of this key.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    void writeJson(JsonGenerator generator) throws IOException {
+        switch (rank) {
+            case NULL:
+                generator.writeNull();
+                break;
+            case FALSE:
+            case TRUE:
+                generator.writeBoolean(rank == TRUE);
+                break;
+            case NUMBER:
+                if (decimalValue == null) {
+                    generator.writeNumber(longValue);
+                } else {
+                    generator.writeNumber(decimalValue);
+                }
+                break;
+            case STRING:
+                generator.writeString(text);
+                break;
+            case STRUCTURE:
+                generator.writeRawValue(text);
+                break;
+            default:
+                throw new IllegalStateException(String.format("Failure to write key; key is %s!",this));
+        }
+    }
+
+    /**
+     * Writes this key in binary form.
+     * @param out Target.
+     * @throws IOException Thrown in case of errors.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeByte(rank);
+        if (rank == NUMBER) {
+            if (decimalValue == null) {
+                out.writeBoolean(false);
+                out.writeLong(longValue);
+            } else {
+                out.writeBoolean(true);
+                writeString(out,decimalValue.toString());
+            }
+        } else {
+            if (rank>=STRING) {
+                writeString(out,text);
+            }
+        }
+    }
+
+    /**
+     * Reads a key in binary form.
+     * @param in Source.
+     * @return Key.
+     * @throws IOException Thrown in case of errors.
+     */
+    static SortKey read(DataInput in) throws IOException {
+        SortKey key;
+        int rank=in.readByte();
+        switch (rank) {
+            case MISSING:
+                key=MISSING_KEY;
+                break;
+            case NULL:
+                key=NULL_KEY;
+                break;
+            case FALSE:
+                key=FALSE_KEY;
+                break;
+            case TRUE:
+                key=TRUE_KEY;
+                break;
+            case NUMBER:
+                if (in.readBoolean()) {
+                    key=new SortKey(NUMBER,0L,new BigDecimal(readString(in)),null);
+                } else {
+                    key=new SortKey(NUMBER,in.readLong(),null,null);
+                }
+                break;
+            case STRING:
+            case STRUCTURE:
+                key=new SortKey(rank,0L,null,readString(in));
+                break;
+            default:
+                throw new IOException(String.format("Failure to read key; rank is not known; rank is %d!",rank));
+        }
+        return key;
+    }
+
+    private static void writeString(DataOutput out,
+                                    String value) throws IOException {
+        byte[] bytes=value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes=new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes,StandardCharsets.UTF_8);
+    }
+}
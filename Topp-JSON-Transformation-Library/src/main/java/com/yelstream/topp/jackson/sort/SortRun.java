@@ -0,0 +1,138 @@
+package com.yelstream.topp.jackson.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sorted run of entries read in order.
+ * This is not thread-safe.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+abstract class SortRun implements Closeable {
+    /**
+     * Size of buffers of files of runs.
+     */
+    private static final int BUFFER_SIZE=65536;
+
+    /**
+     * Current entry.
+     * This is {@code null} before the first entry and after the last entry.
+     */
+    SortEntry current;
+
+    /**
+     * Advances to the next entry.
+     * @return Indicates, if there is a next entry.
+     * @throws IOException Thrown in case of errors.
+     */
+    abstract boolean advance() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        //Nothing to close by default.
+    }
+
+    /**
+     * Writes sorted entries to a temporary file.
+     * @param entries Sorted entries.
+     * @param count Number of entries.
+     * @param directory Directory of temporary file.
+     *                  This may be {@code null} for the default directory of temporary files.
+     * @return Temporary file.
+     * @throws IOException Thrown in case of errors.
+     */
+    static Path spill(SortEntry[] entries,
+                      int count,
+                      Path directory) throws IOException {
+        Path file=createFile(directory);
+        try (DataOutputStream out=openOutput(file)) {
+            out.writeLong(count);
+            for (int i=0; i<count; i++) {
+                entries[i].write(out);
+            }
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        return file;
+    }
+
+    static Path createFile(Path directory) throws IOException {
+        return directory == null?Files.createTempFile("json-sort-",".run"):Files.createTempFile(directory,"json-sort-",".run");
+    }
+
+    static DataOutputStream openOutput(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file),BUFFER_SIZE));
+    }
+
+    /**
+     * Run of entries held in memory.
+     */
+    static final class MemoryRun extends SortRun {
+        private final SortEntry[] entries;
+
+        private final int count;
+
+        private int index;
+
+        MemoryRun(SortEntry[] entries,
+                  int count) {
+            this.entries=entries;
+            this.count=count;
+        }
+
+        @Override
+        boolean advance() {
+            current=index<count?entries[index++]:null;
+            return current!=null;
+        }
+    }
+
+    /**
+     * Run of entries read from a file.
+     */
+    static final class FileRun extends SortRun {
+        private final DataInputStream in;
+
+        /**
+         * Number of entries of the run.
+         */
+        final long count;
+
+        /**
+         * Number of entries not yet read.
+         */
+        private long remaining;
+
+        FileRun(Path file) throws IOException {
+            this.in=new DataInputStream(new BufferedInputStream(Files.newInputStream(file),BUFFER_SIZE));
+            this.count=in.readLong();
+            this.remaining=count;
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if (remaining>0) {
+                current=SortEntry.read(in);
+                remaining--;
+            } else {
+                current=null;
+            }
+            return current!=null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
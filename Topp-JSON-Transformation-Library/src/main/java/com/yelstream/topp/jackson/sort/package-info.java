@@ -0,0 +1,4 @@
+/**
+ * Sorting, grouping and deduplication of JSON records beyond the limits of memory.
+ */
+package com.yelstream.topp.jackson.sort;
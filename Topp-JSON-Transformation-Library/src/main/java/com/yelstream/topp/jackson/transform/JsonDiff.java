@@ -0,0 +1,499 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural diff of JSON trees producing JSON Patch operations according to RFC 6902.
+ * <p>
+ *     Subtrees are compared by 64-bit hashes cached per container node,
+ *     so differing subtrees are told apart without comparing them.
+ *     Only hashes of containers with many children are cached, since small containers are cheaper to hash again
+ *     than to look up.
+ *     Subtrees with equal hashes are confirmed equal by comparison, and numbers are equal if numerically equal.
+ * </p>
+ * <p>
+ *     Arrays are diffed by trimming their common prefix and suffix, and matching the remaining elements
+ *     by a longest common subsequence of element hashes, computed in time proportional to the number of elements
+ *     times the number of changes.
+ *     If an id property is configured, object elements are matched by the value of this property,
+ *     and matched elements are diffed recursively.
+ *     Beyond the maximum edit distance, remaining elements are diffed by position.
+ * </p>
+ * <p>
+ *     Values of operations are nodes of the target tree and are not copied.
+ * </p>
+ * <p>
+ *     This is immutable and thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class JsonDiff {
+    /**
+     * Default maximum number of element insertions and removals matched within an array.
+     */
+    public static final int DEFAULT_MAX_EDIT_DISTANCE=1024;
+
+    /**
+     * Minimum number of children of container nodes whose hashes are cached.
+     */
+    private static final int CACHED_SIZE=16;
+
+    /**
+     * Comparison of scalar nodes, by which numbers are equal if numerically equal.
+     */
+    private static final Comparator<JsonNode> VALUE_COMPARATOR=(a,b) -> (a.isNumber() && b.isNumber()?isEqualNumber(a,b):a.equals(b))?0:1;
+
+    /**
+     * Name of property identifying object elements of arrays.
+     * This may be {@code null}.
+     */
+    @Getter
+    @ToString.Include
+    private final String idProperty;
+
+    /**
+     * Maximum number of element insertions and removals matched within an array.
+     * Matching uses time and memory proportional to the square of this.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxEditDistance=DEFAULT_MAX_EDIT_DISTANCE;
+
+    /**
+     * Computes the operations transforming one JSON tree into another.
+     * @param source Source tree.
+     * @param target Target tree.
+     * @return Operations.
+     */
+    public List<JsonPatchOperation> diff(JsonNode source,
+                                         JsonNode target) {
+        Differ differ=new Differ();
+        differ.diff("",source,target);
+        return differ.operations;
+    }
+
+    /**
+     * Computes the patch transforming one JSON tree into another.
+     * @param source Source tree.
+     * @param target Target tree.
+     * @return Patch.
+     */
+    public JsonPatch diffPatch(JsonNode source,
+                               JsonNode target) {
+        return JsonPatches.compile(diff(source,target));
+    }
+
+    /**
+     * Diff of a pair of trees.
+     * This is not thread-safe.
+     */
+    private final class Differ {
+        /**
+         * Hashes of container nodes with at least {@link #CACHED_SIZE} children.
+         */
+        private final Map<JsonNode,Long> hashes=new IdentityHashMap<>();
+
+        /**
+         * Hashes of elements of arrays with at least {@link #CACHED_SIZE} elements.
+         */
+        private final Map<JsonNode,long[]> elementHashes=new IdentityHashMap<>();
+
+        private final List<JsonPatchOperation> operations=new ArrayList<>();
+
+        private void diff(String path,
+                          JsonNode source,
+                          JsonNode target) {
+            if (source!=target && (hash(source)!=hash(target) || !source.equals(VALUE_COMPARATOR,target))) {
+                if (source.isObject() && target.isObject()) {
+                    diffObject(path,source,target);
+                } else {
+                    if (source.isArray() && target.isArray()) {
+                        diffArray(path,source,target);
+                    } else {
+                        operations.add(JsonPatchOperation.replace(path,target));
+                    }
+                }
+            }
+        }
+
+        private void diffObject(String path,
+                                JsonNode source,
+                                JsonNode target) {
+            Iterator<String> names=source.fieldNames();
+            while (names.hasNext()) {
+                String name=names.next();
+                if (!target.has(name)) {
+                    operations.add(JsonPatchOperation.remove(path+"/"+escape(name)));
+                }
+            }
+            Iterator<Map.Entry<String,JsonNode>> fields=target.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                String childPath=path+"/"+escape(field.getKey());
+                JsonNode sourceChild=source.get(field.getKey());
+                if (sourceChild == null) {
+                    operations.add(JsonPatchOperation.add(childPath,field.getValue()));
+                } else {
+                    diff(childPath,sourceChild,field.getValue());
+                }
+            }
+        }
+
+        private void diffArray(String path,
+                               JsonNode source,
+                               JsonNode target) {
+            long[] sourceKeys=keys(source);
+            long[] targetKeys=keys(target);
+            int n=sourceKeys.length;
+            int m=targetKeys.length;
+            int prefix=0;
+            while (prefix<n && prefix<m && sourceKeys[prefix] == targetKeys[prefix]) {
+                prefix++;
+            }
+            int suffix=0;
+            while (suffix<n-prefix && suffix<m-prefix && sourceKeys[n-1-suffix] == targetKeys[m-1-suffix]) {
+                suffix++;
+            }
+            for (int i=0; i<prefix; i++) {
+                diff(path+"/"+i,source.get(i),target.get(i));
+            }
+            for (int i=n-suffix; i<n; i++) {
+                diff(path+"/"+i,source.get(i),target.get(i-n+m));
+            }
+            int[][] matches=match(sourceKeys,prefix,n-suffix,targetKeys,prefix,m-suffix);
+            int index=prefix;
+            if (matches == null) {
+                index=diffRun(path,index,source,prefix,n-suffix,target,prefix,m-suffix);
+            } else {
+                int i=prefix;
+                int j=prefix;
+                for (int p=0; p<matches[0].length; p++) {
+                    index=diffRun(path,index,source,i,matches[0][p],target,j,matches[1][p]);
+                    diff(path+"/"+index,source.get(matches[0][p]),target.get(matches[1][p]));
+                    index++;
+                    i=matches[0][p]+1;
+                    j=matches[1][p]+1;
+                }
+                diffRun(path,index,source,i,n-suffix,target,j,m-suffix);
+            }
+        }
+
+        /**
+         * Diffs a run of unmatched elements by position.
+         * @param path Path of array.
+         * @param index Index of first element of the run in the array patched so far.
+         * @param source Source array.
+         * @param sourceStart Index of first element of source run.
+         * @param sourceEnd Index after last element of source run.
+         * @param target Target array.
+         * @param targetStart Index of first element of target run.
+         * @param targetEnd Index after last element of target run.
+         * @return Index after the run in the array patched so far.
+         */
+        private int diffRun(String path,
+                            int index,
+                            JsonNode source,
+                            int sourceStart,
+                            int sourceEnd,
+                            JsonNode target,
+                            int targetStart,
+                            int targetEnd) {
+            int next=index;
+            int common=Math.min(sourceEnd-sourceStart,targetEnd-targetStart);
+            for (int p=0; p<common; p++) {
+                diff(path+"/"+next,source.get(sourceStart+p),target.get(targetStart+p));
+                next++;
+            }
+            for (int i=sourceStart+common; i<sourceEnd; i++) {
+                operations.add(JsonPatchOperation.remove(path+"/"+next));
+            }
+            for (int j=targetStart+common; j<targetEnd; j++) {
+                operations.add(JsonPatchOperation.add(path+"/"+next,target.get(j)));
+                next++;
+            }
+            return next;
+        }
+
+        /**
+         * Computes the keys by which elements of an array are matched.
+         * @param array Array.
+         * @return Keys.
+         */
+        private long[] keys(JsonNode array) {
+            long[] keys=idProperty == null?elementHashes.get(array):null;
+            if (keys == null) {
+                keys=new long[array.size()];
+                for (int i=0; i<keys.length; i++) {
+                    JsonNode element=array.get(i);
+                    JsonNode id=idProperty == null || !element.isObject()?null:element.get(idProperty);
+                    keys[i]=id == null?hash(element):mix(hash(id)^0x3C6EF372FE94F82BL);
+                }
+            }
+            return keys;
+        }
+
+        /**
+         * Computes a longest common subsequence of keys by the algorithm of Myers.
+         * @param a Source keys.
+         * @param aStart Index of first source key.
+         * @param aEnd Index after last source key.
+         * @param b Target keys.
+         * @param bStart Index of first target key.
+         * @param bEnd Index after last target key.
+         * @return Indexes of matched source keys and matched target keys.
+         *         This is {@code null} if the edit distance exceeds the maximum.
+         */
+        private int[][] match(long[] a,
+                              int aStart,
+                              int aEnd,
+                              long[] b,
+                              int bStart,
+                              int bEnd) {
+            int n=aEnd-aStart;
+            int m=bEnd-bStart;
+            int limit=Math.min(n+m,maxEditDistance);
+            int offset=limit+1;
+            int[] v=new int[2*limit+3];
+            List<int[]> trace=new ArrayList<>();
+            int distance=-1;
+            for (int d=0; d<=limit && distance<0; d++) {
+                trace.add(Arrays.copyOfRange(v,offset-d-1,offset+d+2));
+                for (int k=-d; k<=d && distance<0; k+=2) {
+                    int x=k == -d || (k!=d && v[offset+k-1]<v[offset+k+1])?v[offset+k+1]:v[offset+k-1]+1;
+                    int y=x-k;
+                    while (x<n && y<m && a[aStart+x] == b[bStart+y]) {
+                        x++;
+                        y++;
+                    }
+                    v[offset+k]=x;
+                    if (x>=n && y>=m) {
+                        distance=d;
+                    }
+                }
+            }
+            int[][] matches=null;
+            if (distance>=0) {
+                int count=(n+m-distance)/2;
+                matches=new int[2][count];
+                int x=n;
+                int y=m;
+                for (int d=distance; d>=0; d--) {
+                    int[] snapshot=trace.get(d);
+                    int k=x-y;
+                    int previousX=0;
+                    int previousY=0;
+                    if (d>0) {
+                        int previousK=k == -d || (k!=d && snapshot[k-1+d+1]<snapshot[k+1+d+1])?k+1:k-1;
+                        previousX=snapshot[previousK+d+1];
+                        previousY=previousX-previousK;
+                    }
+                    while (x>previousX && y>previousY) {
+                        x--;
+                        y--;
+                        count--;
+                        matches[0][count]=aStart+x;
+                        matches[1][count]=bStart+y;
+                    }
+                    x=previousX;
+                    y=previousY;
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Gets the hash of a node.
+         * Hashes of container nodes with many children are cached.
+         * @param node Node.
+         * @return Hash.
+         */
+        private long hash(JsonNode node) {
+            long hash;
+            if (node.isContainerNode()) {
+                if (node.size()>=CACHED_SIZE) {
+                    Long cached=hashes.get(node);
+                    if (cached!=null) {
+                        hash=cached;
+                    } else {
+                        hash=node.isObject()?hashObject(node):hashArray(node);
+                        hashes.put(node,hash);
+                    }
+                } else {
+                    hash=node.isObject()?hashObject(node):hashArray(node);
+                }
+            } else {
+                hash=hashValue(node);
+            }
+            return hash;
+        }
+
+        private long hashObject(JsonNode node) {
+            long sum=0L;
+            Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                sum+=mix(hashText(field.getKey())*0x9E3779B97F4A7C15L+hash(field.getValue()));
+            }
+            return mix(sum^0x510E527FADE682D1L^node.size());
+        }
+
+        private long hashArray(JsonNode node) {
+            int size=node.size();
+            long[] elements=size>=CACHED_SIZE?new long[size]:null;
+            long hash=0x1F83D9ABFB41BD6BL;
+            for (int i=0; i<size; i++) {
+                long elementHash=hash(node.get(i));
+                if (elements!=null) {
+                    elements[i]=elementHash;
+                }
+                hash=hash*0x9E3779B97F4A7C15L+elementHash;
+            }
+            if (elements!=null) {
+                elementHashes.put(node,elements);
+            }
+            return mix(hash^size);
+        }
+    }
+
+    private static long hashValue(JsonNode node) {
+        long hash;
+        switch (node.getNodeType()) {
+            case STRING:
+                hash=hashText(node.textValue());
+                break;
+            case NUMBER:
+                hash=hashNumber(node);
+                break;
+            case BOOLEAN:
+                hash=node.booleanValue()?0x6A09E667F3BCC908L:0xBB67AE8584CAA73BL;
+                break;
+            case NULL:
+            case MISSING:
+                hash=0x3C6EF372FE94F82AL;
+                break;
+            case BINARY:
+                try {
+                    hash=mix(Arrays.hashCode(node.binaryValue())^0xA54FF53A5F1D36F1L);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                break;
+            default:
+                hash=mix(node.hashCode());
+                break;
+        }
+        return hash;
+    }
+
+    private static long hashText(String text) {
+        long hash=0xCBF29CE484222325L;
+        for (int i=0; i<text.length(); i++) {
+            hash=(hash^text.charAt(i))*0x100000001B3L;
+        }
+        return mix(hash^text.length());
+    }
+
+    /**
+     * Hashes a number such that numerically equal numbers have equal hashes.
+     * Numbers which are not integers within the range of {@code long} are hashed by their decimal value
+     * with trailing zeros stripped.
+     * @param node Number node.
+     * @return Hash.
+     */
+    private static long hashNumber(JsonNode node) {
+        long hash;
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            hash=mix(node.longValue());
+        } else {
+            if (!isFinite(node)) {
+                hash=mix(Double.doubleToLongBits(node.doubleValue()));
+            } else {
+                BigDecimal value=toDecimal(node).stripTrailingZeros();
+                hash=value.scale()<=0 && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE))<0 && value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE))>0?
+                     mix(value.longValue()):
+                     mix(value.hashCode()^0x9B05688C2B3E6C1FL);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Indicates, if two numbers are numerically equal.
+     * This is consistent with {@link #hashNumber(JsonNode)}.
+     * @param a Number node.
+     * @param b Number node.
+     * @return Indicates, if equal.
+     */
+    private static boolean isEqualNumber(JsonNode a,
+                                         JsonNode b) {
+        boolean equal;
+        if (a.isIntegralNumber() && a.canConvertToLong() && b.isIntegralNumber() && b.canConvertToLong()) {
+            equal=a.longValue() == b.longValue();
+        } else {
+            if (!isFinite(a) || !isFinite(b)) {
+                equal=!isFinite(a) && !isFinite(b) && Double.compare(a.doubleValue(),b.doubleValue()) == 0;
+            } else {
+                equal=toDecimal(a).compareTo(toDecimal(b)) == 0;
+            }
+        }
+        return equal;
+    }
+
+    private static boolean isFinite(JsonNode node) {
+        return !(node.isDouble() || node.isFloat()) || Double.isFinite(node.doubleValue());
+    }
+
+    /**
+     * Gets the decimal value of a finite number as written in JSON text.
+     * @param node Number node.
+     * @return Decimal value.
+     */
+    private static BigDecimal toDecimal(JsonNode node) {
+        return node.isFloat()?new BigDecimal(Float.toString(node.floatValue())):node.decimalValue();
+    }
+
+    /**
+     * Mixes the bits of a value.
+     * @param value Value.
+     * @return Mixed value.
+     */
+    private static long mix(long value) {
+        long z=value+0x9E3779B97F4A7C15L;
+        z=(z^(z>>>30))*0xBF58476D1CE4E5B9L;
+        z=(z^(z>>>27))*0x94D049BB133111EBL;
+        return z^(z>>>31);
+    }
+
+    /**
+     * Escapes a property name as a JSON Pointer segment according to RFC 6901.
+     * @param name Property name.
+     * @return Escaped segment.
+     */
+    private static String escape(String name) {
+        String segment=name;
+        if (name.indexOf('~')>=0 || name.indexOf('/')>=0) {
+            segment=name.replace("~","~0").replace("/","~1");
+        }
+        return segment;
+    }
+}
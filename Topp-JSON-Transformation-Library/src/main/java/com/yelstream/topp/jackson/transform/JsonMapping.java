@@ -0,0 +1,145 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Declarative JSON-to-JSON mapping compiled into a plan of stages.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link JsonMappings} and {@link JsonMappingCache} from specs
+ *     in the style of Jolt, being an array of stages of the form {@code {"operation":...,"spec":{...}}}.
+ *     Operations are {@code shift}, copying values matched to new paths of a new document,
+ *     {@code default}, setting values of properties absent or {@code null},
+ *     {@code remove}, removing values matched,
+ *     and {@code cardinality}, changing values matched between single values and arrays.
+ *     Names, references and output paths of specs are resolved when compiled.
+ * </p>
+ * <p>
+ *     When mapping a document read from a parser, the first stage reads the document.
+ *     A plan of a single {@code default}, {@code remove} or {@code cardinality} stage streams the document
+ *     from the parser to the generator without materializing it,
+ *     and a {@code shift} stage materializes only the values it copies.
+ *     Later stages are applied to the tree created by the first stage.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class JsonMapping {
+    /**
+     * Factory of parsers and generators of text.
+     */
+    private static final JsonFactory FACTORY=JsonMappingStage.MAPPER.getFactory();
+
+    /**
+     * Spec as text.
+     */
+    @Getter
+    private final String spec;
+
+    private final JsonMappingStage[] stages;
+
+    /**
+     * Applies this mapping to a document.
+     * The document is not modified.
+     * @param document Document.
+     * @return Mapped document.
+     */
+    public JsonNode apply(JsonNode document) {
+        JsonNode node;
+        if (stages.length>0 && stages[0] instanceof JsonMappingShift) {
+            node=stages[0].apply(document);
+            if (stages.length>1) {
+                node=node.deepCopy();
+            }
+            for (int i=1; i<stages.length; i++) {
+                node=stages[i].apply(node);
+            }
+        } else {
+            node=applyInPlace(document.deepCopy());
+        }
+        return node;
+    }
+
+    /**
+     * Applies this mapping in place to a document.
+     * Objects and arrays of the document may be modified, and values may be shared between the document and the result.
+     * @param document Document.
+     * @return Mapped document.
+     */
+    public JsonNode applyInPlace(JsonNode document) {
+        JsonNode node=document;
+        for (JsonMappingStage stage: stages) {
+            node=stage.apply(node);
+        }
+        return node;
+    }
+
+    /**
+     * Applies this mapping to a JSON document.
+     * @param json JSON document.
+     * @return Mapped JSON document.
+     * @throws IOException Thrown in case of errors.
+     */
+    public String transform(String json) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=FACTORY.createParser(json);
+             JsonGenerator generator=FACTORY.createGenerator(writer)) {
+            transform(parser,generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Applies this mapping to all JSON values read from a parser, such as a sequence of root-level values.
+     * @param parser Parser.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transform(JsonParser parser,
+                          JsonGenerator generator) throws IOException {
+        while (parser.nextToken()!=null) {
+            transformValue(parser,generator);
+        }
+    }
+
+    /**
+     * Applies this mapping to the JSON value at the current token of a parser.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transformValue(JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        if (stages.length == 0) {
+            generator.copyCurrentStructure(parser);
+        } else {
+            if (stages.length == 1) {
+                stages[0].transform(parser,generator);
+            } else {
+                JsonNode node=stages[0].read(parser);
+                for (int i=1; i<stages.length; i++) {
+                    node=stages[i].apply(node);
+                }
+                JsonMappingStage.MAPPER.writeTree(generator,node);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,210 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Mapping stage changing values matched by a spec between single values and arrays.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Objects of the spec descend into the objects and arrays matched.
+ *     The value {@code ONE} replaces arrays by their first element, or by {@code null} if empty,
+ *     and the value {@code MANY} wraps values other than arrays into arrays.
+ *     When streaming, nothing is materialized.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonMappingCardinality extends JsonMappingStage {
+    /**
+     * Spec replacing arrays by their first element.
+     */
+    private static final Node ONE=new Node();
+
+    /**
+     * Spec wrapping values into arrays.
+     */
+    private static final Node MANY=new Node();
+
+    private final Node root;
+
+    JsonMappingCardinality(JsonNode spec) {
+        if (!spec.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to compile cardinality; spec is not an object; spec is %s!",spec));
+        }
+        this.root=compile(spec);
+    }
+
+    private static Node compile(JsonNode spec) {
+        Node node=new Node();
+        Iterator<Map.Entry<String,JsonNode>> fields=spec.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String,JsonNode> field=fields.next();
+            JsonNode value=field.getValue();
+            Node child;
+            if (value.isObject()) {
+                child=compile(value);
+            } else {
+                String text=value.asText();
+                if (text.equals("ONE")) {
+                    child=ONE;
+                } else {
+                    if (text.equals("MANY")) {
+                        child=MANY;
+                    } else {
+                        throw new IllegalArgumentException(String.format("Failure to compile cardinality; cardinality is neither ONE nor MANY; key is %s, cardinality is %s!",field.getKey(),value));
+                    }
+                }
+            }
+            node.children.add(field.getKey(),child);
+        }
+        return node;
+    }
+
+    @Override
+    JsonNode apply(JsonNode root) {
+        descend(this.root,root);
+        return root;
+    }
+
+    private static void descend(Node node,
+                                JsonNode value) {
+        if (value.isObject()) {
+            Iterator<Map.Entry<String,JsonNode>> fields=value.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                Node child=node.children.match(field.getKey());
+                if (child!=null) {
+                    JsonNode childValue=field.getValue();
+                    JsonNode newValue=apply(child,childValue);
+                    if (newValue!=childValue) {
+                        field.setValue(newValue);
+                    }
+                }
+            }
+        } else {
+            if (value.isArray()) {
+                ArrayNode array=(ArrayNode)value;
+                int size=array.size();
+                for (int i=0; i<size; i++) {
+                    Node child=node.children.match(i);
+                    if (child!=null) {
+                        JsonNode element=array.get(i);
+                        JsonNode newElement=apply(child,element);
+                        if (newElement!=element) {
+                            array.set(i,newElement);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static JsonNode apply(Node child,
+                                  JsonNode value) {
+        JsonNode result=value;
+        if (child == ONE) {
+            if (value.isArray()) {
+                result=value.size() == 0?NullNode.getInstance():value.get(0);
+            }
+        } else {
+            if (child == MANY) {
+                if (!value.isArray()) {
+                    result=JsonNodeFactory.instance.arrayNode().add(value);
+                }
+            } else {
+                if (value.isContainerNode()) {
+                    descend(child,value);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    void transform(JsonParser parser,
+                   JsonGenerator generator) throws IOException {
+        stream(root,parser,generator);
+    }
+
+    /**
+     * Copies the value at the current token of a parser with cardinalities changed.
+     * @param node Compiled spec.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void stream(Node node,
+                               JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        JsonToken token=parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name=parser.getCurrentName();
+                generator.writeFieldName(name);
+                parser.nextToken();
+                streamChild(node.children.match(name),parser,generator);
+            }
+            generator.writeEndObject();
+        } else {
+            if (token == JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                int index=0;
+                while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                    streamChild(node.children.match(index),parser,generator);
+                    index++;
+                }
+                generator.writeEndArray();
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    private static void streamChild(Node child,
+                                    JsonParser parser,
+                                    JsonGenerator generator) throws IOException {
+        JsonToken token=parser.currentToken();
+        if (child == ONE && token == JsonToken.START_ARRAY) {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                generator.writeNull();
+            } else {
+                generator.copyCurrentStructure(parser);
+                while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            if (child == MANY && token!=JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                generator.copyCurrentStructure(parser);
+                generator.writeEndArray();
+            } else {
+                if (child!=null && child!=ONE && child!=MANY && token.isStructStart()) {
+                    stream(child,parser,generator);
+                } else {
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiled spec of a level.
+     */
+    private static final class Node {
+        private final Matcher<Node> children=new Matcher<>();
+    }
+}
@@ -0,0 +1,291 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapping stage setting values of properties absent or {@code null}.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Objects of the spec under literal names descend into the objects and arrays of those names,
+ *     and create objects of the defaults given if absent.
+ *     Other values of the spec under literal names are the defaults of those names.
+ *     An object of the spec under the wildcard descends into all other objects and arrays.
+ * </p>
+ * <p>
+ *     Defaults of properties absent are added last, in the order of the spec.
+ *     When streaming, nothing is materialized.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonMappingDefault extends JsonMappingStage {
+    private final Node root;
+
+    JsonMappingDefault(JsonNode spec) {
+        if (!spec.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to compile default; spec is not an object; spec is %s!",spec));
+        }
+        this.root=compile(spec);
+    }
+
+    private static Node compile(JsonNode spec) {
+        List<Entry> entries=new ArrayList<>();
+        Map<String,Integer> index=new HashMap<>();
+        Node wildcard=null;
+        Iterator<Map.Entry<String,JsonNode>> fields=spec.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String,JsonNode> field=fields.next();
+            String key=field.getKey();
+            JsonNode value=field.getValue();
+            Node child=value.isObject()?compile(value):null;
+            for (String name: parseKey(key)) {
+                if (name == null) {
+                    if (child == null || wildcard!=null) {
+                        throw new IllegalArgumentException(String.format("Failure to compile default; wildcard is repeated or not an object; key is %s!",key));
+                    }
+                    wildcard=child;
+                } else {
+                    if (index.putIfAbsent(name,entries.size())!=null) {
+                        throw new IllegalArgumentException(String.format("Failure to compile default; name is repeated; key is %s!",key));
+                    }
+                    entries.add(new Entry(name,child == null?value.deepCopy():null,child));
+                }
+            }
+        }
+        return new Node(entries.toArray(new Entry[0]),index,wildcard);
+    }
+
+    @Override
+    JsonNode apply(JsonNode root) {
+        apply(this.root,root);
+        return root;
+    }
+
+    private static void apply(Node node,
+                              JsonNode value) {
+        if (value.isObject()) {
+            ObjectNode object=(ObjectNode)value;
+            Iterator<Map.Entry<String,JsonNode>> fields=object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                JsonNode child=field.getValue();
+                Integer i=node.index.get(field.getKey());
+                if (i == null) {
+                    if (node.wildcard!=null && child.isContainerNode()) {
+                        apply(node.wildcard,child);
+                    }
+                } else {
+                    Entry entry=node.entries[i];
+                    if (child.isNull()) {
+                        field.setValue(entry.createDefault());
+                    } else {
+                        if (entry.child!=null && child.isContainerNode()) {
+                            apply(entry.child,child);
+                        }
+                    }
+                }
+            }
+            for (Entry entry: node.entries) {
+                if (!object.has(entry.name)) {
+                    object.set(entry.name,entry.createDefault());
+                }
+            }
+        } else {
+            if (value.isArray()) {
+                int size=value.size();
+                for (int i=0; i<size; i++) {
+                    JsonNode element=value.get(i);
+                    if (element.isContainerNode()) {
+                        Node child=node.match(i);
+                        if (child!=null) {
+                            apply(child,element);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    void transform(JsonParser parser,
+                   JsonGenerator generator) throws IOException {
+        stream(root,parser,generator);
+    }
+
+    /**
+     * Copies the value at the current token of a parser with defaults.
+     * @param node Compiled spec.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void stream(Node node,
+                               JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        JsonToken token=parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            boolean[] seen=new boolean[node.entries.length];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name=parser.getCurrentName();
+                generator.writeFieldName(name);
+                token=parser.nextToken();
+                Integer i=node.index.get(name);
+                if (i == null) {
+                    if (node.wildcard!=null && token.isStructStart()) {
+                        stream(node.wildcard,parser,generator);
+                    } else {
+                        generator.copyCurrentStructure(parser);
+                    }
+                } else {
+                    Entry entry=node.entries[i];
+                    seen[i]=true;
+                    if (token == JsonToken.VALUE_NULL) {
+                        MAPPER.writeTree(generator,entry.getDefault());
+                    } else {
+                        if (entry.child!=null && token.isStructStart()) {
+                            stream(entry.child,parser,generator);
+                        } else {
+                            generator.copyCurrentStructure(parser);
+                        }
+                    }
+                }
+            }
+            for (int i=0; i<seen.length; i++) {
+                if (!seen[i]) {
+                    Entry entry=node.entries[i];
+                    generator.writeFieldName(entry.name);
+                    MAPPER.writeTree(generator,entry.getDefault());
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            if (token == JsonToken.START_ARRAY && (node.wildcard!=null || node.entries.length>0)) {
+                generator.writeStartArray();
+                int index=0;
+                while ((token=parser.nextToken())!=JsonToken.END_ARRAY) {
+                    Node child=token.isStructStart()?node.match(index):null;
+                    if (child == null) {
+                        generator.copyCurrentStructure(parser);
+                    } else {
+                        stream(child,parser,generator);
+                    }
+                    index++;
+                }
+                generator.writeEndArray();
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Compiled spec of a level.
+     */
+    private static final class Node {
+        private final Entry[] entries;
+
+        /**
+         * Indexes of entries by name.
+         */
+        private final Map<String,Integer> index;
+
+        /**
+         * Spec applied to other objects and arrays.
+         * This is {@code null} if absent.
+         */
+        private final Node wildcard;
+
+        /**
+         * Object of defaults created for a property absent.
+         */
+        private final ObjectNode template;
+
+        private Node(Entry[] entries,
+                     Map<String,Integer> index,
+                     Node wildcard) {
+            this.entries=entries;
+            this.index=index;
+            this.wildcard=wildcard;
+            ObjectNode object=JsonNodeFactory.instance.objectNode();
+            for (Entry entry: entries) {
+                object.set(entry.name,entry.getDefault());
+            }
+            this.template=object;
+        }
+
+        /**
+         * Gets the spec of an array element.
+         * @param index Index of element.
+         * @return Compiled spec.
+         *         This is {@code null} if not matched.
+         */
+        private Node match(int index) {
+            Node result=null;
+            if (entries.length>0) {
+                Integer i=this.index.get(Integer.toString(index));
+                if (i!=null) {
+                    result=entries[i].child;
+                }
+            }
+            return result == null?wildcard:result;
+        }
+    }
+
+    /**
+     * Compiled spec of a literal name.
+     */
+    private static final class Entry {
+        private final String name;
+
+        /**
+         * Default value.
+         * This is {@code null} if the spec descends.
+         */
+        private final JsonNode value;
+
+        /**
+         * Spec of the value.
+         * This is {@code null} unless the spec descends.
+         */
+        private final Node child;
+
+        private Entry(String name,
+                      JsonNode value,
+                      Node child) {
+            this.name=name;
+            this.value=value;
+            this.child=child;
+        }
+
+        /**
+         * Gets the default value, which must not be modified.
+         * @return Default value.
+         */
+        private JsonNode getDefault() {
+            return value == null?child.template:value;
+        }
+
+        /**
+         * Creates a copy of the default value.
+         * @return Default value.
+         */
+        private JsonNode createDefault() {
+            return getDefault().deepCopy();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Mapping stage removing values matched by a spec.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Objects of the spec descend into the objects and arrays matched.
+ *     Other values of the spec remove the values matched.
+ *     When streaming, nothing is materialized.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonMappingRemove extends JsonMappingStage {
+    /**
+     * Spec removing the values matched.
+     */
+    private static final Node REMOVE=new Node();
+
+    private final Node root;
+
+    JsonMappingRemove(JsonNode spec) {
+        if (!spec.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to compile remove; spec is not an object; spec is %s!",spec));
+        }
+        this.root=compile(spec);
+    }
+
+    private static Node compile(JsonNode spec) {
+        Node node=new Node();
+        Iterator<Map.Entry<String,JsonNode>> fields=spec.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String,JsonNode> field=fields.next();
+            JsonNode value=field.getValue();
+            node.children.add(field.getKey(),value.isObject()?compile(value):REMOVE);
+        }
+        return node;
+    }
+
+    @Override
+    JsonNode apply(JsonNode root) {
+        apply(this.root,root);
+        return root;
+    }
+
+    private static void apply(Node node,
+                              JsonNode value) {
+        if (value.isObject()) {
+            Iterator<Map.Entry<String,JsonNode>> fields=value.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                Node child=node.children.match(field.getKey());
+                if (child == REMOVE) {
+                    fields.remove();
+                } else {
+                    if (child!=null && field.getValue().isContainerNode()) {
+                        apply(child,field.getValue());
+                    }
+                }
+            }
+        } else {
+            if (value.isArray()) {
+                ArrayNode array=(ArrayNode)value;
+                for (int i=array.size()-1; i>=0; i--) {
+                    Node child=node.children.match(i);
+                    if (child == REMOVE) {
+                        array.remove(i);
+                    } else {
+                        if (child!=null && array.get(i).isContainerNode()) {
+                            apply(child,array.get(i));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    void transform(JsonParser parser,
+                   JsonGenerator generator) throws IOException {
+        stream(root,parser,generator);
+    }
+
+    /**
+     * Copies the value at the current token of a parser without the values matched.
+     * @param node Compiled spec.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void stream(Node node,
+                               JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        JsonToken token=parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name=parser.getCurrentName();
+                token=parser.nextToken();
+                Node child=node.children.match(name);
+                if (child == REMOVE) {
+                    parser.skipChildren();
+                } else {
+                    generator.writeFieldName(name);
+                    streamChild(child,parser,generator,token);
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            if (token == JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                int index=0;
+                while ((token=parser.nextToken())!=JsonToken.END_ARRAY) {
+                    Node child=node.children.match(index);
+                    if (child == REMOVE) {
+                        parser.skipChildren();
+                    } else {
+                        streamChild(child,parser,generator,token);
+                    }
+                    index++;
+                }
+                generator.writeEndArray();
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    private static void streamChild(Node child,
+                                    JsonParser parser,
+                                    JsonGenerator generator,
+                                    JsonToken token) throws IOException {
+        if (child!=null && token.isStructStart()) {
+            stream(child,parser,generator);
+        } else {
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Compiled spec of a level.
+     */
+    private static final class Node {
+        private final Matcher<Node> children=new Matcher<>();
+    }
+}
@@ -0,0 +1,638 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mapping stage copying values matched by a spec to new paths of a new document.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Objects of the spec descend into the children of values matched.
+ *     A string or an array of strings gives the output paths of the value matched.
+ *     The key {@code $} gives output paths of the name matched by the enclosing key,
+ *     and the key {@code @} gives output paths of the value matched by the enclosing key.
+ * </p>
+ * <p>
+ *     Output paths consist of names separated by {@code .}.
+ *     A name may contain {@code &} or {@code &n}, referring to the name matched by the key {@code n} levels up,
+ *     where {@code &} is {@code &0}, the name matched by the key of the path itself.
+ *     Paths of the keys {@code $} and {@code @} are at the level of the children of the enclosing key,
+ *     where both {@code &} and {@code &1} refer to the name matched by the enclosing key.
+ *     A name may be followed by {@code [n]} or {@code [&n]}, addressing an array element,
+ *     and the last name may be followed by {@code []}, appending to an array.
+ *     Arrays are padded by {@code null} up to the index set, by at most {@value #MAX_INDEX_GAP} elements.
+ *     The character {@code \} escapes the character following it.
+ *     Values shifted to the same path are collected into an array.
+ * </p>
+ * <p>
+ *     When reading from a parser, only the values matched by leaves of the spec are materialized,
+ *     together with values matched by keys with {@code @}.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonMappingShift extends JsonMappingStage {
+    /**
+     * Maximum number of elements {@code null} padding arrays up to an index set.
+     */
+    static final int MAX_INDEX_GAP=1000;
+
+    private final Node root;
+
+    /**
+     * Maximum level of keys.
+     */
+    private final int maxDepth;
+
+    JsonMappingShift(JsonNode spec) {
+        if (!spec.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to compile shift; spec is not an object; spec is %s!",spec));
+        }
+        int[] depth=new int[1];
+        this.root=compile(spec,0,depth);
+        this.maxDepth=depth[0];
+    }
+
+    private static Node compile(JsonNode spec,
+                                int depth,
+                                int[] maxDepth) {
+        maxDepth[0]=Math.max(maxDepth[0],depth);
+        Node node=new Node();
+        Iterator<Map.Entry<String,JsonNode>> fields=spec.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String,JsonNode> field=fields.next();
+            String key=field.getKey();
+            JsonNode value=field.getValue();
+            if (key.equals("$")) {
+                maxDepth[0]=Math.max(maxDepth[0],depth+1);
+                node.keyOutputs=compilePaths(value,depth+1);
+            } else {
+                if (key.equals("@")) {
+                    maxDepth[0]=Math.max(maxDepth[0],depth+1);
+                    node.selfOutputs=compilePaths(value,depth+1);
+                } else {
+                    Node child;
+                    if (value.isObject()) {
+                        child=compile(value,depth+1,maxDepth);
+                    } else {
+                        maxDepth[0]=Math.max(maxDepth[0],depth+1);
+                        child=new Node();
+                        child.outputs=compilePaths(value,depth+1);
+                    }
+                    node.children.add(key,child);
+                }
+            }
+        }
+        return node;
+    }
+
+    private static OutputPath[] compilePaths(JsonNode value,
+                                             int depth) {
+        List<OutputPath> paths=new ArrayList<>();
+        if (value.isTextual()) {
+            paths.add(new OutputPath(value.textValue(),depth));
+        } else {
+            if (value.isArray() && value.size()>0) {
+                for (JsonNode element: value) {
+                    if (!element.isTextual()) {
+                        throw new IllegalArgumentException(String.format("Failure to compile shift; output path is not a string; path is %s!",element));
+                    }
+                    paths.add(new OutputPath(element.textValue(),depth));
+                }
+            } else {
+                throw new IllegalArgumentException(String.format("Failure to compile shift; output paths are not valid; paths are %s!",value));
+            }
+        }
+        return paths.toArray(new OutputPath[0]);
+    }
+
+    @Override
+    JsonNode apply(JsonNode root) {
+        Context context=new Context(maxDepth);
+        walk(this.root,root,0,context);
+        return context.output;
+    }
+
+    @Override
+    JsonNode read(JsonParser parser) throws IOException {
+        Context context=new Context(maxDepth);
+        stream(this.root,parser,0,context);
+        return context.output;
+    }
+
+    private static void walk(Node node,
+                             JsonNode value,
+                             int depth,
+                             Context context) {
+        writeSelf(node,value,depth,context);
+        if (!node.children.isEmpty()) {
+            if (value.isObject()) {
+                Iterator<Map.Entry<String,JsonNode>> fields=value.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String,JsonNode> field=fields.next();
+                    Node child=node.children.match(field.getKey());
+                    if (child!=null) {
+                        context.keys[depth+1]=field.getKey();
+                        walkChild(child,field.getValue(),depth+1,context);
+                    }
+                }
+            } else {
+                if (value.isArray()) {
+                    int size=value.size();
+                    for (int i=0; i<size; i++) {
+                        Node child=node.children.match(i);
+                        if (child!=null) {
+                            context.keys[depth+1]=Integer.toString(i);
+                            walkChild(child,value.get(i),depth+1,context);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void walkChild(Node child,
+                                  JsonNode value,
+                                  int depth,
+                                  Context context) {
+        if (child.outputs == null) {
+            walk(child,value,depth,context);
+        } else {
+            write(child.outputs,value,context);
+        }
+    }
+
+    private static void writeSelf(Node node,
+                                  JsonNode value,
+                                  int depth,
+                                  Context context) {
+        if (node.keyOutputs!=null || node.selfOutputs!=null) {
+            context.keys[depth+1]=context.keys[depth];
+            if (node.keyOutputs!=null) {
+                write(node.keyOutputs,TextNode.valueOf(context.keys[depth]),context);
+            }
+            if (node.selfOutputs!=null) {
+                write(node.selfOutputs,value,context);
+            }
+        }
+    }
+
+    private static void write(OutputPath[] paths,
+                              JsonNode value,
+                              Context context) {
+        for (int i=0; i<paths.length; i++) {
+            paths[i].write(context,i == 0?value:value.deepCopy());
+        }
+    }
+
+    /**
+     * Evaluates the value at the current token of a parser.
+     * @param node Compiled spec.
+     * @param parser Parser positioned at the first token of the value.
+     * @param depth Level.
+     * @param context Context of evaluation.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void stream(Node node,
+                               JsonParser parser,
+                               int depth,
+                               Context context) throws IOException {
+        JsonToken token=parser.currentToken();
+        if (node.selfOutputs!=null || !token.isStructStart()) {
+            walk(node,MAPPER.readTree(parser),depth,context);
+        } else {
+            writeSelf(node,null,depth,context);
+            if (node.children.isEmpty()) {
+                parser.skipChildren();
+            } else {
+                if (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name=parser.getCurrentName();
+                        parser.nextToken();
+                        streamChild(node.children.match(name),name,parser,depth+1,context);
+                    }
+                } else {
+                    int index=0;
+                    while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                        Node child=node.children.match(index);
+                        streamChild(child,child == null?null:Integer.toString(index),parser,depth+1,context);
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void streamChild(Node child,
+                                    String name,
+                                    JsonParser parser,
+                                    int depth,
+                                    Context context) throws IOException {
+        if (child == null) {
+            parser.skipChildren();
+        } else {
+            context.keys[depth]=name;
+            if (child.outputs == null) {
+                stream(child,parser,depth,context);
+            } else {
+                write(child.outputs,MAPPER.readTree(parser),context);
+            }
+        }
+    }
+
+    /**
+     * Context of an evaluation.
+     */
+    private static final class Context {
+        /**
+         * Names matched by level.
+         */
+        private final String[] keys;
+
+        private final ObjectNode output=JsonNodeFactory.instance.objectNode();
+
+        /**
+         * Objects and arrays created by the evaluation, which may be modified.
+         * Other objects and arrays of the output are shared with the input.
+         */
+        private final Set<JsonNode> created=Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Context(int maxDepth) {
+            keys=new String[maxDepth+1];
+            keys[0]="";
+            created.add(output);
+        }
+
+        /**
+         * Gets an object or array which may be modified.
+         * @param node Object or array of the output.
+         * @return Object or array created by the evaluation.
+         */
+        private JsonNode own(JsonNode node) {
+            JsonNode result=node;
+            if (!created.contains(node)) {
+                if (node.isObject()) {
+                    result=JsonNodeFactory.instance.objectNode().setAll((ObjectNode)node);
+                } else {
+                    result=JsonNodeFactory.instance.arrayNode().addAll((ArrayNode)node);
+                }
+                created.add(result);
+            }
+            return result;
+        }
+
+        private <T extends JsonNode> T create(T node) {
+            created.add(node);
+            return node;
+        }
+    }
+
+    /**
+     * Compiled spec of a level.
+     */
+    private static final class Node {
+        private final Matcher<Node> children=new Matcher<>();
+
+        /**
+         * Output paths of the value matched.
+         * This is {@code null} unless a leaf.
+         */
+        private OutputPath[] outputs;
+
+        /**
+         * Output paths of the name matched.
+         * This is {@code null} if absent.
+         */
+        private OutputPath[] keyOutputs;
+
+        /**
+         * Output paths of the value matched by a spec with children.
+         * This is {@code null} if absent.
+         */
+        private OutputPath[] selfOutputs;
+    }
+
+    /**
+     * Compiled output path.
+     */
+    private static final class OutputPath {
+        private final String text;
+
+        private final Step[] steps;
+
+        private OutputPath(String text,
+                           int depth) {
+            this.text=text;
+            this.steps=parse(text,depth);
+        }
+
+        private static Step[] parse(String text,
+                                    int depth) {
+            List<Step> steps=new ArrayList<>();
+            List<Object> parts=new ArrayList<>();
+            StringBuilder literal=new StringBuilder();
+            int position=0;
+            int length=text.length();
+            boolean name=true;
+            while (position<=length) {
+                char c=position<length?text.charAt(position):'.';
+                if (c == '.' || c == '[') {
+                    if (name) {
+                        flush(literal,parts);
+                        if (parts.isEmpty()) {
+                            if (c == '.' || steps.isEmpty()) {
+                                throw failure(text,"name is empty");
+                            }
+                        } else {
+                            steps.add(Step.name(parts));
+                            parts.clear();
+                        }
+                    }
+                    if (c == '[') {
+                        int end=text.indexOf(']',position);
+                        if (end<0) {
+                            throw failure(text,"']' expected");
+                        }
+                        steps.add(parseIndex(text,text.substring(position+1,end),depth));
+                        position=end+1;
+                        if (position<length && text.charAt(position)!='.' && text.charAt(position)!='[') {
+                            throw failure(text,"'.' expected");
+                        }
+                        name=false;
+                    } else {
+                        position++;
+                        name=true;
+                    }
+                } else {
+                    if (!name) {
+                        throw failure(text,"'.' expected");
+                    }
+                    if (c == '\\') {
+                        if (position+1>=length) {
+                            throw failure(text,"escape sequence not terminated");
+                        }
+                        literal.append(text.charAt(position+1));
+                        position+=2;
+                    } else {
+                        if (c == '&') {
+                            flush(literal,parts);
+                            int start=++position;
+                            while (position<length && Character.isDigit(text.charAt(position))) {
+                                position++;
+                            }
+                            parts.add(reference(text,text.substring(start,position),depth));
+                        } else {
+                            literal.append(c);
+                            position++;
+                        }
+                    }
+                }
+            }
+            for (int i=0; i<steps.size()-1; i++) {
+                if (steps.get(i).kind == Step.Kind.APPEND) {
+                    throw failure(text,"'[]' is not last");
+                }
+            }
+            if (steps.get(0).kind!=Step.Kind.NAME) {
+                throw failure(text,"name expected");
+            }
+            return steps.toArray(new Step[0]);
+        }
+
+        private static void flush(StringBuilder literal,
+                                  List<Object> parts) {
+            if (literal.length()>0) {
+                parts.add(literal.toString());
+                literal.setLength(0);
+            }
+        }
+
+        private static Step parseIndex(String text,
+                                       String index,
+                                       int depth) {
+            Step step;
+            if (index.isEmpty()) {
+                step=new Step(Step.Kind.APPEND,null,null,-1,-1);
+            } else {
+                if (index.startsWith("&")) {
+                    step=new Step(Step.Kind.INDEX,null,null,-1,reference(text,index.substring(1),depth));
+                } else {
+                    try {
+                        step=new Step(Step.Kind.INDEX,null,null,Integer.parseInt(index),-1);
+                    } catch (NumberFormatException ex) {
+                        throw failure(text,"index not valid");
+                    }
+                    if (step.index<0) {
+                        throw failure(text,"index not valid");
+                    }
+                }
+            }
+            return step;
+        }
+
+        /**
+         * Resolves a reference to the level of the name matched.
+         * @param text Output path.
+         * @param level Number of levels up.
+         * @param depth Level of the key of the path.
+         * @return Level of the name matched.
+         */
+        private static int reference(String text,
+                                     String level,
+                                     int depth) {
+            int up=level.isEmpty()?0:Integer.parseInt(level);
+            if (up>depth) {
+                throw failure(text,String.format("reference &%d is above the root",up));
+            }
+            return depth-up;
+        }
+
+        private static IllegalArgumentException failure(String text,
+                                                        String reason) {
+            return new IllegalArgumentException(String.format("Failure to compile shift; %s; output path is %s!",reason,text));
+        }
+
+        /**
+         * Writes a value to this path.
+         * @param context Context of evaluation.
+         * @param value Value.
+         */
+        private void write(Context context,
+                           JsonNode value) {
+            String[] keys=context.keys;
+            JsonNode container=context.output;
+            int last=steps.length-1;
+            for (int i=0; i<last; i++) {
+                Step step=steps[i];
+                boolean object=steps[i+1].kind == Step.Kind.NAME;
+                JsonNode child=step.get(container,keys,this);
+                if (child == null || child.isNull()) {
+                    child=context.create(object?JsonNodeFactory.instance.objectNode():JsonNodeFactory.instance.arrayNode());
+                    step.set(container,keys,child,this);
+                } else {
+                    if (object?!child.isObject():!child.isArray()) {
+                        throw new IllegalArgumentException(String.format("Failure to shift value; path addresses a value which is not %s; output path is %s!",object?"an object":"an array",text));
+                    }
+                    JsonNode owned=context.own(child);
+                    if (owned!=child) {
+                        step.set(container,keys,owned,this);
+                        child=owned;
+                    }
+                }
+                container=child;
+            }
+            Step step=steps[last];
+            if (step.kind == Step.Kind.APPEND) {
+                ((ArrayNode)container).add(value);
+            } else {
+                JsonNode existing=step.get(container,keys,this);
+                if (existing == null || step.kind == Step.Kind.INDEX) {
+                    step.set(container,keys,value,this);
+                } else {
+                    if (existing.isArray()) {
+                        JsonNode owned=context.own(existing);
+                        ((ArrayNode)owned).add(value);
+                        if (owned!=existing) {
+                            step.set(container,keys,owned,this);
+                        }
+                    } else {
+                        step.set(container,keys,context.create(JsonNodeFactory.instance.arrayNode()).add(existing).add(value),this);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Step of an output path.
+     */
+    private static final class Step {
+        enum Kind {
+            NAME,
+            INDEX,
+            APPEND
+        }
+
+        private final Kind kind;
+
+        /**
+         * Constant name.
+         * This is {@code null} if the name contains references.
+         */
+        private final String name;
+
+        /**
+         * Parts of the name as literal strings and integer levels of names matched.
+         */
+        private final Object[] parts;
+
+        /**
+         * Constant index.
+         * This is -1 if not constant.
+         */
+        private final int index;
+
+        /**
+         * Level of the name matched giving the index.
+         * This is -1 if not a reference.
+         */
+        private final int level;
+
+        private Step(Kind kind,
+                     String name,
+                     Object[] parts,
+                     int index,
+                     int level) {
+            this.kind=kind;
+            this.name=name;
+            this.parts=parts;
+            this.index=index;
+            this.level=level;
+        }
+
+        private static Step name(List<Object> parts) {
+            Step step;
+            if (parts.size() == 1 && parts.get(0) instanceof String) {
+                step=new Step(Kind.NAME,(String)parts.get(0),null,-1,-1);
+            } else {
+                step=new Step(Kind.NAME,null,parts.toArray(),-1,-1);
+            }
+            return step;
+        }
+
+        private String resolveName(String[] keys) {
+            String result=name;
+            if (result == null) {
+                StringBuilder builder=new StringBuilder();
+                for (Object part: parts) {
+                    builder.append(part instanceof String?(String)part:keys[(Integer)part]);
+                }
+                result=builder.toString();
+            }
+            return result;
+        }
+
+        private int resolveIndex(String[] keys,
+                                 OutputPath path) {
+            int result=index;
+            if (level>=0) {
+                try {
+                    result=Integer.parseInt(keys[level]);
+                } catch (NumberFormatException ex) {
+                    result=-1;
+                }
+                if (result<0) {
+                    throw new IllegalArgumentException(String.format("Failure to shift value; name matched is not an index; name is %s, output path is %s!",keys[level],path));
+                }
+            }
+            return result;
+        }
+
+        private JsonNode get(JsonNode container,
+                             String[] keys,
+                             OutputPath path) {
+            return kind == Kind.NAME?container.get(resolveName(keys)):container.get(resolveIndex(keys,path));
+        }
+
+        private void set(JsonNode container,
+                         String[] keys,
+                         JsonNode value,
+                         OutputPath path) {
+            if (kind == Kind.NAME) {
+                ((ObjectNode)container).set(resolveName(keys),value);
+            } else {
+                ArrayNode array=(ArrayNode)container;
+                int i=resolveIndex(keys,path);
+                if (i-array.size()>MAX_INDEX_GAP) {
+                    throw new IllegalArgumentException(String.format("Failure to shift value; index exceeds the size of the array by more than %d; index is %d, size is %d, output path is %s!",MAX_INDEX_GAP,i,array.size(),path));
+                }
+                while (array.size()<=i) {
+                    array.add(NullNode.getInstance());
+                }
+                array.set(i,value);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stage of a compiled mapping, such as a shift or a removal.
+ * This is immutable and thread-safe.
+ * <p>
+ *     A stage is compiled from a spec mirroring the structure of the documents mapped.
+ *     Keys of specs match names of object properties and indexes of array elements.
+ *     A key is a literal name, alternative names separated by {@code |}, or the wildcard {@code *}.
+ *     Literal names take precedence over the wildcard.
+ *     A key starting with {@code \} is the literal name following it.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+abstract class JsonMappingStage {
+    /**
+     * Reader of trees from parsers.
+     */
+    static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Applies this stage to a tree.
+     * Objects and arrays of the tree may be modified.
+     * @param root Root of tree.
+     * @return Root of mapped tree.
+     */
+    abstract JsonNode apply(JsonNode root);
+
+    /**
+     * Reads the value at the current token of a parser and applies this stage.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser positioned at the first token of the value.
+     * @return Mapped tree.
+     * @throws IOException Thrown in case of errors.
+     */
+    JsonNode read(JsonParser parser) throws IOException {
+        return apply(MAPPER.readTree(parser));
+    }
+
+    /**
+     * Applies this stage to the value at the current token of a parser, writing the value mapped.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    void transform(JsonParser parser,
+                   JsonGenerator generator) throws IOException {
+        JsonNode node=read(parser);
+        MAPPER.writeTree(generator,node);
+    }
+
+    /**
+     * Matcher of the names and indexes of children to specs.
+     * @param <T> Type of compiled specs.
+     */
+    static final class Matcher<T> {
+        /**
+         * Specs by literal name.
+         * This is {@code null} if no literal names are matched.
+         */
+        private Map<String,T> literals;
+
+        /**
+         * Spec of the wildcard.
+         * This is {@code null} if there is no wildcard.
+         */
+        private T wildcard;
+
+        /**
+         * Adds a spec for a key.
+         * @param key Key.
+         * @param spec Compiled spec.
+         * @throws IllegalArgumentException Thrown in case of a key matched already.
+         */
+        void add(String key,
+                 T spec) {
+            for (String name: parseKey(key)) {
+                if (name == null) {
+                    if (wildcard!=null) {
+                        throw new IllegalArgumentException(String.format("Failure to compile mapping; wildcard is repeated; key is %s!",key));
+                    }
+                    wildcard=spec;
+                } else {
+                    if (literals == null) {
+                        literals=new HashMap<>();
+                    }
+                    if (literals.putIfAbsent(name,spec)!=null) {
+                        throw new IllegalArgumentException(String.format("Failure to compile mapping; name is repeated; key is %s!",key));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the spec of the property of a name.
+         * @param name Name.
+         * @return Compiled spec.
+         *         This is {@code null} if not matched.
+         */
+        T match(String name) {
+            T result=null;
+            if (literals!=null) {
+                result=literals.get(name);
+            }
+            return result == null?wildcard:result;
+        }
+
+        /**
+         * Gets the spec of the element of an index.
+         * @param index Index.
+         * @return Compiled spec.
+         *         This is {@code null} if not matched.
+         */
+        T match(int index) {
+            return literals == null?wildcard:match(Integer.toString(index));
+        }
+
+        boolean isEmpty() {
+            return literals == null && wildcard == null;
+        }
+    }
+
+    /**
+     * Parses a key into names.
+     * @param key Key.
+     * @return Names.
+     *         The wildcard is {@code null}.
+     */
+    static List<String> parseKey(String key) {
+        List<String> names=new ArrayList<>();
+        if (key.startsWith("\\")) {
+            names.add(key.substring(1));
+        } else {
+            for (String name: key.split("\\|",-1)) {
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException(String.format("Failure to compile mapping; name is empty; key is %s!",key));
+                }
+                names.add(name.equals("*")?null:name);
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,99 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility compiling mapping specs into instances of {@link JsonMapping}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonMappings {
+    /**
+     * Cache shared by {@link #compile(JsonNode)} and {@link #compile(String)}.
+     */
+    private static final JsonMappingCache CACHE=JsonMappingCache.builder().build();
+
+    /**
+     * Gets a compiled mapping from a shared cache, compiling the spec if not cached.
+     * @param spec Spec as an array of stages or as a single stage.
+     * @return Compiled mapping.
+     * @throws IllegalArgumentException Thrown in case of a spec not valid.
+     */
+    public static JsonMapping compile(JsonNode spec) {
+        return CACHE.compile(spec);
+    }
+
+    /**
+     * Gets a compiled mapping from a shared cache, compiling the spec if not cached.
+     * @param spec Spec as JSON text.
+     * @return Compiled mapping.
+     * @throws IllegalArgumentException Thrown in case of a spec not valid.
+     */
+    public static JsonMapping compile(String spec) {
+        JsonNode node;
+        try {
+            node=JsonMappingStage.MAPPER.readTree(spec);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(String.format("Failure to compile mapping; spec is not JSON; spec is %s!",spec),ex);
+        }
+        return compile(node);
+    }
+
+    /**
+     * Compiles a spec without caching.
+     * @param spec Spec as an array of stages or as a single stage.
+     * @return Compiled mapping.
+     * @throws IllegalArgumentException Thrown in case of a spec not valid.
+     */
+    public static JsonMapping compileUncached(JsonNode spec) {
+        JsonMappingStage[] stages;
+        if (spec.isArray()) {
+            stages=new JsonMappingStage[spec.size()];
+            for (int i=0; i<stages.length; i++) {
+                stages[i]=compileStage(spec.get(i));
+            }
+        } else {
+            stages=new JsonMappingStage[]{compileStage(spec)};
+        }
+        return new JsonMapping(spec.toString(),stages);
+    }
+
+    private static JsonMappingStage compileStage(JsonNode stage) {
+        JsonNode operation=stage.path("operation");
+        JsonNode spec=stage.path("spec");
+        if (!operation.isTextual() || !spec.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to compile mapping; stage is not an object of an operation and a spec; stage is %s!",stage));
+        }
+        JsonMappingStage result;
+        switch (operation.textValue()) {
+            case "shift":
+                result=new JsonMappingShift(spec);
+                break;
+            case "default":
+                result=new JsonMappingDefault(spec);
+                break;
+            case "remove":
+                result=new JsonMappingRemove(spec);
+                break;
+            case "cardinality":
+                result=new JsonMappingCardinality(spec);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Failure to compile mapping; operation is not supported; operation is %s!",operation.textValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the cache shared by {@link #compile(JsonNode)} and {@link #compile(String)}.
+     * @return Cache.
+     */
+    public static JsonMappingCache getCache() {
+        return CACHE;
+    }
+}
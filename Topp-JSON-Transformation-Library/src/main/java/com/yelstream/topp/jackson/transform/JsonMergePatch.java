@@ -0,0 +1,212 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch according to RFC 7396.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link JsonMergePatches}.
+ *     A patch may be applied in place to a JSON tree, where subtrees not addressed by the patch are kept as they are,
+ *     or applied to a document streamed from a parser to a generator,
+ *     using memory proportional to the size of the patch and not to the size of the document.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class JsonMergePatch {
+    /**
+     * Factory of parsers and generators of text.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Patch document.
+     * This is never exposed, since nodes are mutable.
+     */
+    @Getter(AccessLevel.NONE)
+    private final JsonNode patch;
+
+    /**
+     * Gets the patch document.
+     * @return Copy of patch document.
+     */
+    public JsonNode getPatch() {
+        return patch.deepCopy();
+    }
+
+    /**
+     * Applies this patch in place to a document.
+     * Objects of the document addressed by the patch are modified, and values of the patch are copied into the document.
+     * @param document Document.
+     * @return Patched document.
+     *         This is the document given if both the document and the patch are objects.
+     */
+    public JsonNode apply(JsonNode document) {
+        return merge(document,patch);
+    }
+
+    /**
+     * Applies this patch to a JSON document.
+     * @param json JSON document.
+     * @return Patched JSON document.
+     * @throws IOException Thrown in case of errors.
+     */
+    public String transform(String json) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=FACTORY.createParser(json);
+             JsonGenerator generator=FACTORY.createGenerator(writer)) {
+            transform(parser,generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Applies this patch to all JSON values read from a parser, such as a sequence of root-level values.
+     * Values are not materialized.
+     * @param parser Parser.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transform(JsonParser parser,
+                          JsonGenerator generator) throws IOException {
+        while (parser.nextToken()!=null) {
+            writeMerged(parser,generator,patch);
+        }
+    }
+
+    /**
+     * Applies this patch to the JSON value at the current token of a parser.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transformValue(JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        writeMerged(parser,generator,patch);
+    }
+
+    private static JsonNode merge(JsonNode target,
+                                  JsonNode patch) {
+        JsonNode result;
+        if (patch.isObject()) {
+            ObjectNode object=target!=null && target.isObject()?(ObjectNode)target:JsonNodeFactory.instance.objectNode();
+            Iterator<Map.Entry<String,JsonNode>> fields=patch.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                String name=field.getKey();
+                JsonNode value=field.getValue();
+                if (value.isNull()) {
+                    object.remove(name);
+                } else {
+                    JsonNode existing=object.get(name);
+                    JsonNode merged=merge(existing,value);
+                    if (merged!=existing) {
+                        object.set(name,merged);
+                    }
+                }
+            }
+            result=object;
+        } else {
+            result=patch.deepCopy();
+        }
+        return result;
+    }
+
+    /**
+     * Writes the value at the current token merged with a patch.
+     * @param parser Parser positioned at the first token of the value.
+     * @param generator Generator.
+     * @param patch Patch.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void writeMerged(JsonParser parser,
+                                    JsonGenerator generator,
+                                    JsonNode patch) throws IOException {
+        if (patch.isObject()) {
+            Set<String> merged=null;
+            generator.writeStartObject();
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                merged=new HashSet<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name=parser.getCurrentName();
+                    parser.nextToken();
+                    JsonNode value=patch.get(name);
+                    if (value == null) {
+                        generator.writeFieldName(name);
+                        generator.copyCurrentStructure(parser);
+                    } else {
+                        merged.add(name);
+                        if (value.isNull()) {
+                            parser.skipChildren();
+                        } else {
+                            generator.writeFieldName(name);
+                            writeMerged(parser,generator,value);
+                        }
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            Iterator<Map.Entry<String,JsonNode>> fields=patch.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                if (!field.getValue().isNull() && (merged == null || !merged.contains(field.getKey()))) {
+                    generator.writeFieldName(field.getKey());
+                    writeAdded(generator,field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            parser.skipChildren();
+            writeAdded(generator,patch);
+        }
+    }
+
+    /**
+     * Writes a value of a patch added to a document, where properties of objects with the value {@code null} are left out.
+     * @param generator Generator.
+     * @param value Value.
+     * @throws IOException Thrown in case of errors.
+     */
+    private static void writeAdded(JsonGenerator generator,
+                                   JsonNode value) throws IOException {
+        if (value.isObject()) {
+            generator.writeStartObject();
+            Iterator<Map.Entry<String,JsonNode>> fields=value.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String,JsonNode> field=fields.next();
+                if (!field.getValue().isNull()) {
+                    generator.writeFieldName(field.getKey());
+                    writeAdded(generator,field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            try (JsonParser valueParser=value.traverse()) {
+                valueParser.nextToken();
+                generator.copyCurrentStructure(valueParser);
+            }
+        }
+    }
+}
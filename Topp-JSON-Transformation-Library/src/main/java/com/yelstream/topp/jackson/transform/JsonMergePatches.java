@@ -0,0 +1,35 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility creating instances of {@link JsonMergePatch}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonMergePatches {
+    /**
+     * Creates a merge patch.
+     * The patch document is copied, and may be modified afterwards without affecting the merge patch.
+     * @param patch JSON Merge Patch document.
+     * @return Merge patch.
+     */
+    public static JsonMergePatch compile(JsonNode patch) {
+        return new JsonMergePatch(patch.deepCopy());
+    }
+
+    /**
+     * Applies a merge patch in place to a document.
+     * @param document Document.
+     * @param patch JSON Merge Patch document.
+     * @return Patched document.
+     */
+    public static JsonNode apply(JsonNode document,
+                                 JsonNode patch) {
+        return new JsonMergePatch(patch).apply(document);
+    }
+}
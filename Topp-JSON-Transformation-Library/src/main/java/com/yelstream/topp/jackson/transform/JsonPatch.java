@@ -0,0 +1,400 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JSON Patch according to RFC 6902 compiled from operations.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link JsonPatches}.
+ *     Paths are parsed once when compiled, and a patch may be applied to any number of documents.
+ * </p>
+ * <p>
+ *     A patch may be applied to a copy of a document, or in place.
+ *     When applied in place, the changes made are recorded and undone if an operation fails,
+ *     leaving the document with its original values without copying it.
+ *     Properties removed and restored by an undo are added last to their objects.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class JsonPatch {
+    /**
+     * Comparator of values considering numbers equal if numerically equal.
+     */
+    private static final Comparator<JsonNode> VALUE_COMPARATOR=(a,b)->{
+        int result=1;
+        if (a.equals(b)) {
+            result=0;
+        } else {
+            if (a.isNumber() && b.isNumber() && a.decimalValue().compareTo(b.decimalValue()) == 0) {
+                result=0;
+            }
+        }
+        return result;
+    };
+
+    /**
+     * Operations compiled.
+     */
+    @Getter
+    private final List<JsonPatchOperation> operations;
+
+    /**
+     * Operations with their paths parsed.
+     */
+    private final Step[] steps;
+
+    /**
+     * Applies this patch to a copy of a document.
+     * The document is not modified.
+     * @param document Document.
+     * @return Patched copy of document.
+     * @throws JsonPatchException Thrown in case of an operation failing.
+     */
+    public JsonNode apply(JsonNode document) throws JsonPatchException {
+        Application application=new Application(document.deepCopy(),false);
+        application.run(steps);
+        return application.root;
+    }
+
+    /**
+     * Applies this patch in place to a document.
+     * If an operation fails, the changes made by preceding operations are undone before failing.
+     * @param document Document.
+     * @return Patched document.
+     *         This is the document given unless the root is replaced.
+     * @throws JsonPatchException Thrown in case of an operation failing.
+     */
+    public JsonNode applyInPlace(JsonNode document) throws JsonPatchException {
+        Application application=new Application(document,true);
+        try {
+            application.run(steps);
+        } catch (JsonPatchException ex) {
+            application.rollback();
+            throw ex;
+        }
+        return application.root;
+    }
+
+    /**
+     * JSON Pointer parsed into its segments.
+     */
+    static final class Pointer {
+        /**
+         * Index of the segment {@code -} addressing the end of an array.
+         */
+        private static final int APPEND=-2;
+
+        /**
+         * Text of pointer.
+         */
+        private final String text;
+
+        /**
+         * Unescaped segments.
+         */
+        private final String[] segments;
+
+        /**
+         * Array indexes of segments.
+         * This is -1 for segments not an index, and {@link #APPEND} for the segment {@code -}.
+         */
+        private final int[] indexes;
+
+        /**
+         * Constructor.
+         * @param text Text of pointer.
+         * @throws IllegalArgumentException Thrown in case of a pointer not valid.
+         */
+        Pointer(String text) {
+            this.text=text;
+            this.segments=TokenTransformers.parsePath(text);
+            this.indexes=new int[segments.length];
+            for (int i=0; i<segments.length; i++) {
+                indexes[i]=parseIndex(segments[i]);
+            }
+        }
+
+        private boolean isRoot() {
+            return segments.length == 0;
+        }
+
+        private String getName() {
+            return segments[segments.length-1];
+        }
+
+        private int getIndex() {
+            return indexes[indexes.length-1];
+        }
+
+        /**
+         * Indicates if this is a proper prefix of another pointer.
+         * @param other Other pointer.
+         * @return Indicates if prefix.
+         */
+        private boolean isAncestorOf(Pointer other) {
+            return segments.length<other.segments.length &&
+                   Arrays.equals(segments,0,segments.length,other.segments,0,segments.length);
+        }
+
+        private static int parseIndex(String segment) {
+            int index=-1;
+            if (segment.equals("-")) {
+                index=APPEND;
+            } else {
+                int length=segment.length();
+                if (length>0 && length<=9 && (length == 1 || segment.charAt(0)!='0')) {
+                    index=0;
+                    for (int i=0; i<length && index>=0; i++) {
+                        char c=segment.charAt(i);
+                        index=c>='0' && c<='9'?index*10+(c-'0'):-1;
+                    }
+                }
+            }
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Operation with its paths parsed.
+     */
+    @AllArgsConstructor(access=AccessLevel.PACKAGE)
+    static final class Step {
+        private final JsonPatchOperation operation;
+
+        /**
+         * Index of operation within its patch.
+         */
+        private final int index;
+
+        private final Pointer path;
+
+        /**
+         * Source path.
+         * This may be {@code null}.
+         */
+        private final Pointer from;
+    }
+
+    /**
+     * Application of a patch to a single document.
+     * This is not thread-safe.
+     */
+    private static final class Application {
+        /**
+         * Root of the document.
+         */
+        private JsonNode root;
+
+        /**
+         * Actions undoing the changes made, in the order made.
+         * This is {@code null} if changes are not recorded.
+         */
+        private final List<Runnable> undos;
+
+        private Application(JsonNode root,
+                            boolean transactional) {
+            this.root=root;
+            this.undos=transactional?new ArrayList<>():null;
+        }
+
+        private void run(Step[] steps) throws JsonPatchException {
+            for (Step step: steps) {
+                JsonPatchOperation operation=step.operation;
+                switch (operation.getKind()) {
+                    case ADD:
+                        add(step,step.path,operation.getValue().deepCopy());
+                        break;
+                    case REMOVE:
+                        remove(step,step.path);
+                        break;
+                    case REPLACE:
+                        replace(step,step.path,operation.getValue().deepCopy());
+                        break;
+                    case MOVE:
+                        if (step.from.isAncestorOf(step.path)) {
+                            throw failure(step,"target is within the value moved");
+                        }
+                        if (!Arrays.equals(step.from.segments,step.path.segments)) {
+                            add(step,step.path,remove(step,step.from));
+                        } else {
+                            get(step,step.from);
+                        }
+                        break;
+                    case COPY:
+                        add(step,step.path,get(step,step.from).deepCopy());
+                        break;
+                    case TEST:
+                        if (!get(step,step.path).equals(VALUE_COMPARATOR,operation.getValue())) {
+                            throw failure(step,"value is not equal to the value expected");
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException(String.format("Failure to apply operation; kind is %s!",operation.getKind()));
+                }
+            }
+        }
+
+        /**
+         * Undoes the changes made, in reverse order.
+         */
+        private void rollback() {
+            for (int i=undos.size()-1; i>=0; i--) {
+                undos.get(i).run();
+            }
+            undos.clear();
+        }
+
+        private void record(Runnable undo) {
+            if (undos!=null) {
+                undos.add(undo);
+            }
+        }
+
+        private JsonNode get(Step step,
+                             Pointer pointer) throws JsonPatchException {
+            JsonNode node=root;
+            for (int i=0; i<pointer.segments.length && node!=null; i++) {
+                node=getChild(node,pointer.segments[i],pointer.indexes[i]);
+            }
+            if (node == null) {
+                throw failure(step,String.format("path %s does not exist",pointer));
+            }
+            return node;
+        }
+
+        private JsonNode getParent(Step step,
+                                   Pointer pointer) throws JsonPatchException {
+            JsonNode node=root;
+            for (int i=0; i<pointer.segments.length-1 && node!=null; i++) {
+                node=getChild(node,pointer.segments[i],pointer.indexes[i]);
+            }
+            if (node == null || !node.isContainerNode()) {
+                throw failure(step,String.format("parent of path %s does not exist",pointer));
+            }
+            return node;
+        }
+
+        private void add(Step step,
+                         Pointer pointer,
+                         JsonNode value) throws JsonPatchException {
+            if (pointer.isRoot()) {
+                replaceRoot(value);
+            } else {
+                JsonNode parent=getParent(step,pointer);
+                if (parent.isObject()) {
+                    ObjectNode object=(ObjectNode)parent;
+                    String name=pointer.getName();
+                    JsonNode previous=object.replace(name,value);
+                    record(previous == null?()->object.remove(name):()->object.replace(name,previous));
+                } else {
+                    ArrayNode array=(ArrayNode)parent;
+                    int index=pointer.getIndex() == Pointer.APPEND?array.size():pointer.getIndex();
+                    if (index<0 || index>array.size()) {
+                        throw failure(step,String.format("index of path %s is out of bounds",pointer));
+                    }
+                    array.insert(index,value);
+                    record(()->array.remove(index));
+                }
+            }
+        }
+
+        private JsonNode remove(Step step,
+                                Pointer pointer) throws JsonPatchException {
+            if (pointer.isRoot()) {
+                throw failure(step,"root can not be removed");
+            }
+            JsonNode parent=getParent(step,pointer);
+            JsonNode removed;
+            if (parent.isObject()) {
+                ObjectNode object=(ObjectNode)parent;
+                String name=pointer.getName();
+                removed=object.remove(name);
+                if (removed == null) {
+                    throw failure(step,String.format("path %s does not exist",pointer));
+                }
+                record(()->object.set(name,removed));
+            } else {
+                ArrayNode array=(ArrayNode)parent;
+                int index=pointer.getIndex();
+                if (index<0 || index>=array.size()) {
+                    throw failure(step,String.format("path %s does not exist",pointer));
+                }
+                removed=array.remove(index);
+                record(()->array.insert(index,removed));
+            }
+            return removed;
+        }
+
+        private void replace(Step step,
+                             Pointer pointer,
+                             JsonNode value) throws JsonPatchException {
+            if (pointer.isRoot()) {
+                replaceRoot(value);
+            } else {
+                JsonNode parent=getParent(step,pointer);
+                if (parent.isObject()) {
+                    ObjectNode object=(ObjectNode)parent;
+                    String name=pointer.getName();
+                    if (!object.has(name)) {
+                        throw failure(step,String.format("path %s does not exist",pointer));
+                    }
+                    JsonNode previous=object.replace(name,value);
+                    record(()->object.replace(name,previous));
+                } else {
+                    ArrayNode array=(ArrayNode)parent;
+                    int index=pointer.getIndex();
+                    if (index<0 || index>=array.size()) {
+                        throw failure(step,String.format("path %s does not exist",pointer));
+                    }
+                    JsonNode previous=array.set(index,value);
+                    record(()->array.set(index,previous));
+                }
+            }
+        }
+
+        private void replaceRoot(JsonNode value) {
+            JsonNode previous=root;
+            root=value;
+            record(()->root=previous);
+        }
+
+        private static JsonNode getChild(JsonNode node,
+                                         String name,
+                                         int index) {
+            JsonNode child=null;
+            if (node.isObject()) {
+                child=node.get(name);
+            } else {
+                if (node.isArray() && index>=0) {
+                    child=node.get(index);
+                }
+            }
+            return child;
+        }
+
+        private static JsonPatchException failure(Step step,
+                                                  String reason) {
+            return new JsonPatchException(String.format("Failure to apply operation %d; %s; operation is %s!",step.index,reason,step.operation),step.operation,step.index);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.yelstream.topp.jackson.transform;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Indicates a failure to apply an operation of a JSON Patch to a JSON document.
+ * This includes a failed {@link JsonPatchOperation.Kind#TEST} operation.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+public final class JsonPatchException extends IOException {
+    /**
+     * Operation failing.
+     */
+    private final transient JsonPatchOperation operation;
+
+    /**
+     * Index of operation failing within its patch.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     * @param message Detail message.
+     * @param operation Operation failing.
+     * @param index Index of operation failing.
+     */
+    public JsonPatchException(String message,
+                              JsonPatchOperation operation,
+                              int index) {
+        super(message);
+        this.operation=operation;
+        this.index=index;
+    }
+}
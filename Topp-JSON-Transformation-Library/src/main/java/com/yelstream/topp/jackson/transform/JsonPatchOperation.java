@@ -0,0 +1,143 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Operation of a JSON Patch according to RFC 6902.
+ * This is immutable.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class JsonPatchOperation {
+    /**
+     * Kind of operation.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Kind {
+        ADD("add"),
+        REMOVE("remove"),
+        REPLACE("replace"),
+        MOVE("move"),
+        COPY("copy"),
+        TEST("test");
+
+        /**
+         * Name of operation as the value of the member {@code op}.
+         */
+        private final String name;
+
+        /**
+         * Gets the kind of operation of a name.
+         * @param name Name of operation.
+         * @return Kind of operation.
+         *         This is {@code null} if there is no such operation.
+         */
+        public static Kind valueOfName(String name) {
+            Kind result=null;
+            for (Kind kind: values()) {
+                if (kind.name.equals(name)) {
+                    result=kind;
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Kind of operation.
+     */
+    private final Kind kind;
+
+    /**
+     * Path of target location as a JSON Pointer.
+     */
+    private final String path;
+
+    /**
+     * Path of source location as a JSON Pointer.
+     * This is {@code null} for operations other than {@link Kind#MOVE} and {@link Kind#COPY}.
+     */
+    private final String from;
+
+    /**
+     * Value added, replaced or tested.
+     * This is {@code null} for operations other than {@link Kind#ADD}, {@link Kind#REPLACE} and {@link Kind#TEST}.
+     */
+    private final JsonNode value;
+
+    /**
+     * Creates an operation adding a value.
+     * @param path Path of target location.
+     * @param value Value.
+     * @return Operation.
+     */
+    public static JsonPatchOperation add(String path,
+                                         JsonNode value) {
+        return new JsonPatchOperation(Kind.ADD,path,null,value);
+    }
+
+    /**
+     * Creates an operation removing a value.
+     * @param path Path of value.
+     * @return Operation.
+     */
+    public static JsonPatchOperation remove(String path) {
+        return new JsonPatchOperation(Kind.REMOVE,path,null,null);
+    }
+
+    /**
+     * Creates an operation replacing a value.
+     * @param path Path of value.
+     * @param value New value.
+     * @return Operation.
+     */
+    public static JsonPatchOperation replace(String path,
+                                             JsonNode value) {
+        return new JsonPatchOperation(Kind.REPLACE,path,null,value);
+    }
+
+    /**
+     * Creates an operation moving a value.
+     * @param from Path of source location.
+     * @param path Path of target location.
+     * @return Operation.
+     */
+    public static JsonPatchOperation move(String from,
+                                          String path) {
+        return new JsonPatchOperation(Kind.MOVE,path,from,null);
+    }
+
+    /**
+     * Creates an operation copying a value.
+     * @param from Path of source location.
+     * @param path Path of target location.
+     * @return Operation.
+     */
+    public static JsonPatchOperation copy(String from,
+                                          String path) {
+        return new JsonPatchOperation(Kind.COPY,path,from,null);
+    }
+
+    /**
+     * Creates an operation testing that a value is equal to a given value.
+     * Numbers are equal if their values are numerically equal.
+     * @param path Path of value.
+     * @param value Value expected.
+     * @return Operation.
+     */
+    public static JsonPatchOperation test(String path,
+                                          JsonNode value) {
+        return new JsonPatchOperation(Kind.TEST,path,null,value);
+    }
+}
@@ -0,0 +1,138 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility compiling JSON Patch operations into instances of {@link JsonPatch}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonPatches {
+    /**
+     * Compiles operations into a patch.
+     * @param operations Operations.
+     * @return Patch.
+     * @throws IllegalArgumentException Thrown in case of operations not valid.
+     */
+    public static JsonPatch compile(JsonPatchOperation... operations) {
+        return compile(Arrays.asList(operations));
+    }
+
+    /**
+     * Compiles operations into a patch.
+     * @param operations Operations.
+     * @return Patch.
+     * @throws IllegalArgumentException Thrown in case of operations not valid.
+     */
+    public static JsonPatch compile(List<JsonPatchOperation> operations) {
+        JsonPatch.Step[] steps=new JsonPatch.Step[operations.size()];
+        for (int i=0; i<steps.length; i++) {
+            JsonPatchOperation operation=operations.get(i);
+            JsonPatchOperation.Kind kind=operation.getKind();
+            JsonPatch.Pointer from=null;
+            if (kind == JsonPatchOperation.Kind.MOVE || kind == JsonPatchOperation.Kind.COPY) {
+                if (operation.getFrom() == null) {
+                    throw new IllegalArgumentException(String.format("Failure to compile operation %d; source path is missing; operation is %s!",i,operation));
+                }
+                from=new JsonPatch.Pointer(operation.getFrom());
+            } else {
+                if (kind!=JsonPatchOperation.Kind.REMOVE && operation.getValue() == null) {
+                    throw new IllegalArgumentException(String.format("Failure to compile operation %d; value is missing; operation is %s!",i,operation));
+                }
+            }
+            steps[i]=new JsonPatch.Step(operation,i,new JsonPatch.Pointer(operation.getPath()),from);
+        }
+        return new JsonPatch(List.copyOf(operations),steps);
+    }
+
+    /**
+     * Compiles a JSON Patch document into a patch.
+     * @param patch JSON Patch document as an array of operations.
+     * @return Patch.
+     * @throws IllegalArgumentException Thrown in case of a patch document not valid.
+     */
+    public static JsonPatch compile(JsonNode patch) {
+        return compile(parse(patch));
+    }
+
+    /**
+     * Parses a JSON Patch document into its operations.
+     * @param patch JSON Patch document as an array of operations.
+     * @return Operations.
+     * @throws IllegalArgumentException Thrown in case of a patch document not valid.
+     */
+    public static List<JsonPatchOperation> parse(JsonNode patch) {
+        if (!patch.isArray()) {
+            throw new IllegalArgumentException(String.format("Failure to parse patch; patch is not an array; type is %s!",patch.getNodeType()));
+        }
+        List<JsonPatchOperation> operations=new ArrayList<>(patch.size());
+        for (int i=0; i<patch.size(); i++) {
+            operations.add(parseOperation(patch.get(i),i));
+        }
+        return operations;
+    }
+
+    private static JsonPatchOperation parseOperation(JsonNode node,
+                                                     int index) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException(String.format("Failure to parse operation %d; operation is not an object; type is %s!",index,node.getNodeType()));
+        }
+        String op=getText(node,"op",index);
+        JsonPatchOperation.Kind kind=JsonPatchOperation.Kind.valueOfName(op);
+        if (kind == null) {
+            throw new IllegalArgumentException(String.format("Failure to parse operation %d; operation is unknown; op is %s!",index,op));
+        }
+        String path=getText(node,"path",index);
+        JsonPatchOperation operation;
+        switch (kind) {
+            case ADD:
+                operation=JsonPatchOperation.add(path,getValue(node,index));
+                break;
+            case REMOVE:
+                operation=JsonPatchOperation.remove(path);
+                break;
+            case REPLACE:
+                operation=JsonPatchOperation.replace(path,getValue(node,index));
+                break;
+            case MOVE:
+                operation=JsonPatchOperation.move(getText(node,"from",index),path);
+                break;
+            case COPY:
+                operation=JsonPatchOperation.copy(getText(node,"from",index),path);
+                break;
+            case TEST:
+                operation=JsonPatchOperation.test(path,getValue(node,index));
+                break;
+            default:
+                throw new IllegalStateException(String.format("Failure to parse operation %d; kind is %s!",index,kind));
+        }
+        return operation;
+    }
+
+    private static String getText(JsonNode node,
+                                  String name,
+                                  int index) {
+        JsonNode member=node.get(name);
+        if (member == null || !member.isTextual()) {
+            throw new IllegalArgumentException(String.format("Failure to parse operation %d; member %s is missing or not a string!",index,name));
+        }
+        return member.textValue();
+    }
+
+    private static JsonNode getValue(JsonNode node,
+                                     int index) {
+        JsonNode member=node.get("value");
+        if (member == null) {
+            throw new IllegalArgumentException(String.format("Failure to parse operation %d; member value is missing!",index));
+        }
+        return member.deepCopy();
+    }
+}
@@ -0,0 +1,162 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Rewriting of sensitive values by {@link TokenOperation#redact(String,Redaction)}.
+ * This is immutable.
+ * <p>
+ *     The text of a value is the text of a scalar, or the compact JSON text of an object or an array.
+ *     The value {@code null} is never rewritten.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class Redaction {
+    /**
+     * Default replacement.
+     */
+    public static final JsonNode DEFAULT_REPLACEMENT=TextNode.valueOf("***");
+
+    /**
+     * Number of hexadecimal digits of a HMAC-SHA-256 hash.
+     */
+    public static final int HASH_LENGTH=64;
+
+    /**
+     * Number of random bytes of a generated salt.
+     */
+    private static final int SALT_LENGTH=32;
+
+    /**
+     * Source of generated salts.
+     */
+    private static final SecureRandom RANDOM=new SecureRandom();
+
+    /**
+     * Kind of redaction.
+     */
+    public enum Kind {
+        /**
+         * Replaces values by a constant.
+         */
+        REPLACE,
+
+        /**
+         * Replaces values by the hexadecimal HMAC-SHA-256 hash of their text, keyed by a salt.
+         */
+        HASH,
+
+        /**
+         * Replaces values by a prefix of their text.
+         */
+        TRUNCATE
+    }
+
+    /**
+     * Kind of redaction.
+     */
+    private final Kind kind;
+
+    /**
+     * Replacement.
+     * This is {@code null} unless replacing.
+     */
+    private final JsonNode replacement;
+
+    /**
+     * Number of characters kept.
+     * For {@link Kind#HASH}, this is the number of hexadecimal digits kept of the hash.
+     */
+    private final int length;
+
+    /**
+     * Salt keying the hash.
+     * This is {@code null} unless hashing.
+     */
+    @ToString.Exclude
+    private final String salt;
+
+    /**
+     * Creates a redaction replacing values by {@link #DEFAULT_REPLACEMENT}.
+     * @return Redaction.
+     */
+    public static Redaction replace() {
+        return replace(DEFAULT_REPLACEMENT);
+    }
+
+    /**
+     * Creates a redaction replacing values by a constant.
+     * @param replacement Replacement.
+     * @return Redaction.
+     */
+    public static Redaction replace(JsonNode replacement) {
+        if (replacement == null) {
+            throw new IllegalArgumentException("Failure to create redaction; replacement is null!");
+        }
+        return new Redaction(Kind.REPLACE,replacement,0,null);
+    }
+
+    /**
+     * Creates a redaction replacing values by their hash, keyed by a generated salt.
+     * Hashes are consistent only between values hashed by the same redaction.
+     * @return Redaction.
+     */
+    public static Redaction hash() {
+        return hash(null,HASH_LENGTH);
+    }
+
+    /**
+     * Creates a redaction replacing values by their hash.
+     * @param salt Salt keying the hash.
+     *             This may be {@code null}, in which case a salt is generated,
+     *             and hashes are consistent only between values hashed by the same redaction.
+     * @param length Number of hexadecimal digits kept of the hash.
+     * @return Redaction.
+     */
+    public static Redaction hash(String salt,
+                                 int length) {
+        if (length<1 || length>HASH_LENGTH) {
+            throw new IllegalArgumentException(String.format("Failure to create redaction; length is not in the range from 1 to %d; length is %d!",HASH_LENGTH,length));
+        }
+        if (salt!=null && salt.isEmpty()) {
+            throw new IllegalArgumentException("Failure to create redaction; salt is empty!");
+        }
+        return new Redaction(Kind.HASH,null,length,salt == null?generateSalt():salt);
+    }
+
+    /**
+     * Generates a random salt.
+     * @return Salt.
+     */
+    private static String generateSalt() {
+        byte[] bytes=new byte[SALT_LENGTH];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * Creates a redaction replacing values by a prefix of their text.
+     * @param length Number of characters kept.
+     * @return Redaction.
+     */
+    public static Redaction truncate(int length) {
+        if (length<0) {
+            throw new IllegalArgumentException(String.format("Failure to create redaction; length is negative; length is %d!",length));
+        }
+        return new Redaction(Kind.TRUNCATE,null,length,null);
+    }
+}
@@ -0,0 +1,350 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility deriving redactions of sensitive values from annotations of JSON Schemas.
+ * <p>
+ *     Subschemas annotated by a keyword, by default {@value #DEFAULT_KEYWORD}, redact the values they describe.
+ *     The value of the keyword is either {@code true}, replacing values by {@link Redaction#DEFAULT_REPLACEMENT},
+ *     the name of a kind of redaction such as {@code "hash"},
+ *     or an object with the properties {@code mode}, {@code replacement}, {@code length} and {@code salt}.
+ *     Values hashed without a salt are hashed with a salt generated per compilation.
+ * </p>
+ * <p>
+ *     Annotations are found through {@code properties}, {@code patternProperties}, {@code additionalProperties},
+ *     {@code unevaluatedProperties}, {@code dependentSchemas}, {@code dependencies}, {@code items},
+ *     {@code prefixItems}, {@code additionalItems}, {@code unevaluatedItems}, {@code contains}, {@code allOf},
+ *     {@code anyOf}, {@code oneOf}, {@code not}, {@code if}, {@code then}, {@code else} and local references.
+ *     Properties matched by patterns, additional and unevaluated properties and items, and items matched by
+ *     {@code contains} are addressed by wildcards, and hence redacted independently of their names and indexes.
+ *     References must be local and resolved.
+ *     Since paths are finite, schemas with recursive references reaching annotated subschemas are rejected;
+ *     other recursive references are followed once.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class Redactions {
+    /**
+     * Default keyword annotating sensitive values.
+     */
+    public static final String DEFAULT_KEYWORD="x-sensitive";
+
+    /**
+     * Keywords of subschemas, or arrays of subschemas, describing the values described by the schema itself.
+     */
+    private static final List<String> IN_PLACE_KEYWORDS=List.of("allOf","anyOf","oneOf","not","if","then","else");
+
+    /**
+     * Keywords of subschemas describing properties or items independently of their names and indexes.
+     */
+    private static final List<String> WILDCARD_KEYWORDS=List.of("additionalProperties","unevaluatedProperties",
+                                                                "additionalItems","unevaluatedItems","contains");
+
+    /**
+     * Keywords of objects of subschemas describing the values described by the schema itself.
+     */
+    private static final List<String> CONDITIONAL_KEYWORDS=List.of("dependentSchemas","dependencies");
+
+    /**
+     * Compiles the redactions annotated in a schema by {@value #DEFAULT_KEYWORD} into a transformation.
+     * @param schema Schema.
+     * @return Transformation.
+     * @throws IllegalArgumentException Thrown in case of annotations not valid.
+     */
+    public static TokenTransformer compile(JsonNode schema) {
+        return TokenTransformers.compile(fromSchema(schema));
+    }
+
+    /**
+     * Creates operations redacting the values annotated in a schema by {@value #DEFAULT_KEYWORD}.
+     * @param schema Schema.
+     * @return Operations.
+     * @throws IllegalArgumentException Thrown in case of annotations not valid.
+     */
+    public static List<TokenOperation> fromSchema(JsonNode schema) {
+        return fromSchema(schema,DEFAULT_KEYWORD);
+    }
+
+    /**
+     * Creates operations redacting the values annotated in a schema.
+     * @param schema Schema.
+     * @param keyword Keyword annotating sensitive values.
+     * @return Operations.
+     * @throws IllegalArgumentException Thrown in case of annotations not valid.
+     */
+    public static List<TokenOperation> fromSchema(JsonNode schema,
+                                                  String keyword) {
+        List<TokenOperation> operations=new ArrayList<>();
+        new Walker(schema,keyword,operations).walk(schema,"");
+        return operations;
+    }
+
+    /**
+     * Parses the value of an annotation.
+     * @param annotation Value of annotation.
+     * @param path Path of values annotated.
+     * @return Redaction.
+     *         This is {@code null} if values are not sensitive.
+     */
+    private static Redaction parseRedaction(JsonNode annotation,
+                                            String path) {
+        Redaction redaction;
+        if (annotation.isBoolean()) {
+            redaction=annotation.booleanValue()?Redaction.replace():null;
+        } else {
+            if (annotation.isTextual()) {
+                redaction=createRedaction(parseKind(annotation.textValue(),path),null,null,null,path);
+            } else {
+                if (annotation.isObject()) {
+                    JsonNode mode=annotation.get("mode");
+                    Redaction.Kind kind=mode == null?Redaction.Kind.REPLACE:parseKind(mode.asText(),path);
+                    JsonNode length=annotation.get("length");
+                    if (length!=null && !length.canConvertToInt()) {
+                        throw new IllegalArgumentException(String.format("Failure to compile redaction; length is not an integer; path is %s, length is %s!",path,length));
+                    }
+                    JsonNode salt=annotation.get("salt");
+                    redaction=createRedaction(kind,
+                                              annotation.get("replacement"),
+                                              length == null?null:length.intValue(),
+                                              salt == null?null:salt.asText(),
+                                              path);
+                } else {
+                    throw new IllegalArgumentException(String.format("Failure to compile redaction; annotation is neither a boolean, a string nor an object; path is %s, annotation is %s!",path,annotation));
+                }
+            }
+        }
+        return redaction;
+    }
+
+    private static Redaction.Kind parseKind(String mode,
+                                            String path) {
+        try {
+            return Redaction.Kind.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(String.format("Failure to compile redaction; mode is not known; path is %s, mode is %s!",path,mode),ex);
+        }
+    }
+
+    private static Redaction createRedaction(Redaction.Kind kind,
+                                             JsonNode replacement,
+                                             Integer length,
+                                             String salt,
+                                             String path) {
+        Redaction redaction;
+        switch (kind) {
+            case REPLACE:
+                redaction=replacement == null?Redaction.replace():Redaction.replace(replacement);
+                break;
+            case HASH:
+                redaction=Redaction.hash(salt,length == null?Redaction.HASH_LENGTH:length);
+                break;
+            case TRUNCATE:
+                if (length == null) {
+                    throw new IllegalArgumentException(String.format("Failure to compile redaction; length of truncation is missing; path is %s!",path));
+                }
+                redaction=Redaction.truncate(length);
+                break;
+            default:
+                throw new IllegalStateException(String.format("Failure to compile redaction; kind is %s!",kind));
+        }
+        return redaction;
+    }
+
+    private static String escape(String name) {
+        return name.replace("~","~0").replace("/","~1");
+    }
+
+    /**
+     * Walk of a schema collecting redactions.
+     */
+    private static final class Walker {
+        private final JsonNode root;
+
+        private final String keyword;
+
+        private final List<TokenOperation> operations;
+
+        /**
+         * References followed by the current walk, guarding against cycles.
+         */
+        private final Set<String> references=new HashSet<>();
+
+        private Walker(JsonNode root,
+                       String keyword,
+                       List<TokenOperation> operations) {
+            this.root=root;
+            this.keyword=keyword;
+            this.operations=operations;
+        }
+
+        /**
+         * Walks a subschema.
+         * @param schema Subschema.
+         * @param path Path of values described by the subschema.
+         */
+        private void walk(JsonNode schema,
+                          String path) {
+            if (schema!=null && schema.isObject()) {
+                JsonNode annotation=schema.get(keyword);
+                Redaction redaction=annotation == null?null:parseRedaction(annotation,path);
+                if (redaction!=null) {
+                    operations.add(TokenOperation.redact(path,redaction));
+                } else {
+                    walkReference(schema.get("$ref"),path);
+                    JsonNode properties=schema.get("properties");
+                    if (properties!=null) {
+                        Iterator<Map.Entry<String,JsonNode>> fields=properties.fields();
+                        while (fields.hasNext()) {
+                            Map.Entry<String,JsonNode> field=fields.next();
+                            walk(field.getValue(),path+"/"+escape(field.getKey()));
+                        }
+                    }
+                    JsonNode patternProperties=schema.get("patternProperties");
+                    if (patternProperties!=null) {
+                        for (JsonNode patternSchema: patternProperties) {
+                            walk(patternSchema,path+"/"+TokenTransformers.WILDCARD);
+                        }
+                    }
+                    JsonNode items=schema.get("items");
+                    if (items!=null) {
+                        if (items.isArray()) {
+                            walkTuple(items,path);
+                        } else {
+                            walk(items,path+"/"+TokenTransformers.WILDCARD);
+                        }
+                    }
+                    JsonNode prefixItems=schema.get("prefixItems");
+                    if (prefixItems!=null) {
+                        walkTuple(prefixItems,path);
+                    }
+                    for (String name: WILDCARD_KEYWORDS) {
+                        walk(schema.get(name),path+"/"+TokenTransformers.WILDCARD);
+                    }
+                    for (String name: IN_PLACE_KEYWORDS) {
+                        walkAll(schema.get(name),path);
+                    }
+                    for (String name: CONDITIONAL_KEYWORDS) {
+                        JsonNode schemas=schema.get(name);
+                        if (schemas!=null && schemas.isObject()) {
+                            for (JsonNode subschema: schemas) {
+                                walk(subschema,path);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void walkTuple(JsonNode items,
+                               String path) {
+            for (int i=0; i<items.size(); i++) {
+                walk(items.get(i),path+"/"+i);
+            }
+        }
+
+        private void walkAll(JsonNode schemas,
+                             String path) {
+            if (schemas!=null) {
+                if (schemas.isArray()) {
+                    for (JsonNode schema: schemas) {
+                        walk(schema,path);
+                    }
+                } else {
+                    walk(schemas,path);
+                }
+            }
+        }
+
+        private void walkReference(JsonNode reference,
+                                   String path) {
+            if (reference!=null) {
+                JsonNode target=resolve(reference,path);
+                String pointer=reference.textValue().substring(1);
+                if (references.add(pointer)) {
+                    walk(target,path);
+                    references.remove(pointer);
+                } else {
+                    if (isAnnotated(target,new HashSet<>())) {
+                        throw new IllegalArgumentException(String.format("Failure to compile redaction; recursive reference reaches sensitive values at unbounded depth; path is %s, reference is %s!",path,reference));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Resolves a local reference.
+         * @param reference Reference.
+         * @param path Path of values described by the referencing subschema.
+         * @return Subschema referenced.
+         * @throws IllegalArgumentException Thrown in case of a reference which is not local or not resolved.
+         */
+        private JsonNode resolve(JsonNode reference,
+                                 String path) {
+            if (!reference.isTextual() || !reference.textValue().startsWith("#")) {
+                throw new IllegalArgumentException(String.format("Failure to compile redaction; reference is not local; path is %s, reference is %s!",path,reference));
+            }
+            String pointer=reference.textValue().substring(1);
+            JsonNode target=pointer.isEmpty() || pointer.startsWith("/")?root.at(pointer):null;
+            if (target == null || target.isMissingNode()) {
+                throw new IllegalArgumentException(String.format("Failure to compile redaction; reference is not resolved; path is %s, reference is %s!",path,reference));
+            }
+            return target;
+        }
+
+        /**
+         * Indicates, if a subschema or a subschema reachable from it is annotated as sensitive.
+         * @param schema Subschema.
+         * @param visited References followed.
+         * @return Indicates, if annotated.
+         */
+        private boolean isAnnotated(JsonNode schema,
+                                    Set<String> visited) {
+            boolean annotated=false;
+            if (schema!=null && schema.isObject()) {
+                JsonNode annotation=schema.get(keyword);
+                annotated=annotation!=null && !(annotation.isBoolean() && !annotation.booleanValue());
+                JsonNode reference=schema.get("$ref");
+                if (!annotated && reference!=null && visited.add(reference.asText())) {
+                    annotated=isAnnotated(resolve(reference,""),visited);
+                }
+                for (String name: List.of("properties","patternProperties","dependentSchemas","dependencies")) {
+                    JsonNode schemas=schema.get(name);
+                    if (!annotated && schemas!=null) {
+                        for (JsonNode subschema: schemas) {
+                            annotated|=isAnnotated(subschema,visited);
+                        }
+                    }
+                }
+                for (List<String> names: List.of(List.of("items","prefixItems"),WILDCARD_KEYWORDS,IN_PLACE_KEYWORDS)) {
+                    for (String name: names) {
+                        JsonNode subschema=schema.get(name);
+                        if (!annotated && subschema!=null) {
+                            if (subschema.isArray()) {
+                                for (JsonNode element: subschema) {
+                                    annotated|=isAnnotated(element,visited);
+                                }
+                            } else {
+                                annotated=isAnnotated(subschema,visited);
+                            }
+                        }
+                    }
+                }
+            }
+            return annotated;
+        }
+    }
+}
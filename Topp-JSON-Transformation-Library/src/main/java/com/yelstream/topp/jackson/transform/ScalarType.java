@@ -0,0 +1,34 @@
+package com.yelstream.topp.jackson.transform;
+
+/**
+ * Type of JSON scalar to which values are converted by {@link TokenOperation#retype(String,ScalarType)}.
+ * <p>
+ *     The value {@code null} is never converted.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum ScalarType {
+    /**
+     * String holding the text of a scalar.
+     */
+    STRING,
+
+    /**
+     * Number parsed from a string, or 1 and 0 for booleans.
+     */
+    NUMBER,
+
+    /**
+     * Integer parsed from a string or converted from a number without a fraction, or 1 and 0 for booleans.
+     * Numbers of more than 1000 digits written with an exponent are rejected.
+     */
+    INTEGER,
+
+    /**
+     * Boolean parsed from the strings {@code true} and {@code false}, or {@code true} for numbers other than 0.
+     */
+    BOOLEAN
+}
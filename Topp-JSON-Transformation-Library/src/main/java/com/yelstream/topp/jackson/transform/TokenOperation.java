@@ -0,0 +1,177 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Operation of a streaming transformation of JSON documents.
+ * This is immutable.
+ * <p>
+ *     Paths are JSON Pointers into the document read, where the segment {@code *} matches any property or array element.
+ *     Paths of all operations of a transformation refer to the document read,
+ *     also below values renamed, wrapped, unwrapped or moved by other operations.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class TokenOperation {
+    /**
+     * Kind of operation.
+     */
+    public enum Kind {
+        RENAME,
+        DROP,
+        INJECT,
+        RETYPE,
+        WRAP,
+        UNWRAP,
+        MOVE,
+        REDACT
+    }
+
+    /**
+     * Kind of operation.
+     */
+    private final Kind kind;
+
+    /**
+     * Path of values addressed.
+     */
+    private final String path;
+
+    /**
+     * Name of property.
+     * For {@link Kind#MOVE}, this is the path of the target.
+     * This may be {@code null}.
+     */
+    private final String name;
+
+    /**
+     * Value injected.
+     * This may be {@code null}.
+     */
+    private final JsonNode value;
+
+    /**
+     * Type of scalar converted to.
+     * This may be {@code null}.
+     */
+    private final ScalarType type;
+
+    /**
+     * Redaction of values.
+     * This may be {@code null}.
+     */
+    private final Redaction redaction;
+
+    /**
+     * Creates an operation renaming properties.
+     * Transformation fails if the new name is the name of another property written to the same object.
+     * @param path Path of properties.
+     * @param name New name.
+     * @return Operation.
+     */
+    public static TokenOperation rename(String path,
+                                        String name) {
+        return new TokenOperation(Kind.RENAME,path,name,null,null,null);
+    }
+
+    /**
+     * Creates an operation dropping properties and array elements.
+     * @param path Path of values.
+     * @return Operation.
+     */
+    public static TokenOperation drop(String path) {
+        return new TokenOperation(Kind.DROP,path,null,null,null,null);
+    }
+
+    /**
+     * Creates an operation injecting a constant property into objects.
+     * The property is added last, and a property of the same name read is dropped.
+     * @param path Path of objects.
+     * @param name Name of property.
+     * @param value Value of property.
+     * @return Operation.
+     */
+    public static TokenOperation inject(String path,
+                                        String name,
+                                        JsonNode value) {
+        return new TokenOperation(Kind.INJECT,path,name,value,null,null);
+    }
+
+    /**
+     * Creates an operation converting scalars to another type.
+     * Objects and arrays are not converted.
+     * @param path Path of values.
+     * @param type Type converted to.
+     * @return Operation.
+     */
+    public static TokenOperation retype(String path,
+                                        ScalarType type) {
+        return new TokenOperation(Kind.RETYPE,path,null,null,type,null);
+    }
+
+    /**
+     * Creates an operation wrapping values as the single property of an object.
+     * @param path Path of values.
+     * @param name Name of property holding the value.
+     * @return Operation.
+     */
+    public static TokenOperation wrap(String path,
+                                      String name) {
+        return new TokenOperation(Kind.WRAP,path,name,null,null,null);
+    }
+
+    /**
+     * Creates an operation replacing objects by the value of one of their properties.
+     * Objects without the property are replaced by {@code null}.
+     * @param path Path of objects.
+     * @param name Name of property holding the value.
+     * @return Operation.
+     */
+    public static TokenOperation unwrap(String path,
+                                        String name) {
+        return new TokenOperation(Kind.UNWRAP,path,name,null,null,null);
+    }
+
+    /**
+     * Creates an operation moving a value to another property.
+     * <p>
+     *     The value is buffered and added last to the target object, when this ends.
+     *     Hence, the target object must end after the value is read;
+     *     otherwise, transformation fails.
+     *     If the document has no target object, the value is dropped.
+     *     Paths may not contain wildcards.
+     * </p>
+     * @param path Path of value.
+     * @param target Path of target property.
+     * @return Operation.
+     */
+    public static TokenOperation move(String path,
+                                      String target) {
+        return new TokenOperation(Kind.MOVE,path,target,null,null,null);
+    }
+
+    /**
+     * Creates an operation rewriting sensitive values.
+     * Values below the values rewritten are not addressed by other operations.
+     * @param path Path of values.
+     * @param redaction Redaction of values.
+     * @return Operation.
+     */
+    public static TokenOperation redact(String path,
+                                        Redaction redaction) {
+        if (redaction == null) {
+            throw new IllegalArgumentException(String.format("Failure to create operation; redaction is null; path is %s!",path));
+        }
+        return new TokenOperation(Kind.REDACT,path,null,null,null,redaction);
+    }
+}
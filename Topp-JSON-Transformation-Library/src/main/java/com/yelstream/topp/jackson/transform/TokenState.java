@@ -0,0 +1,124 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of a compiled transformation at a path of a JSON document.
+ * <p>
+ *     States are created by {@link TokenTransformers} and are immutable once compiled.
+ *     Paths without operations at or below them have no state, and their values are copied as they are.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class TokenState {
+    /**
+     * Property added to objects when these end.
+     */
+    static final class Insertion {
+        final String name;
+
+        /**
+         * Constant value.
+         * This is {@code null} for moved values.
+         */
+        final JsonNode value;
+
+        /**
+         * Index of buffer of moved value.
+         */
+        final int slot;
+
+        Insertion(String name,
+                  JsonNode value,
+                  int slot) {
+            this.name=name;
+            this.value=value;
+            this.slot=slot;
+        }
+    }
+
+    /**
+     * States of properties and array elements by name or index.
+     */
+    final Map<String,TokenState> children=new HashMap<>();
+
+    /**
+     * State of properties and array elements not in {@link #children}.
+     * This may be {@code null}.
+     */
+    TokenState any;
+
+    boolean drop;
+
+    /**
+     * New name of property.
+     * This may be {@code null}.
+     */
+    String rename;
+
+    /**
+     * Type of scalar converted to.
+     * This may be {@code null}.
+     */
+    ScalarType retype;
+
+    /**
+     * Name of property wrapping the value.
+     * This may be {@code null}.
+     */
+    String wrap;
+
+    /**
+     * Name of property unwrapped.
+     * This may be {@code null}.
+     */
+    String unwrap;
+
+    /**
+     * Index of buffer receiving the value moved.
+     * This is -1 if the value is not moved.
+     */
+    int capture=-1;
+
+    /**
+     * Redaction of the value.
+     * This may be {@code null}.
+     */
+    Redaction redaction;
+
+    /**
+     * Indicates, if properties of the object are renamed, in which case names written are checked for duplicates.
+     */
+    boolean renaming;
+
+    final List<Insertion> insertions=new ArrayList<>();
+
+    /**
+     * Gets the state of a property.
+     * @param name Name of property.
+     * @return State.
+     *         This may be {@code null}.
+     */
+    TokenState getChild(String name) {
+        TokenState child=children.get(name);
+        return child == null?any:child;
+    }
+
+    /**
+     * Gets the state of an array element.
+     * @param index Index of element.
+     * @return State.
+     *         This may be {@code null}.
+     */
+    TokenState getChild(int index) {
+        return children.isEmpty()?any:getChild(Integer.toString(index));
+    }
+}
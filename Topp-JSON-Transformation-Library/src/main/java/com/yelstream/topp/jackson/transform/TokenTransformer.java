@@ -0,0 +1,525 @@
+package com.yelstream.topp.jackson.transform;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Transformation of JSON documents compiled from operations, applied directly from parser tokens to generator tokens
+ * without building a JSON tree.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link TokenTransformers}.
+ *     Values at paths without operations at or below them are copied as they are.
+ *     Transformation uses memory proportional to the depth of the document and the size of the values moved,
+ *     and of objects and arrays redacted by hashing or truncating.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@AllArgsConstructor(access=AccessLevel.PACKAGE)
+public final class TokenTransformer {
+    /**
+     * Factory of parsers and generators of text.
+     */
+    private static final JsonFactory FACTORY=new JsonFactory();
+
+    /**
+     * Format of hashes of redacted values.
+     */
+    private static final HexFormat HEX=HexFormat.of();
+
+    /**
+     * Algorithm of hashes of redacted values.
+     */
+    private static final String HMAC_ALGORITHM="HmacSHA256";
+
+    /**
+     * Maximum number of digits of integers converted from numbers with fractions or exponents.
+     */
+    private static final int MAX_INTEGER_DIGITS=1000;
+
+    /**
+     * Separator of root-level values written to streams.
+     */
+    private static final SerializedString NEWLINE=new SerializedString("\n");
+
+    /**
+     * Operations compiled.
+     */
+    @Getter
+    private final List<TokenOperation> operations;
+
+    /**
+     * State of the root of JSON documents.
+     * This may be {@code null}.
+     */
+    private final TokenState root;
+
+    /**
+     * Number of values moved.
+     */
+    private final int slots;
+
+    /**
+     * Creates a transformation applying the operations of this and another transformation in a single pass.
+     * Paths of both refer to the document read.
+     * @param other Other transformation.
+     * @return Transformation.
+     */
+    public TokenTransformer with(TokenTransformer other) {
+        List<TokenOperation> combined=new ArrayList<>(operations);
+        combined.addAll(other.operations);
+        return TokenTransformers.compile(combined);
+    }
+
+    /**
+     * Transforms a JSON document.
+     * @param json JSON document.
+     * @return Transformed JSON document.
+     * @throws IOException Thrown in case of errors.
+     */
+    public String transform(String json) throws IOException {
+        StringWriter writer=new StringWriter();
+        try (JsonParser parser=FACTORY.createParser(json);
+             JsonGenerator generator=FACTORY.createGenerator(writer)) {
+            transform(parser,generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Transforms a JSON document encoded in UTF-8.
+     * @param json JSON document.
+     * @return Transformed JSON document.
+     * @throws IOException Thrown in case of errors.
+     */
+    public byte[] transform(byte[] json) throws IOException {
+        ByteArrayOutputStream out=new ByteArrayOutputStream(json.length);
+        try (JsonParser parser=FACTORY.createParser(json);
+             JsonGenerator generator=FACTORY.createGenerator(out)) {
+            transform(parser,generator);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Transforms all JSON values read from a stream, such as newline-delimited JSON documents.
+     * Neither stream is closed.
+     * @param in Input stream.
+     * @param out Output stream.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transform(InputStream in,
+                          OutputStream out) throws IOException {
+        try (JsonParser parser=FACTORY.createParser(in);
+             JsonGenerator generator=FACTORY.createGenerator(out)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(NEWLINE);
+            transform(parser,generator);
+        }
+    }
+
+    /**
+     * Transforms all JSON values read from a parser, such as a sequence of root-level values.
+     * @param parser Parser.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transform(JsonParser parser,
+                          JsonGenerator generator) throws IOException {
+        while (parser.nextToken()!=null) {
+            new Transformation(slots).writeValue(parser,generator,root);
+        }
+    }
+
+    /**
+     * Transforms the JSON value at the current token of a parser, or at the next token if there is no current token.
+     * On return, the parser is positioned at the last token of the value.
+     * @param parser Parser.
+     * @param generator Generator.
+     * @throws IOException Thrown in case of errors.
+     */
+    public void transformValue(JsonParser parser,
+                               JsonGenerator generator) throws IOException {
+        if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+            throw new EOFException("Failure to transform value; end of input!");
+        }
+        new Transformation(slots).writeValue(parser,generator,root);
+    }
+
+    /**
+     * Transformation of a single JSON value.
+     * This is not thread-safe.
+     */
+    private static final class Transformation {
+        /**
+         * Buffers of moved values.
+         */
+        private final TokenBuffer[] captured;
+
+        /**
+         * Indicates, by buffer, if the target object of a moved value has ended.
+         */
+        private final boolean[] ended;
+
+        /**
+         * Message authentication code hashing redacted values.
+         * This is created when first used.
+         */
+        private Mac mac;
+
+        /**
+         * Redaction whose salt keys {@link #mac}.
+         */
+        private Redaction keyed;
+
+        private Transformation(int slots) {
+            this.captured=slots == 0?null:new TokenBuffer[slots];
+            this.ended=slots == 0?null:new boolean[slots];
+        }
+
+        /**
+         * Writes the value at the current token.
+         * @param parser Parser positioned at the first token of the value.
+         * @param generator Generator.
+         * @param state State of the value.
+         *              This may be {@code null}.
+         * @throws IOException Thrown in case of errors.
+         */
+        private void writeValue(JsonParser parser,
+                                JsonGenerator generator,
+                                TokenState state) throws IOException {
+            if (state == null) {
+                generator.copyCurrentStructure(parser);
+            } else {
+                if (state.wrap!=null) {
+                    generator.writeStartObject();
+                    generator.writeFieldName(state.wrap);
+                }
+                JsonToken token=parser.currentToken();
+                if (state.redaction!=null) {
+                    writeRedacted(parser,generator,state.redaction,token);
+                } else {
+                    if (token == JsonToken.START_OBJECT) {
+                        if (state.unwrap!=null) {
+                            writeUnwrapped(parser,generator,state);
+                        } else {
+                            writeObject(parser,generator,state);
+                        }
+                    } else {
+                        if (token == JsonToken.START_ARRAY) {
+                            writeArray(parser,generator,state);
+                        } else {
+                            if (state.retype!=null && token!=JsonToken.VALUE_NULL) {
+                                writeRetyped(parser,generator,state.retype);
+                            } else {
+                                generator.copyCurrentEvent(parser);
+                            }
+                        }
+                    }
+                }
+                if (state.wrap!=null) {
+                    generator.writeEndObject();
+                }
+            }
+        }
+
+        private void writeObject(JsonParser parser,
+                                 JsonGenerator generator,
+                                 TokenState state) throws IOException {
+            generator.writeStartObject();
+            Set<String> written=state.renaming?new HashSet<>():null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name=parser.getCurrentName();
+                TokenState child=state.getChild(name);
+                parser.nextToken();
+                if (child == null) {
+                    writeFieldName(parser,generator,written,name);
+                    generator.copyCurrentStructure(parser);
+                } else {
+                    if (child.drop) {
+                        parser.skipChildren();
+                    } else {
+                        if (child.capture>=0) {
+                            capture(parser,child);
+                        } else {
+                            writeFieldName(parser,generator,written,child.rename == null?name:child.rename);
+                            writeValue(parser,generator,child);
+                        }
+                    }
+                }
+            }
+            for (TokenState.Insertion insertion: state.insertions) {
+                JsonParser source=null;
+                if (insertion.value!=null) {
+                    source=insertion.value.traverse();
+                } else {
+                    TokenBuffer buffer=captured[insertion.slot];
+                    if (buffer!=null) {
+                        source=buffer.asParser();
+                    }
+                    ended[insertion.slot]=true;
+                }
+                if (source!=null) {
+                    try (JsonParser insertionParser=source) {
+                        insertionParser.nextToken();
+                        writeFieldName(parser,generator,written,insertion.name);
+                        generator.copyCurrentStructure(insertionParser);
+                    }
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes the name of a property.
+         * @param parser Parser.
+         * @param generator Generator.
+         * @param written Names written to the object.
+         *                This is {@code null} if names are not checked for duplicates.
+         * @param name Name of property.
+         * @throws IOException Thrown in case of errors.
+         */
+        private static void writeFieldName(JsonParser parser,
+                                           JsonGenerator generator,
+                                           Set<String> written,
+                                           String name) throws IOException {
+            if (written!=null && !written.add(name)) {
+                throw new JsonParseException(parser,String.format("Failure to rename property; property %s is already present; path is %s!",name,parser.getParsingContext().pathAsPointer()));
+            }
+            generator.writeFieldName(name);
+        }
+
+        private void writeArray(JsonParser parser,
+                                JsonGenerator generator,
+                                TokenState state) throws IOException {
+            generator.writeStartArray();
+            int index=0;
+            while (parser.nextToken()!=JsonToken.END_ARRAY) {
+                TokenState child=state.getChild(index);
+                if (child == null) {
+                    generator.copyCurrentStructure(parser);
+                } else {
+                    if (child.drop) {
+                        parser.skipChildren();
+                    } else {
+                        if (child.capture>=0) {
+                            capture(parser,child);
+                        } else {
+                            writeValue(parser,generator,child);
+                        }
+                    }
+                }
+                index++;
+            }
+            generator.writeEndArray();
+        }
+
+        private void writeUnwrapped(JsonParser parser,
+                                    JsonGenerator generator,
+                                    TokenState state) throws IOException {
+            boolean found=false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name=parser.getCurrentName();
+                parser.nextToken();
+                if (!found && name.equals(state.unwrap)) {
+                    writeValue(parser,generator,state.getChild(name));
+                    found=true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!found) {
+                generator.writeNull();
+            }
+        }
+
+        private void capture(JsonParser parser,
+                             TokenState state) throws IOException {
+            if (ended[state.capture]) {
+                throw new JsonParseException(parser,String.format("Failure to move value; target object has ended before the value is read; path is %s!",parser.getParsingContext().pathAsPointer()));
+            }
+            TokenBuffer buffer=new TokenBuffer(parser);
+            writeValue(parser,buffer,state);
+            captured[state.capture]=buffer;
+        }
+
+        private void writeRedacted(JsonParser parser,
+                                   JsonGenerator generator,
+                                   Redaction redaction,
+                                   JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) {
+                generator.writeNull();
+            } else {
+                if (redaction.getKind() == Redaction.Kind.REPLACE) {
+                    parser.skipChildren();
+                    JsonNode replacement=redaction.getReplacement();
+                    if (replacement.isTextual()) {
+                        generator.writeString(replacement.textValue());
+                    } else {
+                        try (JsonParser replacementParser=replacement.traverse()) {
+                            replacementParser.nextToken();
+                            generator.copyCurrentStructure(replacementParser);
+                        }
+                    }
+                } else {
+                    String text=token.isStructStart()?readText(parser):parser.getText();
+                    if (redaction.getKind() == Redaction.Kind.HASH) {
+                        generator.writeString(hash(text,redaction));
+                    } else {
+                        generator.writeString(truncate(text,redaction.getLength()));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads the compact JSON text of the object or array at the current token.
+         * @param parser Parser positioned at the first token of the value.
+         * @return JSON text.
+         * @throws IOException Thrown in case of errors.
+         */
+        private static String readText(JsonParser parser) throws IOException {
+            StringWriter writer=new StringWriter();
+            try (JsonGenerator textGenerator=FACTORY.createGenerator(writer)) {
+                textGenerator.copyCurrentStructure(parser);
+            }
+            return writer.toString();
+        }
+
+        private String hash(String text,
+                            Redaction redaction) {
+            if (keyed!=redaction) {
+                try {
+                    if (mac == null) {
+                        mac=Mac.getInstance(HMAC_ALGORITHM);
+                    }
+                    mac.init(new SecretKeySpec(redaction.getSalt().getBytes(StandardCharsets.UTF_8),HMAC_ALGORITHM));
+                } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+                    throw new IllegalStateException(String.format("Failure to create message authentication code; algorithm is %s!",HMAC_ALGORITHM),ex);
+                }
+                keyed=redaction;
+            }
+            String hex=HEX.formatHex(mac.doFinal(text.getBytes(StandardCharsets.UTF_8)));
+            return redaction.getLength() == hex.length()?hex:hex.substring(0,redaction.getLength());
+        }
+
+        /**
+         * Truncates text without splitting surrogate pairs.
+         * @param text Text.
+         * @param length Maximum number of characters.
+         * @return Truncated text.
+         */
+        private static String truncate(String text,
+                                       int length) {
+            String result=text;
+            if (text.length()>length) {
+                int end=length>0 && Character.isHighSurrogate(text.charAt(length-1))?length-1:length;
+                result=text.substring(0,end);
+            }
+            return result;
+        }
+
+        private static void writeRetyped(JsonParser parser,
+                                         JsonGenerator generator,
+                                         ScalarType type) throws IOException {
+            JsonToken token=parser.currentToken();
+            switch (type) {
+                case STRING:
+                    if (token == JsonToken.VALUE_STRING || !token.isScalarValue()) {
+                        generator.copyCurrentEvent(parser);
+                    } else {
+                        generator.writeString(parser.getText());
+                    }
+                    break;
+                case NUMBER:
+                    if (token.isNumeric()) {
+                        generator.copyCurrentEvent(parser);
+                    } else {
+                        if (token.isBoolean()) {
+                            generator.writeNumber(token == JsonToken.VALUE_TRUE?1:0);
+                        } else {
+                            generator.writeNumber(parseNumber(parser));
+                        }
+                    }
+                    break;
+                case INTEGER:
+                    if (token == JsonToken.VALUE_NUMBER_INT) {
+                        generator.copyCurrentEvent(parser);
+                    } else {
+                        if (token.isBoolean()) {
+                            generator.writeNumber(token == JsonToken.VALUE_TRUE?1:0);
+                        } else {
+                            BigDecimal value=(token == JsonToken.VALUE_NUMBER_FLOAT?parser.getDecimalValue():parseNumber(parser)).stripTrailingZeros();
+                            if (value.scale()>0) {
+                                throw new JsonParseException(parser,String.format("Failure to convert value to integer; value is %s!",parser.getText()));
+                            }
+                            if (value.precision()-value.scale()>MAX_INTEGER_DIGITS) {
+                                throw new JsonParseException(parser,String.format("Failure to convert value to integer; value has more than %d digits; value is %s!",MAX_INTEGER_DIGITS,parser.getText()));
+                            }
+                            generator.writeNumber(value.toBigIntegerExact());
+                        }
+                    }
+                    break;
+                case BOOLEAN:
+                    if (token.isBoolean()) {
+                        generator.copyCurrentEvent(parser);
+                    } else {
+                        if (token.isNumeric()) {
+                            generator.writeBoolean(parser.getDecimalValue().signum()!=0);
+                        } else {
+                            String text=parser.getText();
+                            if (!"true".equals(text) && !"false".equals(text)) {
+                                throw new JsonParseException(parser,String.format("Failure to convert value to boolean; value is %s!",text));
+                            }
+                            generator.writeBoolean(Boolean.parseBoolean(text));
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Failure to convert value; type is %s!",type));
+            }
+        }
+
+        private static BigDecimal parseNumber(JsonParser parser) throws IOException {
+            String text=parser.getText();
+            BigDecimal value;
+            try {
+                value=new BigDecimal(text.trim());
+            } catch (NumberFormatException ex) {
+                throw new JsonParseException(parser,String.format("Failure to convert value to number; value is %s!",text),ex);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.yelstream.topp.jackson.transform;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility compiling operations into instances of {@link TokenTransformer}.
+ * <p>
+ *     Operations are compiled into a tree of states following the paths of the operations,
+ *     where wildcards are merged into the states of the names they match.
+ *     Applying a transformation hence takes a single lookup per property and array element.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class TokenTransformers {
+    /**
+     * Wildcard segment of paths.
+     */
+    static final String WILDCARD="*";
+
+    /**
+     * Compiles operations into a transformation.
+     * @param operations Operations.
+     * @return Transformation.
+     * @throws IllegalArgumentException Thrown in case of operations not valid.
+     */
+    public static TokenTransformer compile(TokenOperation... operations) {
+        return compile(Arrays.asList(operations));
+    }
+
+    /**
+     * Compiles operations into a transformation.
+     * Where operations of the same kind conflict at the same path, the last operation applies.
+     * @param operations Operations.
+     * @return Transformation.
+     * @throws IllegalArgumentException Thrown in case of operations not valid.
+     */
+    public static TokenTransformer compile(List<TokenOperation> operations) {
+        List<Rule> rules=new ArrayList<>();
+        int slots=0;
+        for (TokenOperation operation: operations) {
+            String[] segments=parsePath(operation.getPath());
+            switch (operation.getKind()) {
+                case RENAME:
+                case DROP:
+                    requireMember(operation,segments);
+                    rules.add(new Rule(segments,operation.getKind(),operation,-1));
+                    break;
+                case INJECT:
+                    rules.add(new Rule(segments,TokenOperation.Kind.INJECT,operation,-1));
+                    rules.add(new Rule(append(segments,operation.getName()),TokenOperation.Kind.DROP,operation,-1));
+                    break;
+                case MOVE: {
+                    String[] targetSegments=parsePath(operation.getName());
+                    requireMember(operation,segments);
+                    requireMember(operation,targetSegments);
+                    if (Arrays.asList(segments).contains(WILDCARD) || Arrays.asList(targetSegments).contains(WILDCARD)) {
+                        throw new IllegalArgumentException(String.format("Failure to compile operation; paths of moves may not contain wildcards; operation is %s!",operation));
+                    }
+                    if (targetSegments.length>segments.length && Arrays.equals(segments,Arrays.copyOf(targetSegments,segments.length))) {
+                        throw new IllegalArgumentException(String.format("Failure to compile operation; target is within the value moved; operation is %s!",operation));
+                    }
+                    int slot=slots++;
+                    rules.add(new Rule(segments,TokenOperation.Kind.MOVE,operation,slot));
+                    rules.add(new Rule(Arrays.copyOf(targetSegments,targetSegments.length-1),TokenOperation.Kind.INJECT,operation,slot));
+                    rules.add(new Rule(targetSegments,TokenOperation.Kind.DROP,operation,-1));
+                    break;
+                }
+                default:
+                    rules.add(new Rule(segments,operation.getKind(),operation,-1));
+                    break;
+            }
+        }
+        TokenState root=compileState(rules,0);
+        return new TokenTransformer(List.copyOf(operations),root,slots);
+    }
+
+    /**
+     * Compiles the state of a path.
+     * @param rules Rules matching the path.
+     * @param depth Number of segments of the path.
+     * @return State.
+     *         This is {@code null} if there are no rules.
+     */
+    private static TokenState compileState(List<Rule> rules,
+                                           int depth) {
+        TokenState state=null;
+        if (!rules.isEmpty()) {
+            state=new TokenState();
+            Set<String> names=new LinkedHashSet<>();
+            List<Rule> wildcardRules=new ArrayList<>();
+            for (Rule rule: rules) {
+                if (rule.segments.length>depth) {
+                    String segment=rule.segments[depth];
+                    if (segment.equals(WILDCARD)) {
+                        wildcardRules.add(rule);
+                    } else {
+                        names.add(segment);
+                    }
+                } else {
+                    apply(state,rule);
+                }
+            }
+            for (String name: names) {
+                List<Rule> childRules=new ArrayList<>();
+                for (Rule rule: rules) {
+                    if (rule.segments.length>depth && (rule.segments[depth].equals(name) || rule.segments[depth].equals(WILDCARD))) {
+                        childRules.add(rule);
+                    }
+                }
+                TokenState child=compileState(childRules,depth+1);
+                state.children.put(name,child);
+                state.renaming|=child.rename!=null;
+            }
+            state.any=compileState(wildcardRules,depth+1);
+            state.renaming|=state.any!=null && state.any.rename!=null;
+        }
+        return state;
+    }
+
+    private static void apply(TokenState state,
+                              Rule rule) {
+        TokenOperation operation=rule.operation;
+        switch (rule.kind) {
+            case RENAME:
+                state.rename=operation.getName();
+                break;
+            case DROP:
+                state.drop=true;
+                break;
+            case INJECT:
+                if (rule.slot<0) {
+                    state.insertions.add(new TokenState.Insertion(operation.getName(),operation.getValue(),-1));
+                } else {
+                    String[] targetSegments=parsePath(operation.getName());
+                    state.insertions.add(new TokenState.Insertion(targetSegments[targetSegments.length-1],null,rule.slot));
+                }
+                break;
+            case RETYPE:
+                state.retype=operation.getType();
+                break;
+            case WRAP:
+                state.wrap=operation.getName();
+                break;
+            case UNWRAP:
+                state.unwrap=operation.getName();
+                break;
+            case MOVE:
+                state.capture=rule.slot;
+                break;
+            case REDACT:
+                state.redaction=operation.getRedaction();
+                break;
+            default:
+                throw new IllegalStateException(String.format("Failure to compile operation; kind is %s!",rule.kind));
+        }
+    }
+
+    /**
+     * Parses a path into its unescaped segments.
+     * @param path Path as a JSON Pointer.
+     * @return Segments.
+     * @throws IllegalArgumentException Thrown in case of a path not valid.
+     */
+    static String[] parsePath(String path) {
+        String[] segments;
+        if (path == null || (!path.isEmpty() && !path.startsWith("/"))) {
+            throw new IllegalArgumentException(String.format("Failure to parse path; path is %s!",path));
+        }
+        if (path.isEmpty()) {
+            segments=new String[0];
+        } else {
+            segments=path.substring(1).split("/",-1);
+            for (int i=0; i<segments.length; i++) {
+                segments[i]=segments[i].replace("~1","/").replace("~0","~");
+            }
+        }
+        return segments;
+    }
+
+    private static void requireMember(TokenOperation operation,
+                                      String[] segments) {
+        if (segments.length == 0) {
+            throw new IllegalArgumentException(String.format("Failure to compile operation; operation does not apply to the root; operation is %s!",operation));
+        }
+    }
+
+    private static String[] append(String[] segments,
+                                   String segment) {
+        String[] result=Arrays.copyOf(segments,segments.length+1);
+        result[segments.length]=segment;
+        return result;
+    }
+
+    /**
+     * Part of an operation applying at a path.
+     * Operations injecting and moving values also drop values at the target,
+     * and moving values also injects these at the target.
+     */
+    private static final class Rule {
+        private final String[] segments;
+
+        /**
+         * Kind of effect at the path.
+         */
+        private final TokenOperation.Kind kind;
+
+        private final TokenOperation operation;
+
+        /**
+         * Index of buffer of moved value.
+         * This is -1 if no value is moved.
+         */
+        private final int slot;
+
+        private Rule(String[] segments,
+                     TokenOperation.Kind kind,
+                     TokenOperation operation,
+                     int slot) {
+            this.segments=segments;
+            this.kind=kind;
+            this.operation=operation;
+            this.slot=slot;
+        }
+    }
+}
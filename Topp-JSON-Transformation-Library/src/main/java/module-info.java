@@ -1,5 +1,11 @@
 module com.yelstream.topp.json.transformation {
     requires static lombok;
 
+    requires transitive com.fasterxml.jackson.core;
+    requires transitive com.fasterxml.jackson.databind;
+
+    exports com.yelstream.topp.jackson.columnar;
+    exports com.yelstream.topp.jackson.persistent;
+    exports com.yelstream.topp.jackson.sort;
     exports com.yelstream.topp.jackson.transform;
 }
@@ -0,0 +1,346 @@
+package com.yelstream.topp.jackson.path;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSONPath expression compiled into a plan of segments.
+ * This is immutable and thread-safe.
+ * <p>
+ *     Instances are created by {@link JsonPaths} and {@link JsonPathCache}.
+ *     A plan is evaluated over a JSON tree or directly over the tokens of a parser.
+ * </p>
+ * <p>
+ *     Evaluation tracks the set of segments matched so far for each value, and visits each value at most once.
+ *     Values selected are hence in document order, and each value is selected at most once.
+ *     This is a query of a set of nodes, and differs from RFC 9535, where the values of each segment are in the order
+ *     of its selectors and may repeat;
+ *     {@code $[1,0]} selects the elements in the order 0, 1, and {@code $[0,0]} selects element 0 once.
+ *     Subtrees not matched by any segment are skipped, and evaluation of singular expressions,
+ *     selecting at most one value, ends at the first value selected.
+ * </p>
+ * <p>
+ *     Over a parser, only values selected are materialized as trees, together with values whose children are selected
+ *     by filters, negative indexes or slices requiring the size of arrays.
+ *     If a filter addresses the root {@code $}, the whole document is materialized.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class JsonPath {
+    /**
+     * Maximum number of segments of an expression.
+     */
+    static final int MAX_SEGMENTS=62;
+
+    /**
+     * Reader of trees from parsers.
+     */
+    private static final ObjectMapper MAPPER=new ObjectMapper();
+
+    /**
+     * Factory of parsers of text.
+     */
+    private static final JsonFactory FACTORY=MAPPER.getFactory();
+
+    /**
+     * Expression.
+     */
+    @Getter
+    private final String expression;
+
+    private final JsonPathSegment[] segments;
+
+    /**
+     * Indicates if this selects at most one value.
+     */
+    @Getter
+    private final boolean singular;
+
+    /**
+     * Indicates if filters address the root.
+     */
+    private final boolean requiresRoot;
+
+    /**
+     * Set of segments requiring the size of arrays or the child values, as a bit set of segment indexes.
+     */
+    private final long treeSegments;
+
+    /**
+     * Set of descendant segments, as a bit set of segment indexes.
+     */
+    private final long descendantSegments;
+
+    JsonPath(String expression,
+             List<JsonPathSegment> segments) {
+        this.expression=expression;
+        this.segments=segments.toArray(new JsonPathSegment[0]);
+        boolean singularSegments=true;
+        boolean root=false;
+        long tree=0L;
+        long descendant=0L;
+        for (int i=0; i<this.segments.length; i++) {
+            JsonPathSegment segment=this.segments[i];
+            singularSegments&=segment.singular;
+            root|=segment.requiresRoot;
+            if (segment.requiresTree) {
+                tree|=1L<<i;
+            }
+            if (segment.descendant) {
+                descendant|=1L<<i;
+            }
+        }
+        this.singular=singularSegments;
+        this.requiresRoot=root;
+        this.treeSegments=tree;
+        this.descendantSegments=descendant;
+    }
+
+    boolean requiresRoot() {
+        return requiresRoot;
+    }
+
+    /**
+     * Selects values of a JSON tree.
+     * @param root Root of tree.
+     * @return Values selected.
+     */
+    public List<JsonNode> select(JsonNode root) {
+        Collector collector=new Collector(singular?1:Integer.MAX_VALUE);
+        walk(root,1L,root,collector);
+        return collector.getResults();
+    }
+
+    /**
+     * Selects the first value of a JSON tree.
+     * @param root Root of tree.
+     * @return Value selected.
+     *         This is {@code null} if no value is selected.
+     */
+    public JsonNode selectFirst(JsonNode root) {
+        Collector collector=new Collector(1);
+        walk(root,1L,root,collector);
+        return collector.getFirst();
+    }
+
+    /**
+     * Selects values of a JSON document.
+     * @param json JSON document.
+     * @return Values selected.
+     * @throws IOException Thrown in case of errors.
+     */
+    public List<JsonNode> select(String json) throws IOException {
+        try (JsonParser parser=FACTORY.createParser(json)) {
+            return select(parser);
+        }
+    }
+
+    /**
+     * Selects values of the JSON value at the current token of a parser, or at the next token if there is no current token.
+     * Unless a value is selected early, the parser is positioned at the last token of the value on return.
+     * @param parser Parser.
+     * @return Values selected.
+     * @throws IOException Thrown in case of errors.
+     */
+    public List<JsonNode> select(JsonParser parser) throws IOException {
+        Collector collector=new Collector(singular?1:Integer.MAX_VALUE);
+        stream(parser,collector);
+        return collector.getResults();
+    }
+
+    /**
+     * Selects the first value of the JSON value at the current token of a parser,
+     * or at the next token if there is no current token.
+     * Reading ends at the value selected.
+     * @param parser Parser.
+     * @return Value selected.
+     *         This is {@code null} if no value is selected.
+     * @throws IOException Thrown in case of errors.
+     */
+    public JsonNode selectFirst(JsonParser parser) throws IOException {
+        Collector collector=new Collector(1);
+        stream(parser,collector);
+        return collector.getFirst();
+    }
+
+    private void stream(JsonParser parser,
+                        Collector collector) throws IOException {
+        if (parser.hasCurrentToken() || parser.nextToken()!=null) {
+            if (requiresRoot) {
+                JsonNode root=MAPPER.readTree(parser);
+                walk(root,1L,root,collector);
+            } else {
+                streamValue(parser,1L,collector);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the value at the current token of a parser.
+     * @param parser Parser positioned at the first token of the value.
+     * @param positions Set of segments matched so far, as a bit set of the numbers of segments matched.
+     * @param collector Collector of values selected.
+     * @throws IOException Thrown in case of errors.
+     */
+    private void streamValue(JsonParser parser,
+                             long positions,
+                             Collector collector) throws IOException {
+        JsonToken token=parser.currentToken();
+        if ((positions&(1L<<segments.length)) != 0L || ((positions&treeSegments)!=0L && token.isStructStart())) {
+            walk(MAPPER.readTree(parser),positions,null,collector);
+        } else {
+            if (token == JsonToken.START_OBJECT) {
+                while (!collector.isFull() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name=parser.getCurrentName();
+                    parser.nextToken();
+                    long childPositions=next(positions,name,-1,-1,null,null);
+                    if (childPositions == 0L) {
+                        parser.skipChildren();
+                    } else {
+                        streamValue(parser,childPositions,collector);
+                    }
+                }
+            } else {
+                if (token == JsonToken.START_ARRAY) {
+                    int index=0;
+                    while (!collector.isFull() && parser.nextToken()!=JsonToken.END_ARRAY) {
+                        long childPositions=next(positions,null,index,-1,null,null);
+                        if (childPositions == 0L) {
+                            parser.skipChildren();
+                        } else {
+                            streamValue(parser,childPositions,collector);
+                        }
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates a value of a tree.
+     * @param node Value.
+     * @param positions Set of segments matched so far, as a bit set of the numbers of segments matched.
+     * @param root Root of tree.
+     *             This is {@code null} if not known.
+     * @param collector Collector of values selected.
+     */
+    private void walk(JsonNode node,
+                      long positions,
+                      JsonNode root,
+                      Collector collector) {
+        long end=1L<<segments.length;
+        if ((positions&end)!=0L) {
+            collector.add(node);
+        }
+        long remaining=positions&~end;
+        if (remaining!=0L && !collector.isFull()) {
+            if (node.isObject()) {
+                Iterator<Map.Entry<String,JsonNode>> fields=node.fields();
+                while (fields.hasNext() && !collector.isFull()) {
+                    Map.Entry<String,JsonNode> field=fields.next();
+                    JsonNode child=field.getValue();
+                    long childPositions=next(remaining,field.getKey(),-1,-1,child,root);
+                    if (childPositions!=0L) {
+                        walk(child,childPositions,root,collector);
+                    }
+                }
+            } else {
+                if (node.isArray()) {
+                    int size=node.size();
+                    for (int i=0; i<size && !collector.isFull(); i++) {
+                        JsonNode child=node.get(i);
+                        long childPositions=next(remaining,null,i,size,child,root);
+                        if (childPositions!=0L) {
+                            walk(child,childPositions,root,collector);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the set of segments matched by a child.
+     * @param positions Set of segments matched by the parent.
+     * @param name Name of property.
+     *             This is {@code null} for array elements.
+     * @param index Index of array element.
+     *              This is -1 for properties.
+     * @param size Size of array.
+     *             This is -1 if not known.
+     * @param child Value of child.
+     *              This is {@code null} if not known.
+     * @param root Root of document.
+     *             This is {@code null} if not known.
+     * @return Set of segments matched by the child.
+     */
+    private long next(long positions,
+                      String name,
+                      int index,
+                      int size,
+                      JsonNode child,
+                      JsonNode root) {
+        long result=positions&descendantSegments;
+        long remaining=positions;
+        while (remaining!=0L) {
+            int position=Long.numberOfTrailingZeros(remaining);
+            remaining&=remaining-1;
+            if (segments[position].matches(name,index,size,child,root)) {
+                result|=1L<<(position+1);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Collector of values selected.
+     */
+    private static final class Collector {
+        private final int limit;
+
+        private List<JsonNode> results;
+
+        private Collector(int limit) {
+            this.limit=limit;
+        }
+
+        private void add(JsonNode node) {
+            if (results == null) {
+                results=new ArrayList<>(limit == 1?1:8);
+            }
+            results.add(node);
+        }
+
+        private boolean isFull() {
+            return results!=null && results.size()>=limit;
+        }
+
+        private List<JsonNode> getResults() {
+            return results == null?Collections.emptyList():results;
+        }
+
+        private JsonNode getFirst() {
+            return results == null?null:results.get(0);
+        }
+    }
+}
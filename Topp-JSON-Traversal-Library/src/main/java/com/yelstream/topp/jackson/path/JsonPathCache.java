@@ -0,0 +1,174 @@
+package com.yelstream.topp.jackson.path;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of compiled JSONPath expressions keyed by the text of the expression.
+ * <p>
+ *     The cache is bounded by size.
+ *     When full, entries are evicted in order of insertion.
+ *     Expressions not valid are not cached.
+ * </p>
+ * <p>
+ *     This is thread-safe.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ToString(onlyExplicitlyIncluded=true)
+@Builder(builderClassName="Builder",toBuilder=true)
+public final class JsonPathCache {
+    /**
+     * Default maximum number of entries.
+     */
+    public static final int DEFAULT_MAX_SIZE=1_024;
+
+    /**
+     * Maximum number of entries.
+     */
+    @Getter
+    @ToString.Include
+    @lombok.Builder.Default
+    private final int maxSize=DEFAULT_MAX_SIZE;
+
+    /**
+     * Compiled expressions by expression.
+     */
+    private final Map<String,JsonPath> entries=new ConcurrentHashMap<>();
+
+    /**
+     * Expressions in order of insertion.
+     */
+    private final Queue<String> insertionOrder=new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of expressions in order of insertion.
+     */
+    private final AtomicInteger insertionCount=new AtomicInteger();
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    private final LongAdder hitCount=new LongAdder();
+
+    /**
+     * Number of lookups not served from the cache.
+     */
+    private final LongAdder missCount=new LongAdder();
+
+    /**
+     * Number of entries evicted due to size.
+     */
+    private final LongAdder evictionCount=new LongAdder();
+
+    /**
+     * Gets a compiled expression.
+     * The expression is served from the cache if present; otherwise the expression is compiled and cached.
+     * @param expression JSONPath expression.
+     * @return Compiled expression.
+     * @throws IllegalArgumentException Thrown in case of an expression not valid.
+     */
+    public JsonPath compile(String expression) {
+        JsonPath path=entries.get(expression);
+        if (path == null) {
+            missCount.increment();
+            path=JsonPaths.compileUncached(expression);
+            if (entries.putIfAbsent(expression,path) == null) {
+                insertionOrder.add(expression);
+                if (insertionCount.incrementAndGet()>maxSize) {
+                    evict();
+                }
+            }
+        } else {
+            hitCount.increment();
+        }
+        return path;
+    }
+
+    private void evict() {
+        String expression;
+        while (insertionCount.get()>maxSize && (expression=insertionOrder.poll())!=null) {
+            insertionCount.decrementAndGet();
+            if (entries.remove(expression)!=null) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     * Statistics are retained.
+     */
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+        insertionCount.set(0);
+    }
+
+    /**
+     * Gets the current number of entries.
+     * @return Number of entries.
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Creates a snapshot of the statistics of the cache.
+     * @return Statistics.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hitCount.sum(),missCount.sum(),evictionCount.sum(),getSize());
+    }
+
+    /**
+     * Snapshot of the statistics of a cache.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static final class Statistics {
+        /**
+         * Number of lookups served from the cache.
+         */
+        private final long hitCount;
+
+        /**
+         * Number of lookups not served from the cache.
+         */
+        private final long missCount;
+
+        /**
+         * Number of entries evicted due to size.
+         */
+        private final long evictionCount;
+
+        /**
+         * Number of entries.
+         */
+        private final int size;
+
+        /**
+         * Gets the ratio of lookups served from the cache.
+         * @return Ratio of hits in the range from 0 to 1.
+         */
+        public double getHitRate() {
+            long requestCount=hitCount+missCount;
+            return requestCount == 0?0.0:(double)hitCount/requestCount;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.yelstream.topp.jackson.path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Filter expression of a compiled JSONPath expression.
+ * This is immutable.
+ * <p>
+ *     Comparisons of values absent are {@code false}, except for {@code ==} of two values absent.
+ *     Numbers are compared numerically, and strings are compared lexicographically;
+ *     other values are compared for equality only.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+abstract class JsonPathFilter {
+    /**
+     * Comparison operator.
+     */
+    enum Operator {
+        EQ("=="),
+        NE("!="),
+        LT("<"),
+        LE("<="),
+        GT(">"),
+        GE(">=");
+
+        final String symbol;
+
+        Operator(String symbol) {
+            this.symbol=symbol;
+        }
+    }
+
+    /**
+     * Tests the filter.
+     * @param current Value addressed by {@code @}.
+     * @param root Root of document addressed by {@code $}.
+     * @return Indicates if satisfied.
+     */
+    abstract boolean test(JsonNode current,
+                          JsonNode root);
+
+    abstract boolean requiresRoot();
+
+    /**
+     * Operand of a comparison.
+     */
+    abstract static class Operand {
+        /**
+         * Evaluates this operand.
+         * @param current Value addressed by {@code @}.
+         * @param root Root of document addressed by {@code $}.
+         * @return Value.
+         *         This is {@code null} if absent.
+         */
+        abstract JsonNode evaluate(JsonNode current,
+                                   JsonNode root);
+
+        abstract boolean requiresRoot();
+    }
+
+    /**
+     * Constant operand.
+     */
+    static final class Literal extends Operand {
+        private final JsonNode value;
+
+        Literal(JsonNode value) {
+            this.value=value;
+        }
+
+        @Override
+        JsonNode evaluate(JsonNode current,
+                          JsonNode root) {
+            return value;
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return false;
+        }
+    }
+
+    /**
+     * Operand addressed by a path relative to {@code @} or {@code $}.
+     * If the path selects several values, the first value is used.
+     */
+    static final class Query extends Operand {
+        private final JsonPath path;
+
+        /**
+         * Indicates if relative to {@code $} and not to {@code @}.
+         */
+        private final boolean absolute;
+
+        Query(JsonPath path,
+              boolean absolute) {
+            this.path=path;
+            this.absolute=absolute;
+        }
+
+        @Override
+        JsonNode evaluate(JsonNode current,
+                          JsonNode root) {
+            return path.selectFirst(absolute?root:current);
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return absolute || path.requiresRoot();
+        }
+    }
+
+    /**
+     * Test of the existence of a value.
+     */
+    static final class Exists extends JsonPathFilter {
+        private final Operand operand;
+
+        Exists(Operand operand) {
+            this.operand=operand;
+        }
+
+        @Override
+        boolean test(JsonNode current,
+                     JsonNode root) {
+            return operand.evaluate(current,root)!=null;
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return operand.requiresRoot();
+        }
+    }
+
+    /**
+     * Comparison of two operands.
+     */
+    static final class Comparison extends JsonPathFilter {
+        private final Operand left;
+        private final Operator operator;
+        private final Operand right;
+
+        Comparison(Operand left,
+                   Operator operator,
+                   Operand right) {
+            this.left=left;
+            this.operator=operator;
+            this.right=right;
+        }
+
+        @Override
+        boolean test(JsonNode current,
+                     JsonNode root) {
+            JsonNode a=left.evaluate(current,root);
+            JsonNode b=right.evaluate(current,root);
+            boolean result;
+            switch (operator) {
+                case EQ:
+                    result=equal(a,b);
+                    break;
+                case NE:
+                    result=!equal(a,b);
+                    break;
+                default: {
+                    Integer order=compare(a,b);
+                    if (order == null) {
+                        result=false;
+                    } else {
+                        int c=order;
+                        result=operator == Operator.LT?c<0:operator == Operator.LE?c<=0:operator == Operator.GT?c>0:c>=0;
+                    }
+                    break;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return left.requiresRoot() || right.requiresRoot();
+        }
+
+        private static boolean equal(JsonNode a,
+                                     JsonNode b) {
+            boolean result;
+            if (a == null || b == null) {
+                result=a == b;
+            } else {
+                if (a.isNumber() && b.isNumber()) {
+                    result=a.decimalValue().compareTo(b.decimalValue()) == 0;
+                } else {
+                    result=a.equals(b);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Compares values.
+         * @param a First value.
+         * @param b Second value.
+         * @return Order.
+         *         This is {@code null} if the values are not ordered.
+         */
+        private static Integer compare(JsonNode a,
+                                       JsonNode b) {
+            Integer result=null;
+            if (a!=null && b!=null) {
+                if (a.isNumber() && b.isNumber()) {
+                    result=a.decimalValue().compareTo(b.decimalValue());
+                } else {
+                    if (a.isTextual() && b.isTextual()) {
+                        result=a.textValue().compareTo(b.textValue());
+                    } else {
+                        if (equal(a,b)) {
+                            result=0;
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Negation of a filter.
+     */
+    static final class Not extends JsonPathFilter {
+        private final JsonPathFilter filter;
+
+        Not(JsonPathFilter filter) {
+            this.filter=filter;
+        }
+
+        @Override
+        boolean test(JsonNode current,
+                     JsonNode root) {
+            return !filter.test(current,root);
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return filter.requiresRoot();
+        }
+    }
+
+    /**
+     * Conjunction or disjunction of two filters.
+     */
+    static final class Logical extends JsonPathFilter {
+        private final JsonPathFilter left;
+
+        /**
+         * Indicates if a conjunction and not a disjunction.
+         */
+        private final boolean and;
+
+        private final JsonPathFilter right;
+
+        Logical(JsonPathFilter left,
+                boolean and,
+                JsonPathFilter right) {
+            this.left=left;
+            this.and=and;
+            this.right=right;
+        }
+
+        @Override
+        boolean test(JsonNode current,
+                     JsonNode root) {
+            return and?left.test(current,root) && right.test(current,root):left.test(current,root) || right.test(current,root);
+        }
+
+        @Override
+        boolean requiresRoot() {
+            return left.requiresRoot() || right.requiresRoot();
+        }
+    }
+}
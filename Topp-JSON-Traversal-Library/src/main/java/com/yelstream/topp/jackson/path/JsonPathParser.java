@@ -0,0 +1,387 @@
+package com.yelstream.topp.jackson.path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser of JSONPath expressions.
+ * This is not thread-safe.
+ * <p>
+ *     Supported are the root {@code $}, child segments {@code .name}, {@code .*} and {@code [...]},
+ *     descendant segments {@code ..name}, {@code ..*} and {@code ..[...]}, and within brackets
+ *     comma-separated quoted names, {@code *}, indexes, slices {@code start:end:step} and filters {@code ?(...)}.
+ *     Filters support relative paths {@code @...}, absolute paths {@code $...}, literals,
+ *     the comparisons {@code == != < <= > >=}, and {@code && || !} with parentheses.
+ * </p>
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonPathParser {
+    private final String text;
+
+    private int position;
+
+    JsonPathParser(String text) {
+        this.text=text;
+    }
+
+    /**
+     * Parses an expression.
+     * @return Compiled expression.
+     * @throws IllegalArgumentException Thrown in case of an expression not valid.
+     */
+    JsonPath parse() {
+        skipWhitespace();
+        expect('$');
+        JsonPath path=parsePath();
+        skipWhitespace();
+        if (position<text.length()) {
+            throw failure("unexpected character");
+        }
+        return path;
+    }
+
+    /**
+     * Parses the segments following {@code $} or {@code @}.
+     * @return Compiled path.
+     */
+    private JsonPath parsePath() {
+        int start=position-1;
+        List<JsonPathSegment> segments=new ArrayList<>();
+        boolean more=true;
+        while (more) {
+            if (peek('.') && peekAt(1,'.')) {
+                position+=2;
+                if (peek('[')) {
+                    segments.add(new JsonPathSegment(true,parseBracket()));
+                } else {
+                    segments.add(new JsonPathSegment(true,List.of(parseDotSelector())));
+                }
+            } else {
+                if (peek('.')) {
+                    position++;
+                    segments.add(new JsonPathSegment(false,List.of(parseDotSelector())));
+                } else {
+                    if (peek('[')) {
+                        segments.add(new JsonPathSegment(false,parseBracket()));
+                    } else {
+                        more=false;
+                    }
+                }
+            }
+        }
+        if (segments.size()>JsonPath.MAX_SEGMENTS) {
+            throw failure(String.format("number of segments exceeds %d",JsonPath.MAX_SEGMENTS));
+        }
+        return new JsonPath(text.substring(start,position).trim(),segments);
+    }
+
+    private JsonPathSegment.Selector parseDotSelector() {
+        JsonPathSegment.Selector selector;
+        if (peek('*')) {
+            position++;
+            selector=new JsonPathSegment.WildcardSelector();
+        } else {
+            int start=position;
+            while (position<text.length() && isNameCharacter(text.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw failure("name expected");
+            }
+            selector=new JsonPathSegment.NameSelector(text.substring(start,position));
+        }
+        return selector;
+    }
+
+    private List<JsonPathSegment.Selector> parseBracket() {
+        expect('[');
+        List<JsonPathSegment.Selector> selectors=new ArrayList<>();
+        do {
+            skipWhitespace();
+            selectors.add(parseBracketSelector());
+            skipWhitespace();
+        } while (accept(','));
+        expect(']');
+        return selectors;
+    }
+
+    private JsonPathSegment.Selector parseBracketSelector() {
+        JsonPathSegment.Selector selector;
+        if (peek('\'') || peek('"')) {
+            selector=new JsonPathSegment.NameSelector(parseString());
+        } else {
+            if (accept('*')) {
+                selector=new JsonPathSegment.WildcardSelector();
+            } else {
+                if (accept('?')) {
+                    skipWhitespace();
+                    selector=new JsonPathSegment.FilterSelector(parseOr());
+                } else {
+                    Integer start=parseOptionalInteger();
+                    skipWhitespace();
+                    if (accept(':')) {
+                        skipWhitespace();
+                        Integer end=parseOptionalInteger();
+                        skipWhitespace();
+                        int step=1;
+                        if (accept(':')) {
+                            skipWhitespace();
+                            Integer value=parseOptionalInteger();
+                            step=value == null?1:value;
+                        }
+                        selector=new JsonPathSegment.SliceSelector(start,end,step);
+                    } else {
+                        if (start == null) {
+                            throw failure("selector expected");
+                        }
+                        selector=new JsonPathSegment.IndexSelector(start);
+                    }
+                }
+            }
+        }
+        return selector;
+    }
+
+    private JsonPathFilter parseOr() {
+        JsonPathFilter filter=parseAnd();
+        skipWhitespace();
+        while (accept("||")) {
+            skipWhitespace();
+            filter=new JsonPathFilter.Logical(filter,false,parseAnd());
+            skipWhitespace();
+        }
+        return filter;
+    }
+
+    private JsonPathFilter parseAnd() {
+        JsonPathFilter filter=parseUnary();
+        skipWhitespace();
+        while (accept("&&")) {
+            skipWhitespace();
+            filter=new JsonPathFilter.Logical(filter,true,parseUnary());
+            skipWhitespace();
+        }
+        return filter;
+    }
+
+    private JsonPathFilter parseUnary() {
+        JsonPathFilter filter;
+        skipWhitespace();
+        if (peek('!') && !peekAt(1,'=')) {
+            position++;
+            filter=new JsonPathFilter.Not(parseUnary());
+        } else {
+            if (accept('(')) {
+                filter=parseOr();
+                skipWhitespace();
+                expect(')');
+            } else {
+                filter=parseComparison();
+            }
+        }
+        return filter;
+    }
+
+    private JsonPathFilter parseComparison() {
+        JsonPathFilter.Operand left=parseOperand();
+        skipWhitespace();
+        JsonPathFilter.Operator operator=null;
+        for (JsonPathFilter.Operator candidate: new JsonPathFilter.Operator[]{JsonPathFilter.Operator.EQ,JsonPathFilter.Operator.NE,JsonPathFilter.Operator.LE,JsonPathFilter.Operator.GE,JsonPathFilter.Operator.LT,JsonPathFilter.Operator.GT}) {
+            if (operator == null && accept(candidate.symbol)) {
+                operator=candidate;
+            }
+        }
+        JsonPathFilter filter;
+        if (operator == null) {
+            if (left instanceof JsonPathFilter.Literal) {
+                throw failure("comparison expected");
+            }
+            filter=new JsonPathFilter.Exists(left);
+        } else {
+            skipWhitespace();
+            filter=new JsonPathFilter.Comparison(left,operator,parseOperand());
+        }
+        return filter;
+    }
+
+    private JsonPathFilter.Operand parseOperand() {
+        JsonPathFilter.Operand operand;
+        if (accept('@')) {
+            operand=new JsonPathFilter.Query(parsePath(),false);
+        } else {
+            if (accept('$')) {
+                operand=new JsonPathFilter.Query(parsePath(),true);
+            } else {
+                operand=new JsonPathFilter.Literal(parseLiteral());
+            }
+        }
+        return operand;
+    }
+
+    private JsonNode parseLiteral() {
+        JsonNode value;
+        if (peek('\'') || peek('"')) {
+            value=TextNode.valueOf(parseString());
+        } else {
+            if (accept("true")) {
+                value=BooleanNode.TRUE;
+            } else {
+                if (accept("false")) {
+                    value=BooleanNode.FALSE;
+                } else {
+                    if (accept("null")) {
+                        value=NullNode.getInstance();
+                    } else {
+                        value=parseNumber();
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    private JsonNode parseNumber() {
+        int start=position;
+        while (position<text.length() && "+-0123456789.eE".indexOf(text.charAt(position))>=0) {
+            position++;
+        }
+        if (start == position) {
+            throw failure("literal expected");
+        }
+        String number=text.substring(start,position);
+        JsonNode value;
+        try {
+            value=DecimalNode.valueOf(new BigDecimal(number));
+        } catch (NumberFormatException ex) {
+            position=start;
+            throw failure("number not valid");
+        }
+        return value;
+    }
+
+    private String parseString() {
+        char quote=text.charAt(position++);
+        StringBuilder builder=new StringBuilder();
+        while (position<text.length() && text.charAt(position)!=quote) {
+            char c=text.charAt(position++);
+            if (c == '\\') {
+                if (position>=text.length()) {
+                    throw failure("escape sequence not terminated");
+                }
+                char escaped=text.charAt(position++);
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        if (position+4>text.length()) {
+                            throw failure("escape sequence not valid");
+                        }
+                        try {
+                            builder.append((char)Integer.parseInt(text.substring(position,position+4),16));
+                        } catch (NumberFormatException ex) {
+                            throw failure("escape sequence not valid");
+                        }
+                        position+=4;
+                        break;
+                    default:
+                        builder.append(escaped);
+                        break;
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        expect(quote);
+        return builder.toString();
+    }
+
+    private Integer parseOptionalInteger() {
+        Integer value=null;
+        int start=position;
+        if (peek('-')) {
+            position++;
+        }
+        while (position<text.length() && Character.isDigit(text.charAt(position))) {
+            position++;
+        }
+        if (position>start && !(position == start+1 && text.charAt(start) == '-')) {
+            try {
+                value=Integer.valueOf(text.substring(start,position));
+            } catch (NumberFormatException ex) {
+                position=start;
+                throw failure("integer not valid");
+            }
+        } else {
+            position=start;
+        }
+        return value;
+    }
+
+    private static boolean isNameCharacter(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '$' || c>=0x80;
+    }
+
+    private void skipWhitespace() {
+        while (position<text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean peek(char c) {
+        return position<text.length() && text.charAt(position) == c;
+    }
+
+    private boolean peekAt(int offset,
+                           char c) {
+        return position+offset<text.length() && text.charAt(position+offset) == c;
+    }
+
+    private boolean accept(char c) {
+        boolean result=peek(c);
+        if (result) {
+            position++;
+        }
+        return result;
+    }
+
+    private boolean accept(String token) {
+        boolean result=text.startsWith(token,position);
+        if (result) {
+            position+=token.length();
+        }
+        return result;
+    }
+
+    private void expect(char c) {
+        if (!accept(c)) {
+            throw failure(String.format("'%c' expected",c));
+        }
+    }
+
+    private IllegalArgumentException failure(String reason) {
+        return new IllegalArgumentException(String.format("Failure to parse JSONPath expression; %s at position %d; expression is %s!",reason,position,text));
+    }
+}
@@ -0,0 +1,244 @@
+package com.yelstream.topp.jackson.path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Segment of a compiled JSONPath expression selecting children or descendants of values.
+ * This is immutable.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class JsonPathSegment {
+    /**
+     * Indicates if this selects among all descendants and not only among children.
+     */
+    final boolean descendant;
+
+    final Selector[] selectors;
+
+    /**
+     * Indicates if selectors require the size of arrays or the child values.
+     */
+    final boolean requiresTree;
+
+    /**
+     * Indicates if selectors require the root of the document.
+     */
+    final boolean requiresRoot;
+
+    /**
+     * Indicates if this selects at most one child.
+     */
+    final boolean singular;
+
+    JsonPathSegment(boolean descendant,
+                    List<Selector> selectors) {
+        this.descendant=descendant;
+        this.selectors=selectors.toArray(new Selector[0]);
+        boolean tree=false;
+        boolean root=false;
+        for (Selector selector: selectors) {
+            tree|=selector.requiresTree();
+            root|=selector.requiresRoot();
+        }
+        this.requiresTree=tree;
+        this.requiresRoot=root;
+        this.singular=!descendant && selectors.size() == 1 && (selectors.get(0) instanceof NameSelector || selectors.get(0) instanceof IndexSelector);
+    }
+
+    /**
+     * Indicates if a child is selected.
+     * @param name Name of property.
+     *             This is {@code null} for array elements.
+     * @param index Index of array element.
+     *              This is -1 for properties.
+     * @param size Size of array.
+     *             This is -1 if not known.
+     * @param child Value of child.
+     *              This is {@code null} if not known.
+     * @param root Root of document.
+     *             This is {@code null} if not known.
+     * @return Indicates if selected.
+     */
+    boolean matches(String name,
+                    int index,
+                    int size,
+                    JsonNode child,
+                    JsonNode root) {
+        boolean result=false;
+        for (int i=0; i<selectors.length && !result; i++) {
+            result=selectors[i].matches(name,index,size,child,root);
+        }
+        return result;
+    }
+
+    /**
+     * Selector of children.
+     */
+    interface Selector {
+        boolean matches(String name,
+                        int index,
+                        int size,
+                        JsonNode child,
+                        JsonNode root);
+
+        default boolean requiresTree() {
+            return false;
+        }
+
+        default boolean requiresRoot() {
+            return false;
+        }
+    }
+
+    /**
+     * Selector of a property by name.
+     */
+    static final class NameSelector implements Selector {
+        private final String name;
+
+        NameSelector(String name) {
+            this.name=name;
+        }
+
+        @Override
+        public boolean matches(String name,
+                               int index,
+                               int size,
+                               JsonNode child,
+                               JsonNode root) {
+            return this.name.equals(name);
+        }
+    }
+
+    /**
+     * Selector of all children.
+     */
+    static final class WildcardSelector implements Selector {
+        @Override
+        public boolean matches(String name,
+                               int index,
+                               int size,
+                               JsonNode child,
+                               JsonNode root) {
+            return true;
+        }
+    }
+
+    /**
+     * Selector of an array element by index, where negative indexes count from the end.
+     */
+    static final class IndexSelector implements Selector {
+        private final int index;
+
+        IndexSelector(int index) {
+            this.index=index;
+        }
+
+        @Override
+        public boolean matches(String name,
+                               int index,
+                               int size,
+                               JsonNode child,
+                               JsonNode root) {
+            return index>=0 && (this.index>=0?index == this.index:index == size+this.index);
+        }
+
+        @Override
+        public boolean requiresTree() {
+            return index<0;
+        }
+    }
+
+    /**
+     * Selector of array elements by a slice {@code start:end:step}.
+     */
+    static final class SliceSelector implements Selector {
+        /**
+         * Start index.
+         * This may be {@code null}.
+         */
+        private final Integer start;
+
+        /**
+         * End index, exclusive.
+         * This may be {@code null}.
+         */
+        private final Integer end;
+
+        private final int step;
+
+        SliceSelector(Integer start,
+                      Integer end,
+                      int step) {
+            this.start=start;
+            this.end=end;
+            this.step=step;
+        }
+
+        @Override
+        public boolean matches(String name,
+                               int index,
+                               int size,
+                               JsonNode child,
+                               JsonNode root) {
+            boolean result=false;
+            if (index>=0 && step!=0) {
+                if (step>0) {
+                    int lower=start == null?0:normalize(start,size);
+                    int upper=end == null?Integer.MAX_VALUE:normalize(end,size);
+                    result=index>=lower && index<upper && (index-lower)%step == 0;
+                } else {
+                    int upper=start == null?size-1:Math.min(Math.max(start>=0?start:size+start,-1),size-1);
+                    int lower=end == null?-1:Math.min(Math.max(end>=0?end:size+end,-1),size-1);
+                    result=index<=upper && index>lower && (upper-index)%(-step) == 0;
+                }
+            }
+            return result;
+        }
+
+        private static int normalize(int index,
+                                     int size) {
+            return index>=0?index:Math.max(size+index,0);
+        }
+
+        @Override
+        public boolean requiresTree() {
+            return step<0 || (start!=null && start<0) || (end!=null && end<0);
+        }
+    }
+
+    /**
+     * Selector of children satisfying a filter expression.
+     */
+    static final class FilterSelector implements Selector {
+        private final JsonPathFilter filter;
+
+        FilterSelector(JsonPathFilter filter) {
+            this.filter=filter;
+        }
+
+        @Override
+        public boolean matches(String name,
+                               int index,
+                               int size,
+                               JsonNode child,
+                               JsonNode root) {
+            return filter.test(child,root);
+        }
+
+        @Override
+        public boolean requiresTree() {
+            return true;
+        }
+
+        @Override
+        public boolean requiresRoot() {
+            return filter.requiresRoot();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.yelstream.topp.jackson.path;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility compiling JSONPath expressions into instances of {@link JsonPath}.
+ *
+ * @author Morten Sabroe Mortensen
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@UtilityClass
+public class JsonPaths {
+    /**
+     * Cache shared by {@link #compile(String)}.
+     */
+    private static final JsonPathCache CACHE=JsonPathCache.builder().build();
+
+    /**
+     * Gets a compiled expression from a shared cache, compiling the expression if not cached.
+     * @param expression JSONPath expression.
+     * @return Compiled expression.
+     * @throws IllegalArgumentException Thrown in case of an expression not valid.
+     */
+    public static JsonPath compile(String expression) {
+        return CACHE.compile(expression);
+    }
+
+    /**
+     * Compiles an expression without caching.
+     * @param expression JSONPath expression.
+     * @return Compiled expression.
+     * @throws IllegalArgumentException Thrown in case of an expression not valid.
+     */
+    public static JsonPath compileUncached(String expression) {
+        return new JsonPathParser(expression).parse();
+    }
+
+    /**
+     * Gets the cache shared by {@link #compile(String)}.
+     * @return Cache.
+     */
+    public static JsonPathCache getCache() {
+        return CACHE;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Utilities addressing JSONPath expressions evaluated over JSON trees and token streams.
+ */
+package com.yelstream.topp.jackson.path;
@@ -6,4 +6,5 @@ module com.yelstream.topp.json.traversal {
     requires transitive com.fasterxml.jackson.databind;
 
     exports com.yelstream.topp.jackson.databind;
+    exports com.yelstream.topp.jackson.path;
 }